@@ -0,0 +1,61 @@
+package com.benchmarks;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeGenerator;
+
+/**
+ * Creates the seeded mazes the benchmarks run on, so that every run measures exactly the same boards.
+ */
+public final class BenchmarkMazes {
+    /**
+     * The topologies the benchmarks are parameterized with.
+     */
+    public enum Topology {
+        /**
+         * A maze without loops with long corridors.
+         */
+        PERFECT,
+        /**
+         * A maze without loops with many short branches.
+         */
+        BRANCHING,
+        /**
+         * Rooms with a regular grid of pillars, leading to many equally short paths.
+         */
+        OPEN_ROOMS,
+        /**
+         * A maze without dead ends, leading to many loops.
+         */
+        BRAID,
+        /**
+         * A perfect maze whose ending field is walled in.
+         */
+        UNSOLVABLE
+    }
+
+    private static final long SEED = 42;
+
+    private BenchmarkMazes() {}
+
+    /**
+     * Creates a square maze of the given topology whose starting field lies in the top left
+     * and whose ending field lies in the bottom right corner.
+     *
+     * @param topology The topology of the maze
+     * @param size The width and height of the board, which is rounded up to an odd number
+     * @return as described above
+     */
+    static Maze create(Topology topology, int size) {
+        MazeGenerator generator = new MazeGenerator(SEED);
+        int oddSize = size | 1;
+        return switch (topology) {
+            case PERFECT -> generator.generate(MazeGenerator.Algorithm.RECURSIVE_BACKTRACKER, oddSize, oddSize);
+            case BRANCHING -> generator.generate(MazeGenerator.Algorithm.PRIM, oddSize, oddSize);
+            case OPEN_ROOMS -> generator.generate(MazeGenerator.Algorithm.OPEN_ROOMS, oddSize, oddSize);
+            case BRAID -> generator.generate(MazeGenerator.Algorithm.BRAID, oddSize, oddSize);
+            case UNSOLVABLE -> generator.generateUnsolvable(
+                    MazeGenerator.Algorithm.RECURSIVE_BACKTRACKER, oddSize, oddSize
+            );
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package com.benchmarks;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeRepository;
+import com.strategies.BreadthFirstSearch;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of mazes from text, the import of a maze file and the rendering of a traversed board.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParsingBenchmark {
+    /**
+     * The number of mazes written to the imported maze file.
+     */
+    private static final int MAZES_PER_FILE = 16;
+
+    @Param({ "PERFECT", "OPEN_ROOMS" })
+    private BenchmarkMazes.Topology topology;
+
+    @Param({ "64", "256", "1024" })
+    private int size;
+
+    private Maze maze;
+    private String[] fieldLines;
+    private byte[] fieldLineBytes;
+    private boolean[][] traversedBoard;
+    private Path mazeFile;
+    private MazeRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        maze = BenchmarkMazes.create(topology, size);
+        fieldLines = maze.mazeBoardToString().split(System.lineSeparator());
+        fieldLineBytes = maze.mazeBoardToString().getBytes(StandardCharsets.US_ASCII);
+        traversedBoard = new BreadthFirstSearch().traverseMaze(maze);
+
+        List<String> fileLines = new ArrayList<>();
+        for (int i = 0; i < MAZES_PER_FILE; i++) {
+            fileLines.add("-new-maze-");
+            fileLines.add(maze.getDescription() + " #" + i);
+            fileLines.addAll(List.of(fieldLines));
+        }
+        mazeFile = Files.createTempFile("benchmark-mazes", ".txt");
+        Files.write(mazeFile, fileLines);
+
+        repository = new MazeRepository(mazeFile.toString());
+        repository.readMazeFileAndStoreLines();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(mazeFile);
+    }
+
+    @Benchmark
+    public Maze createMaze() {
+        return Maze.MazeFactory.createMaze(fieldLines, maze.getDescription());
+    }
+
+    /**
+     * Creates the maze from the raw bytes of its text in a single pass.
+     */
+    @Benchmark
+    public Maze createMazeFromBytes() {
+        return Maze.MazeFactory.createMazeFromBytes(fieldLineBytes, maze.getDescription());
+    }
+
+    /**
+     * Imports the previously read lines of a file containing {@value #MAZES_PER_FILE} mazes.
+     */
+    @Benchmark
+    public List<Maze> importMazes() {
+        repository.importMazes();
+        return repository.getMazes();
+    }
+
+    /**
+     * Reads the maze file and imports its {@value #MAZES_PER_FILE} mazes.
+     */
+    @Benchmark
+    public List<Maze> readAndImportMazes() {
+        MazeRepository freshRepository = new MazeRepository(mazeFile.toString());
+        freshRepository.readMazeFileAndStoreLines();
+        freshRepository.importMazes();
+        return freshRepository.getMazes();
+    }
+
+    @Benchmark
+    public String traversedBoardToString() {
+        return maze.traversedBoardToString(traversedBoard);
+    }
+
+    /**
+     * Streams the traversed board row by row, which allocates a single row buffer instead of the whole string.
+     */
+    @Benchmark
+    public void writeTraversedBoard() throws IOException {
+        maze.writeTraversedBoard(traversedBoard, OutputStream.nullOutputStream());
+    }
+}
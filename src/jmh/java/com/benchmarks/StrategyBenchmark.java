@@ -0,0 +1,52 @@
+package com.benchmarks;
+
+import com.mazedata.Maze;
+import com.strategies.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the traversal of mazes of different sizes and topologies by the core strategies.
+ * Failed traversals are measured as well, since detecting an untraversable maze is part of a strategy's work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StrategyBenchmark {
+    @Param({ "BFS", "DFS", "HAND_ON_WALL_LEFT", "HAND_ON_WALL_RIGHT" })
+    private String strategyName;
+
+    @Param({ "PERFECT", "BRANCHING", "OPEN_ROOMS", "BRAID", "UNSOLVABLE" })
+    private BenchmarkMazes.Topology topology;
+
+    @Param({ "64", "256", "1024" })
+    private int size;
+
+    private MazeTraversalStrategy strategy;
+    private Maze maze;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        strategy = switch (strategyName) {
+            case "BFS" -> new BreadthFirstSearch();
+            case "DFS" -> new DepthFirstSearch();
+            case "HAND_ON_WALL_LEFT" -> new HandOnWall(HandOnWall.HandOnWallSide.LEFT);
+            case "HAND_ON_WALL_RIGHT" -> new HandOnWall(HandOnWall.HandOnWallSide.RIGHT);
+            default -> throw new IllegalArgumentException("Unknown strategy: " + strategyName);
+        };
+        maze = BenchmarkMazes.create(topology, size);
+    }
+
+    @Benchmark
+    public Object traverseMaze() {
+        try {
+            return strategy.traverseMaze(maze);
+        } catch (MazeNotTraversableException e) {
+            return e;
+        }
+    }
+}
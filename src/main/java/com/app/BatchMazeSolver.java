@@ -0,0 +1,450 @@
+package com.app;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeRepository;
+import com.strategies.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ *     Headless counterpart of the {@link InteractiveMazeApp} which solves every maze of a maze file with a list of
+ *     strategies on a thread pool and writes one result line per maze and strategy as CSV or JSON lines.
+ * </p>
+ * The mazes are read lazily using {@link MazeRepository#streamMazes()} and only a bounded number of mazes is
+ * submitted to the thread pool at the same time. Every result line is written as soon as the traversal has
+ * finished, so that the memory usage doesn't depend on the number of mazes in the file. As a consequence, the
+ * result lines are not necessarily written in the order of the mazes in the file.
+ * <p>
+ *     The following options are supported:
+ * </p>
+ * <pre>
+ * --mazes &lt;file&gt;          The maze file to be solved (required)
+ * --strategies &lt;a,b,...&gt;  Comma-separated strategy names, see {@link StrategyRegistry#getNames()} (default: bfs)
+ * --threads &lt;n&gt;           Number of worker threads (default: number of available processors)
+ * --format csv|jsonl      Format of the result lines (default: csv)
+ * --output &lt;file&gt;         File the result lines are written to (default: standard output)
+ * --timeout-ms &lt;n&gt;        Time limit per traversal in milliseconds (default: no limit)
+ * --solutions &lt;dir&gt;       Directory the solved boards are written to as maze-&lt;index&gt;-&lt;strategy&gt;.txt
+ *                         (default: none)
+ * </pre>
+ * The solved boards are written with {@link Maze#writeTraversedBoard(boolean[][], Path)}, which maps the files into
+ * memory, so that even the boards of huge mazes are written without building them as strings.
+ */
+public final class BatchMazeSolver {
+    /**
+     * Logger for tracking events and errors in the {@link BatchMazeSolver} class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(BatchMazeSolver.class.getName());
+
+    /**
+     * Number of mazes per worker thread which may be submitted to the thread pool without being solved yet.
+     */
+    private static final int IN_FLIGHT_MAZES_PER_THREAD = 4;
+
+    private static final String CSV_HEADER = "maze_index,maze,strategy,outcome,solved,path_length,time_ms";
+
+    /**
+     * Contains the supported formats of the result lines.
+     */
+    public enum OutputFormat {
+        CSV, JSONL
+    }
+
+    /**
+     * The options of a batch run.
+     *
+     * @param mazeFile The maze file to be solved
+     * @param strategyNames The names of the strategies every maze is solved with
+     * @param threadCount The number of worker threads
+     * @param format The format of the result lines
+     * @param outputFile The file the result lines are written to or {@code null} for the standard output
+     * @param timeout The time limit per traversal or {@code null} if the traversals are not limited
+     * @param solutionDirectory The directory the solved boards are written to or {@code null} if they are not written
+     */
+    public record Options(
+            Path mazeFile, List<String> strategyNames, int threadCount, OutputFormat format,
+            Path outputFile, Duration timeout, Path solutionDirectory
+    ) {
+        public Options {
+            if (mazeFile == null) {
+                throw new IllegalArgumentException("A maze file must be provided for a batch run.");
+            }
+            if (strategyNames == null || strategyNames.isEmpty()) {
+                throw new IllegalArgumentException("At least one strategy must be provided for a batch run.");
+            }
+            strategyNames.forEach(StrategyRegistry::create);
+            if (threadCount < 1) {
+                throw new IllegalArgumentException("The thread count must be positive but was " + threadCount);
+            }
+            if (format == null) {
+                throw new IllegalArgumentException("An output format must be provided for a batch run.");
+            }
+            if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+                throw new IllegalArgumentException("The timeout must be positive but was " + timeout);
+            }
+            strategyNames = List.copyOf(strategyNames);
+        }
+
+        public Options(
+                Path mazeFile, List<String> strategyNames, int threadCount, OutputFormat format,
+                Path outputFile, Duration timeout
+        ) {
+            this(mazeFile, strategyNames, threadCount, format, outputFile, timeout, null);
+        }
+
+        /**
+         * Parses the command line arguments described at {@link BatchMazeSolver}.
+         *
+         * @param args The command line arguments
+         * @return The parsed options
+         * @throws IllegalArgumentException If an option is unknown, lacks its value or has an invalid value
+         */
+        public static Options parse(String[] args) throws IllegalArgumentException {
+            Path mazeFile = null;
+            List<String> strategyNames = List.of("bfs");
+            int threadCount = Runtime.getRuntime().availableProcessors();
+            OutputFormat format = OutputFormat.CSV;
+            Path outputFile = null;
+            Duration timeout = null;
+            Path solutionDirectory = null;
+
+            for (int i = 0; i < args.length; i += 2) {
+                String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for option " + option);
+                }
+                String value = args[i + 1];
+                try {
+                    switch (option) {
+                        case "--mazes" -> mazeFile = Path.of(value);
+                        case "--strategies" -> strategyNames = Arrays.stream(value.split(","))
+                                .map(String::strip)
+                                .filter(name -> !name.isEmpty())
+                                .toList();
+                        case "--threads" -> threadCount = Integer.parseInt(value);
+                        case "--format" -> format = OutputFormat.valueOf(value.strip().toUpperCase());
+                        case "--output" -> outputFile = Path.of(value);
+                        case "--timeout-ms" -> timeout = Duration.ofMillis(Long.parseLong(value));
+                        case "--solutions" -> solutionDirectory = Path.of(value);
+                        default -> throw new IllegalArgumentException("Unknown option " + option);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(
+                            String.format("Invalid value \"%s\" for option %s", value, option), e
+                    );
+                }
+            }
+            return new Options(mazeFile, strategyNames, threadCount, format, outputFile, timeout, solutionDirectory);
+        }
+    }
+
+    /**
+     * The totals of a batch run.
+     *
+     * @param mazeCount The number of solved mazes
+     * @param traversalCount The number of traversals, i.e. the number of written result lines
+     * @param solvedCount The number of traversals which found a path
+     * @param notTraversableCount The number of traversals which determined that no path could be found
+     * @param timedOutCount The number of traversals which exceeded the time limit
+     * @param failedCount The number of traversals which failed unexpectedly
+     * @param elapsedTime The duration of the whole batch run
+     */
+    public record Summary(
+            long mazeCount, long traversalCount, long solvedCount, long notTraversableCount,
+            long timedOutCount, long failedCount, Duration elapsedTime
+    ) {}
+
+    private final Options options;
+
+    private final AtomicLong traversalCount = new AtomicLong();
+    private final Map<TraversalOutcome, AtomicLong> outcomeCounts =
+            new EnumMap<>(TraversalOutcome.class);
+
+    public BatchMazeSolver(Options options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options must be provided in order to create a batch maze solver.");
+        }
+        this.options = options;
+        for (TraversalOutcome outcome : TraversalOutcome.values()) {
+            outcomeCounts.put(outcome, new AtomicLong());
+        }
+    }
+
+    /**
+     * Solves every maze of the maze file with every strategy and writes the result lines to the given writer.
+     * The writer is flushed but not closed.
+     *
+     * @param writer The writer the result lines are written to
+     * @return The totals of the batch run
+     * @throws IOException If the result lines cannot be written
+     * @throws InterruptedException If the current thread is interrupted while waiting for the worker threads
+     */
+    public Summary run(Writer writer) throws IOException, InterruptedException {
+        long startTime = System.nanoTime();
+        ResultWriter resultWriter = new ResultWriter(writer, options.format());
+        resultWriter.writeHeader();
+        if (options.solutionDirectory() != null) {
+            Files.createDirectories(options.solutionDirectory());
+        }
+
+        int maxInFlightMazes = options.threadCount() * IN_FLIGHT_MAZES_PER_THREAD;
+        Semaphore inFlightMazes = new Semaphore(maxInFlightMazes);
+        ExecutorService executor = Executors.newFixedThreadPool(options.threadCount());
+        long mazeCount = 0;
+
+        try (Stream<Maze> mazes = new MazeRepository(options.mazeFile().toString()).streamMazes()) {
+            Iterator<Maze> iterator = mazes.iterator();
+            while (iterator.hasNext() && !resultWriter.hasFailed()) {
+                Maze maze = iterator.next();
+                long mazeIndex = mazeCount++;
+                inFlightMazes.acquire();
+                executor.execute(() -> {
+                    try {
+                        solveMaze(mazeIndex, maze, resultWriter);
+                    } finally {
+                        inFlightMazes.release();
+                    }
+                });
+            }
+            // Wait for the submitted mazes to be solved
+            inFlightMazes.acquire(maxInFlightMazes);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        resultWriter.flush();
+        return new Summary(
+                mazeCount,
+                traversalCount.get(),
+                outcomeCounts.get(TraversalOutcome.TRAVERSED).get(),
+                outcomeCounts.get(TraversalOutcome.NOT_TRAVERSABLE).get(),
+                outcomeCounts.get(TraversalOutcome.TIMED_OUT).get(),
+                outcomeCounts.get(TraversalOutcome.FAILED).get(),
+                Duration.ofNanos(System.nanoTime() - startTime)
+        );
+    }
+
+    /**
+     * Solves the maze with every strategy one after the other and writes a result line after each traversal.
+     * A result which cannot be formatted or written is reported, and the maze is solved with the next strategy.
+     */
+    private void solveMaze(long mazeIndex, Maze maze, ResultWriter resultWriter) {
+        for (String strategyName : options.strategyNames()) {
+            try {
+                solveMaze(mazeIndex, maze, strategyName, resultWriter);
+            } catch (RuntimeException e) {
+                LOGGER.warning(String.format(
+                        "Unable to write the result of the %s strategy for maze %d (%s): %s",
+                        strategyName, mazeIndex, maze.getDescription(), e
+                ));
+            }
+        }
+    }
+
+    private void solveMaze(long mazeIndex, Maze maze, String strategyName, ResultWriter resultWriter) {
+        MazeTraversalStrategy strategy = StrategyRegistry.create(strategyName);
+        TraversalContext context = options.timeout() == null
+                ? TraversalContext.unbounded()
+                : TraversalContext.withTimeout(options.timeout());
+
+        TraversalOutcome outcome;
+        boolean[][] traversedMazeBoard = null;
+        int pathLength = -1;
+        long startTime = System.nanoTime();
+        try {
+            traversedMazeBoard = strategy.traverseMaze(maze, context);
+            pathLength = maze.calculateTraversedPathLength(traversedMazeBoard);
+            outcome = TraversalOutcome.TRAVERSED;
+        } catch (MazeNotTraversableException e) {
+            outcome = TraversalOutcome.NOT_TRAVERSABLE;
+        } catch (MazeTraversalTimeoutException e) {
+            outcome = TraversalOutcome.TIMED_OUT;
+        } catch (RuntimeException e) {
+            LOGGER.warning(String.format(
+                    "The %s strategy failed on maze %d (%s): %s", strategyName, mazeIndex, maze.getDescription(), e
+            ));
+            outcome = TraversalOutcome.FAILED;
+        }
+        double durationMs = (System.nanoTime() - startTime) / 1_000_000.0;
+
+        traversalCount.incrementAndGet();
+        outcomeCounts.get(outcome).incrementAndGet();
+        resultWriter.writeResult(mazeIndex, maze.getDescription(), strategyName, outcome, pathLength, durationMs);
+        if (traversedMazeBoard != null && options.solutionDirectory() != null) {
+            writeSolution(mazeIndex, maze, strategyName, traversedMazeBoard);
+        }
+    }
+
+    /**
+     * Writes the solved board into the solution directory. A failure is logged, since the result line
+     * has already been written.
+     */
+    private void writeSolution(long mazeIndex, Maze maze, String strategyName, boolean[][] traversedMazeBoard) {
+        Path solutionFile = options.solutionDirectory().resolve(
+                String.format("maze-%d-%s.txt", mazeIndex, strategyName)
+        );
+        try {
+            maze.writeTraversedBoard(traversedMazeBoard, solutionFile);
+        } catch (IOException e) {
+            LOGGER.warning(String.format(
+                    "Unable to write the solution of maze %d to %s: %s", mazeIndex, solutionFile, e
+            ));
+        }
+    }
+
+    /**
+     * Formats the result lines and writes them to the underlying writer, one complete line at a time.
+     * An {@link IOException} of a worker thread is kept and rethrown by {@link #flush()}.
+     */
+    private static final class ResultWriter {
+        private final Writer writer;
+        private final OutputFormat format;
+        private IOException failure;
+
+        ResultWriter(Writer writer, OutputFormat format) {
+            this.writer = writer;
+            this.format = format;
+        }
+
+        synchronized void writeHeader() throws IOException {
+            if (format == OutputFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write(System.lineSeparator());
+            }
+        }
+
+        void writeResult(
+                long mazeIndex, String description, String strategyName,
+                TraversalOutcome outcome, int pathLength, double durationMs
+        ) {
+            boolean solved = outcome == TraversalOutcome.TRAVERSED;
+            String time = String.format(Locale.ROOT, "%.3f", durationMs);
+            String line = switch (format) {
+                case CSV -> String.join(",",
+                        String.valueOf(mazeIndex), escapeCsv(description), escapeCsv(strategyName),
+                        outcome.name(), String.valueOf(solved), String.valueOf(pathLength), time
+                );
+                case JSONL -> String.format(
+                        "{\"maze_index\":%d,\"maze\":%s,\"strategy\":%s,\"outcome\":\"%s\","
+                                + "\"solved\":%b,\"path_length\":%d,\"time_ms\":%s}",
+                        mazeIndex, escapeJson(description), escapeJson(strategyName),
+                        outcome.name(), solved, pathLength, time
+                );
+            };
+
+            synchronized (this) {
+                if (failure != null) {
+                    return;
+                }
+                try {
+                    writer.write(line);
+                    writer.write(System.lineSeparator());
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+        }
+
+        synchronized boolean hasFailed() {
+            return failure != null;
+        }
+
+        synchronized void flush() throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            writer.flush();
+        }
+    }
+
+    /**
+     * Quotes the value if it contains a comma, quote or line break, doubling contained quotes.
+     */
+    static String escapeCsv(String value) {
+        if (value.chars().noneMatch(character -> character == ',' || character == '"'
+                || character == '\n' || character == '\r')) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Returns the value as a quoted JSON string.
+     */
+    static String escapeJson(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (char character : value.toCharArray()) {
+            switch (character) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (character < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        builder.append(character);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * Runs a batch with the given command line arguments and prints the summary to the standard error stream.
+     *
+     * @param args The command line arguments described at {@link BatchMazeSolver}
+     * @return The exit status: {@code 0} on success, {@code 1} if the run failed and {@code 2} on invalid arguments
+     */
+    public static int run(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: --mazes <file> [--strategies <a,b,...>] [--threads <n>] "
+                    + "[--format csv|jsonl] [--output <file>] [--timeout-ms <n>] [--solutions <dir>]");
+            return 2;
+        }
+
+        BatchMazeSolver solver = new BatchMazeSolver(options);
+        try {
+            Summary summary;
+            if (options.outputFile() == null) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+                summary = solver.run(writer);
+            } else {
+                try (Writer writer = Files.newBufferedWriter(options.outputFile())) {
+                    summary = solver.run(writer);
+                }
+            }
+            System.err.printf(
+                    "Solved %d mazes with %d traversals in %d ms: %d traversed, %d not traversable, "
+                            + "%d timed out, %d failed%n",
+                    summary.mazeCount(), summary.traversalCount(), summary.elapsedTime().toMillis(),
+                    summary.solvedCount(), summary.notTraversableCount(), summary.timedOutCount(),
+                    summary.failedCount()
+            );
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Unable to write the results: " + e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("The batch run has been interrupted.");
+            return 1;
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.app;
 
 import com.mazedata.Maze;
+import com.mazedata.MazeFileWatcher;
 import com.mazedata.MazeRepository;
 import com.strategies.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.InputMismatchException;
 import java.util.List;
 import java.util.Scanner;
@@ -126,7 +131,7 @@ public class InteractiveMazeApp {
         Maze selectedMaze = mazes.get(userSelectedInput - 1);
         System.out.println(System.lineSeparator() + "✓ Selected: " + selectedMaze.getDescription());
         System.out.println(System.lineSeparator() + "Maze visualization:");
-        System.out.println(selectedMaze.mazeBoardToString());
+        writeToConsole(selectedMaze::writeMazeBoard);
 
         return selectedMaze;
     }
@@ -172,12 +177,13 @@ public class InteractiveMazeApp {
 
         try {
             long startTime = System.nanoTime();
-            boolean[][] traversedBoard = strategy.traverseMaze(maze);
+            TraversalResult result = strategy.traverseMazeWithStatistics(maze);
             long endTime = System.nanoTime();
 
             double durationMs = convertToMilliseconds(endTime - startTime);
 
-            displaySuccessfulTraversal(durationMs, maze, traversedBoard);
+            displaySuccessfulTraversal(durationMs, maze, result.traversedBoard());
+            displayTraversalStatistics(result.statistics());
 
         } catch (MazeNotTraversableException e) {
             System.out.println(System.lineSeparator() + "✗ MAZE COULD NOT BE SOLVED");
@@ -198,9 +204,25 @@ public class InteractiveMazeApp {
         System.out.printf("⏱ Time taken: %.3f ms%n", durationMs);
         System.out.println(System.lineSeparator() + "Solution path (marked with 'x'):");
         System.out.println(BORDER);
-        System.out.println(maze.traversedBoardToString(traversedMazeBoard));
+        writeToConsole(outputStream -> maze.writeTraversedBoard(traversedMazeBoard, outputStream));
         System.out.printf("📊 Path length: %d fields%n", maze.calculateTraversedPathLength(traversedMazeBoard));
     }
+
+    private void displayTraversalStatistics(TraversalStatistics statistics) {
+        System.out.printf(
+                "🔎 Visited fields: %d, enqueued fields: %d, peak frontier: %d%n",
+                statistics.getVisitedFieldCount(), statistics.getEnqueuedFieldCount(),
+                statistics.getPeakFrontierSize()
+        );
+        System.out.printf(
+                "↩ Backtracks: %d, turns: %d, laps: %d%n",
+                statistics.getBacktrackCount(), statistics.getTurnCount(), statistics.getLapCount()
+        );
+        if (statistics.getAllocatedBytes() >= 0) {
+            System.out.printf("💾 Allocated memory: %d bytes%n", statistics.getAllocatedBytes());
+        }
+    }
+
     /**
      * Asks the user if they want to solve another maze.
      *
@@ -266,6 +288,26 @@ public class InteractiveMazeApp {
         return duration / 1_000_000.0;
     }
 
+    /**
+     * Streams a board row by row to the console instead of building it as string first,
+     * followed by an empty line.
+     *
+     * @param boardWriter Writes the board to the given stream
+     */
+    private void writeToConsole(BoardWriter boardWriter) {
+        try {
+            boardWriter.write(System.out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.out.println();
+    }
+
+    @FunctionalInterface
+    private interface BoardWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
     private void printBorder() {
         System.out.println(BORDER);
     }
@@ -276,15 +318,24 @@ public class InteractiveMazeApp {
     }
 
     /**
-     * Main entry point for the interactive maze application.
+     * Main entry point for the interactive maze application. If command line arguments are given,
+     * the mazes are solved headless by the {@link BatchMazeSolver} instead, or by the {@link MazeSolveServer}
+     * if the first argument is {@code --serve}.
      *
-     * @param args Command line arguments (not used)
+     * @param args Command line arguments of the {@link BatchMazeSolver} or {@link MazeSolveServer},
+     *             or none for the interactive mode
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--serve")) {
+            System.exit(MazeSolveServer.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
+        if (args.length > 0) {
+            System.exit(BatchMazeSolver.run(args));
+        }
+
         // Initialize repository
         MazeRepository repository = new MazeRepository("src/main/resources/mazes/mazes.txt");
-        repository.readMazeFileAndStoreLines();
-        repository.importMazes();
+        repository.reloadMazeFile();
 
         // Check if mazes were loaded
         if (repository.getMazes().isEmpty()) {
@@ -293,8 +344,26 @@ public class InteractiveMazeApp {
             return;
         }
 
-        // Run the interactive application
+        // Run the interactive application, picking up changes of the maze file when the next maze is selected
         InteractiveMazeApp app = new InteractiveMazeApp(repository);
+        MazeFileWatcher watcher = null;
+        try {
+            watcher = repository.watchMazeFile(summary -> {
+                if (summary != null && summary.parsedMazeCount() + summary.removedMazeCount() > 0) {
+                    System.out.printf("%n↻ Maze file changed: %d maze(s) updated, %d removed.%n",
+                            summary.parsedMazeCount(), summary.removedMazeCount());
+                }
+            });
+        } catch (IOException e) {
+            System.out.println("Warning: Changes of the maze file will not be picked up: " + e.getMessage());
+        }
         app.runApplication();
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (IOException e) {
+                // The application is terminating anyway
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,463 @@
+package com.app;
+
+import com.mazedata.Maze;
+import com.strategies.*;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ *     Local HTTP service which solves mazes sent in the maze file's text format ({@code o}, {@code #}, {@code S}
+ *     and {@code E}) with a strategy of the {@link StrategyRegistry}. Every request is handled on its own
+ *     virtual thread, so that slow traversals don't block the acceptance of further requests.
+ * </p>
+ * The service provides the following endpoints:
+ * <ul>
+ *     <li>
+ *         {@code POST /solve?strategy=bfs&timeout-ms=1000&description=...} with the field lines of the maze as
+ *         request body. The response is a JSON object containing the outcome, the path length, the traversal
+ *         time and the traversed board in which the path is marked with {@code x}. The strategy defaults to
+ *         {@code bfs}, the timeout and description are optional.
+ *     </li>
+ *     <li>{@code GET /metrics} returns the request, outcome and cache counters in the Prometheus text format.</li>
+ * </ul>
+ * <p>
+ *     The number of concurrently solved mazes is limited. Requests exceeding the limit are rejected immediately
+ *     with {@code 429 Too Many Requests} instead of being queued, which keeps the latency of accepted requests
+ *     predictable under load. Traversed and not traversable results can be kept in an LRU cache keyed by strategy
+ *     and maze, since all strategies are deterministic. Only mazes of up to
+ *     {@value MAX_CACHED_REQUEST_BODY_BYTES} bytes are cached.
+ * </p>
+ * <p>
+ *     Note that the request body streams of the JDK 21 HTTP server read while holding a monitor, which pins the
+ *     virtual thread to its carrier thread until the body has been received. Clients uploading very slowly can
+ *     therefore occupy carrier threads; the {@code sun.net.httpserver.maxReqTime} system property limits the time
+ *     a request may take.
+ * </p>
+ */
+public final class MazeSolveServer implements AutoCloseable {
+    /**
+     * Logger for tracking events and errors in the {@link MazeSolveServer} class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(MazeSolveServer.class.getName());
+
+    /**
+     * The maximum size of a request body. Larger mazes are rejected with {@code 413 Content Too Large}.
+     */
+    static final int MAX_REQUEST_BODY_BYTES = 16 * 1024 * 1024;
+
+    /**
+     * The maximum size of a request body whose result is cached, which bounds the memory of the cache
+     * to about the cache capacity times twice this size.
+     */
+    static final int MAX_CACHED_REQUEST_BODY_BYTES = 64 * 1024;
+
+    private static final String DEFAULT_STRATEGY = "bfs";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    /**
+     * Permits of the requests which are currently solved. Package-private so that tests can occupy them.
+     */
+    final Semaphore concurrentRequests;
+    private final int maxConcurrentRequests;
+    private final ResultCache cache;
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder rejectedRequestCount = new LongAdder();
+    private final LongAdder invalidRequestCount = new LongAdder();
+    private final LongAdder cacheHitCount = new LongAdder();
+    private final LongAdder cacheMissCount = new LongAdder();
+    private final LongAdder traversalNanos = new LongAdder();
+    private final Map<TraversalOutcome, LongAdder> outcomeCounts =
+            new EnumMap<>(TraversalOutcome.class);
+
+    /**
+     * Creates a server bound to the loopback address which is started by {@link #start()}.
+     *
+     * @param port The port to listen on or {@code 0} for an ephemeral port, see {@link #getPort()}
+     * @param maxConcurrentRequests The maximum number of concurrently solved mazes
+     * @param cacheCapacity The maximum number of cached results or {@code 0} to disable the cache
+     * @throws IllegalArgumentException If any of the arguments is out of range
+     * @throws IOException If the server cannot be bound to the port
+     */
+    public MazeSolveServer(int port, int maxConcurrentRequests, int cacheCapacity)
+            throws IllegalArgumentException, IOException {
+        if (port < 0 || port > 0xFFFF) {
+            throw new IllegalArgumentException("The port must be between 0 and 65535 but was " + port);
+        }
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum number of concurrent requests must be positive but was " + maxConcurrentRequests
+            );
+        }
+        if (cacheCapacity < 0) {
+            throw new IllegalArgumentException("The cache capacity must not be negative but was " + cacheCapacity);
+        }
+
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.concurrentRequests = new Semaphore(maxConcurrentRequests);
+        this.cache = cacheCapacity > 0 ? new ResultCache(cacheCapacity) : null;
+        for (TraversalOutcome outcome : TraversalOutcome.values()) {
+            outcomeCounts.put(outcome, new LongAdder());
+        }
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/solve", this::handleSolve);
+        server.createContext("/metrics", this::handleMetrics);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        LOGGER.info("Maze solve server listening on " + server.getAddress());
+    }
+
+    /**
+     * Stops accepting requests, waits up to one second for the running exchanges and releases the threads.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the port the server is bound to, which is useful if it was created with port {@code 0}.
+     */
+    public int getPort() { return server.getAddress().getPort(); }
+
+    private void handleSolve(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.increment();
+            if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendError(exchange, 405, "Only POST requests are supported.");
+                return;
+            }
+
+            if (!concurrentRequests.tryAcquire()) {
+                rejectedRequestCount.increment();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendError(exchange, 429, String.format(
+                        "The maximum of %d concurrent requests has been reached.", maxConcurrentRequests
+                ));
+                return;
+            }
+            try {
+                solve(exchange);
+            } finally {
+                concurrentRequests.release();
+            }
+        }
+    }
+
+    private void solve(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+        String strategyName = parameters.getOrDefault("strategy", DEFAULT_STRATEGY).strip().toLowerCase();
+        String description = parameters.getOrDefault("description", "HTTP request");
+
+        MazeTraversalStrategy strategy;
+        TraversalContext context;
+        try {
+            strategy = StrategyRegistry.create(strategyName);
+            context = parameters.containsKey("timeout-ms")
+                    ? TraversalContext.withTimeout(Duration.ofMillis(Long.parseLong(parameters.get("timeout-ms"))))
+                    : TraversalContext.unbounded();
+        } catch (IllegalArgumentException e) {
+            // Includes the NumberFormatException of an invalid timeout
+            invalidRequestCount.increment();
+            sendError(exchange, 400, e.getMessage());
+            return;
+        }
+
+        byte[] body = readBody(exchange.getRequestBody());
+        if (body == null) {
+            invalidRequestCount.increment();
+            sendError(exchange, 413, String.format(
+                    "The maze must not be larger than %d bytes.", MAX_REQUEST_BODY_BYTES
+            ));
+            return;
+        }
+
+        boolean cacheable = cache != null && body.length <= MAX_CACHED_REQUEST_BODY_BYTES;
+        CacheKey cacheKey = cacheable ? new CacheKey(strategyName, normalizeMazeBytes(body)) : null;
+        if (cacheable) {
+            byte[] cachedResponse = cache.get(cacheKey);
+            if (cachedResponse != null) {
+                cacheHitCount.increment();
+                exchange.getResponseHeaders().set("X-Cache", "HIT");
+                sendJson(exchange, 200, cachedResponse);
+                return;
+            }
+            cacheMissCount.increment();
+        }
+
+        Maze maze = Maze.MazeFactory.createMazeFromBytes(body, description);
+        if (maze == null) {
+            invalidRequestCount.increment();
+            sendError(exchange, 400, "The request body is not a valid maze.");
+            return;
+        }
+
+        TraversalOutcome outcome;
+        boolean[][] traversedMazeBoard = null;
+        String reason = null;
+        long startTime = System.nanoTime();
+        try {
+            traversedMazeBoard = strategy.traverseMaze(maze, context);
+            outcome = TraversalOutcome.TRAVERSED;
+        } catch (MazeNotTraversableException e) {
+            outcome = TraversalOutcome.NOT_TRAVERSABLE;
+            reason = e.getReason();
+        } catch (MazeTraversalTimeoutException e) {
+            outcome = TraversalOutcome.TIMED_OUT;
+            reason = e.getMessage();
+        } catch (RuntimeException e) {
+            LOGGER.warning(String.format("The %s strategy failed on a requested maze: %s", strategyName, e));
+            outcome = TraversalOutcome.FAILED;
+            reason = e.toString();
+        }
+        long durationNanos = System.nanoTime() - startTime;
+        traversalNanos.add(durationNanos);
+        outcomeCounts.get(outcome).increment();
+
+        byte[] response = createSolveResponse(
+                maze, strategyName, outcome, traversedMazeBoard, reason, durationNanos
+        ).getBytes(StandardCharsets.UTF_8);
+        // Time outs and failures depend on the load of the server and are therefore not cached
+        boolean deterministic = outcome == TraversalOutcome.TRAVERSED
+                || outcome == TraversalOutcome.NOT_TRAVERSABLE;
+        if (cacheable && deterministic) {
+            cache.put(cacheKey, response);
+        }
+        exchange.getResponseHeaders().set("X-Cache", "MISS");
+        int status = switch (outcome) {
+            case TRAVERSED, NOT_TRAVERSABLE -> 200;
+            case TIMED_OUT -> 503;
+            case FAILED -> 500;
+        };
+        sendJson(exchange, status, response);
+    }
+
+    private static String createSolveResponse(
+            Maze maze, String strategyName, TraversalOutcome outcome,
+            boolean[][] traversedMazeBoard, String reason, long durationNanos
+    ) {
+        boolean solved = traversedMazeBoard != null;
+        StringBuilder builder = new StringBuilder()
+                .append("{\"strategy\":").append(BatchMazeSolver.escapeJson(strategyName))
+                .append(",\"outcome\":\"").append(outcome.name()).append('"')
+                .append(",\"solved\":").append(solved)
+                .append(",\"path_length\":").append(solved ? maze.calculateTraversedPathLength(traversedMazeBoard) : -1)
+                .append(",\"time_ms\":").append(String.format(Locale.ROOT, "%.3f", durationNanos / 1_000_000.0));
+        if (solved) {
+            builder.append(",\"board\":").append(BatchMazeSolver.escapeJson(
+                    maze.traversedBoardToString(traversedMazeBoard).replace(System.lineSeparator(), "\n")
+            ));
+        } else {
+            builder.append(",\"reason\":").append(BatchMazeSolver.escapeJson(String.valueOf(reason)));
+        }
+        return builder.append('}').toString();
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendError(exchange, 405, "Only GET requests are supported.");
+                return;
+            }
+
+            StringBuilder builder = new StringBuilder();
+            appendMetric(builder, "maze_solve_requests_total", "counter", requestCount.sum());
+            appendMetric(builder, "maze_solve_rejected_requests_total", "counter", rejectedRequestCount.sum());
+            appendMetric(builder, "maze_solve_invalid_requests_total", "counter", invalidRequestCount.sum());
+            appendMetric(builder, "maze_solve_in_flight_requests", "gauge",
+                    maxConcurrentRequests - concurrentRequests.availablePermits());
+            builder.append("# TYPE maze_solve_traversals_total counter\n");
+            outcomeCounts.forEach((outcome, count) -> builder
+                    .append("maze_solve_traversals_total{outcome=\"").append(outcome.name()).append("\"} ")
+                    .append(count.sum()).append('\n'));
+            appendMetric(builder, "maze_solve_traversal_seconds_total", "counter", traversalNanos.sum() / 1e9);
+            appendMetric(builder, "maze_solve_cache_hits_total", "counter", cacheHitCount.sum());
+            appendMetric(builder, "maze_solve_cache_misses_total", "counter", cacheMissCount.sum());
+            appendMetric(builder, "maze_solve_cache_entries", "gauge", cache != null ? cache.size() : 0);
+
+            byte[] response = builder.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        }
+    }
+
+    private static void appendMetric(StringBuilder builder, String name, String type, Number value) {
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n')
+                .append(name).append(' ').append(value).append('\n');
+    }
+
+    /**
+     * Reads the request body and returns {@code null} if it exceeds {@value MAX_REQUEST_BODY_BYTES} bytes.
+     */
+    private static byte[] readBody(InputStream body) throws IOException {
+        byte[] bytes = body.readNBytes(MAX_REQUEST_BODY_BYTES + 1);
+        return bytes.length > MAX_REQUEST_BODY_BYTES ? null : bytes;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separatorIndex = parameter.indexOf('=');
+            String name = separatorIndex < 0 ? parameter : parameter.substring(0, separatorIndex);
+            String value = separatorIndex < 0 ? "" : parameter.substring(separatorIndex + 1);
+            parameters.put(
+                    URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8)
+            );
+        }
+        return parameters;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, ("{\"error\":" + BatchMazeSolver.escapeJson(message) + "}")
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, byte[] response) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(response);
+        }
+    }
+
+    /**
+     * Returns the non-blank lines of the request body without their trailing white spaces, separated by line feeds,
+     * so that bodies which only differ in blank lines, trailing white spaces or line separators describe the same
+     * maze. The bytes are not decoded.
+     */
+    private static ByteBuffer normalizeMazeBytes(byte[] body) {
+        byte[] normalized = new byte[body.length];
+        int length = 0;
+        int lineStart = 0;
+        while (lineStart < body.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < body.length && body[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd;
+            while (contentEnd > lineStart && Character.isWhitespace(body[contentEnd - 1])) {
+                contentEnd--;
+            }
+            if (contentEnd > lineStart) {
+                if (length > 0) {
+                    normalized[length++] = '\n';
+                }
+                System.arraycopy(body, lineStart, normalized, length, contentEnd - lineStart);
+                length += contentEnd - lineStart;
+            }
+            lineStart = lineEnd + 1;
+        }
+        return ByteBuffer.wrap(normalized, 0, length);
+    }
+
+    /**
+     * The strategy name along with the normalized request body, which is compared by content.
+     */
+    private record CacheKey(String strategyName, ByteBuffer mazeBytes) {}
+
+    /**
+     * Synchronized LRU cache of encoded responses.
+     */
+    private static final class ResultCache {
+        private final Map<CacheKey, byte[]> entries;
+
+        ResultCache(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, byte[]> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized byte[] get(CacheKey key) { return entries.get(key); }
+
+        synchronized void put(CacheKey key, byte[] response) { entries.put(key, response); }
+
+        synchronized int size() { return entries.size(); }
+    }
+
+    /**
+     * Starts a server with the given command line arguments and blocks until the process is terminated.
+     * Supported options are {@code --port} (default: 8080), {@code --max-concurrent-requests}
+     * (default: twice the number of available processors) and {@code --cache-size} (default: 1024).
+     *
+     * @param args The command line arguments following {@code --serve}
+     * @return The exit status {@code 2} on invalid arguments or {@code 1} if the server cannot be started
+     */
+    public static int run(String[] args) {
+        int port = 8080;
+        int maxConcurrentRequests = 2 * Runtime.getRuntime().availableProcessors();
+        int cacheCapacity = 1024;
+
+        MazeSolveServer server;
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for option " + args[i]);
+                }
+                int value = Integer.parseInt(args[i + 1]);
+                switch (args[i]) {
+                    case "--port" -> port = value;
+                    case "--max-concurrent-requests" -> maxConcurrentRequests = value;
+                    case "--cache-size" -> cacheCapacity = value;
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            server = new MazeSolveServer(port, maxConcurrentRequests, cacheCapacity);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: --serve [--port <n>] [--max-concurrent-requests <n>] [--cache-size <n>]");
+            return 2;
+        } catch (IOException e) {
+            System.err.println("Unable to start the server: " + e.getMessage());
+            return 1;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        server.start();
+        System.err.printf("Solving mazes on http://localhost:%d/solve, metrics on /metrics%n", server.getPort());
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 0;
+    }
+}
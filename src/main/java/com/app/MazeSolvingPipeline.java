@@ -0,0 +1,467 @@
+package com.app;
+
+import com.mazedata.Maze;
+import com.strategies.*;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ *     Staged pipeline which parses, optionally preprocesses, solves and emits mazes on separate worker threads.
+ *     The stages are connected by bounded queues: a stage whose output queue is full blocks until the next stage
+ *     has taken an element, so that the throughput is set by the slowest stage and the number of mazes held in
+ *     memory never exceeds the sum of the queue capacities and the number of workers.
+ * </p>
+ * The stages are run in the order of {@link Stage}:
+ * <ol>
+ *     <li>{@link Stage#PARSE} pulls the mazes from the source stream, e.g. {@link
+ *     com.mazedata.MazeRepository#streamMazes()}, which parses them lazily. This stage always has one worker.</li>
+ *     <li>{@link Stage#PREPROCESS} applies the configured {@link Preprocessing}.</li>
+ *     <li>{@link Stage#SOLVE} traverses the mazes with a strategy instance per worker.</li>
+ *     <li>{@link Stage#EMIT} passes the results to the sink, which may render or write them.</li>
+ * </ol>
+ * <p>
+ *     If a stage or the sink throws an exception, all workers are interrupted and {@link #run(Stream, Consumer)}
+ *     rethrows it. Only an exception thrown by a strategy is logged and reported as a
+ *     {@link TraversalOutcome#FAILED} result instead, so that a single faulty maze doesn't abort the run.
+ *     The results are emitted in the order of completion, not in the order of the source.
+ * </p>
+ */
+public final class MazeSolvingPipeline {
+    /**
+     * Logger for tracking events and errors in the {@link MazeSolvingPipeline} class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(MazeSolvingPipeline.class.getName());
+
+    /**
+     * The stages of the pipeline in processing order.
+     */
+    public enum Stage {
+        PARSE, PREPROCESS, SOLVE, EMIT
+    }
+
+    /**
+     * The preprocessing applied to every maze before it's solved.
+     */
+    public enum Preprocessing {
+        /**
+         * The mazes are solved as they are.
+         */
+        NONE,
+
+        /**
+         * Mazes none of whose ending fields can be reached from any of their starting fields are reported as
+         * not traversable without running the strategy.
+         */
+        COMPONENT_CHECK,
+
+        /**
+         * Like {@link #COMPONENT_CHECK}, additionally solving a copy of the maze whose dead ends are filled,
+         * see {@link DeadEndFilling}. The traversed board is valid for the original maze.
+         */
+        DEAD_END_FILL
+    }
+
+    /**
+     * The result of solving a single maze.
+     *
+     * @param index The position of the maze in the source stream
+     * @param maze The original maze
+     * @param outcome The outcome of the traversal
+     * @param traversedBoard The traversed board or {@code null} if the maze has not been traversed
+     * @param solvingTime The time taken by the strategy or {@link Duration#ZERO} if the preprocessing
+     *                    already determined that the maze is not traversable
+     */
+    public record SolvedMaze(
+            long index, Maze maze, TraversalOutcome outcome, boolean[][] traversedBoard, Duration solvingTime
+    ) {
+        public boolean isSolved() { return traversedBoard != null; }
+    }
+
+    /**
+     * The totals of a pipeline run.
+     *
+     * @param processedCounts The number of elements each stage has processed
+     * @param busyTimes The time the workers of each stage spent processing, excluding the time waiting for
+     *                  the neighbouring queues, which identifies the stage limiting the throughput
+     * @param outcomeCounts The number of mazes per traversal outcome
+     * @param elapsedTime The duration of the whole run
+     */
+    public record Summary(
+            Map<Stage, Long> processedCounts, Map<Stage, Duration> busyTimes,
+            Map<TraversalOutcome, Long> outcomeCounts, Duration elapsedTime
+    ) {
+        public long getOutcomeCount(TraversalOutcome outcome) {
+            return outcomeCounts.getOrDefault(outcome, 0L);
+        }
+    }
+
+    /**
+     * Marks the end of the elements in a queue. Every worker of the next stage receives its own end marker.
+     */
+    private static final Object END = new Object();
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final Supplier<? extends MazeTraversalStrategy> strategySupplier;
+    private final Preprocessing preprocessing;
+    private final Map<Stage, Integer> parallelisms;
+    private final int queueCapacity;
+    private final Duration timeout;
+
+    private MazeSolvingPipeline(Builder builder) {
+        this.strategySupplier = builder.strategySupplier;
+        this.preprocessing = builder.preprocessing;
+        this.parallelisms = new EnumMap<>(builder.parallelisms);
+        this.queueCapacity = builder.queueCapacity;
+        this.timeout = builder.timeout;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getParallelism(Stage stage) { return parallelisms.get(stage); }
+
+    public int getQueueCapacity() { return queueCapacity; }
+
+    /**
+     * Runs all mazes of the source through the pipeline and passes the results to the sink. The method returns
+     * after the last result has been emitted. The source stream is consumed but not closed.
+     *
+     * @param source The mazes to be solved
+     * @param sink The consumer of the results, called by the workers of {@link Stage#EMIT}. It must be
+     *             thread-safe if the stage has more than one worker.
+     * @return The totals of the run
+     * @throws IllegalArgumentException If the source or sink is {@code null}
+     * @throws InterruptedException If the current thread is interrupted while waiting for the workers
+     * @throws CompletionException If a stage or the sink failed, wrapping the cause
+     */
+    public Summary run(Stream<Maze> source, Consumer<? super SolvedMaze> sink)
+            throws IllegalArgumentException, InterruptedException, CompletionException {
+        if (source == null || sink == null) {
+            throw new IllegalArgumentException("A source and a sink must be provided in order to run the pipeline.");
+        }
+        return new Run(source.iterator(), sink).execute();
+    }
+
+    /**
+     * The state of a single run of the pipeline.
+     */
+    private final class Run {
+        private final Iterator<Maze> source;
+        private final Consumer<? super SolvedMaze> sink;
+
+        private final Map<Stage, BlockingQueue<Object>> inputQueues = new EnumMap<>(Stage.class);
+        private final Map<Stage, AtomicLong> processedCounts = new EnumMap<>(Stage.class);
+        private final Map<Stage, AtomicLong> busyNanos = new EnumMap<>(Stage.class);
+        private final Map<Stage, AtomicInteger> remainingWorkers = new EnumMap<>(Stage.class);
+        /**
+         * Released once the last emitting worker has finished or the run has failed.
+         */
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private final Map<TraversalOutcome, AtomicLong> outcomeCounts =
+                new EnumMap<>(TraversalOutcome.class);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Run(Iterator<Maze> source, Consumer<? super SolvedMaze> sink) {
+            this.source = source;
+            this.sink = sink;
+            for (Stage stage : STAGES) {
+                if (stage != Stage.PARSE) {
+                    inputQueues.put(stage, new ArrayBlockingQueue<>(queueCapacity));
+                }
+                processedCounts.put(stage, new AtomicLong());
+                busyNanos.put(stage, new AtomicLong());
+                remainingWorkers.put(stage, new AtomicInteger(parallelisms.get(stage)));
+            }
+            for (TraversalOutcome outcome : TraversalOutcome.values()) {
+                outcomeCounts.put(outcome, new AtomicLong());
+            }
+        }
+
+        Summary execute() throws InterruptedException {
+            long startTime = System.nanoTime();
+            int workerCount = parallelisms.values().stream().mapToInt(Integer::intValue).sum();
+            ExecutorService executor = Executors.newFixedThreadPool(workerCount);
+            List<Future<?>> workers = new ArrayList<>();
+            try {
+                for (Stage stage : STAGES) {
+                    for (int i = 0; i < parallelisms.get(stage); i++) {
+                        workers.add(executor.submit(() -> runWorker(stage)));
+                    }
+                }
+                finished.await();
+            } finally {
+                executor.shutdownNow();
+            }
+
+            Throwable cause = failure.get();
+            if (cause != null) {
+                throw new CompletionException("The maze solving pipeline failed: " + cause, cause);
+            }
+            return createSummary(Duration.ofNanos(System.nanoTime() - startTime));
+        }
+
+        private void runWorker(Stage stage) {
+            try {
+                if (stage == Stage.PARSE) {
+                    parse();
+                } else {
+                    process(stage);
+                }
+            } catch (InterruptedException e) {
+                // Another worker failed and the run is being aborted
+            } catch (Throwable e) {
+                if (failure.compareAndSet(null, e)) {
+                    abort();
+                }
+            } finally {
+                finishWorker(stage);
+            }
+        }
+
+        private void parse() throws InterruptedException {
+            BlockingQueue<Object> output = inputQueues.get(Stage.PREPROCESS);
+            long index = 0;
+            while (failure.get() == null) {
+                long start = System.nanoTime();
+                if (!source.hasNext()) {
+                    break;
+                }
+                Maze maze = source.next();
+                recordProcessed(Stage.PARSE, start);
+                output.put(new IndexedMaze(index++, maze, maze));
+            }
+        }
+
+        private void process(Stage stage) throws InterruptedException {
+            BlockingQueue<Object> input = inputQueues.get(stage);
+            MazeTraversalStrategy strategy = stage == Stage.SOLVE ? strategySupplier.get() : null;
+            Object element;
+            while ((element = input.take()) != END) {
+                long start = System.nanoTime();
+                Object result = switch (stage) {
+                    case PREPROCESS -> preprocess((IndexedMaze) element);
+                    case SOLVE -> element instanceof IndexedMaze indexedMaze ? solve(indexedMaze, strategy) : element;
+                    case EMIT -> {
+                        SolvedMaze solvedMaze = (SolvedMaze) element;
+                        outcomeCounts.get(solvedMaze.outcome()).incrementAndGet();
+                        sink.accept(solvedMaze);
+                        yield null;
+                    }
+                    case PARSE -> throw new IllegalStateException("The parse stage has no input queue.");
+                };
+                recordProcessed(stage, start);
+                if (result != null) {
+                    inputQueues.get(STAGES[stage.ordinal() + 1]).put(result);
+                }
+            }
+        }
+
+        /**
+         * Returns the maze to be solved, or directly a not traversable result if the component check fails.
+         */
+        private Object preprocess(IndexedMaze indexedMaze) {
+            if (preprocessing == Preprocessing.NONE) {
+                return indexedMaze;
+            }
+            Maze maze = indexedMaze.original();
+            DistanceField distanceField = DistanceField.compute(maze, maze.getStartingFields(), false);
+            if (!distanceField.isAnyReachable(maze.getEndingFields())) {
+                return new SolvedMaze(
+                        indexedMaze.index(), maze, TraversalOutcome.NOT_TRAVERSABLE, null, Duration.ZERO
+                );
+            }
+            return preprocessing == Preprocessing.DEAD_END_FILL
+                    ? new IndexedMaze(indexedMaze.index(), maze, DeadEndFilling.fill(maze))
+                    : indexedMaze;
+        }
+
+        private SolvedMaze solve(IndexedMaze indexedMaze, MazeTraversalStrategy strategy) {
+            TraversalContext context = timeout == null
+                    ? TraversalContext.unbounded()
+                    : TraversalContext.withTimeout(timeout);
+            boolean[][] traversedBoard = null;
+            TraversalOutcome outcome;
+            long startTime = System.nanoTime();
+            try {
+                traversedBoard = strategy.traverseMaze(indexedMaze.solved(), context);
+                outcome = TraversalOutcome.TRAVERSED;
+            } catch (MazeNotTraversableException e) {
+                outcome = TraversalOutcome.NOT_TRAVERSABLE;
+            } catch (MazeTraversalTimeoutException e) {
+                outcome = TraversalOutcome.TIMED_OUT;
+            } catch (RuntimeException e) {
+                LOGGER.warning(String.format(
+                        "The strategy failed on maze %d (%s): %s",
+                        indexedMaze.index(), indexedMaze.original().getDescription(), e
+                ));
+                outcome = TraversalOutcome.FAILED;
+            }
+            return new SolvedMaze(
+                    indexedMaze.index(), indexedMaze.original(), outcome, traversedBoard,
+                    Duration.ofNanos(System.nanoTime() - startTime)
+            );
+        }
+
+        private void recordProcessed(Stage stage, long startTime) {
+            busyNanos.get(stage).addAndGet(System.nanoTime() - startTime);
+            processedCounts.get(stage).incrementAndGet();
+        }
+
+        /**
+         * Counts the worker down and lets the last worker of a stage hand an end marker to every worker
+         * of the next stage. Since only the worker decrementing the count to zero does so, the markers are
+         * handed over exactly once even if several workers finish at the same time.
+         */
+        private void finishWorker(Stage stage) {
+            if (remainingWorkers.get(stage).decrementAndGet() > 0) {
+                return;
+            }
+            if (stage == Stage.EMIT) {
+                finished.countDown();
+                return;
+            }
+            if (failure.get() != null) {
+                return;
+            }
+            Stage nextStage = STAGES[stage.ordinal() + 1];
+            try {
+                for (int i = 0; i < parallelisms.get(nextStage); i++) {
+                    inputQueues.get(nextStage).put(END);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Releases the thread waiting for the last emitting worker after a failure. The workers themselves
+         * are interrupted by the executor's shutdown.
+         */
+        private void abort() {
+            finished.countDown();
+        }
+
+        private Summary createSummary(Duration elapsedTime) {
+            Map<Stage, Long> counts = new EnumMap<>(Stage.class);
+            Map<Stage, Duration> busyTimes = new EnumMap<>(Stage.class);
+            for (Stage stage : STAGES) {
+                counts.put(stage, processedCounts.get(stage).get());
+                busyTimes.put(stage, Duration.ofNanos(busyNanos.get(stage).get()));
+            }
+            Map<TraversalOutcome, Long> outcomes = new EnumMap<>(TraversalOutcome.class);
+            outcomeCounts.forEach((outcome, count) -> outcomes.put(outcome, count.get()));
+            return new Summary(
+                    Collections.unmodifiableMap(counts), Collections.unmodifiableMap(busyTimes),
+                    Collections.unmodifiableMap(outcomes), elapsedTime
+            );
+        }
+    }
+
+    /**
+     * A maze on its way through the pipeline, together with the possibly preprocessed maze to be solved.
+     */
+    private record IndexedMaze(long index, Maze original, Maze solved) {}
+
+    /**
+     * Builder of {@link MazeSolvingPipeline} instances. By default, mazes are solved with a
+     * {@link BreadthFirstSearch} on as many workers as processors are available, without preprocessing,
+     * with one worker for every other stage and queues holding {@value #DEFAULT_QUEUE_CAPACITY} elements.
+     */
+    public static final class Builder {
+        static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+        private Supplier<? extends MazeTraversalStrategy> strategySupplier = BreadthFirstSearch::new;
+        private Preprocessing preprocessing = Preprocessing.NONE;
+        private final Map<Stage, Integer> parallelisms = new EnumMap<>(Stage.class);
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private Duration timeout;
+
+        private Builder() {
+            for (Stage stage : STAGES) {
+                parallelisms.put(stage, 1);
+            }
+            parallelisms.put(Stage.SOLVE, Runtime.getRuntime().availableProcessors());
+        }
+
+        /**
+         * Sets the supplier of the strategy. Every solving worker gets its own instance.
+         */
+        public Builder strategy(Supplier<? extends MazeTraversalStrategy> strategySupplier) {
+            if (strategySupplier == null) {
+                throw new IllegalArgumentException("A strategy supplier must be provided.");
+            }
+            this.strategySupplier = strategySupplier;
+            return this;
+        }
+
+        /**
+         * Sets the strategy by its name in the {@link StrategyRegistry}.
+         */
+        public Builder strategy(String strategyName) {
+            StrategyRegistry.create(strategyName);
+            return strategy(() -> StrategyRegistry.create(strategyName));
+        }
+
+        public Builder preprocessing(Preprocessing preprocessing) {
+            if (preprocessing == null) {
+                throw new IllegalArgumentException("A preprocessing must be provided.");
+            }
+            this.preprocessing = preprocessing;
+            return this;
+        }
+
+        /**
+         * Sets the number of workers of a stage. The {@link Stage#PARSE} stage reads a single source
+         * sequentially and therefore always has one worker.
+         */
+        public Builder parallelism(Stage stage, int workerCount) {
+            if (stage == null || workerCount < 1 || (stage == Stage.PARSE && workerCount != 1)) {
+                throw new IllegalArgumentException(String.format(
+                        "Invalid parallelism %d for stage %s. Every stage needs at least one worker "
+                                + "and the parse stage exactly one.",
+                        workerCount, stage
+                ));
+            }
+            parallelisms.put(stage, workerCount);
+            return this;
+        }
+
+        /**
+         * Sets the capacity of each queue between two stages.
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity < 1) {
+                throw new IllegalArgumentException("The queue capacity must be positive but was " + queueCapacity);
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the time limit per traversal, or {@code null} for unbounded traversals.
+         */
+        public Builder timeout(Duration timeout) {
+            if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+                throw new IllegalArgumentException("The timeout must be positive but was " + timeout);
+            }
+            this.timeout = timeout;
+            return this;
+        }
+
+        public MazeSolvingPipeline build() {
+            return new MazeSolvingPipeline(this);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.app;
+
+import com.strategies.*;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ *     The class {@code StrategyRegistry} maps the names used on the command line and in requests to the
+ *     available {@link MazeTraversalStrategy} implementations.
+ * </p>
+ * Names are case-insensitive. Every call of {@link #create(String)} returns a new strategy instance.
+ */
+public final class StrategyRegistry {
+    private static final Map<String, Supplier<MazeTraversalStrategy>> STRATEGIES = createStrategies();
+
+    private StrategyRegistry() {}
+
+    private static Map<String, Supplier<MazeTraversalStrategy>> createStrategies() {
+        Map<String, Supplier<MazeTraversalStrategy>> strategies = new LinkedHashMap<>();
+        strategies.put("bfs", BreadthFirstSearch::new);
+        strategies.put("dfs", DepthFirstSearch::new);
+        strategies.put("hand-on-wall-right", () -> new HandOnWall(HandOnWall.HandOnWallSide.RIGHT));
+        strategies.put("hand-on-wall-left", () -> new HandOnWall(HandOnWall.HandOnWallSide.LEFT));
+        strategies.put("hpa", HierarchicalPathfinding::new);
+        strategies.put("lpa", LifelongPlanningAStar::new);
+        strategies.put("portfolio", () -> new PortfolioStrategy(List.of(
+                new HandOnWall(HandOnWall.HandOnWallSide.RIGHT),
+                new HandOnWall(HandOnWall.HandOnWallSide.LEFT),
+                new DepthFirstSearch(),
+                new BreadthFirstSearch()
+        )));
+        return Collections.unmodifiableMap(strategies);
+    }
+
+    /**
+     * Returns the names of all registered strategies in the order of registration.
+     */
+    public static Set<String> getNames() {
+        return STRATEGIES.keySet();
+    }
+
+    /**
+     * Creates the strategy registered under the given name.
+     *
+     * @param name The case-insensitive name of the strategy
+     * @return A new instance of the strategy
+     * @throws IllegalArgumentException If no strategy is registered under the given name
+     */
+    public static MazeTraversalStrategy create(String name) throws IllegalArgumentException {
+        Supplier<MazeTraversalStrategy> strategy = name == null ? null : STRATEGIES.get(name.strip().toLowerCase());
+        if (strategy == null) {
+            throw new IllegalArgumentException(String.format(
+                    "Unknown strategy \"%s\". Available strategies: %s", name, String.join(", ", getNames())
+            ));
+        }
+        return strategy.get();
+    }
+}
@@ -0,0 +1,28 @@
+package com.mazedata;
+
+/**
+ * A read-only {@link MazeBoard} view of the {@code boolean[][]} board of a {@link Maze}.
+ */
+final class ArrayMazeBoard implements MazeBoard {
+    private final boolean[][] mazeBoard;
+
+    ArrayMazeBoard(boolean[][] mazeBoard) {
+        this.mazeBoard = mazeBoard;
+    }
+
+    @Override
+    public long getWidth() { return mazeBoard[0].length; }
+
+    @Override
+    public long getHeight() { return mazeBoard.length; }
+
+    @Override
+    public boolean isPath(long x, long y) throws IndexOutOfBoundsException {
+        if (x < 0 || y < 0 || x >= getWidth() || y >= getHeight()) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Position (%d, %d) out of bounds for board %dx%d", x, y, getWidth(), getHeight()
+            ));
+        }
+        return mazeBoard[(int) y][(int) x];
+    }
+}
@@ -0,0 +1,128 @@
+package com.mazedata;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * <p>
+ *     The class {@code EditableMaze} represents a {@link Maze} whose fields can be turned into walls or path fields
+ *     after its creation, e.g. by a level editor. The maze works on its own copy of the passed maze board.
+ * </p>
+ * Every edit increases the {@link #getModificationCount() modification count} and is passed on to the registered
+ * {@link EditListener}s, which allows strategies to keep their search state between edits and only repair the
+ * affected part of it instead of traversing the whole maze again.
+ * <p>
+ *     Edits are not synchronized with running traversals. A maze must therefore not be edited while it is traversed.
+ * </p>
+ */
+public class EditableMaze extends Maze {
+    /**
+     * A listener which is notified after a field of an {@link EditableMaze} has been edited.
+     */
+    @FunctionalInterface
+    public interface EditListener {
+        /**
+         * @param field The edited field
+         * @param passable {@code true} if the field is now a path field, {@code false} if it's now a wall
+         */
+        void fieldEdited(MazeField field, boolean passable);
+    }
+
+    private final List<EditListener> editListeners = new CopyOnWriteArrayList<>();
+
+    private long modificationCount;
+
+    /**
+     * Constructs an editable maze working on a copy of the given maze's board.
+     *
+     * @param maze A non-null {@link Maze}
+     * @throws IllegalArgumentException If the maze is {@code null}
+     */
+    public EditableMaze(Maze maze) throws IllegalArgumentException {
+        this(copyBoard(maze), maze.getStartingFields(), maze.getEndingFields(), maze.getDescription());
+    }
+
+    /**
+     * Constructs an editable maze working on a copy of the given maze board.
+     *
+     * @see Maze#Maze(boolean[][], MazeField, MazeField, String)
+     */
+    public EditableMaze(boolean[][] mazeBoard, MazeField startingField, MazeField endingField, String description)
+            throws IllegalArgumentException {
+        super(copyBoard(mazeBoard), startingField, endingField, description);
+    }
+
+    /**
+     * Constructs an editable maze with any number of starting and ending fields working on a copy of the given
+     * maze board.
+     *
+     * @see Maze#Maze(boolean[][], List, List, String)
+     */
+    public EditableMaze(
+            boolean[][] mazeBoard, List<MazeField> startingFields, List<MazeField> endingFields, String description
+    ) throws IllegalArgumentException {
+        super(copyBoard(mazeBoard), startingFields, endingFields, description);
+    }
+
+    public long getModificationCount() { return modificationCount; }
+
+    public void addEditListener(EditListener listener) {
+        if (listener != null) {
+            editListeners.add(listener);
+        }
+    }
+
+    public void removeEditListener(EditListener listener) {
+        editListeners.remove(listener);
+    }
+
+    public int getEditListenerCount() { return editListeners.size(); }
+
+    public boolean isPassable(MazeField field) {
+        return getMazeBoard()[field.positionY()][field.positionX()];
+    }
+
+    /**
+     * Turns the given field into a path field or a wall. The listeners are only notified if the field changes.
+     *
+     * @param field A field lying within the maze board
+     * @param passable {@code true} for a path field, {@code false} for a wall
+     * @throws IllegalArgumentException If the field is {@code null} or lies outside the maze board
+     */
+    public void setPassable(MazeField field, boolean passable) throws IllegalArgumentException {
+        if (field == null || field.positionX() >= getMazeBoardWidth() || field.positionY() >= getMazeBoardHeight()) {
+            throw new IllegalArgumentException(String.format(
+                    "The edited field (%s) must lie within the maze board (width: %d, height: %d).",
+                    field, getMazeBoardWidth(), getMazeBoardHeight()
+            ));
+        }
+        if (isPassable(field) == passable) {
+            return;
+        }
+
+        getMazeBoard()[field.positionY()][field.positionX()] = passable;
+        modificationCount++;
+        for (EditListener listener : editListeners) {
+            listener.fieldEdited(field, passable);
+        }
+    }
+
+    private static boolean[][] copyBoard(Maze maze) {
+        if (maze == null) {
+            throw new IllegalArgumentException("An editable maze cannot be created from a null maze.");
+        }
+        return copyBoard(maze.getMazeBoard());
+    }
+
+    private static boolean[][] copyBoard(boolean[][] mazeBoard) {
+        if (mazeBoard == null) {
+            // Let the Maze constructor report the invalid board
+            return null;
+        }
+        boolean[][] copy = new boolean[mazeBoard.length][];
+        for (int i = 0; i < mazeBoard.length; i++) {
+            copy[i] = mazeBoard[i] == null ? null : mazeBoard[i].clone();
+        }
+        return copy;
+    }
+}
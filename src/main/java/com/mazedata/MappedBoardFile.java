@@ -0,0 +1,89 @@
+package com.mazedata;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ *     The class {@code MappedBoardFile} maps a file which holds a board as text, one byte per field and a line
+ *     separator after every row, into memory, so that single fields can be written at their position in the file
+ *     without writing the rest of the board again.
+ * </p>
+ * The file is pre-sized to {@code rowCount * rowLength} bytes when it's opened. Since a single mapping is limited to
+ * {@link Integer#MAX_VALUE} bytes, the file is mapped in chunks of whole rows.
+ */
+final class MappedBoardFile implements AutoCloseable {
+    /**
+     * The largest number of bytes mapped by a single chunk.
+     */
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] chunks;
+    private final int rowLength;
+    private final int rowsPerChunk;
+
+    /**
+     * Creates or truncates the given file and maps it with the size of the given number of rows.
+     *
+     * @param file The file the board is written to
+     * @param rowCount The number of rows of the board
+     * @param rowLength The number of bytes per row including the line separator
+     * @throws IOException If the file cannot be created or mapped
+     */
+    MappedBoardFile(Path file, int rowCount, int rowLength) throws IOException {
+        this.rowLength = rowLength;
+        this.rowsPerChunk = (int) Math.max(1, MAX_CHUNK_SIZE / rowLength);
+        this.chunks = new MappedByteBuffer[(rowCount + rowsPerChunk - 1) / rowsPerChunk];
+        this.channel = FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE
+        );
+        try {
+            for (int i = 0; i < chunks.length; i++) {
+                int firstRow = i * rowsPerChunk;
+                long chunkSize = (long) Math.min(rowsPerChunk, rowCount - firstRow) * rowLength;
+                // Mapping a region behind the end of the file extends the file
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long) firstRow * rowLength, chunkSize);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Copies the given rendered row, which has to have the row length, to the position of the row in the file.
+     */
+    void putRow(int y, byte[] row) {
+        chunks[y / rowsPerChunk].put((y % rowsPerChunk) * rowLength, row);
+    }
+
+    /**
+     * Overwrites a single field of the board in the file.
+     */
+    void putField(int x, int y, byte field) {
+        chunks[y / rowsPerChunk].put((y % rowsPerChunk) * rowLength + x, field);
+    }
+
+    /**
+     * Forces the written fields of every chunk to the storage device and closes the file, so that the board is
+     * complete on disk once this method returns. The chunks stay mapped until they have been garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            for (MappedByteBuffer chunk : chunks) {
+                chunk.force();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -1,6 +1,16 @@
 package com.mazedata;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 /**
@@ -28,15 +38,33 @@ public class Maze {
     private static final char ENDING_FIELD = 'E';
     private static final char TRAVERSED_PATH = 'x';
 
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final byte[] LINE_SEPARATOR_BYTES = LINE_SEPARATOR.getBytes(StandardCharsets.US_ASCII);
+
     /**
      * The maze board is stored as a 2d boolean array. {@code true} values represent the path
      * while {@code false} values represent a wall at the specific position.
      */
     private final boolean[][] mazeBoard;
 
+    /**
+     * The starting and ending fields in the order in which they have been passed. A maze has at least one of each,
+     * the first of which are returned by {@link #getStartingField()} and {@link #getEndingField()}.
+     */
+    private final List<MazeField> startingFields;
+    private final List<MazeField> endingFields;
+
     private final MazeField startingField;
     private final MazeField endingField;
 
+    /**
+     * The cells ({@code positionX + width * positionY}) of the starting and ending fields in ascending order along
+     * with the character rendered for each of them, so that rendering a row or marking a traversed field only looks
+     * at the starting and ending fields of that row. A field which is both is rendered as ending field.
+     */
+    private final long[] specialFieldCells;
+    private final char[] specialFieldCharacters;
+
     /**
      * Constructs a {@link Maze} object taking into account the underlying conditions and restrictions.
      *
@@ -52,6 +80,36 @@ public class Maze {
      */
     public Maze(boolean[][] mazeBoard, MazeField startingField, MazeField endingField, String description)
             throws IllegalArgumentException {
+        this(
+                mazeBoard,
+                startingField == null ? null : List.of(startingField),
+                endingField == null ? null : List.of(endingField),
+                description
+        );
+    }
+
+    /**
+     * <p>
+     *     Constructs a {@link Maze} object with any number of starting and ending fields, e.g. a building
+     *     with several entrances and emergency exits.
+     * </p>
+     * The maze is traversed if a path leads from any starting field to any ending field. Every strategy handles
+     * all of them, either by searching from all starting fields at once or by trying one after another.
+     *
+     * @param mazeBoard A non-null and non-empty 2d boolean array with initialized values for the path and walls
+     * @param startingFields The non-empty starting fields of the maze
+     * @param endingFields The non-empty ending fields of the maze
+     * @param description An optional maze description
+     * @throws IllegalArgumentException <ul>
+     *                                      <li>If any of the arguments except the description are {@code null}
+     *                                      or the starting or ending fields are empty or contain {@code null}</li>
+     *                                      <li>the maze board's height or width is zero</li>
+     *                                      <li>a starting or ending field lies outside the board</li>
+     *                                  </ul>
+     */
+    public Maze(
+            boolean[][] mazeBoard, List<MazeField> startingFields, List<MazeField> endingFields, String description
+    ) throws IllegalArgumentException {
         if (mazeBoard == null || mazeBoard.length < 1 || mazeBoard[0] == null || mazeBoard[0].length < 1) {
             throw new IllegalArgumentException(
                     "To successfully create a maze object the passed maze board "
@@ -59,37 +117,95 @@ public class Maze {
             );
         }
 
-        if (startingField == null || endingField == null) {
+        if (startingFields == null || startingFields.isEmpty() || startingFields.stream().anyMatch(Objects::isNull)
+                || endingFields == null || endingFields.isEmpty() || endingFields.stream().anyMatch(Objects::isNull)) {
             throw new IllegalArgumentException(
                     "To successfully create a maze object the passed starting and ending fields must not be null."
             );
         }
 
-        if (startingField.positionX() >= mazeBoard[0].length || startingField.positionY() >= mazeBoard.length
-                || endingField.positionX() >= mazeBoard[0].length || endingField.positionY() >= mazeBoard.length) {
-            throw new IllegalArgumentException(String.format(
-                    "To successfully create a maze object the passed starting and ending fields "
-                            + "must lie within the maze board.%sStarting field: %s, ending field: %s"
-                            + "Maze board width: %d, maze board height: %d",
-                    System.lineSeparator().repeat(2), startingField, endingField + System.lineSeparator(),
-                    mazeBoard[0].length, mazeBoard.length
-            ));
+        for (MazeField field : concat(startingFields, endingFields)) {
+            if (field.positionX() < 0 || field.positionX() >= mazeBoard[0].length
+                    || field.positionY() < 0 || field.positionY() >= mazeBoard.length) {
+                throw new IllegalArgumentException(String.format(
+                        "To successfully create a maze object the passed starting and ending fields "
+                                + "must lie within the maze board.%sStarting fields: %s, ending fields: %s"
+                                + "Maze board width: %d, maze board height: %d",
+                        System.lineSeparator().repeat(2), startingFields, endingFields + System.lineSeparator(),
+                        mazeBoard[0].length, mazeBoard.length
+                ));
+            }
         }
 
         this.mazeBoard = mazeBoard;
-        this.startingField = startingField;
-        this.endingField = endingField;
+        this.startingFields = List.copyOf(startingFields);
+        this.endingFields = List.copyOf(endingFields);
+        this.startingField = this.startingFields.getFirst();
+        this.endingField = this.endingFields.getFirst();
         this.description = description;
+
+        // Sort the fields by cell with the ending fields after starting fields of the same cell
+        long[] keys = new long[this.startingFields.size() + this.endingFields.size()];
+        int keyCount = 0;
+        for (MazeField field : this.startingFields) {
+            keys[keyCount++] = cellOf(field) << 1;
+        }
+        for (MazeField field : this.endingFields) {
+            keys[keyCount++] = (cellOf(field) << 1) | 1;
+        }
+        Arrays.sort(keys);
+
+        int fieldCount = 0;
+        for (long key : keys) {
+            if (fieldCount > 0 && keys[fieldCount - 1] >>> 1 == key >>> 1) {
+                fieldCount--;
+            }
+            keys[fieldCount++] = key;
+        }
+        this.specialFieldCells = new long[fieldCount];
+        this.specialFieldCharacters = new char[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            specialFieldCells[i] = keys[i] >>> 1;
+            specialFieldCharacters[i] = (keys[i] & 1) == 1 ? ENDING_FIELD : STARTING_FIELD;
+        }
+    }
+
+    private long cellOf(MazeField field) {
+        return field.positionX() + (long) mazeBoard[0].length * field.positionY();
+    }
+
+    /**
+     * Returns the index of the first starting or ending field which lies in the given row or after it.
+     */
+    private int firstSpecialFieldOfRow(int y) {
+        int index = Arrays.binarySearch(specialFieldCells, (long) mazeBoard[0].length * y);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static List<MazeField> concat(List<MazeField> startingFields, List<MazeField> endingFields) {
+        List<MazeField> fields = new ArrayList<>(startingFields);
+        fields.addAll(endingFields);
+        return fields;
     }
 
     // Getters
     public boolean[][] getMazeBoard() { return mazeBoard; }
     public MazeField getStartingField() { return startingField; }
     public MazeField getEndingField() { return endingField; }
+    public List<MazeField> getStartingFields() { return startingFields; }
+    public List<MazeField> getEndingFields() { return endingFields; }
     public String getDescription() { return description; }
     public int getMazeBoardHeight() { return this.mazeBoard.length; }
     public int getMazeBoardWidth() { return this.mazeBoard[0].length; }
 
+    /**
+     * Returns a read-only view of the maze board which addresses its fields with {@code long} coordinates,
+     * e.g. in order to copy it into a {@link TiledMazeBoard}.
+     *
+     * @return as described above
+     */
+    public MazeBoard getBoard() { return new ArrayMazeBoard(mazeBoard); }
+
     /**
      * {@inheritDoc}
      * @return {@inheritDoc}
@@ -116,8 +232,7 @@ public class Maze {
      *         the passed board's dimensions don't correspond with this object's maze board
      */
     public String traversedBoardToString(boolean[][] traversedBoard) {
-        if (traversedBoard == null || traversedBoard.length != mazeBoard.length
-                || traversedBoard[0] == null || traversedBoard[0].length != mazeBoard[0].length) {
+        if (!traversedBoardDimensionsMatch(traversedBoard)) {
             LOGGER.warning(
                     "To return the traversed maze board as string it must not be null "
                             + "and it must have the same dimensions as the maze board."
@@ -128,39 +243,273 @@ public class Maze {
         return boardToString(traversedBoard);
     }
 
+    /**
+     * <p>
+     *     Writes the maze board row by row to the given writer, producing the same characters as
+     *     {@link #mazeBoardToString()} without building the whole board as string.
+     * </p>
+     * Only a single row is buffered, so that even very large boards can be written with little memory.
+     * The writer is neither flushed nor closed.
+     *
+     * @param writer The writer the maze board is written to
+     * @throws IOException If writing fails
+     */
+    public void writeMazeBoard(Writer writer) throws IOException {
+        writeBoard(null, writer);
+    }
+
+    /**
+     * Writes the maze board row by row as ASCII bytes to the given stream.
+     *
+     * @param outputStream The stream the maze board is written to
+     * @throws IOException If writing fails
+     * @see #writeMazeBoard(Writer)
+     */
+    public void writeMazeBoard(OutputStream outputStream) throws IOException {
+        writeBoard(null, outputStream);
+    }
+
+    /**
+     * Writes the traversed board row by row to the given writer, producing the same characters as
+     * {@link #traversedBoardToString(boolean[][])} without building the whole board as string.
+     *
+     * @param traversedBoard The traversed maze board with {@code true} values representing the traversed path
+     * @param writer The writer the traversed board is written to
+     * @throws IllegalArgumentException If the traversed board's dimensions don't correspond with the maze board
+     * @throws IOException If writing fails
+     */
+    public void writeTraversedBoard(boolean[][] traversedBoard, Writer writer)
+            throws IllegalArgumentException, IOException {
+        requireMatchingDimensions(traversedBoard);
+        writeBoard(traversedBoard, writer);
+    }
+
+    /**
+     * Writes the traversed board row by row as ASCII bytes to the given stream.
+     *
+     * @param traversedBoard The traversed maze board with {@code true} values representing the traversed path
+     * @param outputStream The stream the traversed board is written to
+     * @throws IllegalArgumentException If the traversed board's dimensions don't correspond with the maze board
+     * @throws IOException If writing fails
+     * @see #writeTraversedBoard(boolean[][], Writer)
+     */
+    public void writeTraversedBoard(boolean[][] traversedBoard, OutputStream outputStream)
+            throws IllegalArgumentException, IOException {
+        requireMatchingDimensions(traversedBoard);
+        writeBoard(traversedBoard, outputStream);
+    }
+
+    /**
+     * <p>
+     *     Writes the traversed board into the given file, producing the same characters as
+     *     {@link #traversedBoardToString(boolean[][])}, by mapping the file into memory instead of streaming it.
+     * </p>
+     * The file is pre-sized to the length of the board, the maze board is copied into it row by row and only
+     * the traversed fields are overwritten in place afterwards, so that no characters are rendered for them.
+     * This is meant for boards which are too large to be written to the console or held as string.
+     *
+     * @param traversedBoard The traversed maze board with {@code true} values representing the traversed path
+     * @param file The file the traversed board is written to, which is created or overwritten
+     * @throws IllegalArgumentException If the traversed board's dimensions don't correspond with the maze board
+     *                                  or the file is {@code null}
+     * @throws IOException If the file cannot be written
+     * @see #writeTraversedPath(Collection, Path)
+     */
+    public void writeTraversedBoard(boolean[][] traversedBoard, Path file)
+            throws IllegalArgumentException, IOException {
+        requireMatchingDimensions(traversedBoard);
+        requireFile(file);
+
+        try (MappedBoardFile boardFile = writeMappedMazeBoard(file)) {
+            for (int y = 0; y < traversedBoard.length; y++) {
+                boolean[] traversedRow = traversedBoard[y];
+                for (int x = 0; x < traversedRow.length; x++) {
+                    if (traversedRow[x]) {
+                        markTraversedField(boardFile, x, y);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     *     Writes the maze board with the given path marked into the given file like
+     *     {@link #writeTraversedBoard(boolean[][], Path)}, without looking at the fields which aren't part of the path.
+     * </p>
+     * Apart from copying the maze board into the file, the effort only depends on the length of the path.
+     *
+     * @param pathFields The fields of the traversed path
+     * @param file The file the traversed board is written to, which is created or overwritten
+     * @throws IllegalArgumentException If the path or file is {@code null} or a field of the path is
+     *                                  {@code null} or lies outside the maze board
+     * @throws IOException If the file cannot be written
+     */
+    public void writeTraversedPath(Collection<MazeField> pathFields, Path file)
+            throws IllegalArgumentException, IOException {
+        if (pathFields == null) {
+            throw new IllegalArgumentException("The path fields must be provided in order to write the path.");
+        }
+        for (MazeField field : pathFields) {
+            if (field == null || field.positionX() < 0 || field.positionX() >= mazeBoard[0].length
+                    || field.positionY() < 0 || field.positionY() >= mazeBoard.length) {
+                throw new IllegalArgumentException("The path field " + field + " lies outside the maze board.");
+            }
+        }
+        requireFile(file);
+
+        try (MappedBoardFile boardFile = writeMappedMazeBoard(file)) {
+            for (MazeField field : pathFields) {
+                markTraversedField(boardFile, field.positionX(), field.positionY());
+            }
+        }
+    }
+
+    private static void requireFile(Path file) {
+        if (file == null) {
+            throw new IllegalArgumentException("A file must be provided in order to write the board.");
+        }
+    }
+
+    /**
+     * Maps the file with the size of the board and copies the rendered maze board into it.
+     */
+    private MappedBoardFile writeMappedMazeBoard(Path file) throws IOException {
+        byte[] row = new byte[mazeBoard[0].length + LINE_SEPARATOR_BYTES.length];
+        MappedBoardFile boardFile = new MappedBoardFile(file, mazeBoard.length, row.length);
+        for (int y = 0; y < mazeBoard.length; y++) {
+            renderRow(y, null, row);
+            boardFile.putRow(y, row);
+        }
+        return boardFile;
+    }
+
+    /**
+     * Marks the field as traversed unless it's a starting or ending field, whose characters take precedence.
+     */
+    private void markTraversedField(MappedBoardFile boardFile, int x, int y) {
+        if (Arrays.binarySearch(specialFieldCells, x + (long) mazeBoard[0].length * y) < 0) {
+            boardFile.putField(x, y, (byte) TRAVERSED_PATH);
+        }
+    }
+
+    private boolean traversedBoardDimensionsMatch(boolean[][] traversedBoard) {
+        return traversedBoard != null && traversedBoard.length == mazeBoard.length
+                && traversedBoard[0] != null && traversedBoard[0].length == mazeBoard[0].length;
+    }
+
+    private void requireMatchingDimensions(boolean[][] traversedBoard) {
+        if (!traversedBoardDimensionsMatch(traversedBoard)) {
+            throw new IllegalArgumentException(
+                    "To write the traversed maze board it must not be null "
+                            + "and it must have the same dimensions as the maze board."
+            );
+        }
+    }
+
     /**
      * <p>
      *     Returns a string representation of the maze board if {@code traversedBoard == null}, otherwise
      *     it returns the traversed board with {@code true} values standing for the traversed path.
      * </p>
+     * The rows are rendered into a reused {@code char[]} and appended to a builder whose capacity is
+     * exactly the length of the resulting string, so that the builder never grows.
      *
      * @param traversedBoard The traversed board or {@code null}
      * @return as described above
      * @throws NullPointerException If one of the traversed board {@code boolean[]} rows is {@code null}
      * @throws ArrayIndexOutOfBoundsException If the traversed board doesn't have the same dimensions as
      *                                        this object's maze board
+     * @throws OutOfMemoryError If the board has more characters than a string can hold
      */
     private String boardToString(boolean[][] traversedBoard) {
-        StringBuilder boardAsString = new StringBuilder();
-
-        for (int i = 0; i < mazeBoard.length; i++) {
-            for (int j = 0; j < mazeBoard[0].length; j++) {
-                boardAsString.append(
-                        traversedBoard != null && traversedBoard[i][j]
-                                ? TRAVERSED_PATH
-                                : mazeBoard[i][j] ? PATH : WALL
-                );
+        char[] row = new char[mazeBoard[0].length + LINE_SEPARATOR.length()];
+        long length = (long) row.length * mazeBoard.length;
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError(String.format(
+                    "The board has %d characters which exceeds the maximum string length. "
+                            + "Use writeMazeBoard or writeTraversedBoard instead.",
+                    length
+            ));
+        }
+
+        StringBuilder boardAsString = new StringBuilder((int) length);
+        for (int y = 0; y < mazeBoard.length; y++) {
+            renderRow(y, traversedBoard == null ? null : traversedBoard[y], row);
+            boardAsString.append(row);
+        }
+        return boardAsString.toString();
+    }
+
+    private void writeBoard(boolean[][] traversedBoard, Writer writer) throws IOException {
+        char[] row = new char[mazeBoard[0].length + LINE_SEPARATOR.length()];
+        for (int y = 0; y < mazeBoard.length; y++) {
+            renderRow(y, traversedBoard == null ? null : traversedBoard[y], row);
+            writer.write(row);
+        }
+    }
+
+    private void writeBoard(boolean[][] traversedBoard, OutputStream outputStream) throws IOException {
+        byte[] row = new byte[mazeBoard[0].length + LINE_SEPARATOR_BYTES.length];
+        for (int y = 0; y < mazeBoard.length; y++) {
+            renderRow(y, traversedBoard == null ? null : traversedBoard[y], row);
+            outputStream.write(row);
+        }
+    }
+
+    /**
+     * Renders a row of the board followed by the line separator into the given buffer. The starting
+     * and ending field characters of the row are set after the path and wall characters, so that the loop over
+     * the fields doesn't have to compare every position with them.
+     *
+     * @param y The index of the row
+     * @param traversedRow The row of the traversed board or {@code null} to render the maze board only
+     * @param row The buffer whose length is the board width plus the length of the line separator
+     */
+    private void renderRow(int y, boolean[] traversedRow, char[] row) {
+        boolean[] mazeBoardRow = mazeBoard[y];
+        int width = mazeBoardRow.length;
+        if (traversedRow == null) {
+            for (int x = 0; x < width; x++) {
+                row[x] = mazeBoardRow[x] ? PATH : WALL;
+            }
+        } else {
+            for (int x = 0; x < width; x++) {
+                row[x] = traversedRow[x] ? TRAVERSED_PATH : mazeBoardRow[x] ? PATH : WALL;
             }
-            boardAsString.append(System.lineSeparator());
         }
+        LINE_SEPARATOR.getChars(0, LINE_SEPARATOR.length(), row, width);
 
-        // Replace starting and ending field characters only after initializing the board with path and
-        // wall characters as performing a further check in the nested for-loop is costly for large mazes.
-        int boardAsStringWidth = mazeBoard[0].length + System.lineSeparator().length();
-        boardAsString.setCharAt(startingField.calculateSequenceInBoard(boardAsStringWidth), STARTING_FIELD);
-        boardAsString.setCharAt(endingField.calculateSequenceInBoard(boardAsStringWidth), ENDING_FIELD);
+        long rowEnd = (long) width * (y + 1);
+        for (int i = firstSpecialFieldOfRow(y); i < specialFieldCells.length && specialFieldCells[i] < rowEnd; i++) {
+            row[(int) (specialFieldCells[i] % width)] = specialFieldCharacters[i];
+        }
+    }
 
-        return boardAsString.toString();
+    /**
+     * Renders a row of the board followed by the line separator into the given buffer as ASCII bytes,
+     * which lets byte-oriented outputs skip encoding the rendered characters.
+     *
+     * @see #renderRow(int, boolean[], char[])
+     */
+    private void renderRow(int y, boolean[] traversedRow, byte[] row) {
+        boolean[] mazeBoardRow = mazeBoard[y];
+        int width = mazeBoardRow.length;
+        if (traversedRow == null) {
+            for (int x = 0; x < width; x++) {
+                row[x] = mazeBoardRow[x] ? (byte) PATH : (byte) WALL;
+            }
+        } else {
+            for (int x = 0; x < width; x++) {
+                row[x] = traversedRow[x] ? (byte) TRAVERSED_PATH : mazeBoardRow[x] ? (byte) PATH : (byte) WALL;
+            }
+        }
+        System.arraycopy(LINE_SEPARATOR_BYTES, 0, row, width, LINE_SEPARATOR_BYTES.length);
+
+        long rowEnd = (long) width * (y + 1);
+        for (int i = firstSpecialFieldOfRow(y); i < specialFieldCells.length && specialFieldCells[i] < rowEnd; i++) {
+            row[(int) (specialFieldCells[i] % width)] = (byte) specialFieldCharacters[i];
+        }
     }
 
     /**
@@ -195,17 +544,197 @@ public class Maze {
          */
         private static final Logger LOGGER = Logger.getLogger(MazeFactory.class.getName());
 
+        // Flags of the bytes of a maze's text. Walls and empty fields have no flag set.
+        private static final byte PATH_FLAG = 1;
+        private static final byte SPECIAL_FLAG = 2;
+
+        /**
+         * Maps every byte value to its flags. The starting and ending field characters are paths which are
+         * special, every other character except paths, walls and spaces is only special and thus invalid
+         * inside a line. Bytes of multibyte UTF-8 characters are invalid as well.
+         */
+        private static final byte[] BYTE_FLAGS = new byte[256];
+
+        static {
+            Arrays.fill(BYTE_FLAGS, SPECIAL_FLAG);
+            BYTE_FLAGS[EMPTY_FIELD] = 0;
+            BYTE_FLAGS[WALL] = 0;
+            BYTE_FLAGS[PATH] = PATH_FLAG;
+            BYTE_FLAGS[STARTING_FIELD] = PATH_FLAG | SPECIAL_FLAG;
+            BYTE_FLAGS[ENDING_FIELD] = PATH_FLAG | SPECIAL_FLAG;
+        }
+
         /**
          * Performs checks to ensure that the passed field lines array is valid and subsequently
-         * parses the lines along with the description to a {@link Maze} object.
+         * parses the lines along with the description to a {@link Maze} object. The creation is
+         * recorded as {@link MazeCreationEvent} if Java Flight Recorder is running.
          *
          * @param fieldLines A string array containing the horizontal maze field lines
          * @param description The maze description
          * @return A successfully created {@link Maze} object or {@code null} if the initialization fails
          */
         public static Maze createMaze(String[] fieldLines, String description) {
+            MazeCreationEvent event = new MazeCreationEvent();
+            event.begin();
+            Maze maze = validateLinesAndCreateMaze(fieldLines, description);
+            commitCreationEvent(event, description, maze);
+            return maze;
+        }
+
+        /**
+         * Creates a maze from the raw bytes of its field lines, e.g. read from a file or received over the network,
+         * without creating a string per line. The bytes are read from the array's start to its end.
+         *
+         * @param fieldLines The field lines as ASCII or UTF-8 encoded text
+         * @param description The maze description
+         * @return as described at {@link #createMazeFromBytes(ByteBuffer, String)}
+         */
+        public static Maze createMazeFromBytes(byte[] fieldLines, String description) {
+            return createMazeFromBytes(fieldLines == null ? null : ByteBuffer.wrap(fieldLines), description);
+        }
+
+        /**
+         * <p>
+         *     Creates a maze from the raw bytes of its field lines between the buffer's position and limit,
+         *     which are separated by {@code \n} or {@code \r\n}. The buffer's position is not changed.
+         *     Blank lines are skipped like in a maze file, and trailing white spaces of a line are ignored.
+         * </p>
+         * The bytes are parsed in a single pass which determines the width, finds the starting and ending fields
+         * and fills the board rows at the same time. A lookup table maps every byte to its flags, so that a row is
+         * filled without a branch per byte; only a line containing the starting or ending field is looked at twice.
+         * Rows shorter than the widest row are copied once to pad them with walls.
+         * <p>
+         *     If the bytes contain anything but a valid maze, e.g. an invalid character or no starting
+         *     field, they are decoded and passed to {@link #createMaze(String[], String)}, so that the diagnostics
+         *     logged for invalid mazes are the same for both methods.
+         * </p>
+         *
+         * @param fieldLines The field lines as ASCII or UTF-8 encoded text
+         * @param description The maze description
+         * @return A successfully created {@link Maze} object or {@code null} if the initialization fails
+         */
+        public static Maze createMazeFromBytes(ByteBuffer fieldLines, String description) {
+            if (fieldLines == null) {
+                return createMaze((String[]) null, description);
+            }
+
+            MazeCreationEvent event = new MazeCreationEvent();
+            event.begin();
+            Maze maze = parseBytes(fieldLines, description);
+            if (maze == null) {
+                byte[] bytes = new byte[fieldLines.remaining()];
+                fieldLines.get(fieldLines.position(), bytes);
+                String[] lines = new String(bytes, StandardCharsets.UTF_8).lines()
+                        .filter(line -> !line.isBlank())
+                        .toArray(String[]::new);
+                maze = validateLinesAndCreateMaze(lines, description);
+            }
+            commitCreationEvent(event, description, maze);
+            return maze;
+        }
+
+        private static void commitCreationEvent(MazeCreationEvent event, String description, Maze maze) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.description = description;
+                event.created = maze != null;
+                event.width = maze != null ? maze.getMazeBoardWidth() : 0;
+                event.height = maze != null ? maze.getMazeBoardHeight() : 0;
+                event.commit();
+            }
+        }
+
+        /**
+         * Parses the bytes of a valid maze or returns {@code null} as soon as anything unexpected is found,
+         * without logging, so that the caller can produce the diagnostics. The bytes of buffers without an
+         * accessible array, e.g. direct buffers, are copied once into an array.
+         */
+        private static Maze parseBytes(ByteBuffer buffer, String description) {
+            byte[] bytes;
+            int lineStart;
+            int end;
+            if (buffer.hasArray()) {
+                bytes = buffer.array();
+                lineStart = buffer.arrayOffset() + buffer.position();
+                end = buffer.arrayOffset() + buffer.limit();
+            } else {
+                bytes = new byte[buffer.remaining()];
+                buffer.get(buffer.position(), bytes);
+                lineStart = 0;
+                end = bytes.length;
+            }
+
+            List<boolean[]> rows = new ArrayList<>();
+            int mazeWidth = 0;
+            List<MazeField> startingFields = new ArrayList<>(1);
+            List<MazeField> endingFields = new ArrayList<>(1);
+
+            while (lineStart < end) {
+                int lineEnd = lineStart;
+                while (lineEnd < end && bytes[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+
+                // Ignore trailing white spaces including the \r of a \r\n line separator
+                int contentEnd = lineEnd;
+                while (contentEnd > lineStart && isTrailingWhiteSpace(bytes[contentEnd - 1])) {
+                    contentEnd--;
+                }
+
+                // Fill the row without a branch per byte and only look at the bytes again if a special one is found
+                boolean[] row = new boolean[contentEnd - lineStart];
+                int flags = 0;
+                for (int x = 0; x < row.length; x++) {
+                    int byteFlags = BYTE_FLAGS[bytes[lineStart + x] & 0xFF];
+                    row[x] = (byteFlags & PATH_FLAG) != 0;
+                    flags |= byteFlags;
+                }
+
+                if ((flags & SPECIAL_FLAG) != 0) {
+                    for (int x = 0; x < row.length; x++) {
+                        byte character = bytes[lineStart + x];
+                        if (character == STARTING_FIELD) {
+                            startingFields.add(new MazeField(x, rows.size()));
+                        } else if (character == ENDING_FIELD) {
+                            endingFields.add(new MazeField(x, rows.size()));
+                        } else if (BYTE_FLAGS[character & 0xFF] == SPECIAL_FLAG) {
+                            // Invalid characters and white spaces other than spaces inside the line
+                            return null;
+                        }
+                    }
+                }
+
+                // Blank lines are skipped
+                if (row.length > 0) {
+                    rows.add(row);
+                    mazeWidth = Math.max(mazeWidth, row.length);
+                }
+                lineStart = lineEnd + 1;
+            }
+
+            if (startingFields.isEmpty() || endingFields.isEmpty()) {
+                return null;
+            }
+
+            boolean[][] mazeBoard = new boolean[rows.size()][];
+            for (int y = 0; y < mazeBoard.length; y++) {
+                boolean[] row = rows.get(y);
+                mazeBoard[y] = row.length == mazeWidth ? row : Arrays.copyOf(row, mazeWidth);
+            }
+            return new Maze(mazeBoard, startingFields, endingFields, description);
+        }
+
+        /**
+         * Returns {@code true} for the ASCII characters which are removed by {@link String#stripTrailing()}.
+         */
+        private static boolean isTrailingWhiteSpace(byte character) {
+            return character == EMPTY_FIELD || character == '\t' || character == '\r'
+                    || character == '\u000B' || character == '\f' || (character >= '\u001C' && character <= '\u001F');
+        }
+
+        private static Maze validateLinesAndCreateMaze(String[] fieldLines, String description) {
             if (fieldLinesInvalid(fieldLines, description) ||
-                    !onlyOneStartingAndEndingFieldCharPresent(fieldLines)) {
+                    !startingAndEndingFieldCharsPresent(fieldLines)) {
                 return null;
             }
 
@@ -243,25 +772,32 @@ public class Maze {
         }
 
         /**
-         * Method to ensure that only one starting and ending field character is present.
+         * Method to ensure that at least one starting and one ending field character is present. A maze may have
+         * several of each, e.g. a building with several entrances and exits.
          *
          * @param fieldLines A non-null and non-empty string array containing the horizontal maze field lines
-         * @return  Returns {@code true} if there is only one starting and ending field char present
+         * @return  Returns {@code true} if there is at least one starting and one ending field char present
          *  in the given field lines array, {@code false} otherwise.
          */
-        private static boolean onlyOneStartingAndEndingFieldCharPresent(String[] fieldLines) {
-            String fieldLinesInOneLine = String.join("", fieldLines);
-
-            boolean onlyOneStartingFieldCharPresent = fieldLinesInOneLine.chars()
-                    .filter(ch -> ch == STARTING_FIELD).count() == 1;
-            boolean onlyOneEndingFieldCharPresent = fieldLinesInOneLine.chars()
-                    .filter(ch -> ch == ENDING_FIELD).count() == 1;
+        private static boolean startingAndEndingFieldCharsPresent(String[] fieldLines) {
+            int startingFieldCharCount = 0;
+            int endingFieldCharCount = 0;
+            for (String fieldLine : fieldLines) {
+                for (int i = 0; i < fieldLine.length(); i++) {
+                    char fieldChar = fieldLine.charAt(i);
+                    if (fieldChar == STARTING_FIELD) {
+                        startingFieldCharCount++;
+                    } else if (fieldChar == ENDING_FIELD) {
+                        endingFieldCharCount++;
+                    }
+                }
+            }
 
-            if (onlyOneStartingFieldCharPresent && onlyOneEndingFieldCharPresent) {
+            if (startingFieldCharCount > 0 && endingFieldCharCount > 0) {
                 return true;
             }
             LOGGER.warning(
-                    "Detected none or more than one starting or / and ending field characters "
+                    "Detected no starting or / and no ending field character "
                             + "in the passed field lines array:"
                             + System.lineSeparator() + String.join(System.lineSeparator(), fieldLines)
             );
@@ -278,8 +814,8 @@ public class Maze {
          * @return as described above
          */
         private static Maze parseLinesAndCreateMaze(String[] fieldLines, boolean[][] mazeBoard, String description) {
-            MazeField startingField = null;
-            MazeField endingField = null;
+            List<MazeField> startingFields = new ArrayList<>(1);
+            List<MazeField> endingFields = new ArrayList<>(1);
 
             for (int i = 0; i < mazeBoard.length; i++) {
                 String fieldLine = fieldLines[i];
@@ -290,11 +826,11 @@ public class Maze {
                         case PATH -> mazeBoard[i][j] = true;
                         case STARTING_FIELD -> {
                             mazeBoard[i][j] = true;
-                            startingField = new MazeField(j, i);
+                            startingFields.add(new MazeField(j, i));
                         }
                         case ENDING_FIELD -> {
                             mazeBoard[i][j] = true;
-                            endingField = new MazeField(j, i);
+                            endingFields.add(new MazeField(j, i));
                         }
                         case WALL, EMPTY_FIELD -> mazeBoard[i][j] = false;
                         default -> {
@@ -309,7 +845,7 @@ public class Maze {
                 }
             }
             // No need to wrap with try and catch block since at this point all arguments are meet the conditions
-            return new Maze(mazeBoard, startingField, endingField, description);
+            return new Maze(mazeBoard, startingFields, endingFields, description);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.mazedata;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ *     The interface {@code MazeBoard} is meant to be implemented by classes which store the paths and walls of a maze
+ *     board. Fields are addressed with {@code long} coordinates and cells ({@code x + width * y}), so that boards
+ *     with more than {@link Integer#MAX_VALUE} fields can be represented, which neither {@code boolean[][]} boards
+ *     nor {@link MazeField#calculateSequenceInBoard(int)} support.
+ * </p>
+ * The board of a {@link Maze} can be accessed as {@code MazeBoard} using {@link Maze#getBoard()}, whereas
+ * {@link TiledMazeBoard} stores boards of any size in lazily allocated tiles.
+ */
+public interface MazeBoard {
+    long getWidth();
+
+    long getHeight();
+
+    /**
+     * Returns {@code true} if the field at the given position is a path, {@code false} if it's a wall.
+     *
+     * @param x The horizontal position of the field
+     * @param y The vertical position of the field
+     * @return as described above
+     * @throws IndexOutOfBoundsException If the position lies outside the board
+     */
+    boolean isPath(long x, long y) throws IndexOutOfBoundsException;
+
+    /**
+     * Returns the number of fields of the board.
+     *
+     * @return as described above
+     */
+    default long getCellCount() {
+        return getWidth() * getHeight();
+    }
+
+    /**
+     * Returns the cell of the field at the given position, which is {@code x + width * y}.
+     *
+     * @param x The horizontal position of the field
+     * @param y The vertical position of the field
+     * @return as described above
+     * @throws IndexOutOfBoundsException If the position lies outside the board
+     */
+    default long cellOf(long x, long y) throws IndexOutOfBoundsException {
+        return Objects.checkIndex(x, getWidth()) + getWidth() * Objects.checkIndex(y, getHeight());
+    }
+}
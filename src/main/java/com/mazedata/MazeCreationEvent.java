@@ -0,0 +1,28 @@
+package com.mazedata;
+
+import jdk.jfr.*;
+
+/**
+ * A Java Flight Recorder event which is committed by {@link Maze.MazeFactory#createMaze(String[], String)}
+ * for every maze created from field lines, regardless of the creation being successful or not.
+ *
+ * @see MazeImportEvent
+ */
+@Name("com.mazedata.MazeCreation")
+@Label("Maze Creation")
+@Category({ "Maze", "Import" })
+@Description("Creation of a maze from its field lines")
+public final class MazeCreationEvent extends Event {
+    @Label("Description")
+    String description;
+
+    @Label("Width")
+    int width;
+
+    @Label("Height")
+    int height;
+
+    @Label("Created")
+    @Description("False if the field lines are invalid and no maze has been created")
+    boolean created;
+}
@@ -0,0 +1,165 @@
+package com.mazedata;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <p>
+ *     The enum {@code MazeFileFormat} lists the formats of maze files which can be read by a {@link MazeRepository}.
+ *     The format of a file is detected by {@link #detect(Path)} from its first {@value #HEADER_LENGTH} bytes,
+ *     so that the detection takes constant time, doesn't depend on the file name or on the MIME type detectors
+ *     installed on the platform and always gives the same result for the same content.
+ * </p>
+ * The formats are checked in their declaration order and the first matching one is taken.
+ */
+public enum MazeFileFormat {
+    /**
+     * The text format described in {@link MazeRepository}. The first line which isn't blank has to be the maze
+     * lines separator {@code -new-maze-}, optionally preceded by a UTF-8 byte order mark. Files which only consist
+     * of white spaces are considered empty text files.
+     */
+    TEXT {
+        @Override
+        boolean matches(byte[] header, int length) {
+            int index = startsWith(header, length, 0, UTF_8_BYTE_ORDER_MARK) ? UTF_8_BYTE_ORDER_MARK.length : 0;
+            while (index < length && isWhiteSpace(header[index])) {
+                index++;
+            }
+            // The separator may be cut off by the end of the header if the file starts with many blank lines
+            int comparedLength = Math.min(length - index, MAZE_LINES_SEPARATOR.length);
+            for (int i = 0; i < comparedLength; i++) {
+                if (header[index + i] != MAZE_LINES_SEPARATOR[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    },
+
+    /**
+     * The {@link #TEXT text format} compressed with GZIP, which is recognized by the GZIP magic bytes {@code 1f 8b}.
+     * Maze text usually shrinks to a small fraction of its size, since mostly two characters are repeated.
+     */
+    GZIP_TEXT {
+        @Override
+        boolean matches(byte[] header, int length) {
+            return startsWith(header, length, 0, GZIP_MAGIC_BYTES);
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) throws IOException {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+
+        @Override
+        public OutputStream compress(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+    };
+
+    /**
+     * The number of leading bytes of a file which are used to detect its format.
+     */
+    public static final int HEADER_LENGTH = 256;
+
+    private static final byte[] UTF_8_BYTE_ORDER_MARK = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+
+    private static final byte[] MAZE_LINES_SEPARATOR = "-new-maze-".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] GZIP_MAGIC_BYTES = { 0x1F, (byte) 0x8B };
+
+    /**
+     * The buffer size of the (de)compressing streams, which is large enough to (de)compress in few native calls.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Returns {@code true} if the given leading bytes of a file are in this format, {@code false} otherwise.
+     *
+     * @param header The leading bytes of the file
+     * @param length The number of valid bytes in the header, which is smaller than {@link #HEADER_LENGTH}
+     *               only if the file is shorter
+     * @return as described above
+     */
+    abstract boolean matches(byte[] header, int length);
+
+    /**
+     * Wraps the given stream of a file in this format into a stream which returns the maze text. The text is
+     * decompressed while it's read, so that no uncompressed copy of the file is created.
+     *
+     * @param in The stream of the file's bytes
+     * @return A stream returning the maze text, which closes the given stream when it's closed
+     * @throws IOException If the header of a compressed stream cannot be read
+     */
+    public InputStream decompress(InputStream in) throws IOException {
+        return in;
+    }
+
+    /**
+     * Wraps the given stream into a stream which writes maze text into the given one in this format.
+     *
+     * @param out The stream to which the file's bytes are written
+     * @return A stream accepting the maze text, which finishes and closes the given stream when it's closed
+     * @throws IOException If the header of a compressed stream cannot be written
+     */
+    public OutputStream compress(OutputStream out) throws IOException {
+        return out;
+    }
+
+    /**
+     * Returns the format of the file with the given leading bytes or {@code null} if none matches.
+     *
+     * @param header The leading bytes of the file
+     * @param length The number of valid bytes in the header
+     * @return as described above
+     * @throws IllegalArgumentException If the header is {@code null} or the length is out of its bounds
+     */
+    public static MazeFileFormat detect(byte[] header, int length) throws IllegalArgumentException {
+        if (header == null || length < 0 || length > header.length) {
+            throw new IllegalArgumentException("A header with a length within its bounds must be provided.");
+        }
+        for (MazeFileFormat format : values()) {
+            if (format.matches(header, length)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the first {@value #HEADER_LENGTH} bytes of the given file and returns its format
+     * or {@code null} if none matches.
+     *
+     * @param file The file whose format is detected
+     * @return as described above
+     * @throws IOException If the file cannot be read
+     */
+    public static MazeFileFormat detect(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] header = in.readNBytes(HEADER_LENGTH);
+            return detect(header, header.length);
+        }
+    }
+
+    private static boolean startsWith(byte[] header, int length, int offset, byte[] prefix) {
+        if (length - offset < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (header[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhiteSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+}
@@ -0,0 +1,30 @@
+package com.mazedata;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * <p>
+ *     The interface {@code MazeFileFormatDetector} is meant to be implemented by classes which decide in which
+ *     {@link MazeFileFormat} a file is, before a {@link MazeRepository} reads it.
+ * </p>
+ * The {@link #CONTENT_SNIFFING default detector} reads the leading bytes of the file. A different detector can be
+ * passed to {@link MazeRepository#MazeRepository(String, MazeFileFormatDetector)}, e.g. one which trusts the file
+ * name of generated corpora and doesn't open the file at all.
+ */
+@FunctionalInterface
+public interface MazeFileFormatDetector {
+    /**
+     * Detects the format from the leading bytes of the file using {@link MazeFileFormat#detect(Path)}.
+     */
+    MazeFileFormatDetector CONTENT_SNIFFING = MazeFileFormat::detect;
+
+    /**
+     * Detects the format of the given file.
+     *
+     * @param file The file whose format is detected
+     * @return The format of the file or {@code null} if it isn't a maze file in any of the supported formats
+     * @throws IOException If the file cannot be read
+     */
+    MazeFileFormat detect(Path file) throws IOException;
+}
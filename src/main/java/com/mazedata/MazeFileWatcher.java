@@ -0,0 +1,109 @@
+package com.mazedata;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ *     The class {@code MazeFileWatcher} watches a maze file using a {@link WatchService} and runs a reload action
+ *     whenever the file has been created, modified or replaced. It is created by
+ *     {@link MazeRepository#watchMazeFile(java.util.function.Consumer)}.
+ * </p>
+ * Since the directory of the file is watched, a file which is regenerated by writing a temporary file and moving it
+ * onto the maze file is noticed as well. Events arriving in quick succession, e.g. while a large file is written,
+ * are combined into a single reload which happens once no event has arrived for {@link #SETTLE_TIME}.
+ * The reload action runs on a daemon thread, so that a watcher which isn't closed doesn't keep the application alive.
+ */
+public final class MazeFileWatcher implements Closeable {
+    /**
+     * Logger for tracking events and errors in the {@link MazeFileWatcher} class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(MazeFileWatcher.class.getName());
+
+    /**
+     * The time without further events after which a change of the file is considered complete.
+     */
+    static final Duration SETTLE_TIME = Duration.ofMillis(200);
+
+    private final Path mazeFile;
+    private final Runnable reloadAction;
+    private final WatchService watchService;
+
+    MazeFileWatcher(Path mazeFile, Runnable reloadAction) throws IOException {
+        this.mazeFile = mazeFile.toAbsolutePath();
+        this.reloadAction = reloadAction;
+        this.watchService = this.mazeFile.getFileSystem().newWatchService();
+        try {
+            this.mazeFile.getParent().register(
+                    watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY
+            );
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+        Thread.ofPlatform().name("maze-file-watcher").daemon().start(this::watch);
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                if (!concernsMazeFile(watchService.take())) {
+                    continue;
+                }
+
+                // Wait until the file has settled in order to reload it only once per change
+                WatchKey key;
+                while ((key = watchService.poll(SETTLE_TIME.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                    concernsMazeFile(key);
+                }
+
+                try {
+                    reloadAction.run();
+                } catch (RuntimeException e) {
+                    LOGGER.severe("Reloading the maze file " + mazeFile + " failed: " + e);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // The watcher has been closed
+        }
+    }
+
+    /**
+     * Returns {@code true} if any event of the given key concerns the maze file or events have been lost,
+     * {@code false} otherwise. The key is reset afterwards in order to receive further events.
+     */
+    private boolean concernsMazeFile(WatchKey key) {
+        boolean concernsMazeFile = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || mazeFile.getFileName().equals(event.context())) {
+                concernsMazeFile = true;
+            }
+        }
+        key.reset();
+        return concernsMazeFile;
+    }
+
+    /**
+     * Stops watching the maze file. A reload which is currently running is completed, but no further one is started.
+     *
+     * @throws IOException If the underlying watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    public Path getMazeFile() { return mazeFile; }
+}
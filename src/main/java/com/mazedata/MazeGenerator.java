@@ -0,0 +1,442 @@
+package com.mazedata;
+
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ *     The class {@code MazeGenerator} creates {@link Maze} objects of arbitrary size directly, without writing
+ *     and parsing their text representation. Every generator is seeded, meaning that the same seed, algorithm
+ *     and dimensions always result in the same maze.
+ * </p>
+ * The mazes are carved into a grid of cells lying at odd coordinates, which are separated by walls at even
+ * coordinates. The starting field is always the top left and the ending field the bottom right cell. While
+ * generating, the board is stored with one bit per field ({@link PackedBoard}), so that boards with
+ * 10<sup>8</sup> fields only need a few megabytes until they are {@link PackedBoard#toMazeBoard() expanded}
+ * into the {@code boolean[][]} of a maze.
+ * <p>
+ *     The following algorithms are available:
+ * </p>
+ * <ul>
+ *     <li>{@link Algorithm#RECURSIVE_BACKTRACKER}: a perfect maze with long, winding corridors</li>
+ *     <li>{@link Algorithm#PRIM}: a perfect maze with many short branches and dead ends</li>
+ *     <li>{@link Algorithm#OPEN_ROOMS}: rooms connected by doors with pillars inside, leading to many
+ *         equally short paths</li>
+ *     <li>{@link Algorithm#BRAID}: a recursive backtracker maze whose dead ends are removed, leading to loops</li>
+ * </ul>
+ * Every algorithm can also generate an unsolvable variant whose ending field is walled in.
+ */
+public final class MazeGenerator {
+    /**
+     * The algorithms a maze can be generated with.
+     */
+    public enum Algorithm {
+        RECURSIVE_BACKTRACKER("Recursive backtracker"),
+        PRIM("Prim"),
+        OPEN_ROOMS("Open rooms"),
+        BRAID("Braid");
+
+        private final String displayName;
+
+        Algorithm(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() { return displayName; }
+    }
+
+    /**
+     * The width and height of a room of the {@link Algorithm#OPEN_ROOMS} algorithm including its surrounding walls.
+     */
+    private static final int ROOM_SIZE = 16;
+
+    /**
+     * The distance between two pillars inside a room of the {@link Algorithm#OPEN_ROOMS} algorithm.
+     */
+    private static final int PILLAR_SPACING = 4;
+
+    private final long seed;
+
+    public MazeGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() { return seed; }
+
+    /**
+     * Generates a traversable maze.
+     *
+     * @param algorithm The algorithm used to carve the maze
+     * @param width The width of the maze board, at least {@code 3}
+     * @param height The height of the maze board, at least {@code 3}
+     * @return as described above
+     * @throws IllegalArgumentException If the algorithm is {@code null} or the dimensions are too small or too large
+     */
+    public Maze generate(Algorithm algorithm, int width, int height) throws IllegalArgumentException {
+        return toMaze(generatePacked(algorithm, width, height), algorithm.getDisplayName());
+    }
+
+    /**
+     * Generates a maze like {@link #generate(Algorithm, int, int)} and walls in its ending field afterwards,
+     * so that the maze is guaranteed to be untraversable.
+     *
+     * @throws IllegalArgumentException If the algorithm is {@code null} or the dimensions are too small
+     *                                  or too large, including boards whose starting and ending field coincide
+     * @see #generate(Algorithm, int, int)
+     */
+    public Maze generateUnsolvable(Algorithm algorithm, int width, int height) throws IllegalArgumentException {
+        int endX = lastCellCoordinate(width);
+        int endY = lastCellCoordinate(height);
+        if (endX == 1 && endY == 1 && width >= 3 && height >= 3) {
+            throw new IllegalArgumentException(String.format(
+                    "An unsolvable maze needs separate starting and ending fields, "
+                            + "which requires a width or height of at least 5. Provided dimensions: %dx%d",
+                    width, height
+            ));
+        }
+        PackedBoard board = generatePacked(algorithm, width, height);
+        board.setPath(endX, endY - 1, false);
+        board.setPath(endX - 1, endY, false);
+        board.setPath(endX + 1, endY, false);
+        board.setPath(endX, endY + 1, false);
+        return toMaze(board, "Unsolvable " + algorithm.getDisplayName().toLowerCase());
+    }
+
+    /**
+     * Generates the board of a traversable maze without expanding it into a {@code boolean[][]}.
+     *
+     * @see #generate(Algorithm, int, int)
+     */
+    public PackedBoard generatePacked(Algorithm algorithm, int width, int height) throws IllegalArgumentException {
+        if (algorithm == null) {
+            throw new IllegalArgumentException("An algorithm must be provided in order to generate a maze.");
+        }
+        if (width < 3 || height < 3 || (long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format(
+                    "A generated maze must be at least 3x3 fields and contain at most %d fields. "
+                            + "Provided dimensions: %dx%d",
+                    Integer.MAX_VALUE, width, height
+            ));
+        }
+
+        PackedBoard board = new PackedBoard(width, height);
+        SplittableRandom random = new SplittableRandom(seed);
+        switch (algorithm) {
+            case RECURSIVE_BACKTRACKER -> carveWithBacktracker(board, random);
+            case PRIM -> carveWithPrim(board, random);
+            case OPEN_ROOMS -> buildRooms(board, random);
+            case BRAID -> {
+                carveWithBacktracker(board, random);
+                removeDeadEnds(board, random);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Generates a corpus of mazes with consecutive seeds starting at this generator's seed. The mazes are
+     * generated lazily, so that a corpus can be {@link MazeRepository#writeMazeFile(java.nio.file.Path, Stream)
+     * written} without holding all of its mazes in memory.
+     *
+     * @param algorithm The algorithm used to carve the mazes
+     * @param width The width of every maze board
+     * @param height The height of every maze board
+     * @param count The number of mazes
+     * @param unsolvableEvery Every how many mazes an unsolvable one is generated, or {@code 0} for none
+     * @return as described above
+     */
+    public Stream<Maze> generateCorpus(Algorithm algorithm, int width, int height, long count, int unsolvableEvery) {
+        return LongStream.range(0, count).mapToObj(index -> {
+            MazeGenerator generator = new MazeGenerator(seed + index);
+            return unsolvableEvery > 0 && (index + 1) % unsolvableEvery == 0
+                    ? generator.generateUnsolvable(algorithm, width, height)
+                    : generator.generate(algorithm, width, height);
+        });
+    }
+
+    private Maze toMaze(PackedBoard board, String name) {
+        return new Maze(
+                board.toMazeBoard(),
+                new MazeField(1, 1),
+                new MazeField(lastCellCoordinate(board.getWidth()), lastCellCoordinate(board.getHeight())),
+                String.format("%s %dx%d (seed %d)", name, board.getWidth(), board.getHeight(), seed)
+        );
+    }
+
+    /**
+     * Returns the coordinate of the last cell in a row or column of the given length. For even lengths
+     * the last row or column consists of walls only.
+     */
+    private static int lastCellCoordinate(int length) {
+        return (length - 1) / 2 * 2 - 1;
+    }
+
+    /**
+     * Carves a perfect maze using an iterative randomized depth first search, which keeps following one
+     * corridor until it's stuck and thus leads to long corridors with few branches.
+     */
+    private static void carveWithBacktracker(PackedBoard board, SplittableRandom random) {
+        CellGrid grid = new CellGrid(board);
+        int[] stack = new int[grid.cellCount];
+        int[] candidates = new int[4];
+        int stackSize = 0;
+
+        grid.carve(0);
+        stack[stackSize++] = 0;
+        while (stackSize > 0) {
+            int cell = stack[stackSize - 1];
+            int candidateCount = grid.uncarvedNeighbours(cell, candidates);
+            if (candidateCount == 0) {
+                stackSize--;
+                continue;
+            }
+            int next = candidates[random.nextInt(candidateCount)];
+            grid.carvePassage(cell, next);
+            stack[stackSize++] = next;
+        }
+    }
+
+    /**
+     * Carves a perfect maze using a randomized version of Prim's algorithm, which grows the maze from randomly
+     * chosen cells of its whole frontier and thus leads to many short branches.
+     */
+    private static void carveWithPrim(PackedBoard board, SplittableRandom random) {
+        CellGrid grid = new CellGrid(board);
+        // A cell is added to the frontier once, which is remembered using a separate bit per cell
+        long[] inFrontier = new long[(grid.cellCount + 63) >>> 6];
+        int[] frontier = new int[grid.cellCount];
+        int[] candidates = new int[4];
+        int frontierSize = 0;
+
+        grid.carve(0);
+        frontierSize = addUncarvedNeighboursToFrontier(grid, 0, frontier, frontierSize, inFrontier, candidates);
+        while (frontierSize > 0) {
+            int index = random.nextInt(frontierSize);
+            int cell = frontier[index];
+            frontier[index] = frontier[--frontierSize];
+
+            int carvedCount = grid.carvedNeighbours(cell, candidates);
+            grid.carvePassage(candidates[random.nextInt(carvedCount)], cell);
+            frontierSize = addUncarvedNeighboursToFrontier(grid, cell, frontier, frontierSize, inFrontier, candidates);
+        }
+    }
+
+    private static int addUncarvedNeighboursToFrontier(
+            CellGrid grid, int cell, int[] frontier, int frontierSize, long[] inFrontier, int[] candidates
+    ) {
+        int candidateCount = grid.uncarvedNeighbours(cell, candidates);
+        for (int i = 0; i < candidateCount; i++) {
+            int neighbour = candidates[i];
+            if ((inFrontier[neighbour >>> 6] & (1L << neighbour)) == 0) {
+                inFrontier[neighbour >>> 6] |= 1L << neighbour;
+                frontier[frontierSize++] = neighbour;
+            }
+        }
+        return frontierSize;
+    }
+
+    /**
+     * Divides the board into rooms separated by walls with two random doors per wall segment and places
+     * a regular grid of single pillars inside the rooms.
+     */
+    private static void buildRooms(PackedBoard board, SplittableRandom random) {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        int lastX = lastCellCoordinate(width);
+        int lastY = lastCellCoordinate(height);
+
+        for (int y = 1; y <= lastY; y++) {
+            for (int x = 1; x <= lastX; x++) {
+                boolean roomWall = x % ROOM_SIZE == 0 || y % ROOM_SIZE == 0;
+                boolean pillar = x % PILLAR_SPACING == 2 && y % PILLAR_SPACING == 2;
+                board.setPath(x, y, !roomWall && !pillar);
+            }
+        }
+
+        // Open two doors in every wall segment between two rooms
+        for (int wallY = ROOM_SIZE; wallY < lastY; wallY += ROOM_SIZE) {
+            for (int roomX = 1; roomX <= lastX; roomX += ROOM_SIZE) {
+                int segmentWidth = Math.min(ROOM_SIZE - 1, lastX - roomX + 1);
+                for (int door = 0; door < 2; door++) {
+                    board.setPath(roomX + random.nextInt(segmentWidth), wallY, true);
+                }
+            }
+        }
+        for (int wallX = ROOM_SIZE; wallX < lastX; wallX += ROOM_SIZE) {
+            for (int roomY = 1; roomY <= lastY; roomY += ROOM_SIZE) {
+                int segmentHeight = Math.min(ROOM_SIZE - 1, lastY - roomY + 1);
+                for (int door = 0; door < 2; door++) {
+                    board.setPath(wallX, roomY + random.nextInt(segmentHeight), true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every dead end of a perfect maze by opening one of its walls to a bordering cell,
+     * which turns the maze into a braid maze with many loops.
+     */
+    private static void removeDeadEnds(PackedBoard board, SplittableRandom random) {
+        CellGrid grid = new CellGrid(board);
+        int[] candidates = new int[4];
+        for (int cell = 0; cell < grid.cellCount; cell++) {
+            if (grid.openSideCount(cell) != 1) {
+                continue;
+            }
+            int candidateCount = grid.closedNeighbours(cell, candidates);
+            if (candidateCount > 0) {
+                grid.carvePassage(cell, candidates[random.nextInt(candidateCount)]);
+            }
+        }
+    }
+
+    /**
+     * A view on the cells of a board, meaning the fields at odd coordinates, numbered row by row.
+     */
+    private static final class CellGrid {
+        private final PackedBoard board;
+        private final int columns;
+        private final int rows;
+        private final int cellCount;
+
+        CellGrid(PackedBoard board) {
+            this.board = board;
+            this.columns = (board.getWidth() - 1) / 2;
+            this.rows = (board.getHeight() - 1) / 2;
+            this.cellCount = columns * rows;
+        }
+
+        private int x(int cell) { return cell % columns * 2 + 1; }
+        private int y(int cell) { return cell / columns * 2 + 1; }
+
+        void carve(int cell) {
+            board.setPath(x(cell), y(cell), true);
+        }
+
+        boolean isCarved(int cell) {
+            return board.isPath(x(cell), y(cell));
+        }
+
+        /**
+         * Carves the given cell along with the wall between it and the bordering cell it's connected to.
+         */
+        void carvePassage(int from, int to) {
+            board.setPath((x(from) + x(to)) / 2, (y(from) + y(to)) / 2, true);
+            carve(to);
+        }
+
+        int uncarvedNeighbours(int cell, int[] result) {
+            int count = 0;
+            for (int side = 0; side < 4; side++) {
+                int neighbour = neighbour(cell, side);
+                if (neighbour >= 0 && !isCarved(neighbour)) result[count++] = neighbour;
+            }
+            return count;
+        }
+
+        int carvedNeighbours(int cell, int[] result) {
+            int count = 0;
+            for (int side = 0; side < 4; side++) {
+                int neighbour = neighbour(cell, side);
+                if (neighbour >= 0 && isCarved(neighbour)) result[count++] = neighbour;
+            }
+            return count;
+        }
+
+        /**
+         * Collects the bordering cells which are separated from the given cell by a wall.
+         */
+        int closedNeighbours(int cell, int[] result) {
+            int count = 0;
+            for (int side = 0; side < 4; side++) {
+                int neighbour = neighbour(cell, side);
+                if (neighbour >= 0 && !board.isPath((x(cell) + x(neighbour)) / 2, (y(cell) + y(neighbour)) / 2)) {
+                    result[count++] = neighbour;
+                }
+            }
+            return count;
+        }
+
+        int openSideCount(int cell) {
+            int count = 0;
+            for (int side = 0; side < 4; side++) {
+                int neighbour = neighbour(cell, side);
+                if (neighbour >= 0 && board.isPath((x(cell) + x(neighbour)) / 2, (y(cell) + y(neighbour)) / 2)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Returns the bordering cell in the order top, right, bottom, left or {@code -1} if it doesn't exist.
+         */
+        private int neighbour(int cell, int side) {
+            int column = cell % columns;
+            int row = cell / columns;
+            return switch (side) {
+                case 0 -> row > 0 ? cell - columns : -1;
+                case 1 -> column < columns - 1 ? cell + 1 : -1;
+                case 2 -> row < rows - 1 ? cell + columns : -1;
+                default -> column > 0 ? cell - 1 : -1;
+            };
+        }
+    }
+
+    /**
+     * A maze board storing one bit per field, with set bits representing path fields.
+     */
+    public static final class PackedBoard {
+        private final int width;
+        private final int height;
+        private final long[] bits;
+
+        PackedBoard(int width, int height) {
+            this.width = width;
+            this.height = height;
+            this.bits = new long[(int) (((long) width * height + 63) >>> 6)];
+        }
+
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+
+        public boolean isPath(int x, int y) {
+            long index = (long) y * width + x;
+            return (bits[(int) (index >>> 6)] & (1L << index)) != 0;
+        }
+
+        void setPath(int x, int y, boolean path) {
+            long index = (long) y * width + x;
+            if (path) {
+                bits[(int) (index >>> 6)] |= 1L << index;
+            } else {
+                bits[(int) (index >>> 6)] &= ~(1L << index);
+            }
+        }
+
+        /**
+         * Returns the number of path fields of the board.
+         */
+        public long countPathFields() {
+            long count = 0;
+            for (long word : bits) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+
+        /**
+         * Expands the board into the {@code boolean[][]} representation used by {@link Maze}.
+         */
+        public boolean[][] toMazeBoard() {
+            boolean[][] mazeBoard = new boolean[height][width];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    mazeBoard[y][x] = isPath(x, y);
+                }
+            }
+            return mazeBoard;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.mazedata;
+
+import jdk.jfr.*;
+
+/**
+ * <p>
+ *     A Java Flight Recorder event which is committed by {@link MazeRepository#importMazes(boolean)} and covers the
+ *     parsing of the previously read maze file lines into {@link Maze} objects.
+ * </p>
+ * Like every JFR event it's only committed if it's enabled in a running recording. Otherwise creating and
+ * beginning the event costs next to nothing, so that the import isn't slowed down outside of recordings.
+ */
+@Name("com.mazedata.MazeImport")
+@Label("Maze Import")
+@Category({ "Maze", "Import" })
+@Description("Parsing of the lines of a maze file into mazes")
+public final class MazeImportEvent extends Event {
+    @Label("File")
+    String file;
+
+    @Label("File Size")
+    @DataAmount
+    long fileBytes;
+
+    @Label("Lines")
+    int lineCount;
+
+    @Label("Mazes Parsed")
+    int mazeCount;
+
+    @Label("Invalid Mazes")
+    @Description("Mazes which could not be created from their field lines")
+    int invalidMazeCount;
+}
@@ -1,9 +1,29 @@
 package com.mazedata;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import java.util.logging.Logger;
 
 /**
@@ -12,7 +32,7 @@ import java.util.logging.Logger;
  *     These can be imported using the method {@link #importMazes(boolean)} after previously having read
  *     the maze file and storing the lines using {@link #readMazeFileAndStoreLines()}.
  * </p>
- * The maze file (type: {@value MAZE_FILE_TYPE}) consists of raw maze text data (description in one line
+ * The maze file (format: {@link MazeFileFormat#TEXT}) consists of raw maze text data (description in one line
  * and maze fields in the following one or more lines) which is separated using {@value MAZE_LINES_SEPARATOR}
  * and should look like the following simple example:
  * <pre>
@@ -23,6 +43,14 @@ import java.util.logging.Logger;
  * [Second maze description]
  * [Second maze fields]
  * </pre>
+ * <p>
+ *     A repository can be shared by many reading threads while it is occasionally refilled. The file lines and the
+ *     mazes are held as immutable snapshots which are replaced as a whole and published through volatile references
+ *     (copy-on-write), so that {@link #getMazes()} returns the current snapshot without copying or locking and a
+ *     reader never sees a half-finished import. Modifying operations are serialized among each other and build the
+ *     next snapshot aside, which means that readers keep working with the previous mazes until the new ones have
+ *     been published.
+ * </p>
  */
 public class MazeRepository {
     /**
@@ -31,36 +59,81 @@ public class MazeRepository {
     private static final Logger LOGGER = Logger.getLogger(MazeRepository.class.getName());
 
     /**
-     * The file type of the file from which the mazes are imported.
+     * A string used to indicate a new maze in the file from which the mazes are imported.
      */
-    private static final String MAZE_FILE_TYPE = "text/plain";
+    private static final String MAZE_LINES_SEPARATOR = "-new-maze-";
+
+    private static final byte[] MAZE_LINES_SEPARATOR_BYTES = MAZE_LINES_SEPARATOR.getBytes(StandardCharsets.US_ASCII);
 
     /**
-     * A string used to indicate a new maze in the file from which the mazes are imported.
+     * The buffer size of the readers and writers of maze files.
      */
-    private static final String MAZE_LINES_SEPARATOR = "-new-maze-";
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
 
     private final String mazeFilePath;
 
     /**
-     * A list containing the maze file's data which is used to import {@link Maze} objects.
+     * Decides whether the maze file is in a supported format before it's read.
+     */
+    private final MazeFileFormatDetector formatDetector;
+
+    /**
+     * Lock serializing the modifying operations, which is never acquired by readers.
+     */
+    private final Object modificationLock = new Object();
+
+    /**
+     * An immutable snapshot of the maze file's data which is used to import {@link Maze} objects.
+     */
+    private volatile List<String> mazeFileLines;
+
+    /**
+     * The non-blank lines of the maze file as bytes, which the lines of the current snapshot are a view of. The field
+     * lines of the mazes are parsed from these bytes without decoding them. Only accessed while holding the lock.
+     */
+    private MazeFileContent mazeFileContent = MazeFileContent.EMPTY;
+
+    /**
+     * An immutable snapshot of the parsed {@link Maze} objects.
+     */
+    private volatile List<Maze> mazes;
+
+    /**
+     * The size of the maze file in bytes at the time it has been read, which is only used for monitoring.
      */
-    private final List<String> mazeFileLines;
+    private long mazeFileSize;
 
     /**
-     * A list containing the parsed {@link Maze} objects.
+     * The mazes of the last reload mapped by the content hashes of their descriptions and field lines, which allows
+     * a reload to reuse the {@link Maze} objects of unchanged mazes. Only accessed while holding the lock.
      */
-    private final List<Maze> mazes;
+    private Map<String, Maze> mazesByContentHash = Map.of();
 
     public MazeRepository(String mazeFilePath) {
-        this.mazeFileLines = new ArrayList<>();
-        this.mazes = new ArrayList<>();
+        this(mazeFilePath, MazeFileFormatDetector.CONTENT_SNIFFING);
+    }
+
+    /**
+     * Creates a repository for the given maze file whose format is detected by the given detector.
+     *
+     * @param mazeFilePath The path of the maze file
+     * @param formatDetector The detector which decides whether the maze file is in a supported format
+     * @throws IllegalArgumentException If the format detector is {@code null}
+     */
+    public MazeRepository(String mazeFilePath, MazeFileFormatDetector formatDetector) throws IllegalArgumentException {
+        if (formatDetector == null) {
+            throw new IllegalArgumentException("A format detector must be provided for the maze file.");
+        }
+        this.mazeFileLines = List.of();
+        this.mazes = List.of();
         this.mazeFilePath = mazeFilePath;
+        this.formatDetector = formatDetector;
     }
 
     /**
      * Reads the maze file and stores its lines which can then be processed in order to import mazes as {@link Maze}
-     * objects. The file type must be equal to {@value MAZE_FILE_TYPE}, otherwise no mazes can be imported.
+     * objects. The file must be in one of the supported {@link MazeFileFormat formats}, otherwise no mazes can be
+     * imported. Compressed files are decompressed while they are read.
      */
     public void readMazeFileAndStoreLines() {
         if (mazeFilePath == null || mazeFilePath.isBlank()) {
@@ -68,55 +141,131 @@ public class MazeRepository {
             return;
         }
 
-        if (!fileTypeIsCorrect()) {
+        MazeFileFormat format = detectFileFormat();
+        if (format == null) {
             return;
         }
 
-        // Empty collection prior to the import to avoid duplicates
-        mazeFileLines.clear();
-
-        try (LineNumberReader lnr = new LineNumberReader(new FileReader(mazeFilePath))) {
-            String line;
-            while((line = lnr.readLine()) != null) {
-                if (!line.isBlank()) {
-                    mazeFileLines.add(line);
-                } else {
-                    LOGGER.info(String.format(
-                            "Empty maze file line skipped at line number %d.", lnr.getLineNumber()
-                    ));
-                }
+        synchronized (modificationLock) {
+            // Start with an empty content to avoid duplicates
+            MazeFileContent content = MazeFileContent.EMPTY;
+            try {
+                content = readMazeFileContent(format);
+            } catch (IOException e) {
+                LOGGER.severe("Unable to read file using file path: " + mazeFilePath);
             }
+            mazeFileContent = content;
+            mazeFileLines = content.lines();
+        }
+    }
+
+    /**
+     * Reads the non-blank lines of the maze file while it's decompressed and records the size of the file on disk.
+     *
+     * @param format The format of the maze file
+     * @return The content of the maze file
+     * @throws IOException If the file cannot be read
+     */
+    private MazeFileContent readMazeFileContent(MazeFileFormat format) throws IOException {
+        mazeFileSize = new File(mazeFilePath).length();
+        try (InputStream in = openMazeFileStream(format)) {
+            return MazeFileContent.read(in);
+        }
+    }
+
+    /**
+     * <p>
+     *     Reads the maze file lazily and returns its mazes as a stream without storing the file lines or the mazes
+     *     in this repository. Only the lines of the maze which is currently parsed are held in memory, so that
+     *     files with millions of mazes can be processed with bounded memory.
+     * </p>
+     * The file is checked and parsed like in {@link #readMazeFileAndStoreLines()} and {@link #importMazes()},
+     * with invalid mazes being skipped. Only the descriptions are decoded, the field lines are passed as bytes to
+     * {@link Maze.MazeFactory#createMazeFromBytes(ByteBuffer, String)}. If the file cannot be opened, an empty
+     * stream is returned. The stream keeps the file open until it's closed and should therefore be used within a
+     * try-with-resources statement.
+     * A compressed file is decompressed while the stream is consumed, without creating an uncompressed copy.
+     *
+     * @return as described above
+     * @throws UncheckedIOException If reading the file fails while the stream is consumed
+     */
+    public Stream<Maze> streamMazes() {
+        if (mazeFilePath == null || mazeFilePath.isBlank()) {
+            LOGGER.severe("A null or blank file path has been provided. No mazes could be imported.");
+            return Stream.empty();
+        }
+
+        MazeFileFormat format = detectFileFormat();
+        if (format == null) {
+            return Stream.empty();
+        }
+
+        InputStream in;
+        try {
+            in = openMazeFileStream(format);
         } catch (IOException e) {
             LOGGER.severe("Unable to read file using file path: " + mazeFilePath);
+            return Stream.empty();
         }
+        return StreamSupport.stream(new MazeFileSpliterator(in), false).onClose(() -> {
+            try {
+                in.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
-     * Checks if the maze file's type corresponds to the specified type {@value MAZE_FILE_TYPE}.
+     * Checks if the maze file is in one of the supported {@link MazeFileFormat formats} using the format detector
+     * of this repository, which by default only reads the first {@value MazeFileFormat#HEADER_LENGTH} bytes.
      *
      * @return {@code true} if the file type is correct, {@code false} otherwise
      */
     public boolean fileTypeIsCorrect() {
+        return detectFileFormat() != null;
+    }
+
+    /**
+     * Detects the format of the maze file using the format detector of this repository.
+     *
+     * @return The format of the maze file or {@code null} if it's not supported or cannot be read
+     */
+    private MazeFileFormat detectFileFormat() {
         try {
-            String fileType = Files.probeContentType(new File(mazeFilePath).toPath());
-            if (fileType != null && fileType.equals(MAZE_FILE_TYPE)) {
-                return true;
+            MazeFileFormat format = formatDetector.detect(Path.of(mazeFilePath));
+            if (format != null) {
+                return format;
             } else {
                 LOGGER.severe(
                         String.format(
-                                "The file from which mazes are to be imported must be of type %s. "
-                                        + "The provided file's type is %s.",
-                                MAZE_FILE_TYPE, fileType
+                                "The file from which mazes are to be imported must be in one of the formats %s. "
+                                        + "The provided file's format could not be detected.",
+                                Arrays.toString(MazeFileFormat.values())
                         )
                 );
-                return false;
+                return null;
             }
-        } catch (IOException e) {
-            LOGGER.severe(
-                    "The file type of the provided file could not be checked. "
-                            + "The file path is possibly invalid or incorrect."
-            );
-            return false;
+        } catch (IOException | InvalidPathException e) {
+            LOGGER.severe("Unable to read file using file path: " + mazeFilePath);
+            return null;
+        }
+    }
+
+    /**
+     * Opens a stream returning the decompressed bytes of the maze file.
+     *
+     * @param format The format of the maze file
+     * @return as described above
+     * @throws IOException If the file cannot be opened or the header of a compressed file is invalid
+     */
+    private InputStream openMazeFileStream(MazeFileFormat format) throws IOException {
+        InputStream in = Files.newInputStream(Path.of(mazeFilePath));
+        try {
+            return format.decompress(in);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
         }
     }
 
@@ -132,99 +281,686 @@ public class MazeRepository {
 
     /**
      * Creates and adds new {@link Maze} objects to the mazes list by looping through maze file lines.
-     * Each time the lines separator is detected, a new maze can be created.
+     * Each time the lines separator is detected, a new maze can be created. The import is recorded
+     * as {@link MazeImportEvent} if Java Flight Recorder is running.
+     * <p>
+     *     The mazes are collected in a new list which replaces the current snapshot once the import is complete,
+     *     so that concurrent readers see either all previous or all newly imported mazes.
+     * </p>
      *
      * @param clearPrevious If {@code true} the mazes list is cleared before import
      * @see MazeRepository Maze file structure described in {@link MazeRepository}.
      */
     public void importMazes(boolean clearPrevious) {
-        if (mazeFileLines.isEmpty()) {
-            LOGGER.severe("Unable to import mazes. The maze file is possibly empty or has not yet been read.");
-            return;
+        synchronized (modificationLock) {
+            MazeFileContent content = mazeFileContent;
+            if (content.lineCount() == 0) {
+                LOGGER.severe("Unable to import mazes. The maze file is possibly empty or has not yet been read.");
+                return;
+            }
+
+            List<Maze> importedMazes = clearPrevious ? new ArrayList<>() : new ArrayList<>(mazes);
+
+            MazeImportEvent event = new MazeImportEvent();
+            event.begin();
+            int previousMazeCount = importedMazes.size();
+            int createdMazeCount = createMazesFromFileLines(content, importedMazes,
+                    (mazeDescription, mazeFieldLines) -> Maze.MazeFactory.createMazeFromBytes(
+                            mazeFieldLines,
+                            mazeDescription
+                    ));
+            mazes = Collections.unmodifiableList(importedMazes);
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.file = mazeFilePath;
+                event.fileBytes = mazeFileSize;
+                event.lineCount = content.lineCount();
+                event.mazeCount = importedMazes.size() - previousMazeCount;
+                event.invalidMazeCount = createdMazeCount - event.mazeCount;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     *     Reads the maze file again and replaces the stored lines and mazes with its current content in one atomic
+     *     snapshot, like {@link #readMazeFileAndStoreLines()} followed by {@link #importMazes()} would.
+     * </p>
+     * Only mazes whose description or field lines have changed since the last reload are parsed. For the other
+     * mazes, which are recognized by the SHA-256 hash of their content, the previously created {@link Maze} objects
+     * are reused, so that results cached for these objects, e.g. the abstractions of
+     * {@link com.strategies.HierarchicalPathfinding}, stay valid. The first reload parses all mazes. If the file
+     * cannot be read, the current snapshot is kept.
+     *
+     * @return The numbers of reused, parsed and removed mazes or {@code null} if the file could not be read
+     */
+    public ReloadSummary reloadMazeFile() {
+        if (mazeFilePath == null || mazeFilePath.isBlank()) {
+            LOGGER.severe("A null or blank file path has been provided. No mazes could be imported.");
+            return null;
         }
 
-        if (clearPrevious) {
-            mazes.clear();
+        MazeFileFormat format = detectFileFormat();
+        if (format == null) {
+            return null;
         }
 
+        synchronized (modificationLock) {
+            MazeFileContent content;
+            try {
+                content = readMazeFileContent(format);
+            } catch (IOException e) {
+                LOGGER.severe("Unable to reload file using file path: " + mazeFilePath);
+                return null;
+            }
+
+            MessageDigest digest = newContentDigest();
+            Map<String, Maze> previousMazesByContentHash = mazesByContentHash;
+            Map<String, Maze> reloadedMazesByContentHash = new HashMap<>();
+            int[] reusedMazeCount = new int[1];
+            List<Maze> reloadedMazes = new ArrayList<>();
+
+            int attemptedMazeCount = createMazesFromFileLines(content, reloadedMazes, (description, fieldLines) -> {
+                String contentHash = contentHash(digest, description, fieldLines);
+                Maze maze = previousMazesByContentHash.get(contentHash);
+                if (maze != null) {
+                    reusedMazeCount[0]++;
+                } else {
+                    maze = Maze.MazeFactory.createMazeFromBytes(fieldLines, description);
+                }
+                if (maze != null) {
+                    reloadedMazesByContentHash.put(contentHash, maze);
+                }
+                return maze;
+            });
+            int parsedMazeCount = attemptedMazeCount - reusedMazeCount[0];
+
+            mazeFileContent = content;
+            mazeFileLines = content.lines();
+            mazes = Collections.unmodifiableList(reloadedMazes);
+            mazesByContentHash = reloadedMazesByContentHash;
+
+            int removedMazeCount = 0;
+            for (String contentHash : previousMazesByContentHash.keySet()) {
+                if (!reloadedMazesByContentHash.containsKey(contentHash)) {
+                    removedMazeCount++;
+                }
+            }
+            ReloadSummary summary = new ReloadSummary(reusedMazeCount[0], parsedMazeCount, removedMazeCount);
+            LOGGER.info(String.format("Maze file %s reloaded: %s", mazeFilePath, summary));
+            return summary;
+        }
+    }
+
+    /**
+     * Watches the maze file for changes and calls {@link #reloadMazeFile()} whenever it has been modified or
+     * replaced. The given listener is notified after every reload on the watcher's thread.
+     *
+     * @param listener Receives the summary of every reload, which is {@code null} if the file could not be read
+     * @return The running watcher, which has to be closed in order to stop watching
+     * @throws IOException If the directory of the maze file cannot be watched
+     * @throws IllegalArgumentException If the listener is {@code null} or the file path is null or blank
+     */
+    public MazeFileWatcher watchMazeFile(Consumer<ReloadSummary> listener) throws IOException {
+        if (listener == null) {
+            throw new IllegalArgumentException("A listener must be provided in order to watch the maze file.");
+        }
+        if (mazeFilePath == null || mazeFilePath.isBlank()) {
+            throw new IllegalArgumentException("A null or blank file path cannot be watched.");
+        }
+        return new MazeFileWatcher(Path.of(mazeFilePath), () -> listener.accept(reloadMazeFile()));
+    }
+
+    private static MessageDigest newContentDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform has to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Hashes the description and the bytes of the field lines of a maze, separating them with a line feed.
+     * The position of the passed buffer is not changed.
+     */
+    private static String contentHash(MessageDigest digest, String mazeDescription, ByteBuffer mazeFieldLines) {
+        digest.update(mazeDescription.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+        digest.update(mazeFieldLines.duplicate());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Creates a maze from its description and the bytes of its field lines, returning {@code null} if it's invalid.
+     */
+    @FunctionalInterface
+    private interface MazeCreator {
+        Maze create(String mazeDescription, ByteBuffer mazeFieldLines);
+    }
+
+    /**
+     * Loops through the maze file lines and adds a new {@link Maze} each time the lines separator is detected.
+     *
+     * @param content The content of the maze file
+     * @param importedMazes The list to which the valid mazes are added
+     * @param mazeCreator Creates a maze from its description and field lines, returning {@code null} if it's invalid
+     * @return The number of mazes whose creation has been attempted, including the ones which turned out invalid
+     */
+    private static int createMazesFromFileLines(MazeFileContent content, List<Maze> importedMazes,
+                                                MazeCreator mazeCreator) {
+        int lineCount = content.lineCount();
+        int createdMazeCount = 0;
         int lineIndex = 0;
-        while (lineIndex < mazeFileLines.size()) {
-            if (mazeFileLineIsNotSeparator(lineIndex)) {
+        while (lineIndex < lineCount) {
+            if (!content.isSeparatorLine(lineIndex)) {
                 lineIndex++;
                 continue;
             }
 
             lineIndex++; // Increase line index to get the maze description which comes directly after the separator
-            if (lineIndex >= mazeFileLines.size()) {
+            if (lineIndex >= lineCount) {
                 LOGGER.warning(String.format(
                         "The last line (%d) whose content is the separator \"%s\" has been reached "
                                 + "while reading new maze data. No description or field lines can be extracted.",
                         lineIndex, MAZE_LINES_SEPARATOR
                 ));
-                return;
+                return createdMazeCount;
             }
 
-            String mazeDescription = mazeFileLines.get(lineIndex).strip();
+            String mazeDescription = content.line(lineIndex).strip();
             lineIndex++; // Go to the next line directly in order to now gather the maze field lines
 
-            List<String> mazeFieldLines = determineMazeFieldLines(lineIndex);
-            lineIndex += mazeFieldLines.size();
+            int mazeFieldLineCount = countMazeFieldLines(content, lineIndex);
+            ByteBuffer mazeFieldLines = content.linesBytes(lineIndex, mazeFieldLineCount);
+            lineIndex += mazeFieldLineCount;
 
-            addMaze(Maze.MazeFactory.createMaze(
-                    mazeFieldLines.toArray(new String[0]),
-                    mazeDescription
-            ));
+            Maze maze = mazeCreator.create(mazeDescription, mazeFieldLines);
+            if (maze != null) {
+                importedMazes.add(maze);
+            }
+            createdMazeCount++;
         }
+        return createdMazeCount;
     }
 
     /**
-     * <p>
-     *     Returns {@code true} if the maze file line at the given index is
-     *     not the specified separator line, {@code false} otherwise.
-     * </p>
-     * The line's white spaces are stripped in order to avoid unnecessary errors in the maze file.
+     * Counts the maze field lines starting from the passed index.
      *
+     * @param content The content of the maze file
      * @param index The maze file line's index
-     * @return as described above
-     * @throws ArrayIndexOutOfBoundsException if {@code (index < 0 || index >= mazeFileLines.size())}
+     * @return The number of maze field lines
      */
-    private boolean mazeFileLineIsNotSeparator(int index) {
-        return !mazeFileLines.get(index).strip().equals(MAZE_LINES_SEPARATOR);
+    private static int countMazeFieldLines(MazeFileContent content, int index) {
+        int mazeFieldLineCount = 0;
+        while (index + mazeFieldLineCount < content.lineCount()
+                && !content.isSeparatorLine(index + mazeFieldLineCount)) {
+            mazeFieldLineCount++;
+        }
+        return mazeFieldLineCount;
     }
 
     /**
-     * Gathers the maze field lines starting from the passed index.
-     *
-     * @param index The maze file line's index
-     * @return A list of maze field lines
+     * Returns {@code true} if the given bytes only consist of white spaces.
      */
-    private List<String> determineMazeFieldLines(int index) {
-        List<String> mazeFieldLines = new ArrayList<>();
-        while (index < mazeFileLines.size() && mazeFileLineIsNotSeparator(index)) {
-            // Only cut trailing white spaces because some mazes may be elliptic
-            mazeFieldLines.add(mazeFileLines.get(index).stripTrailing());
-            index++;
+    private static boolean isBlank(byte[] bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isWhiteSpace(bytes[i])) {
+                return false;
+            }
         }
-        return mazeFieldLines;
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the given bytes are the separator line surrounded by white spaces.
+     */
+    private static boolean isSeparator(byte[] bytes, int start, int end) {
+        while (start < end && isWhiteSpace(bytes[start])) {
+            start++;
+        }
+        while (end > start && isWhiteSpace(bytes[end - 1])) {
+            end--;
+        }
+        return Arrays.equals(bytes, start, end, MAZE_LINES_SEPARATOR_BYTES, 0, MAZE_LINES_SEPARATOR_BYTES.length);
+    }
+
+    /**
+     * Returns {@code true} for the ASCII characters which are white spaces according to {@link String#strip()}.
+     */
+    private static boolean isWhiteSpace(byte character) {
+        return character == ' ' || (character >= '\t' && character <= '\r')
+                || (character >= '\u001C' && character <= '\u001F');
     }
 
     /**
      * Only this method should be used for adding a new {@link Maze} object
      * to the repository to prevent {@code null} values.
+     * <p>
+     *     Every call publishes a new snapshot containing a copy of the previous mazes, which makes adding many mazes
+     *     one by one expensive. Larger amounts of mazes should rather be imported using {@link #importMazes()}.
+     * </p>
      *
      * @param maze A (non-null) {@link Maze} to be added
      */
     public void addMaze(Maze maze) {
         if (maze != null) {
-            mazes.add(maze);
+            synchronized (modificationLock) {
+                List<Maze> extendedMazes = new ArrayList<>(mazes.size() + 1);
+                extendedMazes.addAll(mazes);
+                extendedMazes.add(maze);
+                mazes = Collections.unmodifiableList(extendedMazes);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     *     Writes the given mazes into a maze file which can be read and imported by a repository afterwards.
+     *     The mazes are written one after the other, so that a lazily created stream, e.g. a corpus created by
+     *     {@link MazeGenerator#generateCorpus(MazeGenerator.Algorithm, int, int, long, int)}, is never held in
+     *     memory as a whole.
+     * </p>
+     * Missing descriptions are replaced with a placeholder and line breaks inside descriptions with spaces,
+     * since every description has to fit into exactly one non-blank line.
+     *
+     * @param mazeFile The path of the file to be written, which is overwritten if it exists
+     * @param mazes The non-null mazes to be written
+     * @return The number of written mazes
+     * @throws IOException If the file cannot be written
+     * @see #writeMazeFile(Path, Stream, MazeFileFormat)
+     */
+    public static long writeMazeFile(Path mazeFile, Stream<Maze> mazes) throws IOException {
+        return writeMazeFile(mazeFile, mazes, MazeFileFormat.TEXT);
+    }
+
+    /**
+     * Writes the given mazes into a maze file like {@link #writeMazeFile(Path, Stream)} in the given format.
+     * A compressed file is compressed while the mazes are written, so that the uncompressed text never exists
+     * as a whole, neither in memory nor on disk.
+     *
+     * @param mazeFile The path of the file to be written, which is overwritten if it exists
+     * @param mazes The non-null mazes to be written
+     * @param format The format of the written file
+     * @return The number of written mazes
+     * @throws IOException If the file cannot be written
+     * @throws IllegalArgumentException If the format is {@code null}
+     */
+    public static long writeMazeFile(Path mazeFile, Stream<Maze> mazes, MazeFileFormat format)
+            throws IOException, IllegalArgumentException {
+        if (format == null) {
+            throw new IllegalArgumentException("A format must be provided in order to write a maze file.");
+        }
+
+        long writtenMazeCount = 0;
+        try (BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(format.compress(Files.newOutputStream(mazeFile)), StandardCharsets.UTF_8),
+                IO_BUFFER_SIZE
+        )) {
+            Iterator<Maze> iterator = mazes.iterator();
+            while (iterator.hasNext()) {
+                Maze maze = iterator.next();
+                String description = maze.getDescription();
+                writer.write(MAZE_LINES_SEPARATOR);
+                writer.newLine();
+                writer.write(description == null || description.isBlank()
+                        ? "No description provided"
+                        : description.replaceAll("\\R", " "));
+                writer.newLine();
+                maze.writeMazeBoard(writer);
+                writtenMazeCount++;
+            }
+        }
+        return writtenMazeCount;
+    }
+
+    /**
+     * Parses the mazes of a maze file one by one while reading its bytes, skipping blank lines and invalid mazes.
+     * Only the descriptions are decoded, while the field lines of a maze are gathered as bytes in a reused array.
+     */
+    private static final class MazeFileSpliterator extends Spliterators.AbstractSpliterator<Maze> {
+        private final MazeFileLineReader reader;
+
+        /**
+         * {@code true} if the current line has been read ahead while gathering the field lines of the previous maze.
+         */
+        private boolean lineReadAhead;
+
+        /**
+         * The bytes of the field lines of the current maze, separated by line feeds.
+         */
+        private byte[] fieldLines = new byte[IO_BUFFER_SIZE];
+        private int fieldLinesLength;
+
+        MazeFileSpliterator(InputStream in) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.reader = new MazeFileLineReader(in);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Maze> action) {
+            while (readNonBlankLine()) {
+                if (!isSeparator(reader.line, 0, reader.lineLength)) {
+                    continue;
+                }
+
+                if (!readNonBlankLine()) {
+                    LOGGER.warning(String.format(
+                            "The last line whose content is the separator \"%s\" has been reached "
+                                    + "while reading new maze data. No description or field lines can be extracted.",
+                            MAZE_LINES_SEPARATOR
+                    ));
+                    return false;
+                }
+                String mazeDescription = new String(reader.line, 0, reader.lineLength, StandardCharsets.UTF_8).strip();
+
+                fieldLinesLength = 0;
+                boolean lineRead;
+                while ((lineRead = readNonBlankLine()) && !isSeparator(reader.line, 0, reader.lineLength)) {
+                    appendFieldLine();
+                }
+                lineReadAhead = lineRead;
+
+                Maze maze = Maze.MazeFactory.createMazeFromBytes(
+                        ByteBuffer.wrap(fieldLines, 0, fieldLinesLength), mazeDescription
+                );
+                if (maze != null) {
+                    action.accept(maze);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Appends the current line to the field lines. Trailing white spaces are kept, since they are ignored
+         * by the parser anyway.
+         */
+        private void appendFieldLine() {
+            int lineLength = reader.lineLength;
+            int requiredLength = fieldLinesLength + lineLength + 1;
+            if (requiredLength > fieldLines.length) {
+                fieldLines = Arrays.copyOf(fieldLines, Math.max(requiredLength, fieldLines.length << 1));
+            }
+            if (fieldLinesLength > 0) {
+                fieldLines[fieldLinesLength++] = '\n';
+            }
+            System.arraycopy(reader.line, 0, fieldLines, fieldLinesLength, lineLength);
+            fieldLinesLength += lineLength;
+        }
+
+        /**
+         * Reads the next non-blank line into the line array or returns the line which has been read ahead.
+         *
+         * @return {@code false} if the end of the file has been reached
+         */
+        private boolean readNonBlankLine() {
+            if (lineReadAhead) {
+                lineReadAhead = false;
+                return true;
+            }
+            try {
+                boolean lineRead;
+                while ((lineRead = reader.readLine()) && isBlank(reader.line, 0, reader.lineLength)) {
+                    // Skip empty lines like readMazeFileAndStoreLines()
+                }
+                return lineRead;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Reads the decompressed bytes of a maze file line by line into a reused array.
+     */
+    private static final class MazeFileLineReader {
+        private final InputStream in;
+        private final byte[] buffer = new byte[IO_BUFFER_SIZE];
+        private int bufferPosition;
+        private int bufferLimit;
+
+        /**
+         * The bytes of the current line without its line feed.
+         */
+        private byte[] line = new byte[256];
+        private int lineLength;
+
+        MazeFileLineReader(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Reads the bytes up to the next line feed into the line array.
+         *
+         * @return {@code false} if the end of the file has been reached before any byte has been read
+         */
+        boolean readLine() throws IOException {
+            lineLength = 0;
+            while (true) {
+                if (bufferPosition == bufferLimit) {
+                    bufferPosition = 0;
+                    bufferLimit = Math.max(in.read(buffer), 0);
+                    if (bufferLimit == 0) {
+                        return lineLength > 0;
+                    }
+                }
+
+                int lineEnd = bufferPosition;
+                while (lineEnd < bufferLimit && buffer[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                int length = lineEnd - bufferPosition;
+                if (lineLength + length > line.length) {
+                    line = Arrays.copyOf(line, Math.max(lineLength + length, line.length << 1));
+                }
+                System.arraycopy(buffer, bufferPosition, line, lineLength, length);
+                lineLength += length;
+
+                if (lineEnd < bufferLimit) {
+                    bufferPosition = lineEnd + 1;
+                    return true;
+                }
+                bufferPosition = bufferLimit;
+            }
         }
     }
 
+    /**
+     * <p>
+     *     The non-blank lines of a maze file without their line separators. The lines are stored as bytes in chunks
+     *     of at least {@value #CHUNK_SIZE} bytes, so that files of any size can be held, and are only decoded when
+     *     they are accessed through {@link #lines()}.
+     * </p>
+     * The lines of a maze, from its separator line up to the next separator line, are joined by line feeds within
+     * the same chunk, so that the field lines of a maze can be passed to the parser as a single buffer.
+     */
+    private static final class MazeFileContent {
+        static final MazeFileContent EMPTY = new MazeFileContent(new byte[0][], new int[0], 0);
+
+        private static final int CHUNK_SIZE = 1 << 20;
+
+        /**
+         * The number of entries of {@link #lineBounds} per line.
+         */
+        private static final int BOUNDS_PER_LINE = 3;
+
+        private final byte[][] chunks;
+
+        /**
+         * The chunk, the start (inclusive) and the end (exclusive) of every line.
+         */
+        private final int[] lineBounds;
+        private final int lineCount;
+        private final List<String> lines = new LineList();
+
+        private MazeFileContent(byte[][] chunks, int[] lineBounds, int lineCount) {
+            this.chunks = chunks;
+            this.lineBounds = lineBounds;
+            this.lineCount = lineCount;
+        }
+
+        /**
+         * Reads the non-blank lines of the given stream, logging the skipped blank lines.
+         *
+         * @throws IOException If the stream cannot be read or a single maze doesn't fit into an array
+         */
+        static MazeFileContent read(InputStream in) throws IOException {
+            MazeFileLineReader reader = new MazeFileLineReader(in);
+            List<byte[]> chunks = new ArrayList<>();
+            byte[] chunk = new byte[0];
+            int chunkLength = 0;
+            // The start of the lines of the current maze within the chunk and the index of its first line
+            int blockStart = 0;
+            int blockFirstLine = 0;
+
+            int[] lineBounds = new int[BOUNDS_PER_LINE * 64];
+            int lineCount = 0;
+            int lineNumber = 0;
+            while (reader.readLine()) {
+                lineNumber++;
+                byte[] line = reader.line;
+                int lineLength = reader.lineLength;
+                if (lineLength > 0 && line[lineLength - 1] == '\r') {
+                    lineLength--;
+                }
+                if (isBlank(line, 0, lineLength)) {
+                    LOGGER.info(String.format("Empty maze file line skipped at line number %d.", lineNumber));
+                    continue;
+                }
+
+                if (isSeparator(line, 0, lineLength)) {
+                    blockStart = chunkLength;
+                    blockFirstLine = lineCount;
+                }
+                int lineFeedLength = chunkLength > blockStart ? 1 : 0;
+                if ((long) chunkLength + lineFeedLength + lineLength > chunk.length) {
+                    // Move the lines of the current maze into a new chunk, so that they stay contiguous
+                    int blockLength = chunkLength - blockStart;
+                    long requiredLength = (long) blockLength + lineFeedLength + lineLength;
+                    if (requiredLength > Integer.MAX_VALUE - 8) {
+                        throw new IOException(String.format(
+                                "The maze ending at line %d is too large to be read.", lineNumber
+                        ));
+                    }
+                    byte[] newChunk = new byte[(int) Math.max(CHUNK_SIZE, requiredLength)];
+                    System.arraycopy(chunk, blockStart, newChunk, 0, blockLength);
+                    if (blockStart == 0 && !chunks.isEmpty()) {
+                        // The previous chunk only held the lines of the current maze
+                        chunks.set(chunks.size() - 1, newChunk);
+                    } else {
+                        chunks.add(newChunk);
+                    }
+                    for (int i = blockFirstLine; i < lineCount; i++) {
+                        lineBounds[BOUNDS_PER_LINE * i] = chunks.size() - 1;
+                        lineBounds[BOUNDS_PER_LINE * i + 1] -= blockStart;
+                        lineBounds[BOUNDS_PER_LINE * i + 2] -= blockStart;
+                    }
+                    chunk = newChunk;
+                    chunkLength = blockLength;
+                    blockStart = 0;
+                }
+
+                if (lineFeedLength > 0) {
+                    chunk[chunkLength++] = '\n';
+                }
+                System.arraycopy(line, 0, chunk, chunkLength, lineLength);
+                if (BOUNDS_PER_LINE * (lineCount + 1) > lineBounds.length) {
+                    if (lineBounds.length > (Integer.MAX_VALUE - 8) / 2) {
+                        throw new IOException(String.format(
+                                "The maze file has too many lines to be read (line %d).", lineNumber
+                        ));
+                    }
+                    lineBounds = Arrays.copyOf(lineBounds, lineBounds.length << 1);
+                }
+                lineBounds[BOUNDS_PER_LINE * lineCount] = chunks.size() - 1;
+                lineBounds[BOUNDS_PER_LINE * lineCount + 1] = chunkLength;
+                chunkLength += lineLength;
+                lineBounds[BOUNDS_PER_LINE * lineCount + 2] = chunkLength;
+                lineCount++;
+            }
+
+            if (!chunks.isEmpty()) {
+                // Release the unused end of the last chunk
+                chunks.set(chunks.size() - 1, Arrays.copyOf(chunk, chunkLength));
+            }
+            return new MazeFileContent(
+                    chunks.toArray(new byte[0][]), Arrays.copyOf(lineBounds, BOUNDS_PER_LINE * lineCount), lineCount
+            );
+        }
+
+        int lineCount() { return lineCount; }
+
+        /**
+         * Returns the immutable list of the lines, which decodes a line whenever it's accessed.
+         */
+        List<String> lines() { return lines; }
+
+        String line(int index) {
+            int bounds = BOUNDS_PER_LINE * index;
+            return new String(
+                    chunks[lineBounds[bounds]], lineBounds[bounds + 1], lineBounds[bounds + 2] - lineBounds[bounds + 1],
+                    StandardCharsets.UTF_8
+            );
+        }
+
+        boolean isSeparatorLine(int index) {
+            int bounds = BOUNDS_PER_LINE * index;
+            return isSeparator(chunks[lineBounds[bounds]], lineBounds[bounds + 1], lineBounds[bounds + 2]);
+        }
+
+        /**
+         * Returns the bytes of the given number of lines starting at the given line, separated by line feeds.
+         * The lines must not contain a separator line, which keeps them within one chunk.
+         */
+        ByteBuffer linesBytes(int firstLine, int count) {
+            if (count == 0) {
+                return ByteBuffer.allocate(0);
+            }
+            int start = lineBounds[BOUNDS_PER_LINE * firstLine + 1];
+            int end = lineBounds[BOUNDS_PER_LINE * (firstLine + count - 1) + 2];
+            return ByteBuffer.wrap(chunks[lineBounds[BOUNDS_PER_LINE * firstLine]], start, end - start);
+        }
+
+        private final class LineList extends AbstractList<String> implements RandomAccess {
+            @Override
+            public String get(int index) {
+                Objects.checkIndex(index, lineCount);
+                return line(index);
+            }
+
+            @Override
+            public int size() { return lineCount; }
+        }
+    }
+
+    /**
+     * The outcome of {@link #reloadMazeFile()}.
+     *
+     * @param reusedMazeCount The number of unchanged mazes whose objects have been kept
+     * @param parsedMazeCount The number of new or changed mazes which have been parsed, including invalid ones
+     * @param removedMazeCount The number of mazes of the previous reload which no longer exist in the file
+     */
+    public record ReloadSummary(int reusedMazeCount, int parsedMazeCount, int removedMazeCount) {}
+
     public Maze getMaze(int index) { return mazes.get(index); }
 
-    public List<Maze> getMazes() { return List.copyOf(mazes); }
+    /**
+     * Returns the current immutable snapshot of the imported mazes without copying it. The snapshot is not
+     * affected by later imports, which publish a new snapshot instead.
+     *
+     * @return as described above
+     */
+    public List<Maze> getMazes() { return mazes; }
 
-    public List<String> getMazeFileLines() { return List.copyOf(mazeFileLines); }
+    /**
+     * Returns the current immutable snapshot of the maze file lines without copying it.
+     *
+     * @return as described above
+     */
+    public List<String> getMazeFileLines() { return mazeFileLines; }
 
     /**
      * Returns a string representation of the maze file lines. Used primarily for testing purposes.
@@ -239,6 +975,7 @@ public class MazeRepository {
      * @return as described above
      */
     public String mazesToString() {
+        List<Maze> mazes = this.mazes;
         StringBuilder mazesAsText = new StringBuilder();
 
         for (int i = 0; i < mazes.size(); i++) {
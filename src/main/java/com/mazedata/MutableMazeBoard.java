@@ -0,0 +1,17 @@
+package com.mazedata;
+
+/**
+ * The interface {@code MutableMazeBoard} is meant to be implemented by {@link MazeBoard boards} whose fields can be
+ * turned into paths or walls, which are also used as bit planes for the state of searches.
+ */
+public interface MutableMazeBoard extends MazeBoard {
+    /**
+     * Turns the field at the given position into a path or a wall.
+     *
+     * @param x The horizontal position of the field
+     * @param y The vertical position of the field
+     * @param path {@code true} for a path, {@code false} for a wall
+     * @throws IndexOutOfBoundsException If the position lies outside the board
+     */
+    void setPath(long x, long y, boolean path) throws IndexOutOfBoundsException;
+}
@@ -0,0 +1,231 @@
+package com.mazedata;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ *     The class {@code OffHeapArena} hands out {@link OffHeapMazeBoard boards} whose bits are stored in direct
+ *     memory outside the Java heap, so that huge boards and the search state of huge mazes, e.g. visited bits and
+ *     predecessor sides, neither have to be scanned or copied by the garbage collector nor inflate its pauses.
+ * </p>
+ * The memory is reserved in slabs of direct buffers which are reused for the lifetime of the arena. Allocations are
+ * released in the reverse order of their allocation: {@link #mark()} remembers the current allocation state and
+ * {@link #release(int)} deterministically releases everything allocated since then, e.g. the state of a single
+ * traversal, after which the released boards throw an {@link IllegalStateException} when accessed.
+ * Released memory is reused by the following allocations instead of being returned to the operating system,
+ * which only happens after the arena has been {@link #close() closed} and its buffers have been collected.
+ * <p>
+ *     An arena is confined to a single thread, so that every thread solving mazes should own its arena.
+ * </p>
+ */
+public final class OffHeapArena implements AutoCloseable {
+    /**
+     * The default size of a slab in bytes.
+     */
+    public static final int DEFAULT_SLAB_SIZE = 64 * 1024 * 1024;
+
+    private final int slabSize;
+
+    /**
+     * The reserved slabs, of which all but the current one are completely or partially allocated.
+     */
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+
+    /**
+     * The boards which have been allocated and not yet released, in the order of their allocation.
+     */
+    private final List<OffHeapMazeBoard> boards = new ArrayList<>();
+
+    /**
+     * The index of the slab from which is currently allocated.
+     */
+    private int slabIndex;
+
+    /**
+     * The offset of the next allocation within the current slab.
+     */
+    private int slabOffset;
+
+    private long allocatedBytes;
+    private boolean closed;
+
+    public OffHeapArena() {
+        this(DEFAULT_SLAB_SIZE);
+    }
+
+    /**
+     * Creates an arena which reserves direct memory in slabs of the given size.
+     *
+     * @param slabSize The size of a slab in bytes. Larger allocations get a slab of their own size.
+     * @throws IllegalArgumentException If the slab size isn't positive
+     */
+    public OffHeapArena(int slabSize) throws IllegalArgumentException {
+        if (slabSize <= 0) {
+            throw new IllegalArgumentException("The slab size must be positive. Slab size: " + slabSize);
+        }
+        this.slabSize = slabSize;
+    }
+
+    /**
+     * Allocates a board of the given size which only consists of walls.
+     *
+     * @param width The number of fields per row
+     * @param height The number of rows
+     * @return as described above
+     * @throws IllegalArgumentException If the width or height isn't positive or the board needs more than
+     *                                  {@link Integer#MAX_VALUE} bytes
+     * @throws IllegalStateException If the arena has been closed
+     */
+    public OffHeapMazeBoard allocateBoard(long width, long height)
+            throws IllegalArgumentException, IllegalStateException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "The width and height of a board must be positive. Width: %d, height: %d", width, height
+            ));
+        }
+        if (width > (Integer.MAX_VALUE - Long.BYTES) * 8L / height) {
+            throw new IllegalArgumentException(String.format(
+                    "A board of %dx%d fields exceeds the maximum size of an off-heap board.", width, height
+            ));
+        }
+
+        int previousSlabIndex = slabIndex;
+        int previousSlabOffset = slabOffset;
+        int longCount = (int) ((width * height + Long.SIZE - 1) / Long.SIZE);
+        OffHeapMazeBoard board = new OffHeapMazeBoard(
+                width, height, allocate(longCount), previousSlabIndex, previousSlabOffset
+        );
+        boards.add(board);
+        return board;
+    }
+
+    /**
+     * Allocates a copy of the given board, e.g. of the board of a {@link Maze} returned by {@link Maze#getBoard()}.
+     *
+     * @param board The board to be copied
+     * @return as described above
+     * @throws IllegalArgumentException If the board is {@code null} or too large
+     * @throws IllegalStateException If the arena has been closed
+     */
+    public OffHeapMazeBoard copyBoard(MazeBoard board) throws IllegalArgumentException, IllegalStateException {
+        if (board == null) {
+            throw new IllegalArgumentException("A board must be provided in order to copy it.");
+        }
+
+        OffHeapMazeBoard copy = allocateBoard(board.getWidth(), board.getHeight());
+        for (long y = 0; y < board.getHeight(); y++) {
+            for (long x = 0; x < board.getWidth(); x++) {
+                if (board.isPath(x, y)) {
+                    copy.setPath(x, y, true);
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a zeroed buffer of the given number of {@code long} values from the current slab, continuing with
+     * the next slab or reserving a new one if the current slab is too small.
+     */
+    private ByteBuffer allocate(int longCount) {
+        if (closed) {
+            throw new IllegalStateException("The arena has been closed.");
+        }
+
+        int byteCount = longCount * Long.BYTES;
+        while (slabIndex < slabs.size() && slabs.get(slabIndex).capacity() - slabOffset < byteCount) {
+            slabIndex++;
+            slabOffset = 0;
+        }
+        if (slabIndex == slabs.size()) {
+            slabs.add(ByteBuffer.allocateDirect(Math.max(slabSize, byteCount)).order(ByteOrder.nativeOrder()));
+            slabOffset = 0;
+        }
+
+        ByteBuffer buffer = slabs.get(slabIndex).slice(slabOffset, byteCount).order(ByteOrder.nativeOrder());
+        // Released memory is reused, so that it has to be cleared like a new array
+        for (int i = 0; i < byteCount; i += Long.BYTES) {
+            buffer.putLong(i, 0L);
+        }
+        slabOffset += byteCount;
+        allocatedBytes += byteCount;
+        return buffer;
+    }
+
+    /**
+     * Returns the current allocation state, which can be passed to {@link #release(int)} in order to release
+     * everything allocated afterwards.
+     *
+     * @return as described above
+     */
+    public int mark() {
+        return boards.size();
+    }
+
+    /**
+     * Releases all boards which have been allocated since the given {@link #mark() mark}. The released boards
+     * can no longer be accessed and their memory is reused by the following allocations.
+     *
+     * @param mark The allocation state returned by {@link #mark()}
+     * @throws IllegalArgumentException If more boards have been released since the mark has been taken
+     */
+    public void release(int mark) throws IllegalArgumentException {
+        if (mark < 0 || mark > boards.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "The mark %d lies outside of the %d allocated boards.", mark, boards.size()
+            ));
+        }
+        if (mark == boards.size()) {
+            return;
+        }
+
+        // Continue allocating where the first released board has been allocated
+        OffHeapMazeBoard firstReleasedBoard = boards.get(mark);
+        slabIndex = firstReleasedBoard.previousSlabIndex;
+        slabOffset = firstReleasedBoard.previousSlabOffset;
+        for (int i = boards.size() - 1; i >= mark; i--) {
+            OffHeapMazeBoard board = boards.remove(i);
+            allocatedBytes -= board.release();
+        }
+    }
+
+    /**
+     * Releases all boards of this arena, which keeps its slabs for the following allocations.
+     */
+    public void releaseAll() {
+        release(0);
+    }
+
+    /**
+     * Releases all boards and drops the slabs, whose direct memory is freed once they have been garbage collected.
+     */
+    @Override
+    public void close() {
+        releaseAll();
+        slabs.clear();
+        closed = true;
+    }
+
+    /**
+     * Returns the number of bytes which are currently allocated by boards that haven't been released.
+     *
+     * @return as described above
+     */
+    public long getAllocatedBytes() { return allocatedBytes; }
+
+    /**
+     * Returns the number of bytes of direct memory reserved by the slabs of this arena.
+     *
+     * @return as described above
+     */
+    public long getReservedBytes() {
+        long reservedBytes = 0;
+        for (ByteBuffer slab : slabs) {
+            reservedBytes += slab.capacity();
+        }
+        return reservedBytes;
+    }
+}
@@ -0,0 +1,165 @@
+package com.mazedata;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ *     The class {@code TiledMazeBoard} stores a maze board of any size in square tiles of
+ *     {@value #TILE_SIZE}x{@value #TILE_SIZE} fields. Every tile is a packed bitset of {@value #TILE_SIZE}
+ *     {@code long} values, one per tile row, whose bits are set for path fields. A new board consists of walls
+ *     only and all of its tiles share one immutable wall tile, so that a tile is only allocated once the first path
+ *     field is set in it. Boards with large solid areas, e.g. the surroundings of an elliptic maze, therefore only
+ *     use memory for the tiles containing paths.
+ * </p>
+ * In contrast to a {@code boolean[][]} board, which stores one byte per field in separately allocated rows,
+ * a tile needs one bit per field and keeps the fields above and below a field within the same 512 bytes, which
+ * improves the cache locality of searches exploring the bordering fields. Fields are addressed with {@code long}
+ * coordinates, so that the number of fields is only limited by the number of tiles, which has to fit into an array.
+ * <p>
+ *     Boards are not synchronized. A board must not be modified while it is read by other threads.
+ * </p>
+ */
+public final class TiledMazeBoard implements MutableMazeBoard {
+    /**
+     * The width and height of a tile in fields, which equals the number of bits of a {@code long}.
+     */
+    public static final int TILE_SIZE = 64;
+
+    private static final int TILE_SHIFT = 6;
+    private static final int TILE_MASK = TILE_SIZE - 1;
+
+    /**
+     * The largest number of tiles, which is slightly below the largest array length supported by the JVM.
+     */
+    private static final long MAX_TILE_COUNT = Integer.MAX_VALUE - 8;
+
+    /**
+     * The tile shared by all tiles which only contain walls. It's never written.
+     */
+    private static final long[] WALL_TILE = new long[TILE_SIZE];
+
+    private final long width;
+    private final long height;
+    private final int horizontalTileCount;
+
+    /**
+     * The tiles in row-major order, which are either {@link #WALL_TILE} or a tile of their own.
+     */
+    private final long[][] tiles;
+
+    private int allocatedTileCount;
+
+    /**
+     * Creates a board of the given size which only consists of walls.
+     *
+     * @param width The number of fields per row
+     * @param height The number of rows
+     * @throws IllegalArgumentException If the width or height isn't positive or the board would need more
+     *                                  tiles than an array can hold
+     */
+    public TiledMazeBoard(long width, long height) throws IllegalArgumentException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "The width and height of a board must be positive. Width: %d, height: %d", width, height
+            ));
+        }
+        long horizontalTileCount = tileCount(width);
+        long verticalTileCount = tileCount(height);
+        if (horizontalTileCount > MAX_TILE_COUNT / verticalTileCount) {
+            throw new IllegalArgumentException(String.format(
+                    "A board of %dx%d fields exceeds the maximum of %d tiles.", width, height, MAX_TILE_COUNT
+            ));
+        }
+
+        this.width = width;
+        this.height = height;
+        this.horizontalTileCount = (int) horizontalTileCount;
+        this.tiles = new long[(int) (horizontalTileCount * verticalTileCount)][];
+        Arrays.fill(tiles, WALL_TILE);
+    }
+
+    /**
+     * Creates a tiled copy of the given board, e.g. of the board of a {@link Maze} returned by {@link Maze#getBoard()}.
+     *
+     * @param board The board to be copied
+     * @return as described above
+     * @throws IllegalArgumentException If the board is {@code null}
+     */
+    public static TiledMazeBoard copyOf(MazeBoard board) throws IllegalArgumentException {
+        if (board == null) {
+            throw new IllegalArgumentException("A board must be provided in order to copy it.");
+        }
+
+        TiledMazeBoard copy = new TiledMazeBoard(board.getWidth(), board.getHeight());
+        for (long y = 0; y < board.getHeight(); y++) {
+            for (long x = 0; x < board.getWidth(); x++) {
+                if (board.isPath(x, y)) {
+                    copy.setPath(x, y, true);
+                }
+            }
+        }
+        return copy;
+    }
+
+    private static long tileCount(long fieldCount) {
+        return (fieldCount + TILE_MASK) >>> TILE_SHIFT;
+    }
+
+    @Override
+    public long getWidth() { return width; }
+
+    @Override
+    public long getHeight() { return height; }
+
+    /**
+     * Returns the number of tiles which have been allocated because they contain or contained path fields.
+     *
+     * @return as described above
+     */
+    public int getAllocatedTileCount() { return allocatedTileCount; }
+
+    public int getTileCount() { return tiles.length; }
+
+    @Override
+    public boolean isPath(long x, long y) throws IndexOutOfBoundsException {
+        // Shifting a long only considers the lowest six bits of the distance, which are the position within the tile
+        return (tiles[tileOf(x, y)][(int) (y & TILE_MASK)] & 1L << x) != 0;
+    }
+
+    /**
+     * Turns the field at the given position into a path or a wall. The tile of the field is allocated if the first
+     * path field is set in it.
+     *
+     * @param x The horizontal position of the field
+     * @param y The vertical position of the field
+     * @param path {@code true} for a path, {@code false} for a wall
+     * @throws IndexOutOfBoundsException If the position lies outside the board
+     */
+    @Override
+    public void setPath(long x, long y, boolean path) throws IndexOutOfBoundsException {
+        int tileIndex = tileOf(x, y);
+        long[] tile = tiles[tileIndex];
+        if (tile == WALL_TILE) {
+            if (!path) {
+                return;
+            }
+            tile = new long[TILE_SIZE];
+            tiles[tileIndex] = tile;
+            allocatedTileCount++;
+        }
+
+        int row = (int) (y & TILE_MASK);
+        if (path) {
+            tile[row] |= 1L << x;
+        } else {
+            tile[row] &= ~(1L << x);
+        }
+    }
+
+    private int tileOf(long x, long y) {
+        Objects.checkIndex(x, width);
+        Objects.checkIndex(y, height);
+        return (int) ((y >>> TILE_SHIFT) * horizontalTileCount + (x >>> TILE_SHIFT));
+    }
+}
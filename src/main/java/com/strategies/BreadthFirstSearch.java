@@ -1,9 +1,11 @@
 package com.strategies;
 
 import com.mazedata.Maze;
+import com.mazedata.MazeBoard;
 import com.mazedata.MazeField;
-
-import java.util.*;
+import com.mazedata.MutableMazeBoard;
+import com.mazedata.OffHeapArena;
+import com.mazedata.TiledMazeBoard;
 
 /**
  * <p>
@@ -25,6 +27,10 @@ public class BreadthFirstSearch extends GuaranteedMazeTraverser {
      * <p>
      *     The strategy <u><i>is guaranteed</i></u> to find the shortest path if one exists.
      * </p>
+     * If the maze has several {@link Maze#getStartingFields() starting} and {@link Maze#getEndingFields() ending}
+     * fields, the search starts from all starting fields at once and stops at the first reached ending field,
+     * so that the shortest path between any starting and any ending field is found with a single search instead
+     * of one search per pair of fields.
      *
      * @param maze {@inheritDoc}
      * @return {@inheritDoc}
@@ -32,26 +38,108 @@ public class BreadthFirstSearch extends GuaranteedMazeTraverser {
      */
     @Override
     public boolean[][] traverseMaze(Maze maze) throws MazeNotTraversableException {
-        boolean[][] mazeBoard = maze.getMazeBoard();
+        return traverseMaze(maze, TraversalContext.unbounded());
+    }
 
-        MazeField startingField = maze.getStartingField();
-        MazeField endingField = maze.getEndingField();
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The context is checked once per explored field.
+     * </p>
+     *
+     * @param maze {@inheritDoc}
+     * @param context {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws MazeNotTraversableException {@inheritDoc}
+     * @throws MazeTraversalTimeoutException {@inheritDoc}
+     */
+    @Override
+    public boolean[][] traverseMaze(Maze maze, TraversalContext context)
+            throws MazeNotTraversableException, MazeTraversalTimeoutException {
+        return MazeTraversalEvent.record(this, maze, context, () -> traverse(maze, context));
+    }
 
-        // Queue for BFS - processes fields in FIFO order
-        Queue<MazeField> fieldsToExplore = new ArrayDeque<>(Collections.singleton(startingField));
-        Set<MazeField> encounteredFields = new HashSet<>(Collections.singleton(startingField));
-        Map<MazeField, MazeField> predecessorMap = new HashMap<>(); // Key = destination, Value = origin
-        predecessorMap.put(startingField, null);
+    /**
+     * <p>
+     *     Traverses the maze like {@link #traverseMaze(Maze, TraversalContext)}, but keeps the whole search state
+     *     in the given workspace, so that repeated searches with the same workspace don't allocate.
+     * </p>
+     * The returned board belongs to the workspace and is overwritten by its next search. The cells of the path
+     * can also be read from {@link SearchWorkspace#getPathCell(int)} without looking at the board.
+     *
+     * @param maze The maze to be traversed
+     * @param context The context which decides whether the traversal has to be stopped
+     * @param workspace The workspace which holds the search state and the returned board
+     * @return The traversed board of the workspace
+     * @throws MazeNotTraversableException If the maze is not traversable
+     * @throws MazeTraversalTimeoutException If the traversal has been stopped by the context
+     * @throws IllegalArgumentException If the workspace is {@code null}
+     */
+    public boolean[][] traverseMaze(Maze maze, TraversalContext context, SearchWorkspace workspace)
+            throws MazeNotTraversableException, MazeTraversalTimeoutException, IllegalArgumentException {
+        if (workspace == null) {
+            throw new IllegalArgumentException("A workspace must be provided in order to hold the search state.");
+        }
+        return MazeTraversalEvent.record(this, maze, context, () -> {
+            search(maze, context, workspace);
+            return workspace.reusedTraversedBoard(maze.getMazeBoardHeight(), maze.getMazeBoardWidth());
+        });
+    }
 
-        while (!fieldsToExplore.isEmpty()) {
-            MazeField currentField = fieldsToExplore.poll();
+    private boolean[][] traverse(Maze maze, TraversalContext context) {
+        try (SearchWorkspace workspace = SearchWorkspace.acquire()) {
+            search(maze, context, workspace);
+            return workspace.newTraversedBoard(maze.getMazeBoardHeight(), maze.getMazeBoardWidth());
+        }
+    }
 
-            if (currentField.equals(endingField)) {
-                List<MazeField> shortestPath = reconstructPathOfSolution(predecessorMap, endingField);
-                return pathFieldsToTraversedBoard(shortestPath, mazeBoard.length, mazeBoard[0].length);
+    /**
+     * Explores the fields in FIFO order and stores the shortest path in the workspace. The frontier of the
+     * workspace serves as queue, whose explored cells are skipped instead of removed, and the predecessor of
+     * every encountered cell is the cell from which it has been encountered first.
+     * <p>
+     *     All starting fields are enqueued before the search starts and all ending fields are marked as targets,
+     *     so that a maze with several starting and ending fields is solved with a single search, which stops at
+     *     the ending field nearest to any starting field.
+     * </p>
+     */
+    private void search(Maze maze, TraversalContext context, SearchWorkspace workspace) {
+        boolean[][] mazeBoard = maze.getMazeBoard();
+        int width = maze.getMazeBoardWidth();
+
+        workspace.prepare(MazeCells.cellCount(maze));
+        for (MazeField endingField : maze.getEndingFields()) {
+            workspace.markTarget(MazeCells.cellOf(maze, endingField));
+        }
+        IntArrayList cellsToExplore = workspace.frontier();
+        TraversalStatistics statistics = context.getStatistics();
+        for (MazeField startingField : maze.getStartingFields()) {
+            int startingCell = MazeCells.cellOf(maze, startingField);
+            if (!workspace.isVisited(startingCell)) {
+                cellsToExplore.add(startingCell);
+                workspace.visit(startingCell, MazeCells.NONE);
+                statistics.recordEnqueue(cellsToExplore.size());
+            }
+        }
+
+        for (int head = 0; head < cellsToExplore.size(); head++) {
+            int currentCell = cellsToExplore.get(head);
+            context.checkpoint();
+
+            if (workspace.isTarget(currentCell)) {
+                workspace.storePathTo(currentCell);
+                return;
             }
 
-            exploreNeighbouringFields(currentField, fieldsToExplore, encounteredFields, predecessorMap, maze);
+            for (int side = 0; side < MazeCells.SIDES; side++) {
+                int neighbour = MazeCells.neighbour(mazeBoard, width, currentCell, side);
+                if (neighbour != MazeCells.NONE && !workspace.isVisited(neighbour)) {
+                    cellsToExplore.add(neighbour);
+                    // The queue consists of the cells behind the current one
+                    statistics.recordEnqueue(cellsToExplore.size() - head - 1);
+                    workspace.visit(neighbour, currentCell);
+                }
+            }
         }
 
         throw new MazeNotTraversableException(
@@ -60,59 +148,206 @@ public class BreadthFirstSearch extends GuaranteedMazeTraverser {
                 String.format(
                         "Starting from %s, all reachable fields have been explored "
                                 + "and none leads to the ending field (%s).",
-                        maze.getStartingField(), maze.getEndingField()
+                        MazeCells.describeFields(maze.getStartingFields()),
+                        MazeCells.describeFields(maze.getEndingFields())
                 )
         );
     }
 
     /**
-     * Explores all neighbouring fields of the current field, adding previously unencountered fields
-     * to the queue of fields to explore.
+     * <p>
+     *     Runs the breadth first search on a board of any size which is addressed with {@code long} cells
+     *     ({@code x + width * y}), e.g. a {@link TiledMazeBoard} with more fields than a {@code boolean[][]} board
+     *     can hold, and returns the cells of a shortest path from the starting to the ending cell.
+     * </p>
+     * Instead of a predecessor per cell, only the side of the predecessor is stored in two bit planes, which are
+     * tiled boards themselves, next to the visited bit plane. The search state therefore needs three bits per
+     * field and only for the tiles which have been reached.
+     *
+     * @param board The board to be searched
+     * @param startingCell The cell from which the search starts
+     * @param endingCell The cell to which a path is searched
+     * @param context The context which decides whether the search has to be stopped
+     * @return The cells of a shortest path including the starting and ending cell
+     * @throws MazeNotTraversableException If no path leads from the starting to the ending cell
+     * @throws MazeTraversalTimeoutException If the search has been stopped by the context
+     * @throws IllegalArgumentException If the board or context is {@code null} or the starting or ending cell
+     *                                  isn't a path field of the board
+     */
+    public long[] traverseBoard(MazeBoard board, long startingCell, long endingCell, TraversalContext context)
+            throws MazeNotTraversableException, MazeTraversalTimeoutException, IllegalArgumentException {
+        return traverseBoard(board, startingCell, endingCell, context, TiledMazeBoard::new);
+    }
+
+    /**
+     * <p>
+     *     Runs the breadth first search on a board like
+     *     {@link #traverseBoard(MazeBoard, long, long, TraversalContext)}, but allocates the bit planes of the
+     *     search state off the Java heap from the given arena.
+     * </p>
+     * The bit planes are released before this method returns, so that the arena can be reused for any number of
+     * searches without growing. Boards which have been allocated from the arena before, e.g. the searched board
+     * itself, stay valid.
      *
-     * @param currentField The field currently being explored
-     * @param fieldsToExplore Queue of fields to be explored next
-     * @param encounteredFields Set of already encountered fields
-     * @param predecessorMap Map tracking the predecessor of each field for path reconstruction
-     * @param maze The maze being traversed
+     * @param board The board to be searched
+     * @param startingCell The cell from which the search starts
+     * @param endingCell The cell to which a path is searched
+     * @param context The context which decides whether the search has to be stopped
+     * @param arena The arena from which the search state is allocated
+     * @return The cells of a shortest path including the starting and ending cell
+     * @throws MazeNotTraversableException If no path leads from the starting to the ending cell
+     * @throws MazeTraversalTimeoutException If the search has been stopped by the context
+     * @throws IllegalArgumentException If any argument is {@code null} or the starting or ending cell
+     *                                  isn't a path field of the board
      */
-    private void exploreNeighbouringFields(
-            MazeField currentField, Queue<MazeField> fieldsToExplore, Set<MazeField> encounteredFields,
-            Map<MazeField, MazeField> predecessorMap, Maze maze
+    public long[] traverseBoard(
+            MazeBoard board, long startingCell, long endingCell, TraversalContext context, OffHeapArena arena
+    ) throws MazeNotTraversableException, MazeTraversalTimeoutException, IllegalArgumentException {
+        if (arena == null) {
+            throw new IllegalArgumentException("An arena must be provided in order to allocate the search state.");
+        }
+
+        int mark = arena.mark();
+        try {
+            return traverseBoard(board, startingCell, endingCell, context, arena::allocateBoard);
+        } finally {
+            arena.release(mark);
+        }
+    }
+
+    /**
+     * Allocates a bit plane of the search state with the size of the searched board.
+     */
+    @FunctionalInterface
+    private interface BitPlaneAllocator {
+        MutableMazeBoard allocate(long width, long height);
+    }
+
+    private long[] traverseBoard(
+            MazeBoard board, long startingCell, long endingCell, TraversalContext context,
+            BitPlaneAllocator bitPlaneAllocator
     ) {
-        boolean[][] mazeBoard = maze.getMazeBoard();
-        MazeField[] neighbours = currentField.determineBorderingFields(
-                maze.getMazeBoardHeight(), maze.getMazeBoardWidth()
-        );
+        if (board == null || context == null) {
+            throw new IllegalArgumentException("A board and a context must be provided in order to traverse a board.");
+        }
+        if (!isPathCell(board, startingCell) || !isPathCell(board, endingCell)) {
+            throw new IllegalArgumentException(String.format(
+                    "The starting cell %d and ending cell %d must be path fields of the board.",
+                    startingCell, endingCell
+            ));
+        }
+
+        long width = board.getWidth();
+        long height = board.getHeight();
+        MutableMazeBoard visitedCells = bitPlaneAllocator.allocate(width, height);
+        // The side of the predecessor (0 top, 1 right, 2 bottom, 3 left) split into its low and high bit
+        MutableMazeBoard predecessorSidesLowBit = bitPlaneAllocator.allocate(width, height);
+        MutableMazeBoard predecessorSidesHighBit = bitPlaneAllocator.allocate(width, height);
 
-        for (MazeField neighbour : neighbours) {
-            if (neighbour != null
-                    && mazeBoard[neighbour.positionY()][neighbour.positionX()]
-                    && !encounteredFields.contains(neighbour)) {
-                fieldsToExplore.offer(neighbour);
-                encounteredFields.add(neighbour);
-                predecessorMap.put(neighbour, currentField);
+        LongArrayQueue cellsToExplore = new LongArrayQueue();
+        cellsToExplore.add(startingCell);
+        visitedCells.setPath(startingCell % width, startingCell / width, true);
+        TraversalStatistics statistics = context.getStatistics();
+        statistics.recordEnqueue(cellsToExplore.size());
+
+        while (!cellsToExplore.isEmpty()) {
+            long cell = cellsToExplore.poll();
+            context.checkpoint();
+
+            if (cell == endingCell) {
+                return reconstructPathOfBoard(
+                        width, startingCell, endingCell, predecessorSidesLowBit, predecessorSidesHighBit
+                );
+            }
+
+            long x = cell % width;
+            long y = cell / width;
+            for (int side = 0; side < MazeCells.SIDES; side++) {
+                long neighbourX = x + (side == 1 ? 1 : side == 3 ? -1 : 0);
+                long neighbourY = y + (side == 2 ? 1 : side == 0 ? -1 : 0);
+                if (neighbourX < 0 || neighbourY < 0 || neighbourX >= width || neighbourY >= height
+                        || !board.isPath(neighbourX, neighbourY) || visitedCells.isPath(neighbourX, neighbourY)) {
+                    continue;
+                }
+
+                visitedCells.setPath(neighbourX, neighbourY, true);
+                int predecessorSide = (side + 2) % MazeCells.SIDES;
+                predecessorSidesLowBit.setPath(neighbourX, neighbourY, (predecessorSide & 1) != 0);
+                predecessorSidesHighBit.setPath(neighbourX, neighbourY, (predecessorSide & 2) != 0);
+                cellsToExplore.add(neighbourX + width * neighbourY);
+                statistics.recordEnqueue(cellsToExplore.size());
             }
         }
+
+        throw new MazeNotTraversableException(
+                "breadth first search",
+                board,
+                String.format(
+                        "Starting from cell %d, all reachable fields have been explored "
+                                + "and none leads to the ending cell %d.",
+                        startingCell, endingCell
+                )
+        );
+    }
+
+    private static boolean isPathCell(MazeBoard board, long cell) {
+        return cell >= 0 && cell < board.getCellCount()
+                && board.isPath(cell % board.getWidth(), cell / board.getWidth());
     }
 
     /**
-     * Reconstructs the shortest path from the starting field to the ending field
-     * by tracing back through the predecessor map.
-     *
-     * @param predecessorMap Map containing the predecessor of each field
-     * @param endingField The ending field
-     * @return A list of fields representing the shortest path from start to end
+     * Follows the stored predecessor sides from the ending to the starting cell.
      */
-    private List<MazeField> reconstructPathOfSolution(Map<MazeField, MazeField> predecessorMap, MazeField endingField) {
-        List<MazeField> path = new ArrayList<>();
-        MazeField current = endingField;
-
-        while (current != null) {
-            path.add(current);
-            current = predecessorMap.get(current);
+    private static long[] reconstructPathOfBoard(
+            long width, long startingCell, long endingCell,
+            MazeBoard predecessorSidesLowBit, MazeBoard predecessorSidesHighBit
+    ) {
+        LongArrayQueue reversedPath = new LongArrayQueue();
+        long cell = endingCell;
+        reversedPath.add(cell);
+        while (cell != startingCell) {
+            long x = cell % width;
+            long y = cell / width;
+            int predecessorSide = (predecessorSidesLowBit.isPath(x, y) ? 1 : 0)
+                    | (predecessorSidesHighBit.isPath(x, y) ? 2 : 0);
+            cell = switch (predecessorSide) {
+                case 0 -> cell - width;
+                case 1 -> cell + 1;
+                case 2 -> cell + width;
+                default -> cell - 1;
+            };
+            reversedPath.add(cell);
         }
 
-        Collections.reverse(path);
+        long[] path = new long[reversedPath.size()];
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i] = reversedPath.poll();
+        }
         return path;
     }
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     * @return {@code true}
+     */
+    @Override
+    public boolean findsShortestPath() {
+        return true;
+    }
+
+    /**
+     * <p>
+     *     Runs the breadth first search from the maze's starting field without stopping at the ending field and
+     *     returns the distance of every field to the starting field along with the predecessor tree.
+     * </p>
+     * In contrast to {@link #traverseMaze(Maze)} the result of the search is kept, so that the distance
+     * and shortest path to any field can be determined without searching again.
+     *
+     * @param maze The maze whose board is searched
+     * @return as described above
+     * @see DistanceField#compute(Maze, com.mazedata.MazeField, boolean)
+     */
+    public DistanceField computeDistanceField(Maze maze) {
+        return DistanceField.compute(maze);
+    }
+}
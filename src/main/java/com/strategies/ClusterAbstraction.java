@@ -0,0 +1,537 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+
+import java.util.*;
+
+/**
+ * <p>
+ *     The class {@code ClusterAbstraction} represents the precomputed abstract graph of a {@link Maze} board
+ *     which is searched by {@link HierarchicalPathfinding} instead of the board itself.
+ * </p>
+ * The board is divided into square clusters of a fixed size. Wherever two neighbouring clusters share a
+ * sequence of path fields along their common border, one pair of entrance fields is placed in the middle of
+ * that sequence. Entrances lying in neighbouring clusters are connected with a cost of one, entrances of the
+ * same cluster with the length of the shortest path between them which stays inside the cluster.
+ * <p>
+ *     Since the abstraction only depends on the maze board, it is built once per maze and can then be used
+ *     to answer any number of queries with different starting and ending fields. An instance is immutable
+ *     after construction and can therefore be shared between threads.
+ * </p>
+ */
+public final class ClusterAbstraction {
+    /**
+     * Marks a field which has not been reached by a search.
+     */
+    private static final int UNREACHED = -1;
+
+    private final boolean[][] mazeBoard;
+    private final int boardWidth;
+    private final int boardHeight;
+    private final int clusterSize;
+    private final int clustersPerRow;
+
+    /**
+     * The cell index ({@code positionX + boardWidth * positionY}) of every entrance node, sorted ascending
+     * so that the node of a cell can be looked up using a binary search.
+     */
+    private final int[] nodeCells;
+
+    // The entrance nodes grouped by cluster: the nodes of cluster c are
+    // stored in clusterNodes[clusterNodeStart[c]] until clusterNodes[clusterNodeStart[c + 1] - 1]
+    private final int[] clusterNodeStart;
+    private final int[] clusterNodes;
+
+    // The abstract edges grouped by their origin node in the same manner as the cluster nodes
+    private final int[] edgeStart;
+    private final int[] edgeTargets;
+    private final int[] edgeCosts;
+
+    /**
+     * Builds the abstraction of the given maze's board.
+     *
+     * @param maze A non-null maze
+     * @param clusterSize The width and height of a cluster, at least {@code 2}
+     * @throws IllegalArgumentException If the maze is {@code null} or the cluster size is smaller than {@code 2}
+     */
+    public ClusterAbstraction(Maze maze, int clusterSize) throws IllegalArgumentException {
+        if (maze == null) {
+            throw new IllegalArgumentException("A cluster abstraction cannot be built for a null maze.");
+        }
+        if (clusterSize < 2) {
+            throw new IllegalArgumentException(String.format(
+                    "The cluster size must be at least 2. Provided cluster size: %d", clusterSize
+            ));
+        }
+
+        this.mazeBoard = maze.getMazeBoard();
+        this.boardWidth = maze.getMazeBoardWidth();
+        this.boardHeight = maze.getMazeBoardHeight();
+        this.clusterSize = clusterSize;
+        this.clustersPerRow = (boardWidth + clusterSize - 1) / clusterSize;
+        int clusterCount = clustersPerRow * ((boardHeight + clusterSize - 1) / clusterSize);
+
+        IntArrayList entranceCells = new IntArrayList();
+        IntArrayList pairedEntranceCells = new IntArrayList();
+        determineEntrances(entranceCells, pairedEntranceCells);
+
+        this.nodeCells = uniqueSortedCells(entranceCells, pairedEntranceCells);
+
+        this.clusterNodeStart = new int[clusterCount + 1];
+        for (int cell : nodeCells) {
+            clusterNodeStart[clusterOf(cell) + 1]++;
+        }
+        for (int i = 0; i < clusterCount; i++) {
+            clusterNodeStart[i + 1] += clusterNodeStart[i];
+        }
+        this.clusterNodes = new int[nodeCells.length];
+        int[] clusterFill = Arrays.copyOf(clusterNodeStart, clusterCount);
+        for (int node = 0; node < nodeCells.length; node++) {
+            clusterNodes[clusterFill[clusterOf(nodeCells[node])]++] = node;
+        }
+
+        IntArrayList edgeOrigins = new IntArrayList(entranceCells.size() * 4);
+        IntArrayList edgeDestinations = new IntArrayList(entranceCells.size() * 4);
+        IntArrayList costs = new IntArrayList(entranceCells.size() * 4);
+
+        // Inter-cluster edges in both directions
+        for (int i = 0; i < entranceCells.size(); i++) {
+            int node = nodeOf(entranceCells.get(i));
+            int pairedNode = nodeOf(pairedEntranceCells.get(i));
+            addEdge(edgeOrigins, edgeDestinations, costs, node, pairedNode, 1);
+            addEdge(edgeOrigins, edgeDestinations, costs, pairedNode, node, 1);
+        }
+
+        // Intra-cluster edges between all entrances of a cluster which are connected inside it
+        ClusterSearch search = new ClusterSearch();
+        for (int cluster = 0; cluster < clusterCount; cluster++) {
+            for (int i = clusterNodeStart[cluster]; i < clusterNodeStart[cluster + 1]; i++) {
+                int node = clusterNodes[i];
+                search.run(nodeCells[node]);
+                for (int j = clusterNodeStart[cluster]; j < clusterNodeStart[cluster + 1]; j++) {
+                    int otherNode = clusterNodes[j];
+                    int distance = search.distanceTo(nodeCells[otherNode]);
+                    if (otherNode != node && distance != UNREACHED) {
+                        addEdge(edgeOrigins, edgeDestinations, costs, node, otherNode, distance);
+                    }
+                }
+            }
+        }
+
+        this.edgeStart = new int[nodeCells.length + 1];
+        for (int i = 0; i < edgeOrigins.size(); i++) {
+            edgeStart[edgeOrigins.get(i) + 1]++;
+        }
+        for (int i = 0; i < nodeCells.length; i++) {
+            edgeStart[i + 1] += edgeStart[i];
+        }
+        this.edgeTargets = new int[edgeOrigins.size()];
+        this.edgeCosts = new int[edgeOrigins.size()];
+        int[] edgeFill = Arrays.copyOf(edgeStart, nodeCells.length);
+        for (int i = 0; i < edgeOrigins.size(); i++) {
+            int position = edgeFill[edgeOrigins.get(i)]++;
+            edgeTargets[position] = edgeDestinations.get(i);
+            edgeCosts[position] = costs.get(i);
+        }
+    }
+
+    // Getters
+    public int getClusterSize() { return clusterSize; }
+    public int getEntranceCount() { return nodeCells.length; }
+    public int getAbstractEdgeCount() { return edgeTargets.length; }
+
+    /**
+     * <p>
+     *     Searches a path between the two passed fields by first searching the abstract graph
+     *     and subsequently refining every abstract edge into the board fields it stands for.
+     * </p>
+     * The returned path is not guaranteed to be the shortest one, since entrances only represent one field of
+     * each border sequence, but it is guaranteed to be found if the ending field can be reached at all.
+     *
+     * @param from The field the path starts at
+     * @param to The field the path ends at
+     * @return The fields of the path including both passed fields in traversal order
+     *         or {@code null} if no path exists
+     * @throws IllegalArgumentException If one of the fields is {@code null} or lies outside the board
+     */
+    public List<MazeField> findPath(MazeField from, MazeField to) throws IllegalArgumentException {
+        return findPath(from, to, TraversalContext.unbounded());
+    }
+
+    /**
+     * Searches a path like {@link #findPath(MazeField, MazeField)} and checks the given context once per expanded
+     * node of the abstract graph.
+     *
+     * @param from The field the path starts at
+     * @param to The field the path ends at
+     * @param context The context which decides whether the search has to be stopped
+     * @return The fields of the path including both passed fields in traversal order
+     *         or {@code null} if no path exists
+     * @throws IllegalArgumentException If one of the fields is {@code null} or lies outside the board
+     * @throws MazeTraversalTimeoutException If the search has been stopped by the context
+     */
+    public List<MazeField> findPath(MazeField from, MazeField to, TraversalContext context)
+            throws IllegalArgumentException, MazeTraversalTimeoutException {
+        if (from == null || to == null || from.positionX() >= boardWidth || from.positionY() >= boardHeight
+                || to.positionX() >= boardWidth || to.positionY() >= boardHeight) {
+            throw new IllegalArgumentException(String.format(
+                    "Both fields must lie within the maze board (width: %d, height: %d). From: %s, to: %s",
+                    boardWidth, boardHeight, from, to
+            ));
+        }
+        if (!mazeBoard[from.positionY()][from.positionX()] || !mazeBoard[to.positionY()][to.positionX()]) {
+            return null;
+        }
+
+        int fromCell = from.calculateSequenceInBoard(boardWidth);
+        int toCell = to.calculateSequenceInBoard(boardWidth);
+        if (fromCell == toCell) {
+            return new ArrayList<>(List.of(from));
+        }
+
+        int[] abstractPath = searchAbstractGraph(fromCell, toCell, context);
+        return abstractPath == null ? null : refine(abstractPath);
+    }
+
+    /**
+     * Runs an A* search with the Manhattan distance as heuristic on the abstract graph into which the starting
+     * and ending field are temporarily inserted as the nodes {@code nodeCells.length} and
+     * {@code nodeCells.length + 1}. The costs and predecessors are stored in arrays indexed by node and the open
+     * nodes are queued as packed keys, so that the search doesn't box any node.
+     *
+     * @return The cells of the abstract path from the starting to the ending field or {@code null} if no path exists
+     */
+    private int[] searchAbstractGraph(int fromCell, int toCell, TraversalContext context) {
+        final int startNode = nodeCells.length;
+        final int goalNode = nodeCells.length + 1;
+        ClusterSearch search = new ClusterSearch();
+
+        // Connect the starting field to the entrances of its cluster (and directly to the ending field if possible)
+        search.run(fromCell);
+        int[] startDistances = entranceDistances(search, clusterOf(fromCell));
+        int directDistance = clusterOf(fromCell) == clusterOf(toCell) ? search.distanceTo(toCell) : UNREACHED;
+
+        // Connect the entrances of the ending field's cluster to the ending field
+        search.run(toCell);
+        int[] goalDistances = entranceDistances(search, clusterOf(toCell));
+
+        int[] costSoFar = new int[nodeCells.length + 2];
+        int[] predecessors = new int[nodeCells.length + 2];
+        Arrays.fill(costSoFar, UNREACHED);
+        LongMinHeap openNodes = new LongMinHeap();
+
+        costSoFar[startNode] = 0;
+        predecessors[startNode] = UNREACHED;
+        openNodes.add(queueEntry(heuristic(fromCell, toCell), startNode));
+
+        while (!openNodes.isEmpty()) {
+            long entry = openNodes.poll();
+            int node = (int) entry;
+            int cost = costSoFar[node];
+            int nodeCell = node == startNode ? fromCell : node == goalNode ? toCell : nodeCells[node];
+
+            // Skip outdated queue entries which have been replaced by a cheaper one
+            if ((int) (entry >>> 32) != cost + heuristic(nodeCell, toCell)) {
+                continue;
+            }
+            context.checkpoint();
+            if (node == goalNode) {
+                return reconstructAbstractPath(predecessors, goalNode, startNode, fromCell, toCell);
+            }
+
+            if (node == startNode) {
+                int fromCluster = clusterOf(fromCell);
+                for (int i = clusterNodeStart[fromCluster]; i < clusterNodeStart[fromCluster + 1]; i++) {
+                    int entrance = clusterNodes[i];
+                    if (startDistances[entrance] != UNREACHED) {
+                        relax(entrance, cost + startDistances[entrance], node, toCell, costSoFar, predecessors,
+                                openNodes);
+                    }
+                }
+                if (directDistance != UNREACHED) {
+                    relax(goalNode, cost + directDistance, node, toCell, costSoFar, predecessors, openNodes);
+                }
+                continue;
+            }
+
+            for (int i = edgeStart[node]; i < edgeStart[node + 1]; i++) {
+                relax(edgeTargets[i], cost + edgeCosts[i], node, toCell, costSoFar, predecessors, openNodes);
+            }
+            if (goalDistances[node] != UNREACHED) {
+                relax(goalNode, cost + goalDistances[node], node, toCell, costSoFar, predecessors, openNodes);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Updates the cost of the target node and queues it if the passed cost is lower than its current cost.
+     */
+    private void relax(
+            int target, int cost, int origin, int toCell, int[] costSoFar, int[] predecessors, LongMinHeap openNodes
+    ) {
+        if (costSoFar[target] == UNREACHED || cost < costSoFar[target]) {
+            costSoFar[target] = cost;
+            predecessors[target] = origin;
+            int targetCell = target >= nodeCells.length ? toCell : nodeCells[target];
+            openNodes.add(queueEntry(cost + heuristic(targetCell, toCell), target));
+        }
+    }
+
+    /**
+     * Converts the abstract nodes leading from the starting to the goal node into their cells.
+     */
+    private int[] reconstructAbstractPath(int[] predecessors, int goalNode, int startNode, int fromCell, int toCell) {
+        IntArrayList cells = new IntArrayList();
+        for (int node = goalNode; node != UNREACHED; node = predecessors[node]) {
+            cells.add(node == goalNode ? toCell : node == startNode ? fromCell : nodeCells[node]);
+        }
+        cells.reverse();
+        return cells.toArray();
+    }
+
+    /**
+     * Replaces every abstract edge with the board fields it stands for. Consecutive cells of the abstract path
+     * either border each other or lie in the same cluster, so that a search inside that cluster suffices.
+     */
+    private List<MazeField> refine(int[] abstractPath) {
+        List<MazeField> path = new ArrayList<>();
+        path.add(toField(abstractPath[0]));
+
+        ClusterSearch search = new ClusterSearch();
+        for (int i = 1; i < abstractPath.length; i++) {
+            int origin = abstractPath[i - 1];
+            int destination = abstractPath[i];
+            if (origin == destination) {
+                continue;
+            }
+            if (toField(origin).bordersField(toField(destination))) {
+                path.add(toField(destination));
+                continue;
+            }
+            search.run(origin);
+            search.appendPathTo(destination, path);
+        }
+        return path;
+    }
+
+    /**
+     * Returns the distances from the last search's source to the entrances of the given cluster, indexed by node.
+     * All other nodes, as well as the entrances which haven't been reached, have the distance {@value UNREACHED}.
+     */
+    private int[] entranceDistances(ClusterSearch search, int cluster) {
+        int[] distances = new int[nodeCells.length];
+        Arrays.fill(distances, UNREACHED);
+        for (int i = clusterNodeStart[cluster]; i < clusterNodeStart[cluster + 1]; i++) {
+            distances[clusterNodes[i]] = search.distanceTo(nodeCells[clusterNodes[i]]);
+        }
+        return distances;
+    }
+
+    /**
+     * Walks along every border between two neighbouring clusters and stores one pair of entrance cells
+     * for every sequence of fields which are path fields on both sides of the border.
+     */
+    private void determineEntrances(IntArrayList entranceCells, IntArrayList pairedEntranceCells) {
+        // Vertical borders between horizontally neighbouring clusters
+        for (int x = clusterSize - 1; x + 1 < boardWidth; x += clusterSize) {
+            int sequenceStart = UNREACHED;
+            for (int y = 0; y <= boardHeight; y++) {
+                // A sequence must not reach across the border of two vertically neighbouring clusters
+                if (y < boardHeight && y % clusterSize == 0 && y != 0 && sequenceStart != UNREACHED) {
+                    addEntrance(entranceCells, pairedEntranceCells, sequenceStart, y - 1, x, true);
+                    sequenceStart = UNREACHED;
+                }
+                boolean open = y < boardHeight && mazeBoard[y][x] && mazeBoard[y][x + 1];
+                if (open && sequenceStart == UNREACHED) {
+                    sequenceStart = y;
+                } else if (!open && sequenceStart != UNREACHED) {
+                    addEntrance(entranceCells, pairedEntranceCells, sequenceStart, y - 1, x, true);
+                    sequenceStart = UNREACHED;
+                }
+            }
+        }
+
+        // Horizontal borders between vertically neighbouring clusters
+        for (int y = clusterSize - 1; y + 1 < boardHeight; y += clusterSize) {
+            int sequenceStart = UNREACHED;
+            for (int x = 0; x <= boardWidth; x++) {
+                // A sequence must not reach across the border of two horizontally neighbouring clusters
+                if (x < boardWidth && x % clusterSize == 0 && x != 0 && sequenceStart != UNREACHED) {
+                    addEntrance(entranceCells, pairedEntranceCells, sequenceStart, x - 1, y, false);
+                    sequenceStart = UNREACHED;
+                }
+                boolean open = x < boardWidth && mazeBoard[y][x] && mazeBoard[y + 1][x];
+                if (open && sequenceStart == UNREACHED) {
+                    sequenceStart = x;
+                } else if (!open && sequenceStart != UNREACHED) {
+                    addEntrance(entranceCells, pairedEntranceCells, sequenceStart, x - 1, y, false);
+                    sequenceStart = UNREACHED;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the entrance pair in the middle of the given sequence if the sequence exists.
+     *
+     * @param sequenceStart The first position of the sequence along the border or {@value UNREACHED}
+     * @param sequenceEnd The last position of the sequence along the border
+     * @param border The column (vertical border) or row (horizontal border) on the lower side of the border
+     * @param vertical {@code true} if the border is vertical, {@code false} if it's horizontal
+     */
+    private void addEntrance(
+            IntArrayList entranceCells, IntArrayList pairedEntranceCells,
+            int sequenceStart, int sequenceEnd, int border, boolean vertical
+    ) {
+        if (sequenceStart == UNREACHED) {
+            return;
+        }
+        int middle = (sequenceStart + sequenceEnd) >>> 1;
+        if (vertical) {
+            entranceCells.add(cellOf(border, middle));
+            pairedEntranceCells.add(cellOf(border + 1, middle));
+        } else {
+            entranceCells.add(cellOf(middle, border));
+            pairedEntranceCells.add(cellOf(middle, border + 1));
+        }
+    }
+
+    private static int[] uniqueSortedCells(IntArrayList first, IntArrayList second) {
+        int[] cells = new int[first.size() + second.size()];
+        for (int i = 0; i < first.size(); i++) {
+            cells[i] = first.get(i);
+            cells[first.size() + i] = second.get(i);
+        }
+        Arrays.sort(cells);
+
+        int uniqueCount = 0;
+        for (int i = 0; i < cells.length; i++) {
+            if (i == 0 || cells[i] != cells[i - 1]) {
+                cells[uniqueCount++] = cells[i];
+            }
+        }
+        return Arrays.copyOf(cells, uniqueCount);
+    }
+
+    private static void addEdge(
+            IntArrayList origins, IntArrayList destinations, IntArrayList costs, int origin, int destination, int cost
+    ) {
+        origins.add(origin);
+        destinations.add(destination);
+        costs.add(cost);
+    }
+
+    private static long queueEntry(int priority, int node) {
+        return ((long) priority << 32) | node;
+    }
+
+    private int heuristic(int cell, int targetCell) {
+        return Math.abs(cell % boardWidth - targetCell % boardWidth)
+                + Math.abs(cell / boardWidth - targetCell / boardWidth);
+    }
+
+    private int nodeOf(int cell) {
+        return Arrays.binarySearch(nodeCells, cell);
+    }
+
+    private int clusterOf(int cell) {
+        return (cell / boardWidth / clusterSize) * clustersPerRow + (cell % boardWidth) / clusterSize;
+    }
+
+    private int cellOf(int positionX, int positionY) {
+        return positionX + boardWidth * positionY;
+    }
+
+    private MazeField toField(int cell) {
+        return new MazeField(cell % boardWidth, cell / boardWidth);
+    }
+
+    /**
+     * A breadth first search which never leaves the cluster of its source cell. The scratch arrays
+     * are sized to a single cluster and reused for every run of the same instance.
+     */
+    private final class ClusterSearch {
+        private final int[] distances = new int[clusterSize * clusterSize];
+        private final int[] predecessors = new int[clusterSize * clusterSize];
+        private final int[] queue = new int[clusterSize * clusterSize];
+
+        private int minX;
+        private int minY;
+        private int maxX;
+        private int maxY;
+
+        void run(int sourceCell) {
+            int sourceX = sourceCell % boardWidth;
+            int sourceY = sourceCell / boardWidth;
+            minX = sourceX - sourceX % clusterSize;
+            minY = sourceY - sourceY % clusterSize;
+            maxX = Math.min(minX + clusterSize, boardWidth) - 1;
+            maxY = Math.min(minY + clusterSize, boardHeight) - 1;
+
+            Arrays.fill(distances, UNREACHED);
+            int head = 0;
+            int tail = 0;
+            int source = localIndex(sourceX, sourceY);
+            distances[source] = 0;
+            predecessors[source] = UNREACHED;
+            queue[tail++] = source;
+
+            while (head < tail) {
+                int current = queue[head++];
+                int x = minX + current % clusterSize;
+                int y = minY + current / clusterSize;
+
+                // Same neighbour order as the other strategies: top, right, bottom, left
+                tail = visit(x, y - 1, current, tail);
+                tail = visit(x + 1, y, current, tail);
+                tail = visit(x, y + 1, current, tail);
+                tail = visit(x - 1, y, current, tail);
+            }
+        }
+
+        private int visit(int x, int y, int origin, int tail) {
+            if (x < minX || x > maxX || y < minY || y > maxY || !mazeBoard[y][x]) {
+                return tail;
+            }
+            int local = localIndex(x, y);
+            if (distances[local] != UNREACHED) {
+                return tail;
+            }
+            distances[local] = distances[origin] + 1;
+            predecessors[local] = origin;
+            queue[tail] = local;
+            return tail + 1;
+        }
+
+        /**
+         * Returns the distance of the given cell to the last source or {@value UNREACHED}
+         * if the cell lies outside the cluster or hasn't been reached.
+         */
+        int distanceTo(int cell) {
+            int x = cell % boardWidth;
+            int y = cell / boardWidth;
+            if (x < minX || x > maxX || y < minY || y > maxY) {
+                return UNREACHED;
+            }
+            return distances[localIndex(x, y)];
+        }
+
+        /**
+         * Appends the fields of the path from the last source (exclusive) to the given cell (inclusive).
+         */
+        void appendPathTo(int cell, List<MazeField> path) {
+            Deque<MazeField> fields = new ArrayDeque<>();
+            for (int local = localIndex(cell % boardWidth, cell / boardWidth);
+                 predecessors[local] != UNREACHED; local = predecessors[local]) {
+                fields.push(new MazeField(minX + local % clusterSize, minY + local / clusterSize));
+            }
+            path.addAll(fields);
+        }
+
+        private int localIndex(int x, int y) {
+            return (y - minY) * clusterSize + (x - minX);
+        }
+    }
+}
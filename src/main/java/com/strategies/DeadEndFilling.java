@@ -0,0 +1,83 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+
+/**
+ * <p>
+ *     Dead-end filling walls in every path field which borders at most one other path field and is neither a
+ *     starting nor an ending field, repeating the process for the fields which become dead ends in turn.
+ * </p>
+ * A dead-end field cannot lie on any path between the starting and ending field which doesn't visit a field
+ * twice, so that every shortest path of the original maze remains in the filled maze. In a perfect maze
+ * only the solution path is left, whereas loops and open rooms are kept as they are. The filling is done
+ * in linear time using a work list of dead-end cells.
+ * <p>
+ *     Since any path of the filled maze is a path of the original maze, a strategy can traverse the filled
+ *     maze instead of the original one, which saves most of the exploration of branching mazes.
+ * </p>
+ */
+public final class DeadEndFilling {
+    private DeadEndFilling() {}
+
+    /**
+     * Returns a copy of the maze in which all dead ends have been filled with walls. The given maze is not changed.
+     *
+     * @param maze The maze whose dead ends are filled
+     * @return as described above
+     * @throws IllegalArgumentException If the maze is {@code null}
+     */
+    public static Maze fill(Maze maze) throws IllegalArgumentException {
+        if (maze == null) {
+            throw new IllegalArgumentException("A maze must be provided in order to fill its dead ends.");
+        }
+
+        boolean[][] mazeBoard = copyBoard(maze.getMazeBoard());
+        int width = maze.getMazeBoardWidth();
+        byte[] pathNeighbourCounts = new byte[MazeCells.cellCount(maze)];
+        // All starting and ending fields are kept, not only the first ones
+        boolean[] keptCells = new boolean[pathNeighbourCounts.length];
+        for (MazeField field : maze.getStartingFields()) {
+            keptCells[MazeCells.cellOf(maze, field)] = true;
+        }
+        for (MazeField field : maze.getEndingFields()) {
+            keptCells[MazeCells.cellOf(maze, field)] = true;
+        }
+        IntArrayList deadEnds = new IntArrayList();
+        for (int cell = 0; cell < pathNeighbourCounts.length; cell++) {
+            if (!MazeCells.isPath(mazeBoard, width, cell)) {
+                continue;
+            }
+            for (int side = 0; side < MazeCells.SIDES; side++) {
+                if (MazeCells.neighbour(mazeBoard, width, cell, side) != MazeCells.NONE) {
+                    pathNeighbourCounts[cell]++;
+                }
+            }
+            if (pathNeighbourCounts[cell] <= 1 && !keptCells[cell]) {
+                deadEnds.add(cell);
+            }
+        }
+
+        // The work list only grows by cells which have just become dead ends, so every cell is added at most once
+        for (int i = 0; i < deadEnds.size(); i++) {
+            int cell = deadEnds.get(i);
+            for (int side = 0; side < MazeCells.SIDES; side++) {
+                int neighbour = MazeCells.neighbour(mazeBoard, width, cell, side);
+                if (neighbour != MazeCells.NONE && --pathNeighbourCounts[neighbour] == 1 && !keptCells[neighbour]) {
+                    deadEnds.add(neighbour);
+                }
+            }
+            mazeBoard[cell / width][cell % width] = false;
+        }
+
+        return new Maze(mazeBoard, maze.getStartingFields(), maze.getEndingFields(), maze.getDescription());
+    }
+
+    private static boolean[][] copyBoard(boolean[][] mazeBoard) {
+        boolean[][] copy = new boolean[mazeBoard.length][];
+        for (int y = 0; y < mazeBoard.length; y++) {
+            copy[y] = mazeBoard[y].clone();
+        }
+        return copy;
+    }
+}
@@ -3,8 +3,6 @@ package com.strategies;
 import com.mazedata.Maze;
 import com.mazedata.MazeField;
 
-import java.util.*;
-
 /**
  * <p>
  *     The depth first search (DFS) maze traversal strategy works by exploring one path for as long
@@ -25,8 +23,8 @@ public class DepthFirstSearch extends GuaranteedMazeTraverser {
      *     If a dead end is reached the maze follower backtracks to the last field which borders
      *     a not yet explored path and moves along it.
      * </p>
-     * The process is repeated until the ending field is reached,
-     * or strategy determines that the maze is not traversable.
+     * The process is repeated until an ending field is reached, or strategy determines that the maze is not
+     * traversable. If the maze has several starting fields, they are tried one after another.
      * <p>
      *     The strategy <u><i>is guaranteed</i></u> to find a path which traverses the maze if one exists,
      *     meaning that the strategy can generally be used to determine if a maze is traversable.
@@ -41,27 +39,129 @@ public class DepthFirstSearch extends GuaranteedMazeTraverser {
      */
     @Override
     public boolean[][] traverseMaze(Maze maze) throws MazeNotTraversableException {
-        boolean[][] mazeBoard = maze.getMazeBoard();
+        return traverseMaze(maze, TraversalContext.unbounded());
+    }
 
-        MazeField currentField = maze.getStartingField();
-        MazeField endingField = maze.getEndingField();
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The context is checked once per step, regardless of moving forward or backtracking.
+     * </p>
+     *
+     * @param maze {@inheritDoc}
+     * @param context {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws MazeNotTraversableException {@inheritDoc}
+     * @throws MazeTraversalTimeoutException {@inheritDoc}
+     */
+    @Override
+    public boolean[][] traverseMaze(Maze maze, TraversalContext context)
+            throws MazeNotTraversableException, MazeTraversalTimeoutException {
+        return MazeTraversalEvent.record(this, maze, context, () -> traverse(maze, context));
+    }
 
-        Set<MazeField> passedFields = new HashSet<>(Collections.singleton(currentField));
-        List<MazeField> finalPathFields = new ArrayList<>(Collections.singleton(currentField));
+    /**
+     * <p>
+     *     Traverses the maze like {@link #traverseMaze(Maze, TraversalContext)}, but keeps the whole search state
+     *     in the given workspace, so that repeated searches with the same workspace don't allocate.
+     * </p>
+     * The returned board belongs to the workspace and is overwritten by its next search. The cells of the path
+     * can also be read from {@link SearchWorkspace#getPathCell(int)} without looking at the board.
+     *
+     * @param maze The maze to be traversed
+     * @param context The context which decides whether the traversal has to be stopped
+     * @param workspace The workspace which holds the search state and the returned board
+     * @return The traversed board of the workspace
+     * @throws MazeNotTraversableException If the maze is not traversable
+     * @throws MazeTraversalTimeoutException If the traversal has been stopped by the context
+     * @throws IllegalArgumentException If the workspace is {@code null}
+     */
+    public boolean[][] traverseMaze(Maze maze, TraversalContext context, SearchWorkspace workspace)
+            throws MazeNotTraversableException, MazeTraversalTimeoutException, IllegalArgumentException {
+        if (workspace == null) {
+            throw new IllegalArgumentException("A workspace must be provided in order to hold the search state.");
+        }
+        return MazeTraversalEvent.record(this, maze, context, () -> {
+            search(maze, context, workspace);
+            return workspace.reusedTraversedBoard(maze.getMazeBoardHeight(), maze.getMazeBoardWidth());
+        });
+    }
+
+    private boolean[][] traverse(Maze maze, TraversalContext context) {
+        try (SearchWorkspace workspace = SearchWorkspace.acquire()) {
+            search(maze, context, workspace);
+            return workspace.newTraversedBoard(maze.getMazeBoardHeight(), maze.getMazeBoardWidth());
+        }
+    }
 
-        while (!currentField.equals(endingField)) {
-            MazeField nextField = determineNextField(mazeBoard, currentField, passedFields);
-            if (nextField != null) {
-                passedFields.add(nextField);
-                finalPathFields.add(nextField);
-                currentField = nextField;
+    /**
+     * Moves along the not yet passed fields and backtracks at dead ends. The path of the workspace serves as
+     * stack of the fields crossed so far, so that it holds the final path once an ending field has been reached.
+     * <p>
+     *     All ending fields are marked as targets and the starting fields are tried one after another. Fields
+     *     passed while searching from a previous starting field are not entered again, since none of them leads
+     *     to an ending field, so that every field is still passed at most once.
+     * </p>
+     */
+    private void search(Maze maze, TraversalContext context, SearchWorkspace workspace) {
+        workspace.prepare(MazeCells.cellCount(maze));
+        for (MazeField endingField : maze.getEndingFields()) {
+            workspace.markTarget(MazeCells.cellOf(maze, endingField));
+        }
+
+        for (MazeField startingField : maze.getStartingFields()) {
+            int startingCell = MazeCells.cellOf(maze, startingField);
+            if (!workspace.isVisited(startingCell) && searchFrom(startingCell, maze, context, workspace)) {
+                return;
+            }
+        }
+
+        throw new MazeNotTraversableException(
+                "depth first search",
+                maze,
+                String.format(
+                        "Starting from %s, all possible options have been analyzed "
+                                + "and none leads to the ending field (%s).",
+                        MazeCells.describeFields(maze.getStartingFields()),
+                        MazeCells.describeFields(maze.getEndingFields())
+                )
+        );
+    }
+
+    /**
+     * Searches from a single starting cell and returns {@code true} once a target has been reached,
+     * or {@code false} with an empty path if all fields reachable from the starting cell have been passed.
+     */
+    private boolean searchFrom(int startingCell, Maze maze, TraversalContext context, SearchWorkspace workspace) {
+        boolean[][] mazeBoard = maze.getMazeBoard();
+        int width = maze.getMazeBoardWidth();
+        int currentCell = startingCell;
+
+        IntArrayList finalPathCells = workspace.path();
+        workspace.visit(currentCell, MazeCells.NONE);
+        finalPathCells.add(currentCell);
+        TraversalStatistics statistics = context.getStatistics();
+        statistics.recordEnqueue(finalPathCells.size());
+
+        while (!workspace.isTarget(currentCell)) {
+            context.checkpoint();
+            int nextCell = determineNextCell(mazeBoard, width, currentCell, workspace);
+            if (nextCell != MazeCells.NONE) {
+                workspace.visit(nextCell, currentCell);
+                finalPathCells.add(nextCell);
+                statistics.recordEnqueue(finalPathCells.size());
+                currentCell = nextCell;
                 continue;
             }
             // If a dead end has been reached, move to the previous field and repeat the process
-            currentField = determinePreviousField(finalPathFields, maze);
+            finalPathCells.removeLast();
+            if (finalPathCells.isEmpty()) {
+                return false;
+            }
+            currentCell = finalPathCells.get(finalPathCells.size() - 1);
+            statistics.recordBacktrack();
         }
-
-        return pathFieldsToTraversedBoard(finalPathFields, mazeBoard.length, mazeBoard[0].length);
+        return true;
     }
 
     /**
@@ -69,48 +169,20 @@ public class DepthFirstSearch extends GuaranteedMazeTraverser {
      * starting from the top and going in a clockwise direction.
      *
      * @param mazeBoard The maze board of the maze to be traversed
-     * @param currentField The field a maze follower is currently at
-     * @param passedFields A list containing the already passed fields
-     * @return The next field to be traversed or {@code null} if a dead end has been reached
+     * @param width The width of the maze board
+     * @param currentCell The cell a maze follower is currently at
+     * @param workspace The workspace which knows the already passed cells
+     * @return The next cell to be traversed or {@link MazeCells#NONE} if a dead end has been reached
      */
-    private MazeField determineNextField(
-            boolean[][] mazeBoard, MazeField currentField, Set<MazeField> passedFields
-    ) {
+    private int determineNextCell(boolean[][] mazeBoard, int width, int currentCell, SearchWorkspace workspace) {
         // Starting side and direction is arbitrary
-        MazeField[] borderingFields = currentField.determineBorderingFields(mazeBoard.length, mazeBoard[0].length);
-        for (MazeField field : borderingFields) {
+        for (int side = 0; side < MazeCells.SIDES; side++) {
+            int neighbour = MazeCells.neighbour(mazeBoard, width, currentCell, side);
             // Choose next not yet passed field
-            if (field != null  && mazeBoard[field.positionY()][field.positionX()]
-                    && !passedFields.contains(field)) {
-                return field;
+            if (neighbour != MazeCells.NONE && !workspace.isVisited(neighbour)) {
+                return neighbour;
             }
         }
-        return null;
-    }
-
-    /**
-     * Tries to go back by one field and returns it in order to continue the maze traversal process from
-     * that field on. This method is to be used after no further advancement in the maze board is possible.
-     *
-     * @param pathFields A list containing the fields crossed to reach the exit so far
-     * @param maze The maze to be traversed
-     * @return as described above
-     * @throws MazeNotTraversableException If {@code traversalFields.size() == 1} meaning
-     *                                     that the list only contains the starting field.
-     */
-    private MazeField determinePreviousField(List<MazeField> pathFields, Maze maze) {
-        pathFields.removeLast();
-        if (pathFields.isEmpty()) {
-            throw new MazeNotTraversableException(
-                    "depth first search",
-                    maze,
-                    String.format(
-                            "Starting from %s, all possible options have been analyzed "
-                                    + "and none leads to the ending field (%s).",
-                            maze.getStartingField(), maze.getEndingField()
-                    )
-            );
-        }
-        return pathFields.getLast();
+        return MazeCells.NONE;
     }
 }
@@ -0,0 +1,308 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ *     The class {@code DistanceField} contains the distance of every field of a maze board to a single source field,
+ *     or to the nearest of several source fields, optionally together with the predecessor tree of the breadth first
+ *     search which computed them.
+ * </p>
+ * The distances and predecessors are stored as primitive arrays indexed by
+ * {@link MazeField#calculateSequenceInBoard(int)}. Unreachable fields and walls have the distance
+ * {@value #UNREACHABLE}, the source fields have the distance {@code 0}.
+ * <p>
+ *     Once computed, any number of distance or path queries from the source can be answered without another search.
+ * </p>
+ */
+public final class DistanceField {
+    /**
+     * The distance of fields which cannot be reached from the source field.
+     */
+    public static final int UNREACHABLE = MazeCells.NONE;
+
+    /**
+     * Frontiers smaller than this are expanded sequentially by {@link #computeParallel(Maze, MazeField, boolean)}
+     * since splitting them is more expensive than expanding them.
+     */
+    private static final int PARALLEL_FRONTIER_THRESHOLD = 4096;
+
+    private static final VarHandle DISTANCES = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final List<MazeField> sources;
+    private final int boardWidth;
+    private final int[] distances;
+    private final int[] predecessors;
+
+    private DistanceField(List<MazeField> sources, int boardWidth, int[] distances, int[] predecessors) {
+        this.sources = sources;
+        this.boardWidth = boardWidth;
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    /**
+     * Computes the distances and predecessors of all fields to the nearest of the maze's starting fields.
+     *
+     * @see #compute(Maze, List, boolean)
+     */
+    public static DistanceField compute(Maze maze) {
+        return compute(maze, maze.getStartingFields(), true);
+    }
+
+    /**
+     * Computes the distances of all fields to the given source field using a single breadth first search.
+     *
+     * @param maze The maze whose board is searched
+     * @param source A path field of the maze board
+     * @param withPredecessors If {@code true} the predecessor tree is stored as well, which is needed for
+     *                         {@link #pathTo(MazeField)}
+     * @return as described above
+     * @throws IllegalArgumentException If the maze is {@code null} or the source lies outside the board
+     */
+    public static DistanceField compute(Maze maze, MazeField source, boolean withPredecessors) {
+        validate(maze, source);
+        return compute(maze, List.of(source), withPredecessors);
+    }
+
+    /**
+     * <p>
+     *     Computes the distances of all fields to the nearest of the given source fields using a single breadth first
+     *     search, which starts from all sources at once, e.g. from all starting fields of a maze.
+     * </p>
+     * Following the predecessors of a field leads to its nearest source. Sources which are walls are ignored.
+     *
+     * @param maze The maze whose board is searched
+     * @param sources A non-empty list of fields of the maze board
+     * @param withPredecessors If {@code true} the predecessor tree is stored as well, which is needed for
+     *                         {@link #pathTo(MazeField)}
+     * @return as described above
+     * @throws IllegalArgumentException If the maze is {@code null}, the list is empty or one of the sources lies
+     *                                  outside the board
+     */
+    public static DistanceField compute(Maze maze, List<MazeField> sources, boolean withPredecessors) {
+        if (sources == null || sources.isEmpty()) {
+            throw new IllegalArgumentException("A distance field needs at least one source field.");
+        }
+        sources.forEach(source -> validate(maze, source));
+
+        boolean[][] mazeBoard = maze.getMazeBoard();
+        int width = maze.getMazeBoardWidth();
+        int[] distances = unreachedDistances(maze);
+        int[] predecessors = withPredecessors ? new int[distances.length] : null;
+
+        int[] queue = new int[distances.length];
+        int head = 0;
+        int tail = 0;
+        for (MazeField source : sources) {
+            int sourceCell = MazeCells.cellOf(maze, source);
+            if (MazeCells.isPath(mazeBoard, width, sourceCell) && distances[sourceCell] == UNREACHABLE) {
+                distances[sourceCell] = 0;
+                setPredecessor(predecessors, sourceCell, MazeCells.NONE);
+                queue[tail++] = sourceCell;
+            }
+        }
+
+        while (head < tail) {
+            int current = queue[head++];
+            for (int side = 0; side < MazeCells.SIDES; side++) {
+                int neighbour = MazeCells.neighbour(mazeBoard, width, current, side);
+                if (neighbour != MazeCells.NONE && distances[neighbour] == UNREACHABLE) {
+                    distances[neighbour] = distances[current] + 1;
+                    setPredecessor(predecessors, neighbour, current);
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+        return new DistanceField(List.copyOf(sources), width, distances, predecessors);
+    }
+
+    /**
+     * <p>
+     *     Computes the same distances as {@link #compute(Maze, MazeField, boolean)}, but expands large frontiers of
+     *     the breadth first search in parallel using the common fork join pool. Fields are claimed with an atomic
+     *     compare-and-set on their distance, so that every field is expanded exactly once.
+     * </p>
+     * The distances are identical to the sequential ones. If a field can be reached by several shortest paths
+     * however, its stored predecessor may differ from the one chosen by the sequential search.
+     *
+     * @see #compute(Maze, MazeField, boolean)
+     */
+    public static DistanceField computeParallel(Maze maze, MazeField source, boolean withPredecessors) {
+        validate(maze, source);
+
+        boolean[][] mazeBoard = maze.getMazeBoard();
+        int width = maze.getMazeBoardWidth();
+        int[] distances = unreachedDistances(maze);
+        int[] predecessors = withPredecessors ? new int[distances.length] : null;
+
+        int sourceCell = MazeCells.cellOf(maze, source);
+        if (!MazeCells.isPath(mazeBoard, width, sourceCell)) {
+            return new DistanceField(List.of(source), width, distances, predecessors);
+        }
+        distances[sourceCell] = 0;
+        setPredecessor(predecessors, sourceCell, MazeCells.NONE);
+
+        int[] frontier = { sourceCell };
+        for (int level = 1; frontier.length > 0; level++) {
+            final int[] currentFrontier = frontier;
+            final int currentLevel = level;
+            int chunkCount = Math.max(1, currentFrontier.length / PARALLEL_FRONTIER_THRESHOLD);
+            int chunkSize = (currentFrontier.length + chunkCount - 1) / chunkCount;
+
+            IntStream chunks = IntStream.range(0, chunkCount);
+            int[][] nextFrontiers = (chunkCount > 1 ? chunks.parallel() : chunks)
+                    .mapToObj(chunk -> {
+                        IntArrayList nextFrontier = new IntArrayList();
+                        int end = Math.min(currentFrontier.length, (chunk + 1) * chunkSize);
+                        for (int i = chunk * chunkSize; i < end; i++) {
+                            int current = currentFrontier[i];
+                            for (int side = 0; side < MazeCells.SIDES; side++) {
+                                int neighbour = MazeCells.neighbour(mazeBoard, width, current, side);
+                                if (neighbour != MazeCells.NONE
+                                        && (int) DISTANCES.getOpaque(distances, neighbour) == UNREACHABLE
+                                        && DISTANCES.compareAndSet(distances, neighbour, UNREACHABLE, currentLevel)) {
+                                    setPredecessor(predecessors, neighbour, current);
+                                    nextFrontier.add(neighbour);
+                                }
+                            }
+                        }
+                        return nextFrontier.toArray();
+                    })
+                    .toArray(int[][]::new);
+            frontier = concat(nextFrontiers);
+        }
+        return new DistanceField(List.of(source), width, distances, predecessors);
+    }
+
+    // Getters
+    public MazeField getSource() { return sources.getFirst(); }
+    public List<MazeField> getSources() { return sources; }
+    public boolean hasPredecessors() { return predecessors != null; }
+
+    /**
+     * Returns the distances of all fields indexed by {@link MazeField#calculateSequenceInBoard(int)}.
+     * The array is not copied and must not be modified.
+     */
+    public int[] getDistances() { return distances; }
+
+    /**
+     * Returns the predecessor cell of all fields indexed by {@link MazeField#calculateSequenceInBoard(int)}
+     * or {@code null} if the predecessors have not been computed. The source and unreachable fields have the
+     * predecessor {@value #UNREACHABLE}. The array is not copied and must not be modified.
+     */
+    public int[] getPredecessors() { return predecessors; }
+
+    /**
+     * Returns the number of steps from the nearest source to the given field or {@value #UNREACHABLE}
+     * if it cannot be reached.
+     */
+    public int getDistance(MazeField field) {
+        return distances[field.calculateSequenceInBoard(boardWidth)];
+    }
+
+    public boolean isReachable(MazeField field) {
+        return getDistance(field) != UNREACHABLE;
+    }
+
+    /**
+     * Returns {@code true} if at least one of the given fields can be reached, e.g. one of several ending fields.
+     */
+    public boolean isAnyReachable(List<MazeField> fields) {
+        return fields.stream().anyMatch(this::isReachable);
+    }
+
+    /**
+     * Returns the number of fields which can be reached from the sources, including the sources themselves.
+     */
+    public int getReachableFieldCount() {
+        int count = 0;
+        for (int distance : distances) {
+            if (distance != UNREACHABLE) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns a field with the largest distance to the source, which is the source itself if it is
+     * enclosed by walls or {@code null} if the source is a wall.
+     */
+    public MazeField getFarthestField() {
+        int farthestCell = MazeCells.NONE;
+        for (int cell = 0; cell < distances.length; cell++) {
+            if (distances[cell] != UNREACHABLE
+                    && (farthestCell == MazeCells.NONE || distances[cell] > distances[farthestCell])) {
+                farthestCell = cell;
+            }
+        }
+        return farthestCell == MazeCells.NONE ? null : MazeCells.fieldOf(boardWidth, farthestCell);
+    }
+
+    /**
+     * Returns the shortest path from the source to the given field by following the predecessor tree.
+     *
+     * @param field The field the path leads to
+     * @return The fields of the path including the source and the given field in traversal
+     *         order or {@code null} if the field cannot be reached
+     * @throws IllegalStateException If the predecessors have not been computed
+     */
+    public List<MazeField> pathTo(MazeField field) throws IllegalStateException {
+        if (predecessors == null) {
+            throw new IllegalStateException("The path cannot be determined since no predecessors have been computed.");
+        }
+        if (!isReachable(field)) {
+            return null;
+        }
+
+        List<MazeField> path = new ArrayList<>(getDistance(field) + 1);
+        for (int cell = field.calculateSequenceInBoard(boardWidth); cell != MazeCells.NONE; cell = predecessors[cell]) {
+            path.add(MazeCells.fieldOf(boardWidth, cell));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static void validate(Maze maze, MazeField source) {
+        if (maze == null || !MazeCells.liesWithinBoard(maze, source)) {
+            throw new IllegalArgumentException(String.format(
+                    "A distance field can only be computed for a non-null maze and a source within its board. "
+                            + "Source: %s", source
+            ));
+        }
+    }
+
+    private static int[] unreachedDistances(Maze maze) {
+        int[] distances = new int[MazeCells.cellCount(maze)];
+        Arrays.fill(distances, UNREACHABLE);
+        return distances;
+    }
+
+    private static void setPredecessor(int[] predecessors, int cell, int predecessor) {
+        if (predecessors != null) {
+            predecessors[cell] = predecessor;
+        }
+    }
+
+    private static int[] concat(int[][] arrays) {
+        if (arrays.length == 1) {
+            return arrays[0];
+        }
+
+        int[] result = new int[Arrays.stream(arrays).mapToInt(array -> array.length).sum()];
+        int position = 0;
+        for (int[] array : arrays) {
+            System.arraycopy(array, 0, result, position, array.length);
+            position += array.length;
+        }
+        return result;
+    }
+}
@@ -10,8 +10,12 @@ import java.util.List;
  *     A class which extends the abstract class {@code GuaranteedMazeTraverser} and
  *     is guaranteed to find a traversal path for a maze if one exists.
  * </p>
- *
- * This abstract class provides a method to convert a list of traversed {@link MazeField}s into a traversed board.
+ * If a maze has several {@link Maze#getStartingFields() starting} or {@link Maze#getEndingFields() ending} fields,
+ * a path from any starting to any ending field has to be found, since other strategies, e.g. the
+ * {@link PortfolioStrategy}, rely on a failure meaning that the maze cannot be traversed at all.
+ * <p>
+ *     This abstract class provides a method to convert a list of traversed {@link MazeField}s into a traversed board.
+ * </p>
  */
 public abstract class GuaranteedMazeTraverser implements MazeTraversalStrategy {
     /**
@@ -3,6 +3,7 @@ package com.strategies;
 import com.mazedata.Maze;
 import com.mazedata.MazeField;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 /**
@@ -88,10 +89,50 @@ public class HandOnWall implements MazeTraversalStrategy {
      */
     @Override
     public boolean[][] traverseMaze(Maze maze) {
+        return traverseMaze(maze, TraversalContext.unbounded());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The context is checked once per step of the maze follower.
+     * </p>
+     *
+     * @param maze {@inheritDoc}
+     * @param context {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws MazeNotTraversableException {@inheritDoc}
+     * @throws MazeTraversalTimeoutException {@inheritDoc}
+     */
+    @Override
+    public boolean[][] traverseMaze(Maze maze, TraversalContext context) {
+        return MazeTraversalEvent.record(this, maze, context, () -> traverse(maze, context));
+    }
+
+    /**
+     * Follows the wall from every starting field in turn until one of the ending fields is reached. If the
+     * maze follower is trapped from every starting field, the failure of the last one is thrown.
+     */
+    private boolean[][] traverse(Maze maze, TraversalContext context) {
+        // Sorted once, so that checking for an ending field is a binary search on every step
+        int[] endingCells = MazeCells.cellsOf(maze, maze.getEndingFields());
+        Arrays.sort(endingCells);
+
+        MazeNotTraversableException lastFailure = null;
+        for (MazeField startingField : maze.getStartingFields()) {
+            try {
+                return traverseFrom(maze, startingField, endingCells, context);
+            } catch (MazeNotTraversableException e) {
+                lastFailure = e;
+            }
+        }
+        throw lastFailure;
+    }
+
+    private boolean[][] traverseFrom(Maze maze, MazeField startingField, int[] endingCells, TraversalContext context) {
         boolean[][] mazeBoard = maze.getMazeBoard();
 
-        MazeField currentField = maze.getStartingField();
-        MazeField endingField = maze.getEndingField();
+        MazeField currentField = startingField;
 
         // Initially only filled with one true value at the starting field since no path has been crossed
         boolean[][] traversedMazeBoard = new boolean[mazeBoard.length][mazeBoard[0].length];
@@ -99,17 +140,29 @@ public class HandOnWall implements MazeTraversalStrategy {
 
         MazeField.BorderingFieldSide nextFieldFirstSide = determineStartingSide(mazeBoard, currentField);
         int startingFieldReachedAmount = 0;
+        TraversalStatistics statistics = context.getStatistics();
+        MazeField.BorderingFieldSide previousMovingSide = null;
 
-        while (!currentField.equals(endingField)) {
+        while (Arrays.binarySearch(endingCells, MazeCells.cellOf(maze, currentField)) < 0) {
+            context.checkpoint();
+            if (startingFieldReachedAmount > 0 && currentField.equals(startingField)) {
+                statistics.recordLap();
+            }
             startingFieldReachedAmount = increaseStartingFieldReachedAmount(
-                    maze, currentField, startingFieldReachedAmount
+                    maze, startingField, currentField, startingFieldReachedAmount
             );
             MazeField nextField = determineNextField(
-                    currentField, nextFieldFirstSide, mazeBoard, traversedMazeBoard, maze
+                    currentField, nextFieldFirstSide, mazeBoard, traversedMazeBoard, maze, startingField
             );
 
+            MazeField.BorderingFieldSide movingSide = currentField.borderingFieldSide(nextField);
+            if (previousMovingSide != null && movingSide != previousMovingSide) {
+                statistics.recordTurn();
+            }
+            previousMovingSide = movingSide;
+
             // Determine next side which lies relatively on the right
-            nextFieldFirstSide = currentField.borderingFieldSide(nextField).next(direction.inverse());
+            nextFieldFirstSide = movingSide.next(direction.inverse());
             currentField = nextField;
         }
 
@@ -146,14 +199,17 @@ public class HandOnWall implements MazeTraversalStrategy {
      * number of times the starting field has been reached is increased by one.
      *
      * @param maze The maze to be traversed
+     * @param startingField The starting field the maze follower has started from
      * @param currentField A field the maze follower is at in the maze traversal process
      * @param startingFieldReachedAmount Number of times the starting point has been reached so far
      * @return as described above
      * @throws MazeNotTraversableException as described above
      */
-    private int increaseStartingFieldReachedAmount(Maze maze, MazeField currentField, int startingFieldReachedAmount) {
+    private int increaseStartingFieldReachedAmount(
+            Maze maze, MazeField startingField, MazeField currentField, int startingFieldReachedAmount
+    ) {
         int amount = startingFieldReachedAmount;
-        if (currentField.equals(maze.getStartingField())) {
+        if (currentField.equals(startingField)) {
             amount++;
             if (amount >= MAX_STARTING_FIELD_REACHED_AMOUNT) {
                 throw new MazeNotTraversableException(
@@ -178,13 +234,14 @@ public class HandOnWall implements MazeTraversalStrategy {
      * @param firstSide The side at which the first bordering field lies
      * @param traversedMazeBoard The current state of the traversed maze board
      * @param maze The maze to be traversed
+     * @param startingField The starting field the maze follower has started from
      *
      * @return as described above
      * @throws MazeNotTraversableException If none of the bordering fields can be selected as the next field
      */
     private MazeField determineNextField(
             MazeField currentField, MazeField.BorderingFieldSide firstSide,
-            boolean[][] mazeBoard, boolean[][] traversedMazeBoard, Maze maze
+            boolean[][] mazeBoard, boolean[][] traversedMazeBoard, Maze maze, MazeField startingField
     ) {
         MazeField[] borderingFields = currentField.determineBorderingFields(
                 mazeBoard.length, mazeBoard[0].length, direction, firstSide
@@ -205,7 +262,7 @@ public class HandOnWall implements MazeTraversalStrategy {
                         "The current field (%s) is only surrounded by null fields or walls so that moving further "
                                 + "is not possible. This error is expected if the current field is the starting "
                                 + "field (%s). If not, the strategy doesn't work properly and needs to be inspected.",
-                        currentField, maze.getStartingField()
+                        currentField, startingField
                 )
         );
     }
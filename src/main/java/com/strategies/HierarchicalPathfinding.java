@@ -0,0 +1,208 @@
+package com.strategies;
+
+import com.mazedata.EditableMaze;
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * <p>
+ *     The hierarchical pathfinding (HPA*) maze traversal strategy divides the maze board into square clusters
+ *     and searches a small abstract graph of cluster entrances instead of the board itself. Only afterwards the
+ *     abstract path is refined into board fields by searching inside single clusters.
+ * </p>
+ * Building the {@link ClusterAbstraction} of a maze is a one-time cost which is cached per maze, so that
+ * further traversals of the same maze, e.g. with other starting and ending fields using
+ * {@link #findPath(Maze, MazeField, MazeField)}, only pay for the abstract search and the refinement.
+ * <p>
+ *     This maze traversal strategy is guaranteed to find a traversal path if one exists,
+ *     but the path is not guaranteed to be the shortest one.
+ * </p>
+ *
+ * @see GuaranteedMazeTraverser
+ */
+public class HierarchicalPathfinding extends GuaranteedMazeTraverser {
+    /**
+     * The default width and height of a cluster.
+     */
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    private final int clusterSize;
+
+    /**
+     * The abstractions of the already traversed mazes. The mazes are weakly referenced
+     * so that the abstraction of a maze is discarded together with the maze itself.
+     * The map is only locked to look up or insert an entry, never while an abstraction is built.
+     */
+    private final Map<Maze, CachedAbstraction> abstractions = new WeakHashMap<>();
+
+    /**
+     * An abstraction, which may still be being built by another thread, along with the modification count of the
+     * maze at the time it has been requested, which is always {@code 0} for mazes which are not an
+     * {@link EditableMaze}.
+     */
+    private record CachedAbstraction(CompletableFuture<ClusterAbstraction> abstraction, long modificationCount) {}
+
+    public HierarchicalPathfinding() {
+        this(DEFAULT_CLUSTER_SIZE);
+    }
+
+    /**
+     * @param clusterSize The width and height of a cluster, at least {@code 2}
+     * @throws IllegalArgumentException If the cluster size is smaller than {@code 2}
+     */
+    public HierarchicalPathfinding(int clusterSize) throws IllegalArgumentException {
+        if (clusterSize < 2) {
+            throw new IllegalArgumentException(String.format(
+                    "The cluster size must be at least 2. Provided cluster size: %d", clusterSize
+            ));
+        }
+        this.clusterSize = clusterSize;
+    }
+
+    public int getClusterSize() { return clusterSize; }
+
+    /**
+     * <p>
+     *     This method implements the HPA* maze traversal strategy by searching the cached abstraction of the maze
+     *     for a sequence of cluster entrances which connects a starting and an ending field and then
+     *     replacing every step between two entrances with the fields inside the respective cluster.
+     * </p>
+     * The strategy <u><i>is guaranteed</i></u> to find a path which traverses the maze if one exists.
+     * However, it <u><i>is not guaranteed</i></u> to find the shortest path.
+     *
+     * @param maze {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws MazeNotTraversableException {@inheritDoc}
+     */
+    @Override
+    public boolean[][] traverseMaze(Maze maze) throws MazeNotTraversableException {
+        return traverseMaze(maze, TraversalContext.unbounded());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The context is checked before the abstraction is looked up and once per expanded node
+     *     of the abstract graph.
+     * </p>
+     *
+     * @param maze {@inheritDoc}
+     * @param context {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws MazeNotTraversableException {@inheritDoc}
+     * @throws MazeTraversalTimeoutException {@inheritDoc}
+     */
+    @Override
+    public boolean[][] traverseMaze(Maze maze, TraversalContext context)
+            throws MazeNotTraversableException, MazeTraversalTimeoutException {
+        return MazeTraversalEvent.record(this, maze, context, () -> {
+            context.check();
+            List<MazeField> path = findPath(maze, maze.getStartingFields(), maze.getEndingFields(), context);
+            return pathFieldsToTraversedBoard(path, maze.getMazeBoardHeight(), maze.getMazeBoardWidth());
+        });
+    }
+
+    /**
+     * Searches a path between two arbitrary fields of the maze board using the cached abstraction of the maze.
+     *
+     * @param maze The maze whose board is searched
+     * @param from The field the path starts at
+     * @param to The field the path ends at
+     * @return The fields of the path including both passed fields in traversal order
+     * @throws MazeNotTraversableException If the field {@code to} cannot be reached from the field {@code from}
+     * @throws IllegalArgumentException If one of the fields is {@code null} or lies outside the maze board
+     */
+    public List<MazeField> findPath(Maze maze, MazeField from, MazeField to) throws MazeNotTraversableException {
+        // Unlike List.of, a singleton list keeps a null field, which the abstraction rejects as documented
+        return findPath(maze, Collections.singletonList(from), Collections.singletonList(to));
+    }
+
+    /**
+     * Searches a path from any of the fields {@code from} to any of the fields {@code to}, e.g. between several
+     * starting and ending fields, by searching the pairs of fields in turn until a path has been found. All
+     * searches use the same cached abstraction of the maze.
+     *
+     * @param maze The maze whose board is searched
+     * @param from The fields the path may start at
+     * @param to The fields the path may end at
+     * @return The fields of the first found path including its first and last field in traversal order
+     * @throws MazeNotTraversableException If none of the fields {@code to} can be reached from any field {@code from}
+     * @throws IllegalArgumentException If one of the fields is {@code null} or lies outside the maze board
+     */
+    public List<MazeField> findPath(Maze maze, List<MazeField> from, List<MazeField> to)
+            throws MazeNotTraversableException {
+        return findPath(maze, from, to, TraversalContext.unbounded());
+    }
+
+    private List<MazeField> findPath(Maze maze, List<MazeField> from, List<MazeField> to, TraversalContext context) {
+        ClusterAbstraction abstraction = getAbstraction(maze);
+        for (MazeField fromField : from) {
+            for (MazeField toField : to) {
+                List<MazeField> path = abstraction.findPath(fromField, toField, context);
+                if (path != null) {
+                    return path;
+                }
+            }
+        }
+        throw new MazeNotTraversableException(
+                "hierarchical pathfinding",
+                maze,
+                String.format(
+                        "Starting from %s, no sequence of cluster entrances leads to the ending field (%s).",
+                        MazeCells.describeFields(from), MazeCells.describeFields(to)
+                )
+        );
+    }
+
+    /**
+     * <p>
+     *     Returns the cached abstraction of the given maze and builds it if the maze is traversed for the first time
+     *     or, in case of an {@link EditableMaze}, if the maze has been edited since the abstraction has been built.
+     * </p>
+     * The abstraction is built outside the lock of the cache, so that traversals of other mazes aren't blocked.
+     * Threads requesting the abstraction of the same maze while it is being built wait for it instead of
+     * building it again.
+     *
+     * @param maze A non-null maze
+     * @return as described above
+     */
+    public ClusterAbstraction getAbstraction(Maze maze) {
+        long modificationCount = maze instanceof EditableMaze editableMaze ? editableMaze.getModificationCount() : 0;
+        CachedAbstraction cached;
+        boolean building = false;
+        synchronized (abstractions) {
+            cached = abstractions.get(maze);
+            if (cached == null || cached.modificationCount() != modificationCount) {
+                cached = new CachedAbstraction(new CompletableFuture<>(), modificationCount);
+                abstractions.put(maze, cached);
+                building = true;
+            }
+        }
+
+        if (building) {
+            try {
+                cached.abstraction().complete(new ClusterAbstraction(maze, clusterSize));
+            } catch (RuntimeException | Error e) {
+                // Don't cache the failure, so that the next traversal tries again
+                synchronized (abstractions) {
+                    abstractions.remove(maze, cached);
+                }
+                cached.abstraction().completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return cached.abstraction().join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.strategies;
+
+import java.util.Arrays;
+
+/**
+ * A minimal growable list of primitive {@code int} values used by the strategies which store
+ * maze fields as cell indexes in order to avoid boxing large amounts of {@link Integer} objects.
+ */
+final class IntArrayList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values;
+    private int size;
+
+    IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    IntArrayList(int initialCapacity) {
+        this.values = new int[Math.max(initialCapacity, 1)];
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length << 1);
+        }
+        values[size++] = value;
+    }
+
+    int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for size %d", index, size));
+        }
+        return values[index];
+    }
+
+    /**
+     * Removes and returns the last value, which allows using the list as a stack.
+     */
+    int removeLast() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("The list is empty");
+        }
+        return values[--size];
+    }
+
+    /**
+     * Reverses the order of the stored values in place.
+     */
+    void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    int size() { return size; }
+
+    boolean isEmpty() { return size == 0; }
+
+    void clear() { size = 0; }
+
+    /**
+     * Returns a copy of the stored values trimmed to the list's size.
+     */
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,295 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ *     The class {@code JunctionDistances} contains the shortest distances between all pairs of junctions of a
+ *     maze board. A junction is a path field which doesn't border exactly two other path fields, meaning that
+ *     dead ends, crossings and forks are junctions while the fields inside a corridor are not.
+ * </p>
+ * The corridors between the junctions are walked once and compressed into a graph of junctions connected by
+ * edges weighted with the corridor lengths. The distances are then computed with one Dijkstra search per junction
+ * on that graph, running in parallel on the common fork join pool, so that a search never passes the fields of a
+ * corridor one by one. They are stored in a compact matrix: a {@code short[]} if every possible distance fits into
+ * a {@code short}, an {@code int[]} otherwise. Since the matrix grows quadratically with the number of junctions,
+ * its size is checked against a memory budget before the graph is built and any search is started.
+ * <p>
+ *     Based on the matrix the eccentricity of every junction (its largest distance to a reachable junction), the
+ *     diameter and the hardest pair of junctions are determined. As every path between two dead ends leads from
+ *     junction to junction, the diameter equals the one of the whole board for mazes without loops. In mazes with
+ *     loops the most distant fields may also lie inside a corridor, so that the result is a lower bound.
+ * </p>
+ */
+public final class JunctionDistances {
+    /**
+     * The distance between junctions which cannot reach each other.
+     */
+    public static final int UNREACHABLE = MazeCells.NONE;
+
+    private final MazeField[] junctions;
+    private final short[] shortDistances;
+    private final int[] intDistances;
+    private final int[] eccentricities;
+    private final int diameter;
+    private final MazeField[] hardestPair;
+
+    private JunctionDistances(MazeField[] junctions, short[] shortDistances, int[] intDistances) {
+        this.junctions = junctions;
+        this.shortDistances = shortDistances;
+        this.intDistances = intDistances;
+
+        this.eccentricities = new int[junctions.length];
+        int maxDistance = 0;
+        int hardestFrom = junctions.length > 0 ? 0 : MazeCells.NONE;
+        int hardestTo = hardestFrom;
+        for (int i = 0; i < junctions.length; i++) {
+            for (int j = 0; j < junctions.length; j++) {
+                int distance = getDistance(i, j);
+                eccentricities[i] = Math.max(eccentricities[i], distance);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    hardestFrom = i;
+                    hardestTo = j;
+                }
+            }
+        }
+        this.diameter = maxDistance;
+        this.hardestPair = hardestFrom == MazeCells.NONE
+                ? null
+                : new MazeField[] { junctions[hardestFrom], junctions[hardestTo] };
+    }
+
+    /**
+     * Computes the junction distances using a quarter of the maximum heap size as memory budget.
+     *
+     * @see #compute(Maze, long)
+     */
+    public static JunctionDistances compute(Maze maze) {
+        return compute(maze, Runtime.getRuntime().maxMemory() / 4);
+    }
+
+    /**
+     * Computes the shortest distances between all junctions of the given maze's board.
+     *
+     * @param maze The maze whose board is searched
+     * @param memoryBudgetBytes The number of bytes the distance matrix, the junction graph and the search arrays
+     *                          may occupy
+     * @return as described above
+     * @throws IllegalArgumentException If the maze is {@code null}
+     * @throws IllegalStateException If the distance matrix, the junction graph and the search arrays would exceed
+     *                               the memory budget
+     */
+    public static JunctionDistances compute(Maze maze, long memoryBudgetBytes)
+            throws IllegalArgumentException, IllegalStateException {
+        if (maze == null) {
+            throw new IllegalArgumentException("Junction distances cannot be computed for a null maze.");
+        }
+
+        boolean[][] mazeBoard = maze.getMazeBoard();
+        int width = maze.getMazeBoardWidth();
+        int cellCount = MazeCells.cellCount(maze);
+        int[] junctionCells = determineJunctionCells(mazeBoard, width, cellCount);
+        int junctionCount = junctionCells.length;
+
+        // A distance can at most be the number of path fields minus one, which decides the matrix's element type
+        int pathFieldCount = countPathFields(mazeBoard);
+        boolean compact = pathFieldCount <= Short.MAX_VALUE;
+        long matrixLength = (long) junctionCount * junctionCount;
+        long matrixBytes = matrixLength * (compact ? Short.BYTES : Integer.BYTES);
+        // Every junction has at most four edges, each stored as target and cost, and the junction cells themselves
+        long graphBytes = (junctionCount * 10L + 1) * Integer.BYTES;
+        // Every search holds the distances of all junctions and at most one queue entry per edge
+        int chunkCount = Math.max(1, Math.min(junctionCount, Runtime.getRuntime().availableProcessors()));
+        long searchBytes = chunkCount * ((long) junctionCount * Integer.BYTES + (long) junctionCount * 4 * Long.BYTES);
+        long requiredBytes = matrixBytes + graphBytes + searchBytes;
+        if (matrixLength > Integer.MAX_VALUE || requiredBytes > memoryBudgetBytes) {
+            throw new IllegalStateException(String.format(
+                    "Computing the distances between %d junctions needs about %d bytes, "
+                            + "which exceeds the memory budget of %d bytes.",
+                    junctionCount, requiredBytes, memoryBudgetBytes
+            ));
+        }
+
+        JunctionGraph graph = JunctionGraph.build(mazeBoard, width, junctionCells);
+        short[] shortDistances = compact ? new short[junctionCount * junctionCount] : null;
+        int[] intDistances = compact ? null : new int[junctionCount * junctionCount];
+
+        // Every chunk of rows is searched by one task which reuses its search arrays for all of its rows
+        int chunkSize = (junctionCount + chunkCount - 1) / chunkCount;
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            int[] distances = new int[junctionCount];
+            LongMinHeap queue = new LongMinHeap();
+
+            for (int row = chunk * chunkSize; row < Math.min(junctionCount, (chunk + 1) * chunkSize); row++) {
+                graph.searchDistances(row, distances, queue);
+                int rowOffset = row * junctionCount;
+                for (int junction = 0; junction < junctionCount; junction++) {
+                    if (compact) {
+                        shortDistances[rowOffset + junction] = (short) distances[junction];
+                    } else {
+                        intDistances[rowOffset + junction] = distances[junction];
+                    }
+                }
+            }
+        });
+
+        MazeField[] junctions = Arrays.stream(junctionCells)
+                .mapToObj(cell -> MazeCells.fieldOf(width, cell))
+                .toArray(MazeField[]::new);
+        return new JunctionDistances(junctions, shortDistances, intDistances);
+    }
+
+    // Getters
+    public int getJunctionCount() { return junctions.length; }
+    public MazeField getJunction(int index) { return junctions[index]; }
+    public boolean isCompact() { return shortDistances != null; }
+
+    /**
+     * Returns the largest distance between two junctions which can reach each other.
+     */
+    public int getDiameter() { return diameter; }
+
+    /**
+     * Returns the two junctions whose distance equals the diameter
+     * or {@code null} if the board doesn't contain any junction.
+     */
+    public MazeField[] getHardestPair() {
+        return hardestPair == null ? null : hardestPair.clone();
+    }
+
+    /**
+     * Returns the largest distance of the junction with the given index to any junction it can reach.
+     */
+    public int getEccentricity(int index) { return eccentricities[index]; }
+
+    public int[] getEccentricities() { return eccentricities.clone(); }
+
+    /**
+     * Returns the distance between the junctions with the given indexes or {@value #UNREACHABLE}
+     * if they cannot reach each other.
+     */
+    public int getDistance(int fromIndex, int toIndex) {
+        int position = fromIndex * junctions.length + toIndex;
+        return shortDistances != null ? shortDistances[position] : intDistances[position];
+    }
+
+    /**
+     * Returns the index of the given field among the junctions or {@code -1} if it isn't a junction.
+     */
+    public int indexOf(MazeField field) {
+        for (int i = 0; i < junctions.length; i++) {
+            if (junctions[i].equals(field)) return i;
+        }
+        return MazeCells.NONE;
+    }
+
+    private static int[] determineJunctionCells(boolean[][] mazeBoard, int width, int cellCount) {
+        IntArrayList junctionCells = new IntArrayList();
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (MazeCells.isPath(mazeBoard, width, cell) && isJunction(mazeBoard, width, cell)) {
+                junctionCells.add(cell);
+            }
+        }
+        return junctionCells.toArray();
+    }
+
+    /**
+     * Checks whether the given path field doesn't border exactly two other path fields.
+     */
+    private static boolean isJunction(boolean[][] mazeBoard, int width, int cell) {
+        int pathNeighbours = 0;
+        for (int side = 0; side < MazeCells.SIDES; side++) {
+            if (MazeCells.neighbour(mazeBoard, width, cell, side) != MazeCells.NONE) pathNeighbours++;
+        }
+        return pathNeighbours != 2;
+    }
+
+    private static int countPathFields(boolean[][] mazeBoard) {
+        int count = 0;
+        for (boolean[] row : mazeBoard) {
+            for (boolean cell : row) {
+                if (cell) count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The junctions of a board connected by one weighted edge per corridor, stored as adjacency arrays: the edges
+     * of junction {@code i} are found at the positions {@code edgeStart[i]} up to {@code edgeStart[i + 1]}.
+     */
+    private record JunctionGraph(int[] edgeStart, int[] edgeTargets, int[] edgeCosts) {
+        /**
+         * Walks every corridor leaving a junction up to the junction it leads to. Since every field inside a
+         * corridor borders exactly two path fields, the walk never branches. Corridors leading back to their own
+         * junction are left out, as they never shorten a path.
+         *
+         * @param junctionCells The cells of all junctions in ascending order
+         */
+        static JunctionGraph build(boolean[][] mazeBoard, int width, int[] junctionCells) {
+            int[] edgeStart = new int[junctionCells.length + 1];
+            IntArrayList edgeTargets = new IntArrayList();
+            IntArrayList edgeCosts = new IntArrayList();
+            for (int junction = 0; junction < junctionCells.length; junction++) {
+                int junctionCell = junctionCells[junction];
+                for (int side = 0; side < MazeCells.SIDES; side++) {
+                    int previous = junctionCell;
+                    int current = MazeCells.neighbour(mazeBoard, width, junctionCell, side);
+                    int length = 1;
+                    while (current != MazeCells.NONE && !isJunction(mazeBoard, width, current)) {
+                        int next = MazeCells.NONE;
+                        for (int corridorSide = 0; corridorSide < MazeCells.SIDES; corridorSide++) {
+                            int neighbour = MazeCells.neighbour(mazeBoard, width, current, corridorSide);
+                            if (neighbour != MazeCells.NONE && neighbour != previous) {
+                                next = neighbour;
+                                break;
+                            }
+                        }
+                        previous = current;
+                        current = next;
+                        length++;
+                    }
+                    if (current != MazeCells.NONE && current != junctionCell) {
+                        edgeTargets.add(Arrays.binarySearch(junctionCells, current));
+                        edgeCosts.add(length);
+                    }
+                }
+                edgeStart[junction + 1] = edgeTargets.size();
+            }
+            return new JunctionGraph(edgeStart, edgeTargets.toArray(), edgeCosts.toArray());
+        }
+
+        /**
+         * Runs a Dijkstra search from the given junction and stores the distance of every junction, or
+         * {@value #UNREACHABLE} if it cannot be reached, in the passed array. The queue holds packed keys with the
+         * distance in the upper and the junction in the lower 32 bits and is empty again when the search returns.
+         */
+        void searchDistances(int fromJunction, int[] distances, LongMinHeap queue) {
+            Arrays.fill(distances, UNREACHABLE);
+            distances[fromJunction] = 0;
+            queue.add(fromJunction);
+            while (!queue.isEmpty()) {
+                long entry = queue.poll();
+                int junction = (int) entry;
+                int distance = (int) (entry >>> 32);
+                // Skip outdated queue entries which have been replaced by a shorter distance
+                if (distance != distances[junction]) {
+                    continue;
+                }
+                for (int i = edgeStart[junction]; i < edgeStart[junction + 1]; i++) {
+                    int target = edgeTargets[i];
+                    int targetDistance = distance + edgeCosts[i];
+                    if (distances[target] == UNREACHABLE || targetDistance < distances[target]) {
+                        distances[target] = targetDistance;
+                        queue.add(((long) targetDistance << 32) | target);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,569 @@
+package com.strategies;
+
+import com.mazedata.EditableMaze;
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+
+import java.util.*;
+
+/**
+ * <p>
+ *     The lifelong planning A* (LPA*) maze traversal strategy finds the shortest path like an A* search, but keeps
+ *     its search state between traversals of the same {@link EditableMaze}. After fields have been edited only the
+ *     search state of the edited fields and of the fields whose distance changes as a consequence is repaired.
+ * </p>
+ * An edit which lies far away from the previously explored part of the maze board therefore costs almost
+ * nothing, while traversing a regular {@link Maze} corresponds to a single A* search.
+ * <p>
+ *     This maze traversal strategy is guaranteed to find the shortest traversal path if one exists.
+ *     The search states are kept per maze, so that one instance must not traverse the same maze concurrently.
+ * </p>
+ *
+ * @see GuaranteedMazeTraverser
+ */
+public class LifelongPlanningAStar extends GuaranteedMazeTraverser {
+    /**
+     * The search states of the already traversed editable mazes. The mazes are weakly referenced
+     * so that a search state is discarded together with its maze.
+     */
+    private final Map<EditableMaze, SearchState> searchStates = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * The edit logs of the traversed editable mazes, which are shared by all instances, so that each maze only
+     * has a single {@link EditableMaze.EditListener} no matter how many instances have traversed it.
+     */
+    private static final Map<EditableMaze, EditLog> EDIT_LOGS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * <p>
+     *     This method implements the LPA* maze traversal strategy by computing the distance of the fields to the
+     *     starting field in the order of their estimated total path length until the distance of the ending field
+     *     is known. The path is then reconstructed by moving from the ending field to the bordering field which
+     *     lies one step closer to the starting field.
+     * </p>
+     * If the maze is an {@link EditableMaze} which has been traversed before, only the fields edited in the
+     * meantime are reconsidered. The strategy <u><i>is guaranteed</i></u> to find the shortest path if one exists.
+     *
+     * @param maze {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws MazeNotTraversableException {@inheritDoc}
+     */
+    @Override
+    public boolean[][] traverseMaze(Maze maze) throws MazeNotTraversableException {
+        return traverseMaze(maze, TraversalContext.unbounded());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The context is checked once per expanded field. A stopped search keeps its state consistent,
+     *     so that the next traversal of an editable maze continues where it has been stopped.
+     * </p>
+     *
+     * @param maze {@inheritDoc}
+     * @param context {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws MazeNotTraversableException {@inheritDoc}
+     * @throws MazeTraversalTimeoutException {@inheritDoc}
+     */
+    @Override
+    public boolean[][] traverseMaze(Maze maze, TraversalContext context)
+            throws MazeNotTraversableException, MazeTraversalTimeoutException {
+        return MazeTraversalEvent.record(this, maze, context, () -> traverse(maze, context));
+    }
+
+    private boolean[][] traverse(Maze maze, TraversalContext context) {
+        SearchState searchState = maze instanceof EditableMaze editableMaze
+                ? searchStates.computeIfAbsent(editableMaze, SearchState::new)
+                : new SearchState(maze);
+
+        List<MazeField> path;
+        synchronized (searchState) {
+            searchState.applyEdits();
+            searchState.computeShortestPath(context);
+            path = searchState.reconstructPath();
+        }
+
+        if (path == null) {
+            throw new MazeNotTraversableException(
+                    "lifelong planning A*",
+                    maze,
+                    String.format(
+                            "Starting from %s, all fields which could lead to the ending field (%s) "
+                                    + "have been explored and none does.",
+                            MazeCells.describeFields(maze.getStartingFields()),
+                            MazeCells.describeFields(maze.getEndingFields())
+                    )
+            );
+        }
+        return pathFieldsToTraversedBoard(path, maze.getMazeBoardHeight(), maze.getMazeBoardWidth());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return {@code true}
+     */
+    @Override
+    public boolean findsShortestPath() {
+        return true;
+    }
+
+    /**
+     * Returns the number of fields expanded during the last traversal of the given editable maze
+     * or {@code -1} if it hasn't been traversed yet.
+     */
+    int lastExpansionCount(EditableMaze maze) {
+        SearchState searchState = searchStates.get(maze);
+        return searchState == null ? -1 : searchState.expansionCount;
+    }
+
+    /**
+     * Returns the number of fields queued for expansion after the last traversal of the given editable maze
+     * or {@code -1} if it hasn't been traversed yet.
+     */
+    int queuedFieldCount(EditableMaze maze) {
+        SearchState searchState = searchStates.get(maze);
+        return searchState == null ? -1 : searchState.queue.size();
+    }
+
+    /**
+     * <p>
+     *     The edits of one editable maze, recorded by the single listener of that maze. Every search state of the
+     *     maze remembers how many edits it has already applied and only reads the ones recorded afterwards.
+     * </p>
+     * The log keeps at most as many edits as the maze has fields, since repairing more edits than that costs
+     * about as much as a new search. Once the log is full, the recorded edits are discarded and the search states
+     * which haven't applied them yet start over.
+     */
+    private static final class EditLog implements EditableMaze.EditListener {
+        private final int width;
+        private final int capacity;
+        private final IntArrayList editedCells = new IntArrayList();
+
+        /**
+         * The number of edits which have been discarded.
+         */
+        private long discardedEditCount;
+
+        EditLog(Maze maze) {
+            this.width = maze.getMazeBoardWidth();
+            this.capacity = MazeCells.cellCount(maze);
+        }
+
+        @Override
+        public synchronized void fieldEdited(MazeField field, boolean passable) {
+            if (editedCells.size() == capacity) {
+                discardedEditCount += editedCells.size();
+                editedCells.clear();
+            }
+            editedCells.add(field.calculateSequenceInBoard(width));
+        }
+
+        synchronized long editCount() {
+            return discardedEditCount + editedCells.size();
+        }
+
+        /**
+         * Adds the cells edited after the given number of edits to the passed list.
+         *
+         * @return {@code false} if some of these edits have been discarded, in which case no cell is added
+         */
+        synchronized boolean copyEditsSince(long appliedEditCount, IntArrayList cells) {
+            if (appliedEditCount < discardedEditCount) {
+                return false;
+            }
+            for (int i = (int) (appliedEditCount - discardedEditCount); i < editedCells.size(); i++) {
+                cells.add(editedCells.get(i));
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The state of the LPA* search for one maze. Distances are stored per cell as {@code g} (the current distance
+     * estimate) and {@code rhs} (the distance derived from the bordering fields). A field is consistent if both
+     * are equal, and only inconsistent fields are queued for expansion.
+     * <p>
+     *     All starting fields have the distance {@code 0}, so that the distance of a field is the one to its nearest
+     *     starting field, and the search ends at the nearest ending field. The heuristic is the distance to the
+     *     nearest ending field ignoring walls. With more than {@value #EXACT_HEURISTIC_GOAL_LIMIT} ending fields it's
+     *     the distance to the bounding box of all of them instead, which is cheaper and still never overestimates.
+     * </p>
+     */
+    private static final class SearchState {
+        private static final int INFINITE = Integer.MAX_VALUE / 2;
+        private static final int EXACT_HEURISTIC_GOAL_LIMIT = 8;
+
+        private final boolean[][] mazeBoard;
+        private final int width;
+        /**
+         * The cells of the starting fields in ascending order and the cells of the ending fields.
+         */
+        private final int[] startCells;
+        private final int[] goalCells;
+        /**
+         * The bounding box of the ending fields.
+         */
+        private final int goalMinX;
+        private final int goalMaxX;
+        private final int goalMinY;
+        private final int goalMaxY;
+
+        private final int[] g;
+        private final int[] rhs;
+        private final KeyQueue queue;
+
+        /**
+         * The edit log of the maze or {@code null} if the maze cannot be edited.
+         */
+        private final EditLog editLog;
+        private long appliedEditCount;
+
+        /**
+         * The cells which have been edited since the last traversal.
+         */
+        private final IntArrayList editedCells = new IntArrayList();
+
+        private int expansionCount;
+
+        SearchState(Maze maze) {
+            this.mazeBoard = maze.getMazeBoard();
+            this.width = maze.getMazeBoardWidth();
+            this.startCells = MazeCells.cellsOf(maze, maze.getStartingFields());
+            Arrays.sort(startCells);
+            this.goalCells = MazeCells.cellsOf(maze, maze.getEndingFields());
+            int minX = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE;
+            int minY = Integer.MAX_VALUE;
+            int maxY = Integer.MIN_VALUE;
+            for (int goalCell : goalCells) {
+                minX = Math.min(minX, goalCell % width);
+                maxX = Math.max(maxX, goalCell % width);
+                minY = Math.min(minY, goalCell / width);
+                maxY = Math.max(maxY, goalCell / width);
+            }
+            this.goalMinX = minX;
+            this.goalMaxX = maxX;
+            this.goalMinY = minY;
+            this.goalMaxY = maxY;
+
+            this.g = new int[MazeCells.cellCount(maze)];
+            this.rhs = new int[g.length];
+            this.queue = new KeyQueue(g.length);
+            reset();
+
+            if (maze instanceof EditableMaze editableMaze) {
+                // The log only references the width and the edited cells, not the maze itself
+                this.editLog = EDIT_LOGS.computeIfAbsent(editableMaze, m -> {
+                    EditLog log = new EditLog(m);
+                    m.addEditListener(log);
+                    return log;
+                });
+                this.appliedEditCount = editLog.editCount();
+            } else {
+                this.editLog = null;
+            }
+        }
+
+        /**
+         * Discards all distances, so that the next search starts from scratch.
+         */
+        private void reset() {
+            Arrays.fill(g, INFINITE);
+            Arrays.fill(rhs, INFINITE);
+            queue.clear();
+
+            for (int startCell : startCells) {
+                rhs[startCell] = isPath(startCell) ? 0 : INFINITE;
+                if (rhs[startCell] == 0) {
+                    queue.update(startCell, key(startCell));
+                }
+            }
+        }
+
+        void applyEdits() {
+            if (editLog == null) {
+                return;
+            }
+            editedCells.clear();
+            boolean complete = editLog.copyEditsSince(appliedEditCount, editedCells);
+            appliedEditCount = editLog.editCount();
+            if (!complete) {
+                reset();
+                return;
+            }
+
+            for (int i = 0; i < editedCells.size(); i++) {
+                int cell = editedCells.get(i);
+                updateField(cell);
+                for (int side = 0; side < MazeCells.SIDES; side++) {
+                    int neighbour = borderingCell(cell, side);
+                    if (neighbour != MazeCells.NONE) {
+                        updateField(neighbour);
+                    }
+                }
+            }
+        }
+
+        void computeShortestPath(TraversalContext context) {
+            expansionCount = 0;
+            while (true) {
+                long topKey = queue.peekKey();
+                int goalCell = nearestGoalCell();
+                if (topKey >= key(goalCell) && rhs[goalCell] == g[goalCell]) {
+                    return;
+                }
+                // Checked before polling, so that a stopped search doesn't lose the queued field
+                context.checkpoint();
+                int cell = queue.poll();
+                expansionCount++;
+
+                if (g[cell] > rhs[cell]) {
+                    g[cell] = rhs[cell];
+                } else {
+                    g[cell] = INFINITE;
+                    updateField(cell);
+                }
+                for (int side = 0; side < MazeCells.SIDES; side++) {
+                    int neighbour = borderingCell(cell, side);
+                    if (neighbour != MazeCells.NONE) {
+                        updateField(neighbour);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Recalculates the {@code rhs} value of the given cell and queues it with its current key if it's
+         * inconsistent, otherwise it's removed from the queue.
+         */
+        private void updateField(int cell) {
+            if (!isStart(cell)) {
+                int distance = INFINITE;
+                if (isPath(cell)) {
+                    for (int side = 0; side < MazeCells.SIDES; side++) {
+                        int neighbour = MazeCells.neighbour(mazeBoard, width, cell, side);
+                        if (neighbour != MazeCells.NONE) {
+                            distance = Math.min(distance, g[neighbour] + 1);
+                        }
+                    }
+                }
+                rhs[cell] = Math.min(distance, INFINITE);
+            } else {
+                rhs[cell] = isPath(cell) ? 0 : INFINITE;
+            }
+            if (g[cell] != rhs[cell]) {
+                queue.update(cell, key(cell));
+            } else {
+                queue.remove(cell);
+            }
+        }
+
+        /**
+         * Returns the fields of the shortest path from a starting to an ending field or {@code null} if none exists.
+         */
+        List<MazeField> reconstructPath() {
+            int goalCell = nearestGoalCell();
+            if (g[goalCell] >= INFINITE || !isPath(goalCell)) {
+                return null;
+            }
+
+            List<MazeField> path = new ArrayList<>(g[goalCell] + 1);
+            int cell = goalCell;
+            path.add(MazeCells.fieldOf(width, cell));
+            while (!isStart(cell)) {
+                int next = MazeCells.NONE;
+                for (int side = 0; side < MazeCells.SIDES; side++) {
+                    int neighbour = MazeCells.neighbour(mazeBoard, width, cell, side);
+                    if (neighbour != MazeCells.NONE && (next == MazeCells.NONE || g[neighbour] < g[next])) {
+                        next = neighbour;
+                    }
+                }
+                if (next == MazeCells.NONE || g[next] >= g[cell]) {
+                    throw new IllegalStateException(String.format(
+                            "The search state is inconsistent at %s.", MazeCells.fieldOf(width, cell)
+                    ));
+                }
+                cell = next;
+                path.add(MazeCells.fieldOf(width, cell));
+            }
+            Collections.reverse(path);
+            return path;
+        }
+
+        /**
+         * Returns the two-part LPA* key {@code [min(g, rhs) + h, min(g, rhs)]} packed into one {@code long}
+         * so that comparing the packed values compares the keys lexicographically.
+         */
+        private long key(int cell) {
+            long distance = Math.min(g[cell], rhs[cell]);
+            return ((distance + heuristic(cell)) << 32) | distance;
+        }
+
+        private int heuristic(int cell) {
+            int x = cell % width;
+            int y = cell / width;
+            if (goalCells.length > EXACT_HEURISTIC_GOAL_LIMIT) {
+                int distanceX = Math.max(0, Math.max(goalMinX - x, x - goalMaxX));
+                int distanceY = Math.max(0, Math.max(goalMinY - y, y - goalMaxY));
+                return distanceX + distanceY;
+            }
+            int distance = Integer.MAX_VALUE;
+            for (int goalCell : goalCells) {
+                distance = Math.min(
+                        distance, Math.abs(x - goalCell % width) + Math.abs(y - goalCell / width)
+                );
+            }
+            return distance;
+        }
+
+        /**
+         * Returns the ending cell with the smallest key, which is the one the search currently heads for.
+         */
+        private int nearestGoalCell() {
+            int nearestCell = goalCells[0];
+            long nearestKey = key(nearestCell);
+            for (int i = 1; i < goalCells.length; i++) {
+                long key = key(goalCells[i]);
+                if (key < nearestKey) {
+                    nearestCell = goalCells[i];
+                    nearestKey = key;
+                }
+            }
+            return nearestCell;
+        }
+
+        private boolean isStart(int cell) {
+            return Arrays.binarySearch(startCells, cell) >= 0;
+        }
+
+        private boolean isPath(int cell) {
+            return MazeCells.isPath(mazeBoard, width, cell);
+        }
+
+        /**
+         * Returns the bordering cell on the given side regardless of it being a wall,
+         * or {@value MazeCells#NONE} if it lies outside the board.
+         */
+        private int borderingCell(int cell, int side) {
+            int x = cell % width;
+            int y = cell / width;
+            return switch (side) {
+                case 0 -> y > 0 ? cell - width : MazeCells.NONE;
+                case 1 -> x < width - 1 ? cell + 1 : MazeCells.NONE;
+                case 2 -> y < mazeBoard.length - 1 ? cell + width : MazeCells.NONE;
+                default -> x > 0 ? cell - 1 : MazeCells.NONE;
+            };
+        }
+    }
+
+    /**
+     * A binary min-heap of cells ordered by their packed key, which knows the position of every queued cell.
+     * The key of a queued cell is updated in place and a cell which has become consistent is removed, so that
+     * the queue never holds more entries than there are inconsistent cells, no matter how often the maze is edited.
+     */
+    private static final class KeyQueue {
+        /**
+         * The position of every cell within the heap or {@value MazeCells#NONE} if it isn't queued.
+         */
+        private final int[] positions;
+        private long[] keys = new long[64];
+        private int[] cells = new int[64];
+        private int size;
+
+        KeyQueue(int cellCount) {
+            this.positions = new int[cellCount];
+            Arrays.fill(positions, MazeCells.NONE);
+        }
+
+        /**
+         * Queues the cell with the given key or changes its key if it's queued already.
+         */
+        void update(int cell, long key) {
+            int position = positions[cell];
+            if (position == MazeCells.NONE) {
+                if (size == keys.length) {
+                    // Every cell is queued at most once, so that the queue never has to outgrow the cell count
+                    int grownLength = (int) Math.min(2L * size, positions.length);
+                    keys = Arrays.copyOf(keys, grownLength);
+                    cells = Arrays.copyOf(cells, grownLength);
+                }
+                siftUp(size++, key, cell);
+            } else if (key < keys[position]) {
+                siftUp(position, key, cell);
+            } else {
+                siftDown(position, key, cell);
+            }
+        }
+
+        void remove(int cell) {
+            int position = positions[cell];
+            if (position == MazeCells.NONE) {
+                return;
+            }
+            positions[cell] = MazeCells.NONE;
+            size--;
+            if (position == size) {
+                return;
+            }
+            // Fill the gap with the last entry, which may have to move in either direction
+            long lastKey = keys[size];
+            int lastCell = cells[size];
+            if (position > 0 && keys[(position - 1) >>> 1] > lastKey) {
+                siftUp(position, lastKey, lastCell);
+            } else {
+                siftDown(position, lastKey, lastCell);
+            }
+        }
+
+        /**
+         * Returns the smallest key or {@link Long#MAX_VALUE} if the queue is empty.
+         */
+        long peekKey() {
+            return size == 0 ? Long.MAX_VALUE : keys[0];
+        }
+
+        int poll() {
+            int top = cells[0];
+            remove(top);
+            return top;
+        }
+
+        int size() { return size; }
+
+        void clear() {
+            for (int i = 0; i < size; i++) {
+                positions[cells[i]] = MazeCells.NONE;
+            }
+            size = 0;
+        }
+
+        private void siftUp(int position, long key, int cell) {
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (keys[parent] <= key) break;
+                place(position, keys[parent], cells[parent]);
+                position = parent;
+            }
+            place(position, key, cell);
+        }
+
+        private void siftDown(int position, long key, int cell) {
+            while (true) {
+                int child = 2 * position + 1;
+                if (child >= size) break;
+                if (child + 1 < size && keys[child + 1] < keys[child]) child++;
+                if (keys[child] >= key) break;
+                place(position, keys[child], cells[child]);
+                position = child;
+            }
+            place(position, key, cell);
+        }
+
+        private void place(int position, long key, int cell) {
+            keys[position] = key;
+            cells[position] = cell;
+            positions[cell] = position;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.strategies;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A minimal growable first-in-first-out queue of primitive {@code long} values stored in a ring buffer, used by the
+ * strategies which address fields of boards with more than {@link Integer#MAX_VALUE} fields as {@code long} cells.
+ */
+final class LongArrayQueue {
+    private static final int DEFAULT_CAPACITY = 16;
+    /**
+     * The largest power of two which is a valid array length, since the ring buffer's capacity has to be one.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] values;
+    private int head;
+    private int size;
+
+    LongArrayQueue() {
+        this.values = new long[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * @throws IllegalStateException If the queue already holds {@value MAX_CAPACITY} values
+     */
+    void add(long value) throws IllegalStateException {
+        if (size == values.length) {
+            if (values.length == MAX_CAPACITY) {
+                throw new IllegalStateException(String.format(
+                        "The queue cannot hold more than %d values.", MAX_CAPACITY
+                ));
+            }
+            long[] grown = new long[values.length << 1];
+            int headLength = Math.min(size, values.length - head);
+            System.arraycopy(values, head, grown, 0, headLength);
+            System.arraycopy(values, 0, grown, headLength, size - headLength);
+            values = grown;
+            head = 0;
+        }
+        values[(head + size) & (values.length - 1)] = value;
+        size++;
+    }
+
+    long poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+        long value = values[head];
+        head = (head + 1) & (values.length - 1);
+        size--;
+        return value;
+    }
+
+    int size() { return size; }
+
+    boolean isEmpty() { return size == 0; }
+}
@@ -0,0 +1,67 @@
+package com.strategies;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A minimal growable binary min-heap of primitive {@code long} values, used by the strategies which queue nodes
+ * as packed keys, i.e. the priority in the upper and the node in the lower 32 bits, instead of boxing them.
+ */
+final class LongMinHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] values;
+    private int size;
+
+    LongMinHeap() {
+        this.values = new long[DEFAULT_CAPACITY];
+    }
+
+    void add(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length << 1);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (values[parent] <= value) {
+                break;
+            }
+            values[index] = values[parent];
+            index = parent;
+        }
+        values[index] = value;
+    }
+
+    /**
+     * Removes and returns the smallest value.
+     */
+    long poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("The heap is empty.");
+        }
+        long smallest = values[0];
+        long last = values[--size];
+        int index = 0;
+        while (true) {
+            int child = (index << 1) + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && values[child + 1] < values[child]) {
+                child++;
+            }
+            if (last <= values[child]) {
+                break;
+            }
+            values[index] = values[child];
+            index = child;
+        }
+        values[index] = last;
+        return smallest;
+    }
+
+    int size() { return size; }
+
+    boolean isEmpty() { return size == 0; }
+}
@@ -0,0 +1,95 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+
+import java.util.List;
+
+/**
+ * <p>
+ *     Helper methods for the strategies which address the fields of a maze board as primitive cell indexes
+ *     ({@code positionX + boardWidth * positionY}, see {@link MazeField#calculateSequenceInBoard(int)})
+ *     instead of {@link MazeField} objects.
+ * </p>
+ * The bordering fields of a cell are addressed by the sides 0 (top), 1 (right), 2 (bottom) and 3 (left),
+ * which is the same clockwise order that {@link MazeField#determineBorderingFields(int, int)} uses.
+ */
+final class MazeCells {
+    /**
+     * Marks a cell which does not exist, is a wall or has not been reached by a search.
+     */
+    static final int NONE = -1;
+
+    static final int SIDES = 4;
+
+    private MazeCells() {}
+
+    /**
+     * Returns the cell of the bordering path field on the given side
+     * or {@value NONE} if the field lies outside the board or is a wall.
+     */
+    static int neighbour(boolean[][] mazeBoard, int width, int cell, int side) {
+        int x = cell % width;
+        int y = cell / width;
+        return switch (side) {
+            case 0 -> y > 0 && mazeBoard[y - 1][x] ? cell - width : NONE;
+            case 1 -> x < width - 1 && mazeBoard[y][x + 1] ? cell + 1 : NONE;
+            case 2 -> y < mazeBoard.length - 1 && mazeBoard[y + 1][x] ? cell + width : NONE;
+            default -> x > 0 && mazeBoard[y][x - 1] ? cell - 1 : NONE;
+        };
+    }
+
+    static boolean isPath(boolean[][] mazeBoard, int width, int cell) {
+        return mazeBoard[cell / width][cell % width];
+    }
+
+    /**
+     * Returns the number of cells of the maze's board.
+     *
+     * @throws IllegalArgumentException If the board has more than {@link Integer#MAX_VALUE} fields, which cannot be
+     *                                  addressed as {@code int} cells
+     */
+    static int cellCount(Maze maze) throws IllegalArgumentException {
+        try {
+            return Math.multiplyExact(maze.getMazeBoardWidth(), maze.getMazeBoardHeight());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(String.format(
+                    "The maze board of %d x %d fields has more than %d fields and can only be traversed "
+                            + "as a packed board, see BreadthFirstSearch#traverseBoard.",
+                    maze.getMazeBoardWidth(), maze.getMazeBoardHeight(), Integer.MAX_VALUE
+            ), e);
+        }
+    }
+
+    static int cellOf(Maze maze, MazeField field) {
+        return field.calculateSequenceInBoard(maze.getMazeBoardWidth());
+    }
+
+    static MazeField fieldOf(int width, int cell) {
+        return new MazeField(cell % width, cell / width);
+    }
+
+    /**
+     * Returns the cells of the given fields in the same order, e.g. of all starting fields of a maze.
+     */
+    static int[] cellsOf(Maze maze, List<MazeField> fields) {
+        int[] cells = new int[fields.size()];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = cellOf(maze, fields.get(i));
+        }
+        return cells;
+    }
+
+    /**
+     * Describes a single field by itself and several fields as a list, e.g. in the reason why a maze is not
+     * traversable.
+     */
+    static String describeFields(List<MazeField> fields) {
+        return fields.size() == 1 ? fields.getFirst().toString() : fields.toString();
+    }
+
+    static boolean liesWithinBoard(Maze maze, MazeField field) {
+        return field != null
+                && field.positionX() < maze.getMazeBoardWidth() && field.positionY() < maze.getMazeBoardHeight();
+    }
+}
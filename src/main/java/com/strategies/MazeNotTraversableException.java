@@ -1,6 +1,7 @@
 package com.strategies;
 
 import com.mazedata.Maze;
+import com.mazedata.MazeBoard;
 
 public class MazeNotTraversableException extends RuntimeException {
     private final String reason;
@@ -19,5 +20,26 @@ public class MazeNotTraversableException extends RuntimeException {
         this.reason = reason;
     }
 
+    /**
+     * Creates an exception for a board which may be too large to be printed, so that only its size is described.
+     *
+     * @param strategyName The name of the strategy which couldn't traverse the board
+     * @param board The board which couldn't be traversed
+     * @param reason The reason why the board couldn't be traversed
+     */
+    public MazeNotTraversableException(String strategyName, MazeBoard board, String reason) {
+        super(String.join(
+                System.lineSeparator(),
+                String.format(
+                        "Using the strategy \"%s\" the board of %dx%d fields cannot be traversed.",
+                        strategyName, board.getWidth(), board.getHeight()
+                ),
+                "Reason: " + reason,
+                ""
+        ));
+
+        this.reason = reason;
+    }
+
     public String getReason() { return reason; }
 }
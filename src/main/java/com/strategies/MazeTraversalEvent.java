@@ -0,0 +1,84 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import jdk.jfr.*;
+
+/**
+ * <p>
+ *     A Java Flight Recorder event which is committed for every traversal of a maze, containing the strategy, the
+ *     dimensions of the maze, the outcome and, for strategies supporting a {@link TraversalContext}, the number of
+ *     expanded fields. Its duration allows correlating traversal latencies with garbage collections and CPU load.
+ * </p>
+ * If the event isn't enabled in a running recording, recording a traversal costs next to nothing.
+ */
+@Name("com.strategies.MazeTraversal")
+@Label("Maze Traversal")
+@Category({ "Maze", "Traversal" })
+@Description("Traversal of a maze by a maze traversal strategy")
+public final class MazeTraversalEvent extends Event {
+    /**
+     * The traversal recorded by {@link #record(MazeTraversalStrategy, Maze, TraversalContext, Traversal)}.
+     */
+    @FunctionalInterface
+    interface Traversal {
+        boolean[][] traverse();
+    }
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Maze")
+    String maze;
+
+    @Label("Width")
+    int width;
+
+    @Label("Height")
+    int height;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Expanded Fields")
+    @Description("The number of expanded fields or -1 if the strategy doesn't report it")
+    long expandedFieldCount;
+
+    /**
+     * Runs the given traversal and commits an event describing it if the event is enabled.
+     *
+     * @param strategy The traversing strategy
+     * @param maze The traversed maze
+     * @param context The context of the traversal or {@code null} if the strategy doesn't support one
+     * @param traversal The traversal itself
+     * @return The result of the traversal
+     */
+    static boolean[][] record(
+            MazeTraversalStrategy strategy, Maze maze, TraversalContext context, Traversal traversal
+    ) {
+        MazeTraversalEvent event = new MazeTraversalEvent();
+        event.begin();
+        TraversalOutcome outcome = TraversalOutcome.FAILED;
+        try {
+            boolean[][] traversedBoard = traversal.traverse();
+            outcome = TraversalOutcome.TRAVERSED;
+            return traversedBoard;
+        } catch (MazeNotTraversableException e) {
+            outcome = TraversalOutcome.NOT_TRAVERSABLE;
+            throw e;
+        } catch (MazeTraversalTimeoutException e) {
+            outcome = TraversalOutcome.TIMED_OUT;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.strategy = strategy.getClass().getSimpleName();
+                event.maze = maze.getDescription();
+                event.width = maze.getMazeBoardWidth();
+                event.height = maze.getMazeBoardHeight();
+                event.outcome = outcome.name();
+                event.expandedFieldCount = context != null ? context.getExpandedFieldCount() : -1;
+                event.commit();
+            }
+        }
+    }
+}
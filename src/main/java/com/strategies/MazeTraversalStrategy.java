@@ -17,4 +17,63 @@ public interface MazeTraversalStrategy {
      * @throws MazeNotTraversableException If the maze cannot be traversed using this strategy
      */
     boolean[][] traverseMaze(Maze maze) throws MazeNotTraversableException;
+
+    /**
+     * <p>
+     *     Traverses a maze like {@link #traverseMaze(Maze)}, but stops as soon as the given context
+     *     is cancelled, its deadline is exceeded or the traversing thread is interrupted.
+     * </p>
+     * Strategies which don't check the context while traversing only check it once before starting,
+     * meaning that an already running traversal of such a strategy cannot be stopped.
+     *
+     * @param maze The maze to be traversed
+     * @param context The context which decides whether the traversal has to be stopped
+     * @return as described at {@link #traverseMaze(Maze)}
+     * @throws MazeNotTraversableException If the maze cannot be traversed using this strategy
+     * @throws MazeTraversalTimeoutException If the traversal has been stopped by the context
+     */
+    default boolean[][] traverseMaze(Maze maze, TraversalContext context)
+            throws MazeNotTraversableException, MazeTraversalTimeoutException {
+        context.check();
+        return traverseMaze(maze);
+    }
+
+    /**
+     * Traverses a maze using {@link #traverseMaze(Maze, TraversalContext)} without deadline and returns
+     * the traversed board along with the statistics of the traversal.
+     *
+     * @see #traverseMazeWithStatistics(Maze, TraversalContext)
+     */
+    default TraversalResult traverseMazeWithStatistics(Maze maze) throws MazeNotTraversableException {
+        return traverseMazeWithStatistics(maze, TraversalContext.unbounded());
+    }
+
+    /**
+     * Traverses a maze using {@link #traverseMaze(Maze, TraversalContext)} after enabling the statistics of the
+     * given context and returns the traversed board along with the collected statistics.
+     *
+     * @param maze The maze to be traversed
+     * @param context The context of the traversal
+     * @return as described above
+     * @throws MazeNotTraversableException If the maze cannot be traversed using this strategy
+     * @throws MazeTraversalTimeoutException If the traversal has been stopped by the context
+     */
+    default TraversalResult traverseMazeWithStatistics(Maze maze, TraversalContext context)
+            throws MazeNotTraversableException, MazeTraversalTimeoutException {
+        TraversalStatistics statistics = context.enableStatistics().getStatistics();
+        statistics.start();
+        try {
+            return new TraversalResult(traverseMaze(maze, context), statistics);
+        } finally {
+            statistics.stop(context.getExpandedFieldCount());
+        }
+    }
+
+    /**
+     * Returns {@code true} if the path returned by {@link #traverseMaze(Maze)} is guaranteed
+     * to be the shortest one, {@code false} otherwise.
+     */
+    default boolean findsShortestPath() {
+        return false;
+    }
 }
@@ -0,0 +1,53 @@
+package com.strategies;
+
+import java.time.Duration;
+
+/**
+ * Thrown if a maze traversal has been stopped by its {@link TraversalContext} before the strategy could decide
+ * whether the maze is traversable. In contrast to a {@link MazeNotTraversableException} this says nothing about
+ * the maze itself, which is why the exception carries the progress the traversal made until it was stopped.
+ */
+public class MazeTraversalTimeoutException extends RuntimeException {
+    /**
+     * The reason why a traversal has been stopped.
+     */
+    public enum Reason {
+        /**
+         * The deadline of the traversal has been exceeded.
+         */
+        DEADLINE_EXCEEDED,
+        /**
+         * The traversal has been cancelled or the traversing thread has been interrupted.
+         */
+        CANCELLED
+    }
+
+    private final Reason reason;
+    private final long expandedFieldCount;
+    private final Duration elapsedTime;
+    private final TraversalStatistics statistics;
+
+    public MazeTraversalTimeoutException(
+            Reason reason, long expandedFieldCount, Duration elapsedTime, TraversalStatistics statistics
+    ) {
+        super(String.format(
+                "The maze traversal has been stopped (%s) after expanding %d fields in %d ms.",
+                reason, expandedFieldCount, elapsedTime.toMillis()
+        ));
+
+        this.reason = reason;
+        this.expandedFieldCount = expandedFieldCount;
+        this.elapsedTime = elapsedTime;
+        this.statistics = statistics;
+    }
+
+    public Reason getReason() { return reason; }
+    public long getExpandedFieldCount() { return expandedFieldCount; }
+    public Duration getElapsedTime() { return elapsedTime; }
+
+    /**
+     * Returns the statistics collected until the traversal has been stopped. Their counters
+     * are all {@code 0} unless the statistics have been enabled on the context.
+     */
+    public TraversalStatistics getStatistics() { return statistics; }
+}
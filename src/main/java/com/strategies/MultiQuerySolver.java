@@ -0,0 +1,204 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ *     The class {@code MultiQuerySolver} answers a batch of path queries with arbitrary starting and ending fields
+ *     on the board of a single {@link Maze}, sharing as much of the preprocessing as possible between the queries.
+ * </p>
+ * The batch is solved in three steps:
+ * <ol>
+ *     <li>
+ *         The connected components of the board are labelled once, so that queries whose fields lie in
+ *         different components (or on walls) are answered as unsolvable without any search.
+ *     </li>
+ *     <li>
+ *         If at least {@link #getSourceTreeThreshold()} queries share a starting field, they are
+ *         answered from a single {@link DistanceField} with predecessors rooted at that field. These paths are the shortest ones.
+ *     </li>
+ *     <li>
+ *         All remaining queries are answered using the cached {@link ClusterAbstraction} of a
+ *         {@link HierarchicalPathfinding} strategy, which is built only once per maze.
+ *     </li>
+ * </ol>
+ */
+public class MultiQuerySolver {
+    /**
+     * The default number of queries sharing a starting field from which on a search tree is built for that field.
+     */
+    public static final int DEFAULT_SOURCE_TREE_THRESHOLD = 4;
+
+    /**
+     * A path query between two fields of a maze board.
+     *
+     * @param from The field the path starts at
+     * @param to The field the path ends at
+     */
+    public record Query(MazeField from, MazeField to) {
+        public Query {
+            if (from == null || to == null) {
+                throw new IllegalArgumentException("The starting and ending field of a query must not be null.");
+            }
+        }
+    }
+
+    /**
+     * The answer to a {@link Query}.
+     *
+     * @param query The answered query
+     * @param path The fields of the path including the query's starting and ending field
+     *             in traversal order or {@code null} if the query is not solvable
+     */
+    public record QueryResult(Query query, List<MazeField> path) {
+        public boolean isSolved() { return path != null; }
+
+        /**
+         * Returns the number of fields of the path including the starting and ending field or {@code 0} if the query
+         * is not solvable, which corresponds to {@link Maze#calculateTraversedPathLength(boolean[][])}.
+         */
+        public int pathLength() { return path == null ? 0 : path.size(); }
+    }
+
+    private final HierarchicalPathfinding hierarchicalPathfinding;
+    private final int sourceTreeThreshold;
+    private final boolean parallel;
+
+    public MultiQuerySolver() {
+        this(new HierarchicalPathfinding(), DEFAULT_SOURCE_TREE_THRESHOLD, false);
+    }
+
+    /**
+     * @param hierarchicalPathfinding The strategy whose cached abstractions are used for single queries
+     * @param sourceTreeThreshold The number of queries sharing a starting field from which on
+     *                            a search tree is built for that field, at least {@code 1}
+     * @param parallel If {@code true} the query groups are solved in parallel using the common fork join pool
+     * @throws IllegalArgumentException If the strategy is {@code null} or the threshold is smaller than {@code 1}
+     */
+    public MultiQuerySolver(HierarchicalPathfinding hierarchicalPathfinding, int sourceTreeThreshold, boolean parallel)
+            throws IllegalArgumentException {
+        if (hierarchicalPathfinding == null || sourceTreeThreshold < 1) {
+            throw new IllegalArgumentException(
+                    "A multi query solver needs a non-null hierarchical pathfinding strategy "
+                            + "and a source tree threshold of at least 1."
+            );
+        }
+        this.hierarchicalPathfinding = hierarchicalPathfinding;
+        this.sourceTreeThreshold = sourceTreeThreshold;
+        this.parallel = parallel;
+    }
+
+    public int getSourceTreeThreshold() { return sourceTreeThreshold; }
+
+    /**
+     * Solves all passed queries on the board of the given maze. The maze's own starting
+     * and ending field are irrelevant.
+     *
+     * @param maze The maze whose board is searched
+     * @param queries The queries to be answered
+     * @return The results in the same order as the passed queries
+     * @throws IllegalArgumentException If the maze or the queries are {@code null} or a query's
+     *                                  field lies outside the maze board
+     */
+    public List<QueryResult> solve(Maze maze, List<Query> queries) throws IllegalArgumentException {
+        if (maze == null || queries == null) {
+            throw new IllegalArgumentException("Neither the maze nor the queries must be null.");
+        }
+        for (Query query : queries) {
+            if (!MazeCells.liesWithinBoard(maze, query.from()) || !MazeCells.liesWithinBoard(maze, query.to())) {
+                throw new IllegalArgumentException(String.format(
+                        "The fields of the query %s must lie within the maze board (width: %d, height: %d).",
+                        query, maze.getMazeBoardWidth(), maze.getMazeBoardHeight()
+                ));
+            }
+        }
+
+        int[] componentLabels = labelComponents(maze);
+        QueryResult[] results = new QueryResult[queries.size()];
+
+        // Group the solvable queries by their starting field, keeping the order of their first appearance
+        Map<MazeField, List<Integer>> queriesBySource = new LinkedHashMap<>();
+        for (int i = 0; i < queries.size(); i++) {
+            Query query = queries.get(i);
+            int fromLabel = componentLabels[MazeCells.cellOf(maze, query.from())];
+            if (fromLabel == MazeCells.NONE || fromLabel != componentLabels[MazeCells.cellOf(maze, query.to())]) {
+                results[i] = new QueryResult(query, null);
+            } else {
+                queriesBySource.computeIfAbsent(query.from(), source -> new ArrayList<>()).add(i);
+            }
+        }
+
+        List<List<Integer>> groups = new ArrayList<>(queriesBySource.values());
+        IntStream groupIndexes = IntStream.range(0, groups.size());
+        (parallel ? groupIndexes.parallel() : groupIndexes).forEach(groupIndex ->
+                solveGroup(maze, queries, groups.get(groupIndex), results)
+        );
+
+        return List.of(results);
+    }
+
+    /**
+     * Solves all queries of one starting field and stores the results at the queries' indexes.
+     * Each group writes distinct indexes, so that groups can be solved concurrently.
+     */
+    private void solveGroup(Maze maze, List<Query> queries, List<Integer> queryIndexes, QueryResult[] results) {
+        if (queryIndexes.size() >= sourceTreeThreshold) {
+            MazeField source = queries.get(queryIndexes.getFirst()).from();
+            DistanceField searchTree = DistanceField.compute(maze, source, true);
+            for (int index : queryIndexes) {
+                Query query = queries.get(index);
+                results[index] = new QueryResult(query, searchTree.pathTo(query.to()));
+            }
+            return;
+        }
+
+        for (int index : queryIndexes) {
+            Query query = queries.get(index);
+            results[index] = new QueryResult(
+                    query, hierarchicalPathfinding.getAbstraction(maze).findPath(query.from(), query.to())
+            );
+        }
+    }
+
+    /**
+     * Labels every path field of the board with the index of its connected component. Walls are
+     * labelled with {@value MazeCells#NONE}.
+     *
+     * @param maze The maze whose board is labelled
+     * @return The labels indexed by {@link MazeField#calculateSequenceInBoard(int)}
+     */
+    private int[] labelComponents(Maze maze) {
+        boolean[][] mazeBoard = maze.getMazeBoard();
+        int width = maze.getMazeBoardWidth();
+        int[] labels = new int[MazeCells.cellCount(maze)];
+        Arrays.fill(labels, MazeCells.NONE);
+
+        int[] queue = new int[labels.length];
+        int label = 0;
+        for (int cell = 0; cell < labels.length; cell++) {
+            if (labels[cell] != MazeCells.NONE || !MazeCells.isPath(mazeBoard, width, cell)) {
+                continue;
+            }
+            int head = 0;
+            int tail = 0;
+            labels[cell] = label;
+            queue[tail++] = cell;
+            while (head < tail) {
+                int current = queue[head++];
+                for (int side = 0; side < MazeCells.SIDES; side++) {
+                    int neighbour = MazeCells.neighbour(mazeBoard, width, current, side);
+                    if (neighbour != MazeCells.NONE && labels[neighbour] == MazeCells.NONE) {
+                        labels[neighbour] = label;
+                        queue[tail++] = neighbour;
+                    }
+                }
+            }
+            label++;
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,195 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+
+/**
+ * <p>
+ *     The portfolio maze traversal strategy runs several other strategies on the same maze at the same time, each
+ *     on its own virtual thread, and returns the first successful result. The remaining strategies are cancelled.
+ * </p>
+ * Since it's usually not known in advance which strategy finishes first on a given maze, the latency of the
+ * portfolio corresponds to the one of the fastest strategy for every maze. If the shortest path is preferred, the
+ * result of the first strategy which {@link MazeTraversalStrategy#findsShortestPath() finds the shortest path} is
+ * returned instead and the results of the other strategies are only used if all of those strategies fail.
+ * <p>
+ *     As soon as a {@link GuaranteedMazeTraverser} fails, the maze is known to be untraversable
+ *     and the portfolio fails without waiting for the remaining strategies.
+ * </p>
+ */
+public class PortfolioStrategy implements MazeTraversalStrategy {
+    /**
+     * The interval in which the context is checked while waiting for the results of the strategies.
+     */
+    private static final long WAITING_CHECK_INTERVAL_MILLIS = 10;
+
+    private final List<MazeTraversalStrategy> strategies;
+    private final boolean preferShortestPath;
+
+    /**
+     * Constructs a portfolio which returns the first successful result.
+     *
+     * @see #PortfolioStrategy(List, boolean)
+     */
+    public PortfolioStrategy(List<? extends MazeTraversalStrategy> strategies) throws IllegalArgumentException {
+        this(strategies, false);
+    }
+
+    /**
+     * @param strategies A non-empty list of strategies without {@code null} values
+     * @param preferShortestPath If {@code true}, the result of the first successful strategy which finds the shortest
+     *                           path is preferred over results of faster strategies
+     * @throws IllegalArgumentException If the list of strategies is {@code null}, empty or contains {@code null}
+     */
+    public PortfolioStrategy(List<? extends MazeTraversalStrategy> strategies, boolean preferShortestPath)
+            throws IllegalArgumentException {
+        if (strategies == null || strategies.isEmpty() || strategies.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException(
+                    "A portfolio strategy needs a non-empty list of strategies without null values."
+            );
+        }
+        this.strategies = List.copyOf(strategies);
+        this.preferShortestPath = preferShortestPath;
+    }
+
+    public List<MazeTraversalStrategy> getStrategies() { return strategies; }
+    public boolean isPreferShortestPath() { return preferShortestPath; }
+
+    /**
+     * {@inheritDoc}
+     * @return {@code true} if the shortest path is preferred and the portfolio only
+     *         consists of strategies which find the shortest path
+     */
+    @Override
+    public boolean findsShortestPath() {
+        return preferShortestPath && strategies.stream().allMatch(MazeTraversalStrategy::findsShortestPath);
+    }
+
+    /**
+     * <p>
+     *     This method starts every strategy of the portfolio on a virtual thread and waits for their results in the
+     *     order of completion. The first successful result (or the first one finding the shortest path, if preferred)
+     *     is returned and the other strategies are cancelled by interrupting their threads.
+     * </p>
+     * If the waiting thread is interrupted, the strategies are cancelled as well and a
+     * {@link MazeTraversalTimeoutException} with the reason {@link MazeTraversalTimeoutException.Reason#CANCELLED}
+     * is thrown with the interrupt flag being restored.
+     *
+     * @param maze {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws MazeNotTraversableException If none of the strategies can traverse the maze
+     */
+    @Override
+    public boolean[][] traverseMaze(Maze maze) throws MazeNotTraversableException {
+        return traverseMaze(maze, TraversalContext.unbounded());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     Every strategy traverses the maze with a {@link TraversalContext#newChild() child} of the given context.
+     *     While waiting for results, the context is checked every {@value #WAITING_CHECK_INTERVAL_MILLIS} ms, which
+     *     also stops strategies that don't check the context themselves by interrupting their threads.
+     * </p>
+     *
+     * @param maze {@inheritDoc}
+     * @param context {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws MazeNotTraversableException If none of the strategies can traverse the maze
+     * @throws MazeTraversalTimeoutException {@inheritDoc}
+     */
+    @Override
+    public boolean[][] traverseMaze(Maze maze, TraversalContext context)
+            throws MazeNotTraversableException, MazeTraversalTimeoutException {
+        return MazeTraversalEvent.record(this, maze, context, () -> traverse(maze, context));
+    }
+
+    private boolean[][] traverse(Maze maze, TraversalContext context) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        CompletionService<boolean[][]> completionService = new ExecutorCompletionService<>(executor);
+
+        List<Future<boolean[][]>> futures = new ArrayList<>(strategies.size());
+        List<TraversalContext> childContexts = new ArrayList<>(strategies.size());
+        for (MazeTraversalStrategy strategy : strategies) {
+            TraversalContext childContext = context.newChild();
+            if (context.getStatistics().isEnabled()) {
+                childContext.enableStatistics();
+            }
+            childContexts.add(childContext);
+            futures.add(completionService.submit(() -> strategy.traverseMaze(maze, childContext)));
+        }
+
+        boolean[][] fallbackResult = null;
+        TraversalContext fallbackContext = null;
+        List<String> failureReasons = new ArrayList<>();
+        try {
+            for (int i = 0; i < strategies.size(); i++) {
+                Future<boolean[][]> future = awaitNextResult(completionService, context);
+                int index = futures.indexOf(future);
+                MazeTraversalStrategy strategy = strategies.get(index);
+                try {
+                    boolean[][] traversedBoard = future.get();
+                    if (!preferShortestPath || strategy.findsShortestPath()) {
+                        context.adoptChild(childContexts.get(index));
+                        return traversedBoard;
+                    }
+                    if (fallbackResult == null) {
+                        fallbackResult = traversedBoard;
+                        fallbackContext = childContexts.get(index);
+                    }
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof MazeTraversalTimeoutException timeout) {
+                        // The strategies share the deadline and cancellation of the context, so the others stop too
+                        throw timeout;
+                    }
+                    if (!(e.getCause() instanceof MazeNotTraversableException notTraversable)) {
+                        failureReasons.add(String.format(
+                                "%s failed unexpectedly: %s", strategy.getClass().getSimpleName(), e.getCause()
+                        ));
+                        continue;
+                    }
+                    failureReasons.add(String.format(
+                            "%s: %s", strategy.getClass().getSimpleName(), notTraversable.getReason()
+                    ));
+                    if (strategy instanceof GuaranteedMazeTraverser) {
+                        break;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            throw context.interrupted();
+        } finally {
+            // Cancel all strategies which are still running without waiting for them to finish
+            executor.shutdownNow();
+        }
+
+        if (fallbackResult != null) {
+            context.adoptChild(fallbackContext);
+            return fallbackResult;
+        }
+        throw new MazeNotTraversableException(
+                "portfolio",
+                maze,
+                String.join(System.lineSeparator(), failureReasons)
+        );
+    }
+
+    /**
+     * Waits for the next completed strategy while checking the context in regular intervals.
+     */
+    private static Future<boolean[][]> awaitNextResult(
+            CompletionService<boolean[][]> completionService, TraversalContext context
+    ) throws InterruptedException {
+        while (true) {
+            Future<boolean[][]> future = completionService.poll(WAITING_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            if (future != null) {
+                return future;
+            }
+            context.check();
+        }
+    }
+}
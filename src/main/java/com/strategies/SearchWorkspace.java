@@ -0,0 +1,284 @@
+package com.strategies;
+
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ *     The class {@code SearchWorkspace} holds the state of a search on a maze board, i.e. the visited and target
+ *     cells, the predecessor of every visited cell, the queue or stack of cells to be explored and the found path,
+ *     so that a thread solving many mazes reuses the same arrays instead of allocating collections for every search.
+ * </p>
+ * Instead of clearing the visited cells with {@link Arrays#fill(int[], int)} before every search, each cell
+ * stores the generation of the search which visited it last. Starting a search only increments the generation,
+ * which turns all cells into unvisited ones in constant time, and the predecessor of a cell is only read if the
+ * cell has been visited in the current generation. The arrays only grow, so that a workspace which has been used
+ * for a large maze keeps its capacity for the following searches.
+ * <p>
+ *     A workspace is used by one search at a time. {@link #acquire()} hands out an idle workspace of a small pool
+ *     shared by all threads, which is returned by {@link #close()}, so that the pooled workspaces are used with
+ *     try-with-resources. Since the pool isn't bound to threads, short-lived virtual threads reuse the workspaces
+ *     as well. The pool keeps at most {@value #MAX_POOLED_WORKSPACES} idle workspaces, and a workspace which has
+ *     grown beyond {@value #MAX_POOLED_CAPACITY} cells is dropped when it's returned, so that a single huge maze
+ *     doesn't keep its arrays alive.
+ * </p>
+ *
+ * @see BreadthFirstSearch#traverseMaze(com.mazedata.Maze, TraversalContext, SearchWorkspace)
+ * @see DepthFirstSearch#traverseMaze(com.mazedata.Maze, TraversalContext, SearchWorkspace)
+ */
+public final class SearchWorkspace implements AutoCloseable {
+    /**
+     * The largest number of idle workspaces kept in the pool.
+     */
+    static final int MAX_POOLED_WORKSPACES = 16;
+
+    /**
+     * The largest capacity in cells of a workspace which is put back into the pool.
+     */
+    static final int MAX_POOLED_CAPACITY = 1 << 20;
+
+    private static final Deque<SearchWorkspace> IDLE_WORKSPACES = new ConcurrentLinkedDeque<>();
+
+    /**
+     * The number of workspaces in {@link #IDLE_WORKSPACES}, since the size of the deque isn't a constant-time call.
+     */
+    private static final AtomicInteger IDLE_WORKSPACE_COUNT = new AtomicInteger();
+
+    /**
+     * The generation of the search which visited the cell last, per cell.
+     */
+    private int[] visitedGenerations = new int[0];
+
+    /**
+     * The cell from which a cell has been visited, per cell. Only valid for cells visited in the current generation.
+     */
+    private int[] predecessors = new int[0];
+
+    /**
+     * The cells at which the current search ends, e.g. several exits, which are sorted before they are looked up.
+     * Their number only depends on the maze's ending fields, not on the size of its board.
+     */
+    private int[] targetCells = new int[1];
+    private int targetCount;
+    private boolean targetCellsSorted;
+
+    private int generation;
+
+    /**
+     * The queue or stack of the cells which are to be explored.
+     */
+    private final IntArrayList frontier = new IntArrayList();
+
+    /**
+     * The cells of the path found by the last search, ordered from the starting to the ending cell.
+     */
+    private final IntArrayList path = new IntArrayList();
+
+    /**
+     * The board returned by {@link #reusedTraversedBoard(int, int)} and the cells which are set in it.
+     */
+    private boolean[][] traversedBoard;
+    private final IntArrayList traversedBoardCells = new IntArrayList();
+
+    /**
+     * {@code true} if the workspace has been handed out by {@link #acquire()} and is returned to the pool on close.
+     */
+    private final boolean pooled;
+    private boolean acquired;
+
+    /**
+     * Creates a workspace which is owned by the caller. Closing it doesn't put it into the pool.
+     */
+    public SearchWorkspace() {
+        this(0, false);
+    }
+
+    /**
+     * Creates a workspace whose generation starts after the given one, which allows testing its overflow.
+     */
+    SearchWorkspace(int generation) {
+        this(generation, false);
+    }
+
+    private SearchWorkspace(int generation, boolean pooled) {
+        this.generation = generation;
+        this.pooled = pooled;
+    }
+
+    /**
+     * <p>
+     *     Returns an idle workspace of the pool, which has to be {@link #close() closed} after the search.
+     * </p>
+     * If the pool is empty, e.g. because as many searches are running as there have ever been, a new workspace
+     * is returned, which joins the pool once it's closed. The most recently returned workspace is handed out first.
+     *
+     * @return as described above
+     */
+    public static SearchWorkspace acquire() {
+        SearchWorkspace workspace = IDLE_WORKSPACES.pollFirst();
+        if (workspace == null) {
+            workspace = new SearchWorkspace(0, true);
+        } else {
+            IDLE_WORKSPACE_COUNT.decrementAndGet();
+        }
+        workspace.acquired = true;
+        return workspace;
+    }
+
+    /**
+     * Returns this workspace to the pool if it has been handed out by {@link #acquire()}, so that it can be handed
+     * out again with its arrays. If the pool is full or the workspace has grown beyond
+     * {@value #MAX_POOLED_CAPACITY} cells, the workspace is dropped instead. Closing a workspace twice or one
+     * which has been created with the constructor has no effect.
+     */
+    @Override
+    public void close() {
+        if (!pooled || !acquired) {
+            return;
+        }
+        acquired = false;
+        if (getCapacity() > MAX_POOLED_CAPACITY) {
+            return;
+        }
+        if (IDLE_WORKSPACE_COUNT.incrementAndGet() <= MAX_POOLED_WORKSPACES) {
+            IDLE_WORKSPACES.offerFirst(this);
+        } else {
+            IDLE_WORKSPACE_COUNT.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of idle workspaces in the pool.
+     */
+    static int idleWorkspaceCount() { return IDLE_WORKSPACE_COUNT.get(); }
+
+    /**
+     * Returns the number of cells which can be searched without growing the arrays of this workspace.
+     *
+     * @return as described above
+     */
+    public int getCapacity() { return visitedGenerations.length; }
+
+    /**
+     * Returns the number of cells of the path found by the last search or {@code 0} if the last search failed.
+     *
+     * @return as described above
+     */
+    public int getPathLength() { return path.size(); }
+
+    /**
+     * Returns the cell ({@code positionX + boardWidth * positionY}) of the path found by the last search
+     * at the given index, counted from the starting cell.
+     *
+     * @param index The index of the cell within the path
+     * @return as described above
+     * @throws IndexOutOfBoundsException If the index lies outside the path
+     */
+    public int getPathCell(int index) throws IndexOutOfBoundsException {
+        return path.get(index);
+    }
+
+    /**
+     * Starts a search on a board of the given number of cells, which turns all cells into unvisited ones and
+     * clears the frontier and path.
+     */
+    void prepare(int cellCount) {
+        if (visitedGenerations.length < cellCount) {
+            visitedGenerations = new int[cellCount];
+            predecessors = new int[cellCount];
+        }
+        if (++generation == 0) {
+            // The generations have wrapped around, so that old stamps could be taken for current ones
+            Arrays.fill(visitedGenerations, 0);
+            generation = 1;
+        }
+        targetCount = 0;
+        frontier.clear();
+        path.clear();
+    }
+
+    boolean isVisited(int cell) {
+        return visitedGenerations[cell] == generation;
+    }
+
+    void visit(int cell, int predecessor) {
+        visitedGenerations[cell] = generation;
+        predecessors[cell] = predecessor;
+    }
+
+    /**
+     * Marks the cell as one of the cells at which the current search ends, e.g. one of several exits.
+     */
+    void markTarget(int cell) {
+        if (targetCount == targetCells.length) {
+            targetCells = Arrays.copyOf(targetCells, targetCount << 1);
+        }
+        targetCells[targetCount++] = cell;
+        targetCellsSorted = false;
+    }
+
+    /**
+     * Looks the cell up among the target cells using a binary search.
+     */
+    boolean isTarget(int cell) {
+        if (!targetCellsSorted) {
+            Arrays.sort(targetCells, 0, targetCount);
+            targetCellsSorted = true;
+        }
+        return Arrays.binarySearch(targetCells, 0, targetCount, cell) >= 0;
+    }
+
+    IntArrayList frontier() { return frontier; }
+
+    IntArrayList path() { return path; }
+
+    /**
+     * Stores the path which leads to the given visited cell by following the predecessors back to the starting cell.
+     */
+    void storePathTo(int cell) {
+        path.clear();
+        for (int current = cell; current != MazeCells.NONE; current = predecessors[current]) {
+            path.add(current);
+        }
+        path.reverse();
+    }
+
+    /**
+     * Returns a new board of the given size on which the cells of the path are set.
+     */
+    boolean[][] newTraversedBoard(int boardHeight, int boardWidth) {
+        boolean[][] board = new boolean[boardHeight][boardWidth];
+        setPathCells(board, boardWidth);
+        return board;
+    }
+
+    /**
+     * Returns the board of this workspace on which only the cells of the path are set. The board is only
+     * allocated if its size changes, otherwise the cells set for the previous path are cleared one by one.
+     */
+    boolean[][] reusedTraversedBoard(int boardHeight, int boardWidth) {
+        if (traversedBoard == null || traversedBoard.length != boardHeight || traversedBoard[0].length != boardWidth) {
+            traversedBoard = new boolean[boardHeight][boardWidth];
+        } else {
+            for (int i = 0; i < traversedBoardCells.size(); i++) {
+                int cell = traversedBoardCells.get(i);
+                traversedBoard[cell / boardWidth][cell % boardWidth] = false;
+            }
+        }
+        traversedBoardCells.clear();
+        for (int i = 0; i < path.size(); i++) {
+            traversedBoardCells.add(path.get(i));
+        }
+        setPathCells(traversedBoard, boardWidth);
+        return traversedBoard;
+    }
+
+    private void setPathCells(boolean[][] board, int boardWidth) {
+        for (int i = 0; i < path.size(); i++) {
+            int cell = path.get(i);
+            board[cell / boardWidth][cell % boardWidth] = true;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.strategies;
+
+import java.time.Duration;
+
+/**
+ * <p>
+ *     The class {@code TraversalContext} allows a running maze traversal to be stopped, either by an explicit
+ *     {@link #cancel() cancellation}, by a deadline or by interrupting the traversing thread.
+ * </p>
+ * Strategies supporting the context call {@link #checkpoint()} once per expanded field. Since reading the clock
+ * and the volatile cancellation flag on every expansion would noticeably slow down tight search loops, the actual
+ * check is only performed every {@value #CHECK_INTERVAL} expansions, so that a traversal notices a cancellation
+ * or an exceeded deadline with a delay of at most that many expansions.
+ * <p>
+ *     A context counts the expansions of exactly one traversal and must therefore not be shared between
+ *     concurrent traversals. Use {@link #newChild()} to stop several traversals together.
+ *     {@link #cancel()} may be called from any thread.
+ * </p>
+ *
+ * @see MazeTraversalStrategy#traverseMaze(com.mazedata.Maze, TraversalContext)
+ */
+public final class TraversalContext {
+    /**
+     * The number of expansions between two checks of the cancellation flag, the deadline and the interrupt flag.
+     */
+    public static final int CHECK_INTERVAL = 1024;
+
+    private final TraversalContext parent;
+    private final long startNanos;
+    private final long deadlineNanos;
+    private final boolean hasDeadline;
+
+    private volatile boolean cancelled;
+    private long expandedFieldCount;
+    private TraversalStatistics statistics = TraversalStatistics.DISABLED;
+
+    private TraversalContext(TraversalContext parent, long startNanos, long deadlineNanos, boolean hasDeadline) {
+        this.parent = parent;
+        this.startNanos = startNanos;
+        this.deadlineNanos = deadlineNanos;
+        this.hasDeadline = hasDeadline;
+    }
+
+    /**
+     * Creates a context without deadline which only stops the traversal if it's cancelled
+     * or the traversing thread is interrupted.
+     */
+    public static TraversalContext unbounded() {
+        return new TraversalContext(null, System.nanoTime(), 0, false);
+    }
+
+    /**
+     * Creates a context whose deadline lies the given duration after its creation.
+     *
+     * @param timeout A non-null, non-negative duration
+     * @return as described above
+     * @throws IllegalArgumentException If the timeout is {@code null} or negative
+     */
+    public static TraversalContext withTimeout(Duration timeout) throws IllegalArgumentException {
+        if (timeout == null || timeout.isNegative()) {
+            throw new IllegalArgumentException(String.format(
+                    "The timeout of a traversal must not be null or negative. Provided timeout: %s", timeout
+            ));
+        }
+        long now = System.nanoTime();
+        return new TraversalContext(null, now, now + saturatedNanos(timeout), true);
+    }
+
+    /**
+     * Creates a context for a traversal which runs as part of the traversal of this context. The child
+     * shares the deadline of this context and is cancelled together with it, but counts its own expansions.
+     */
+    public TraversalContext newChild() {
+        return new TraversalContext(this, System.nanoTime(), deadlineNanos, hasDeadline);
+    }
+
+    /**
+     * Takes over the expansions and the statistics of the given child, e.g. of the child traversal whose result
+     * is returned, so that they are reported for the traversal of this context.
+     */
+    void adoptChild(TraversalContext child) {
+        expandedFieldCount += child.expandedFieldCount;
+        statistics.add(child.statistics);
+    }
+
+    /**
+     * Makes the traversal of this context collect {@link TraversalStatistics}. Must be called before the traversal.
+     *
+     * @return this context
+     */
+    public TraversalContext enableStatistics() {
+        if (!statistics.isEnabled()) {
+            statistics = new TraversalStatistics(true);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the statistics of the traversal, whose counters all stay {@code 0}
+     * unless the statistics have been {@link #enableStatistics() enabled}.
+     */
+    public TraversalStatistics getStatistics() { return statistics; }
+
+    /**
+     * Cancels the traversal of this context and the traversals of all its children.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled || (parent != null && parent.isCancelled());
+    }
+
+    public boolean hasDeadline() { return hasDeadline; }
+
+    public boolean isDeadlineExceeded() {
+        return hasDeadline && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    /**
+     * Returns the time left until the deadline, which is {@link Duration#ZERO} once it has been exceeded,
+     * or {@code null} if the context doesn't have a deadline.
+     */
+    public Duration getRemainingTime() {
+        return hasDeadline ? Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime())) : null;
+    }
+
+    public Duration getElapsedTime() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    public long getExpandedFieldCount() { return expandedFieldCount; }
+
+    /**
+     * Counts one expanded field and every {@value #CHECK_INTERVAL} expansions {@link #check() checks}
+     * whether the traversal has to be stopped.
+     *
+     * @throws MazeTraversalTimeoutException If the traversal has to be stopped
+     */
+    public void checkpoint() throws MazeTraversalTimeoutException {
+        if ((++expandedFieldCount & (CHECK_INTERVAL - 1)) == 0) {
+            check();
+        }
+    }
+
+    /**
+     * Immediately checks whether the traversal has been cancelled, its deadline has been exceeded or
+     * the current thread has been interrupted. The interrupt flag of the thread is left untouched.
+     *
+     * @throws MazeTraversalTimeoutException If one of the conditions above applies
+     */
+    public void check() throws MazeTraversalTimeoutException {
+        if (isCancelled() || Thread.currentThread().isInterrupted()) {
+            throw stop(MazeTraversalTimeoutException.Reason.CANCELLED);
+        }
+        if (isDeadlineExceeded()) {
+            throw stop(MazeTraversalTimeoutException.Reason.DEADLINE_EXCEEDED);
+        }
+    }
+
+    /**
+     * Stops the traversal because the current thread has been interrupted while waiting, e.g. for the results of
+     * child traversals, which has cleared its interrupt flag. The flag is set again, so that callers still notice
+     * the interrupt.
+     *
+     * @return The exception to be thrown, like the one {@link #check()} throws for an interrupted thread
+     */
+    MazeTraversalTimeoutException interrupted() {
+        Thread.currentThread().interrupt();
+        return stop(MazeTraversalTimeoutException.Reason.CANCELLED);
+    }
+
+    private MazeTraversalTimeoutException stop(MazeTraversalTimeoutException.Reason reason) {
+        // Freeze the statistics so that they describe the traversal up to this point
+        statistics.stop(expandedFieldCount);
+        return new MazeTraversalTimeoutException(reason, expandedFieldCount, getElapsedTime(), statistics);
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            // Keep a distance to Long.MAX_VALUE so that adding the value to System.nanoTime() doesn't overflow
+            return Math.min(duration.toNanos(), Long.MAX_VALUE / 4);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE / 4;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.strategies;
+
+/**
+ * The possible outcomes of a traversal of a maze by a {@link MazeTraversalStrategy}.
+ */
+public enum TraversalOutcome {
+    /**
+     * The strategy has found a path from the starting to the ending field.
+     */
+    TRAVERSED,
+
+    /**
+     * The strategy has thrown a {@link MazeNotTraversableException}.
+     */
+    NOT_TRAVERSABLE,
+
+    /**
+     * The strategy has thrown a {@link MazeTraversalTimeoutException}.
+     */
+    TIMED_OUT,
+
+    /**
+     * The strategy has failed with any other exception.
+     */
+    FAILED
+}
@@ -0,0 +1,10 @@
+package com.strategies;
+
+/**
+ * The result of a traversal along with the statistics collected during it.
+ *
+ * @param traversedBoard The traversed board as described at
+ *                       {@link MazeTraversalStrategy#traverseMaze(com.mazedata.Maze)}
+ * @param statistics The statistics of the traversal
+ */
+public record TraversalResult(boolean[][] traversedBoard, TraversalStatistics statistics) {}
@@ -0,0 +1,152 @@
+package com.strategies;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+
+/**
+ * <p>
+ *     The class {@code TraversalStatistics} collects counters describing the work a strategy has done during one
+ *     traversal: the visited and enqueued fields, the peak size of the frontier (the queue of a breadth first
+ *     search or the path of a depth first search), the backtracks of a depth first search, the turns and laps of
+ *     the hand on wall strategy, the elapsed time and the bytes allocated by the traversing thread.
+ * </p>
+ * The statistics are collected by enabling them on the {@link TraversalContext} of a traversal, e.g. using
+ * {@link MazeTraversalStrategy#traverseMazeWithStatistics(com.mazedata.Maze)}. Counters a strategy doesn't
+ * maintain stay {@code 0}. If the statistics are disabled, which is the default, every {@code record} method
+ * returns immediately, so that a traversal doesn't pay for counters nobody reads.
+ * <p>
+ *     The allocated bytes are measured using the {@link ThreadMXBean} of the JVM and are {@code -1} if it doesn't
+ *     support measuring allocations. Like the context, an instance belongs to exactly one traversal and thread.
+ * </p>
+ */
+public final class TraversalStatistics {
+    /**
+     * The statistics of contexts which don't collect statistics. All of its counters stay {@code 0}.
+     */
+    static final TraversalStatistics DISABLED = new TraversalStatistics(false);
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final boolean enabled;
+
+    private long visitedFieldCount;
+    private long enqueuedFieldCount;
+    private long backtrackCount;
+    private long turnCount;
+    private long lapCount;
+    private int peakFrontierSize;
+
+    private long startNanos;
+    private long elapsedNanos;
+    private long startAllocatedBytes = -1;
+    private long allocatedBytes = -1;
+    private boolean running;
+
+    TraversalStatistics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public long getVisitedFieldCount() { return visitedFieldCount; }
+    public long getEnqueuedFieldCount() { return enqueuedFieldCount; }
+    public long getBacktrackCount() { return backtrackCount; }
+    public long getTurnCount() { return turnCount; }
+    public long getLapCount() { return lapCount; }
+    public int getPeakFrontierSize() { return peakFrontierSize; }
+    public Duration getElapsedTime() { return Duration.ofNanos(elapsedNanos); }
+
+    /**
+     * Returns the bytes allocated by the traversing thread during the traversal
+     * or {@code -1} if the JVM doesn't support measuring them.
+     */
+    public long getAllocatedBytes() { return allocatedBytes; }
+
+    /**
+     * Counts a field added to the frontier and updates the peak frontier size.
+     *
+     * @param frontierSize The size of the frontier after adding the field
+     */
+    public void recordEnqueue(int frontierSize) {
+        if (!enabled) return;
+        enqueuedFieldCount++;
+        if (frontierSize > peakFrontierSize) {
+            peakFrontierSize = frontierSize;
+        }
+    }
+
+    public void recordBacktrack() {
+        if (!enabled) return;
+        backtrackCount++;
+    }
+
+    public void recordTurn() {
+        if (!enabled) return;
+        turnCount++;
+    }
+
+    public void recordLap() {
+        if (!enabled) return;
+        lapCount++;
+    }
+
+    /**
+     * Adds the counters of the given statistics to these, e.g. those of the child traversal whose result is
+     * returned by the {@link PortfolioStrategy}. The visited fields, the elapsed time and the allocated bytes
+     * are left untouched, since they are measured by {@link #stop(long)}.
+     */
+    void add(TraversalStatistics other) {
+        if (!enabled) return;
+        enqueuedFieldCount += other.enqueuedFieldCount;
+        backtrackCount += other.backtrackCount;
+        turnCount += other.turnCount;
+        lapCount += other.lapCount;
+        peakFrontierSize = Math.max(peakFrontierSize, other.peakFrontierSize);
+    }
+
+    /**
+     * Starts measuring the elapsed time and the allocated bytes on the current thread.
+     */
+    void start() {
+        if (!enabled) return;
+        running = true;
+        startAllocatedBytes = currentThreadAllocatedBytes();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Stops measuring and takes over the number of visited fields. Only the first call after
+     * {@link #start()} has an effect, so that a stopped traversal keeps the values of the moment it was stopped.
+     *
+     * @param visitedFieldCount The number of fields expanded by the traversal
+     */
+    void stop(long visitedFieldCount) {
+        if (!enabled || !running) return;
+        running = false;
+        elapsedNanos = System.nanoTime() - startNanos;
+        long endAllocatedBytes = currentThreadAllocatedBytes();
+        allocatedBytes = startAllocatedBytes < 0 || endAllocatedBytes < 0
+                ? -1
+                : endAllocatedBytes - startAllocatedBytes;
+        this.visitedFieldCount = visitedFieldCount;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean allocationMXBean
+                && allocationMXBean.isThreadAllocatedMemorySupported()
+                && allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+            return allocationMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "visited: %d, enqueued: %d, peak frontier: %d, backtracks: %d, turns: %d, laps: %d, "
+                        + "time: %.3f ms, allocated: %s",
+                visitedFieldCount, enqueuedFieldCount, peakFrontierSize, backtrackCount, turnCount, lapCount,
+                elapsedNanos / 1_000_000.0, allocatedBytes < 0 ? "n/a" : allocatedBytes + " bytes"
+        );
+    }
+}
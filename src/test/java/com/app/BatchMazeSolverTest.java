@@ -0,0 +1,231 @@
+package com.app;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeGenerator;
+import com.mazedata.MazeRepository;
+import com.mazedata.TestHandler;
+import com.strategies.BreadthFirstSearch;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchMazeSolverTest {
+    private static final int MAZE_COUNT = 20;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Writes a corpus of generated mazes in which every fifth maze is unsolvable.
+     */
+    private Path writeMazeCorpus() throws IOException {
+        Path mazeFile = tempDir.resolve("corpus.txt");
+        MazeRepository.writeMazeFile(mazeFile, new MazeGenerator(42).generateCorpus(
+                MazeGenerator.Algorithm.RECURSIVE_BACKTRACKER, 21, 21, MAZE_COUNT, 5
+        ));
+        return mazeFile;
+    }
+
+    private static BatchMazeSolver.Options options(Path mazeFile, BatchMazeSolver.OutputFormat format) {
+        return new BatchMazeSolver.Options(mazeFile, List.of("bfs", "dfs"), 3, format, null, null);
+    }
+
+    @Nested
+    class Run {
+        @Test
+        void testRun_WritesOneCsvLinePerMazeAndStrategy() throws IOException, InterruptedException {
+            StringWriter writer = new StringWriter();
+            BatchMazeSolver.Summary summary = new BatchMazeSolver(
+                    options(writeMazeCorpus(), BatchMazeSolver.OutputFormat.CSV)
+            ).run(writer);
+
+            List<String> lines = writer.toString().lines().toList();
+            assertEquals("maze_index,maze,strategy,outcome,solved,path_length,time_ms", lines.getFirst());
+            assertEquals(2 * MAZE_COUNT + 1, lines.size());
+
+            assertEquals(MAZE_COUNT, summary.mazeCount());
+            assertEquals(2 * MAZE_COUNT, summary.traversalCount());
+            assertEquals(2 * (MAZE_COUNT / 5), summary.notTraversableCount());
+            assertEquals(summary.traversalCount() - summary.notTraversableCount(), summary.solvedCount());
+            assertEquals(0, summary.timedOutCount());
+            assertEquals(0, summary.failedCount());
+
+            long solvedLineCount = lines.stream().skip(1).filter(line -> line.contains(",TRAVERSED,true,")).count();
+            assertEquals(summary.solvedCount(), solvedLineCount);
+            assertTrue(lines.stream().skip(1).filter(line -> line.contains(",NOT_TRAVERSABLE,"))
+                    .allMatch(line -> line.contains(",false,-1,")));
+        }
+
+        @Test
+        void testRun_BreadthFirstSearchPathLengthsMatchSingleTraversal() throws IOException, InterruptedException {
+            Path mazeFile = writeMazeCorpus();
+            StringWriter writer = new StringWriter();
+            new BatchMazeSolver(new BatchMazeSolver.Options(
+                    mazeFile, List.of("bfs"), 2, BatchMazeSolver.OutputFormat.CSV, null, null
+            )).run(writer);
+
+            List<Maze> mazes;
+            try (Stream<Maze> stream = new MazeRepository(mazeFile.toString()).streamMazes()) {
+                mazes = stream.toList();
+            }
+            writer.toString().lines().skip(1).map(line -> line.split(",")).forEach(columns -> {
+                Maze maze = mazes.get(Integer.parseInt(columns[0]));
+                int expectedPathLength = columns[4].equals("true")
+                        ? maze.calculateTraversedPathLength(new BreadthFirstSearch().traverseMaze(maze))
+                        : -1;
+                assertEquals(expectedPathLength, Integer.parseInt(columns[5]));
+            });
+        }
+
+        @Test
+        void testRun_WritesJsonLines() throws IOException, InterruptedException {
+            StringWriter writer = new StringWriter();
+            new BatchMazeSolver(options(writeMazeCorpus(), BatchMazeSolver.OutputFormat.JSONL)).run(writer);
+
+            List<String> lines = writer.toString().lines().toList();
+            assertEquals(2 * MAZE_COUNT, lines.size());
+            assertTrue(lines.stream().allMatch(line -> line.matches(
+                    "\\{\"maze_index\":\\d+,\"maze\":\".*\",\"strategy\":\"(bfs|dfs)\","
+                            + "\"outcome\":\"(TRAVERSED|NOT_TRAVERSABLE)\",\"solved\":(true|false),"
+                            + "\"path_length\":-?\\d+,\"time_ms\":\\d+\\.\\d{3}}"
+            )));
+        }
+
+        @Test
+        void testRun_WritesSolvedBoardsIntoSolutionDirectory() throws IOException, InterruptedException {
+            Path mazeFile = writeMazeCorpus();
+            Path solutionDirectory = tempDir.resolve("solutions");
+            BatchMazeSolver.Summary summary = new BatchMazeSolver(new BatchMazeSolver.Options(
+                    mazeFile, List.of("bfs"), 2, BatchMazeSolver.OutputFormat.CSV, null, null, solutionDirectory
+            )).run(new StringWriter());
+
+            List<Maze> mazes;
+            try (Stream<Maze> stream = new MazeRepository(mazeFile.toString()).streamMazes()) {
+                mazes = stream.toList();
+            }
+            try (Stream<Path> solutionFiles = Files.list(solutionDirectory)) {
+                assertEquals(summary.solvedCount(), solutionFiles.count());
+            }
+            for (int i = 0; i < mazes.size(); i++) {
+                Path solutionFile = solutionDirectory.resolve("maze-" + i + "-bfs.txt");
+                if (Files.exists(solutionFile)) {
+                    Maze maze = mazes.get(i);
+                    String expectedSolution = maze.traversedBoardToString(new BreadthFirstSearch().traverseMaze(maze));
+                    assertEquals(expectedSolution, Files.readString(solutionFile));
+                }
+            }
+        }
+
+        @Test
+        void testRun_WithFailingResultLine_ReportsFailureAndContinues() throws IOException, InterruptedException {
+            StringWriter writer = new StringWriter() {
+                @Override
+                public void write(String line) {
+                    if (line.contains(",dfs,")) {
+                        throw new UncheckedIOException(new IOException("Result line rejected"));
+                    }
+                    super.write(line);
+                }
+            };
+            Logger logger = Logger.getLogger(BatchMazeSolver.class.getName());
+            TestHandler testHandler = new TestHandler();
+            logger.addHandler(testHandler);
+            try {
+                BatchMazeSolver.Summary summary = new BatchMazeSolver(new BatchMazeSolver.Options(
+                        writeMazeCorpus(), List.of("bfs", "dfs"), 1, BatchMazeSolver.OutputFormat.CSV, null, null
+                )).run(writer);
+
+                assertEquals(2 * MAZE_COUNT, summary.traversalCount());
+                assertEquals(MAZE_COUNT + 1, writer.toString().lines().count());
+                assertEquals(MAZE_COUNT, testHandler.getRecords().stream()
+                        .filter(record -> record.getMessage().startsWith("Unable to write the result of the dfs"))
+                        .count());
+            } finally {
+                logger.removeHandler(testHandler);
+            }
+        }
+
+        @Test
+        void testRun_WithMissingMazeFile() throws IOException, InterruptedException {
+            StringWriter writer = new StringWriter();
+            BatchMazeSolver.Summary summary = new BatchMazeSolver(
+                    options(tempDir.resolve("missing.txt"), BatchMazeSolver.OutputFormat.JSONL)
+            ).run(writer);
+
+            assertEquals(0, summary.mazeCount());
+            assertEquals("", writer.toString());
+        }
+    }
+
+    @Nested
+    class Options {
+        @Test
+        void testParse_WithAllOptions() {
+            BatchMazeSolver.Options options = BatchMazeSolver.Options.parse(new String[] {
+                    "--mazes", "mazes.txt", "--strategies", "bfs, hand-on-wall-left", "--threads", "2",
+                    "--format", "jsonl", "--output", "results.jsonl", "--timeout-ms", "250",
+                    "--solutions", "solutions"
+            });
+
+            assertEquals(Path.of("mazes.txt"), options.mazeFile());
+            assertEquals(List.of("bfs", "hand-on-wall-left"), options.strategyNames());
+            assertEquals(2, options.threadCount());
+            assertEquals(BatchMazeSolver.OutputFormat.JSONL, options.format());
+            assertEquals(Path.of("results.jsonl"), options.outputFile());
+            assertEquals(Duration.ofMillis(250), options.timeout());
+            assertEquals(Path.of("solutions"), options.solutionDirectory());
+        }
+
+        @Test
+        void testParse_WithDefaults() {
+            BatchMazeSolver.Options options = BatchMazeSolver.Options.parse(new String[] { "--mazes", "mazes.txt" });
+
+            assertEquals(List.of("bfs"), options.strategyNames());
+            assertEquals(Runtime.getRuntime().availableProcessors(), options.threadCount());
+            assertEquals(BatchMazeSolver.OutputFormat.CSV, options.format());
+            assertNull(options.outputFile());
+            assertNull(options.timeout());
+            assertNull(options.solutionDirectory());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "--strategies bfs",
+                "--mazes mazes.txt --strategies unknown",
+                "--mazes mazes.txt --threads 0",
+                "--mazes mazes.txt --threads many",
+                "--mazes mazes.txt --format xml",
+                "--mazes mazes.txt --timeout-ms 0",
+                "--mazes mazes.txt --verbose true",
+                "--mazes"
+        })
+        void testParse_WithInvalidArguments(String args) {
+            assertThrows(IllegalArgumentException.class, () -> BatchMazeSolver.Options.parse(args.split(" ")));
+        }
+    }
+
+    @Test
+    void testEscapeCsv() {
+        assertEquals("Maze 1", BatchMazeSolver.escapeCsv("Maze 1"));
+        assertEquals("\"Maze, \"\"quoted\"\"\"", BatchMazeSolver.escapeCsv("Maze, \"quoted\""));
+    }
+
+    @Test
+    void testEscapeJson() {
+        assertEquals("\"Maze \\\"1\\\"\\\\\\n\\u0001\"", BatchMazeSolver.escapeJson("Maze \"1\"\\\n\u0001"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.app;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeSolveServerTest {
+    private static final String MAZE = String.join("\n",
+            "#####",
+            "#So##",
+            "##o##",
+            "##ooE",
+            "#####"
+    );
+
+    private static final String UNSOLVABLE_MAZE = String.join("\n",
+            "#####",
+            "#So##",
+            "#####",
+            "##ooE",
+            "#####"
+    );
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private MazeSolveServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new MazeSolveServer(0, 1, 8);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    private HttpResponse<String> post(String query, String body) throws IOException, InterruptedException {
+        return client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/solve" + query))
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+    }
+
+    private HttpResponse<String> getMetrics() throws IOException, InterruptedException {
+        return client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/metrics")).build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+    }
+
+    @Test
+    void testSolve_ReturnsTraversedBoard() throws IOException, InterruptedException {
+        HttpResponse<String> response = post("?strategy=bfs&description=Small%20maze", MAZE);
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith(
+                "{\"strategy\":\"bfs\",\"outcome\":\"TRAVERSED\",\"solved\":true,\"path_length\":6,"
+        ));
+        assertTrue(response.body().contains("\"board\":\"#####\\n#Sx##\\n##x##\\n##xxE\\n#####"));
+        assertEquals("MISS", response.headers().firstValue("X-Cache").orElseThrow());
+    }
+
+    @Test
+    void testSolve_WithUnsolvableMaze() throws IOException, InterruptedException {
+        HttpResponse<String> response = post("?strategy=dfs", UNSOLVABLE_MAZE);
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"outcome\":\"NOT_TRAVERSABLE\",\"solved\":false,\"path_length\":-1"));
+        assertTrue(response.body().contains("\"reason\":"));
+    }
+
+    @Test
+    void testSolve_CachesResultPerStrategyAndMaze() throws IOException, InterruptedException {
+        HttpResponse<String> first = post("", MAZE);
+        HttpResponse<String> second = post("?strategy=BFS", MAZE + "\n\n");
+        HttpResponse<String> otherStrategy = post("?strategy=hand-on-wall-left", MAZE);
+
+        assertEquals("MISS", first.headers().firstValue("X-Cache").orElseThrow());
+        assertEquals("HIT", second.headers().firstValue("X-Cache").orElseThrow());
+        assertEquals(first.body(), second.body());
+        assertEquals("MISS", otherStrategy.headers().firstValue("X-Cache").orElseThrow());
+
+        String metrics = getMetrics().body();
+        assertTrue(metrics.contains("maze_solve_cache_hits_total 1\n"));
+        assertTrue(metrics.contains("maze_solve_cache_misses_total 2\n"));
+        assertTrue(metrics.contains("maze_solve_traversals_total{outcome=\"TRAVERSED\"} 2\n"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "?strategy=a-star, 400",
+            "?timeout-ms=soon, 400",
+            "'', 400"
+    })
+    void testSolve_WithInvalidRequest(String query, int expectedStatus) throws IOException, InterruptedException {
+        // The last request sends a maze without an ending field
+        HttpResponse<String> response = post(query, query.isEmpty() ? "#S#" : MAZE);
+
+        assertEquals(expectedStatus, response.statusCode());
+        assertTrue(response.body().startsWith("{\"error\":"));
+        assertTrue(getMetrics().body().contains("maze_solve_invalid_requests_total 1\n"));
+    }
+
+    @Test
+    void testSolve_WithGetRequest() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/solve")).build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+
+        assertEquals(405, response.statusCode());
+        assertEquals("POST", response.headers().firstValue("Allow").orElseThrow());
+    }
+
+    @Test
+    void testSolve_RejectsRequestsAboveConcurrencyLimit() throws IOException, InterruptedException {
+        // Occupy the only permit as if a maze was being solved
+        server.concurrentRequests.acquire();
+        HttpResponse<String> response;
+        try {
+            response = post("", MAZE);
+            assertTrue(getMetrics().body().contains("maze_solve_in_flight_requests 1\n"));
+        } finally {
+            server.concurrentRequests.release();
+        }
+
+        assertEquals(429, response.statusCode());
+        assertEquals("1", response.headers().firstValue("Retry-After").orElseThrow());
+        assertEquals(200, post("", MAZE).statusCode());
+        assertTrue(getMetrics().body().contains("maze_solve_rejected_requests_total 1\n"));
+    }
+
+    @Test
+    void testConstructor_WithInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MazeSolveServer(-1, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MazeSolveServer(0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MazeSolveServer(0, 1, -1));
+    }
+}
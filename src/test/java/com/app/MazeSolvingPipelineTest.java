@@ -0,0 +1,196 @@
+package com.app;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeGenerator;
+import com.strategies.BreadthFirstSearch;
+import com.strategies.MazeTraversalStrategy;
+import com.strategies.TraversalOutcome;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeSolvingPipelineTest {
+    private static final int MAZE_COUNT = 30;
+    private static final int UNSOLVABLE_EVERY = 3;
+
+    private static Stream<Maze> createCorpus() {
+        return new MazeGenerator(42).generateCorpus(
+                MazeGenerator.Algorithm.BRAID, 31, 21, MAZE_COUNT, UNSOLVABLE_EVERY
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(MazeSolvingPipeline.Preprocessing.class)
+    void testRun_SolvesEveryMazeWithShortestPath(MazeSolvingPipeline.Preprocessing preprocessing)
+            throws InterruptedException {
+        MazeSolvingPipeline pipeline = MazeSolvingPipeline.builder()
+                .strategy("bfs")
+                .preprocessing(preprocessing)
+                .parallelism(MazeSolvingPipeline.Stage.PREPROCESS, 2)
+                .parallelism(MazeSolvingPipeline.Stage.SOLVE, 3)
+                .queueCapacity(2)
+                .build();
+        Map<Long, MazeSolvingPipeline.SolvedMaze> results = new ConcurrentHashMap<>();
+
+        MazeSolvingPipeline.Summary summary = pipeline.run(
+                createCorpus(), solvedMaze -> results.put(solvedMaze.index(), solvedMaze)
+        );
+
+        List<Maze> mazes = createCorpus().toList();
+        assertEquals(MAZE_COUNT, results.size());
+        for (int i = 0; i < MAZE_COUNT; i++) {
+            MazeSolvingPipeline.SolvedMaze result = results.get((long) i);
+            Maze maze = mazes.get(i);
+            boolean solvable = (i + 1) % UNSOLVABLE_EVERY != 0;
+
+            assertEquals(maze.getDescription(), result.maze().getDescription());
+            assertEquals(solvable, result.isSolved());
+            if (solvable) {
+                assertEquals(
+                        maze.calculateTraversedPathLength(new BreadthFirstSearch().traverseMaze(maze)),
+                        maze.calculateTraversedPathLength(result.traversedBoard())
+                );
+            }
+        }
+
+        int unsolvableCount = MAZE_COUNT / UNSOLVABLE_EVERY;
+        assertEquals(unsolvableCount, summary.getOutcomeCount(TraversalOutcome.NOT_TRAVERSABLE));
+        assertEquals(MAZE_COUNT - unsolvableCount, summary.getOutcomeCount(TraversalOutcome.TRAVERSED));
+        for (MazeSolvingPipeline.Stage stage : MazeSolvingPipeline.Stage.values()) {
+            assertEquals(MAZE_COUNT, summary.processedCounts().get(stage), stage.name());
+        }
+    }
+
+    @Test
+    void testRun_ComponentCheckSkipsSolvingUnreachableEnds() throws InterruptedException {
+        List<MazeSolvingPipeline.SolvedMaze> results = Collections.synchronizedList(new ArrayList<>());
+        MazeSolvingPipeline.builder()
+                .preprocessing(MazeSolvingPipeline.Preprocessing.COMPONENT_CHECK)
+                .build()
+                .run(createCorpus(), results::add);
+
+        assertTrue(results.stream()
+                .filter(result -> result.outcome() == TraversalOutcome.NOT_TRAVERSABLE)
+                .allMatch(result -> result.solvingTime().isZero()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(MazeSolvingPipeline.Preprocessing.class)
+    void testRun_WithSeveralStartingAndEndingFields_ChecksEveryPair(MazeSolvingPipeline.Preprocessing preprocessing)
+            throws InterruptedException {
+        // Only the second starting field leads to an ending field
+        Maze maze = Maze.MazeFactory.createMaze(new String[] { "S#E#", "####", "SoEo" }, null);
+        List<MazeSolvingPipeline.SolvedMaze> results = Collections.synchronizedList(new ArrayList<>());
+
+        MazeSolvingPipeline.builder()
+                .strategy("dfs")
+                .preprocessing(preprocessing)
+                .build()
+                .run(Stream.of(maze), results::add);
+
+        assertEquals(TraversalOutcome.TRAVERSED, results.getFirst().outcome());
+        assertEquals(3, maze.calculateTraversedPathLength(results.getFirst().traversedBoard()));
+    }
+
+    @Test
+    void testRun_BoundsMazesInFlight() throws InterruptedException {
+        int queueCapacity = 2;
+        AtomicInteger parsedCount = new AtomicInteger();
+        AtomicInteger emittedCount = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Stream<Maze> source = createCorpus().peek(maze -> parsedCount.incrementAndGet());
+
+        MazeSolvingPipeline.builder()
+                .parallelism(MazeSolvingPipeline.Stage.SOLVE, 2)
+                .queueCapacity(queueCapacity)
+                .build()
+                .run(source, solvedMaze -> {
+                    maxInFlight.accumulateAndGet(parsedCount.get() - emittedCount.get(), Math::max);
+                    // A slow sink lets the upstream stages run into the bounded queues
+                    try {
+                        Thread.sleep(2);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    emittedCount.incrementAndGet();
+                });
+
+        // Three queues plus one element per worker of the parse, preprocess, solve and emit stages
+        assertTrue(maxInFlight.get() <= 3 * queueCapacity + 5, "In flight: " + maxInFlight.get());
+        assertEquals(MAZE_COUNT, emittedCount.get());
+    }
+
+    @Test
+    void testRun_RethrowsSinkFailure() {
+        MazeSolvingPipeline pipeline = MazeSolvingPipeline.builder().queueCapacity(1).build();
+        IllegalStateException failure = new IllegalStateException("Sink failed");
+
+        CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> pipeline.run(createCorpus(), solvedMaze -> { throw failure; })
+        );
+        assertSame(failure, exception.getCause());
+    }
+
+    @Test
+    void testRun_WithFailingStrategy_ReportsFailedResultsAndFinishes() throws InterruptedException {
+        List<MazeSolvingPipeline.SolvedMaze> results = Collections.synchronizedList(new ArrayList<>());
+        MazeTraversalStrategy failingStrategy = maze -> {
+            throw new IllegalStateException("Strategy failed");
+        };
+
+        MazeSolvingPipeline.Summary summary = MazeSolvingPipeline.builder()
+                .strategy(() -> failingStrategy)
+                .parallelism(MazeSolvingPipeline.Stage.SOLVE, 3)
+                .build()
+                .run(createCorpus(), results::add);
+
+        assertEquals(MAZE_COUNT, results.size());
+        assertTrue(results.stream().allMatch(result -> result.outcome() == TraversalOutcome.FAILED));
+        assertEquals(MAZE_COUNT, summary.getOutcomeCount(TraversalOutcome.FAILED));
+    }
+
+    @Test
+    void testRun_WithEmptySource() throws InterruptedException {
+        MazeSolvingPipeline.Summary summary = MazeSolvingPipeline.builder().build().run(
+                Stream.empty(), solvedMaze -> fail("No maze must be emitted.")
+        );
+
+        assertEquals(0, summary.processedCounts().get(MazeSolvingPipeline.Stage.EMIT));
+    }
+
+    @Nested
+    class Builder {
+        @Test
+        void testBuild_WithDefaults() {
+            MazeSolvingPipeline pipeline = MazeSolvingPipeline.builder().build();
+
+            assertEquals(1, pipeline.getParallelism(MazeSolvingPipeline.Stage.PARSE));
+            assertEquals(
+                    Runtime.getRuntime().availableProcessors(),
+                    pipeline.getParallelism(MazeSolvingPipeline.Stage.SOLVE)
+            );
+            assertEquals(64, pipeline.getQueueCapacity());
+        }
+
+        @Test
+        void testBuild_WithInvalidArguments() {
+            MazeSolvingPipeline.Builder builder = MazeSolvingPipeline.builder();
+
+            assertThrows(IllegalArgumentException.class, () -> builder.parallelism(MazeSolvingPipeline.Stage.PARSE, 2));
+            assertThrows(IllegalArgumentException.class, () -> builder.parallelism(MazeSolvingPipeline.Stage.SOLVE, 0));
+            assertThrows(IllegalArgumentException.class, () -> builder.queueCapacity(0));
+            assertThrows(IllegalArgumentException.class, () -> builder.strategy("unknown"));
+            assertThrows(IllegalArgumentException.class, () -> builder.preprocessing(null));
+        }
+    }
+}
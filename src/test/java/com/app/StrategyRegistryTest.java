@@ -0,0 +1,51 @@
+package com.app;
+
+import com.mazedata.Maze;
+import com.strategies.BreadthFirstSearch;
+import com.strategies.HandOnWall;
+import com.strategies.MazeTraversalStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StrategyRegistryTest {
+    @ParameterizedTest
+    @MethodSource("com.app.StrategyRegistry#getNames")
+    void testCreate_WithRegisteredName(String name) {
+        MazeTraversalStrategy strategy = StrategyRegistry.create(name);
+
+        assertNotNull(strategy);
+        assertNotSame(strategy, StrategyRegistry.create(name));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.app.StrategyRegistry#getNames")
+    void testCreate_TraversesMazeOnlyTraversableFromSecondStartingField(String name) {
+        Maze maze = Maze.MazeFactory.createMaze(new String[] { "S#E", "###", "SoE" }, null);
+
+        boolean[][] traversedBoard = StrategyRegistry.create(name).traverseMaze(maze);
+
+        assertEquals(3, maze.calculateTraversedPathLength(traversedBoard));
+        assertTrue(traversedBoard[2][0] && traversedBoard[2][2]);
+    }
+
+    @Test
+    void testCreate_IsCaseInsensitive() {
+        assertInstanceOf(BreadthFirstSearch.class, StrategyRegistry.create(" BFS "));
+        assertInstanceOf(HandOnWall.class, StrategyRegistry.create("Hand-On-Wall-Left"));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = { "", "a-star" })
+    void testCreate_WithUnknownName(String name) {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class, () -> StrategyRegistry.create(name)
+        );
+        assertTrue(exception.getMessage().contains(String.join(", ", StrategyRegistry.getNames())));
+    }
+}
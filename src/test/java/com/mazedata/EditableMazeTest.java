@@ -0,0 +1,49 @@
+package com.mazedata;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EditableMazeTest {
+    private static final boolean[][] MAZE_BOARD = {
+            { true , true  },
+            { false, true  },
+    };
+
+    @Test
+    void testConstructor_CopiesMazeBoard() {
+        EditableMaze maze = new EditableMaze(MAZE_BOARD, new MazeField(0, 0), new MazeField(1, 1), null);
+
+        maze.setPassable(new MazeField(1, 0), false);
+
+        assertTrue(MAZE_BOARD[0][1], "Editing the maze must not change the passed maze board.");
+        assertFalse(maze.isPassable(new MazeField(1, 0)));
+    }
+
+    @Test
+    void testSetPassable_NotifiesListenersOnlyOnChange() {
+        EditableMaze maze = new EditableMaze(
+                new Maze(MAZE_BOARD, new MazeField(0, 0), new MazeField(1, 1), null)
+        );
+        List<MazeField> editedFields = new ArrayList<>();
+        maze.addEditListener((field, passable) -> editedFields.add(field));
+
+        maze.setPassable(new MazeField(0, 1), true);
+        maze.setPassable(new MazeField(0, 1), true);
+        maze.setPassable(new MazeField(1, 1), true);
+
+        assertEquals(List.of(new MazeField(0, 1)), editedFields);
+        assertEquals(1, maze.getModificationCount());
+    }
+
+    @Test
+    void testSetPassable_WithFieldOutsideBoard() {
+        EditableMaze maze = new EditableMaze(MAZE_BOARD, new MazeField(0, 0), new MazeField(1, 1), null);
+
+        assertThrows(IllegalArgumentException.class, () -> maze.setPassable(new MazeField(2, 0), true));
+        assertThrows(IllegalArgumentException.class, () -> maze.setPassable(null, true));
+    }
+}
@@ -0,0 +1,116 @@
+package com.mazedata;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeFileFormatTest {
+    @TempDir
+    Path tempDir;
+
+    private static Stream<Arguments> headers() {
+        return Stream.of(
+                Arguments.of("-new-maze-\nMaze 1\n#S#\n#E#\n", MazeFileFormat.TEXT),
+                Arguments.of("﻿-new-maze-\r\nMaze 1", MazeFileFormat.TEXT),
+                Arguments.of("\n \t\r\n  -new-maze-", MazeFileFormat.TEXT),
+                Arguments.of("\n\n-new", MazeFileFormat.TEXT),
+                Arguments.of("", MazeFileFormat.TEXT),
+                Arguments.of(" \n\t", MazeFileFormat.TEXT),
+                Arguments.of("Maze 1\n#S#\n#E#\n", null),
+                Arguments.of("-new-mazes-", null),
+                Arguments.of("\u0001\u0002\u0003\u0004", null),
+                Arguments.of("\u001F", null)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("headers")
+    void detect_RecognizesFormatFromLeadingBytes(String content, MazeFileFormat expectedFormat) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expectedFormat, MazeFileFormat.detect(bytes, bytes.length));
+
+        Path file = tempDir.resolve("mazes");
+        Files.write(file, bytes);
+        assertEquals(expectedFormat, MazeFileFormat.detect(file));
+    }
+
+    @Test
+    void detect_AcceptsSeparatorCutOffByEndOfHeader() throws IOException {
+        Path file = tempDir.resolve("mazes.txt");
+        Files.writeString(file, "\n".repeat(MazeFileFormat.HEADER_LENGTH - 4) + "-new-maze-\nMaze 1\n#S#\n#E#\n");
+        assertEquals(MazeFileFormat.TEXT, MazeFileFormat.detect(file));
+    }
+
+    @Test
+    void detect_OnlyConsidersValidHeaderBytes() {
+        byte[] header = "Maze-new-maze-".getBytes(StandardCharsets.US_ASCII);
+        assertNull(MazeFileFormat.detect(header, header.length));
+        assertEquals(MazeFileFormat.TEXT, MazeFileFormat.detect(header, 0));
+    }
+
+    @Test
+    void detect_RecognizesGzipCompressedText() throws IOException {
+        Path file = tempDir.resolve("mazes.txt.gz");
+        try (OutputStream out = MazeFileFormat.GZIP_TEXT.compress(Files.newOutputStream(file))) {
+            out.write("-new-maze-\nMaze 1\n#S#\n#E#\n".getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(MazeFileFormat.GZIP_TEXT, MazeFileFormat.detect(file));
+    }
+
+    @ParameterizedTest
+    @EnumSource(MazeFileFormat.class)
+    void compress_IsReversedByDecompress(MazeFileFormat format) throws IOException {
+        byte[] text = "-new-maze-\nMaze 1\n#S#\n#o#\n#E#\n".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        try (OutputStream out = format.compress(written)) {
+            out.write(text);
+        }
+        byte[] fileBytes = written.toByteArray();
+
+        int headerLength = Math.min(fileBytes.length, MazeFileFormat.HEADER_LENGTH);
+        assertEquals(format, MazeFileFormat.detect(fileBytes, headerLength));
+        try (InputStream in = format.decompress(new ByteArrayInputStream(fileBytes))) {
+            assertArrayEquals(text, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void compress_ShrinksRepetitiveMazeText() throws IOException {
+        byte[] text = "-new-maze-\nMaze 1\n#S#\n#o#\n#E#\n".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        try (OutputStream out = MazeFileFormat.GZIP_TEXT.compress(written)) {
+            out.write(text);
+        }
+        assertTrue(written.size() * 20 < text.length, "Expected at least a 20x smaller file: " + written.size());
+    }
+
+    @Test
+    void detect_WithInvalidHeader_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> MazeFileFormat.detect(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> MazeFileFormat.detect(new byte[2], 3));
+        assertThrows(IllegalArgumentException.class, () -> MazeFileFormat.detect(new byte[2], -1));
+    }
+
+    @Test
+    void detect_WithMissingFile_ThrowsIOException() {
+        assertThrows(NoSuchFileException.class, () -> MazeFileFormat.detect(tempDir.resolve("missing.txt")));
+    }
+}
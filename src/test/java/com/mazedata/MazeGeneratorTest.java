@@ -0,0 +1,143 @@
+package com.mazedata;
+
+import com.strategies.BreadthFirstSearch;
+import com.strategies.MazeNotTraversableException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeGeneratorTest {
+    @Nested
+    class Generate {
+        @ParameterizedTest
+        @EnumSource(MazeGenerator.Algorithm.class)
+        void testGenerate_IsTraversable(MazeGenerator.Algorithm algorithm) {
+            for (int size : new int[] { 3, 4, 5, 20, 51, 100 }) {
+                Maze maze = new MazeGenerator(size).generate(algorithm, size, size + 3);
+
+                assertEquals(size, maze.getMazeBoardWidth());
+                assertEquals(size + 3, maze.getMazeBoardHeight());
+                assertDoesNotThrow(() -> new BreadthFirstSearch().traverseMaze(maze), maze::toString);
+            }
+        }
+
+        @ParameterizedTest
+        @EnumSource(MazeGenerator.Algorithm.class)
+        void testGenerate_IsDeterministic(MazeGenerator.Algorithm algorithm) {
+            Maze maze = new MazeGenerator(7).generate(algorithm, 61, 41);
+
+            assertArrayEquals(maze.getMazeBoard(), new MazeGenerator(7).generate(algorithm, 61, 41).getMazeBoard());
+            assertEquals(maze.getDescription(), new MazeGenerator(7).generate(algorithm, 61, 41).getDescription());
+        }
+
+        @Test
+        void testGenerate_WithDifferentSeeds() {
+            MazeGenerator.Algorithm algorithm = MazeGenerator.Algorithm.PRIM;
+
+            assertFalse(Arrays.deepEquals(
+                    new MazeGenerator(1).generate(algorithm, 61, 61).getMazeBoard(),
+                    new MazeGenerator(2).generate(algorithm, 61, 61).getMazeBoard()
+            ));
+        }
+
+        /**
+         * A perfect maze is a spanning tree of its cells, so that it contains every cell and
+         * one passage less than cells.
+         */
+        @ParameterizedTest
+        @EnumSource(value = MazeGenerator.Algorithm.class, names = { "RECURSIVE_BACKTRACKER", "PRIM" })
+        void testGeneratePacked_PerfectMazeIsSpanningTree(MazeGenerator.Algorithm algorithm) {
+            MazeGenerator.PackedBoard board = new MazeGenerator(3).generatePacked(algorithm, 101, 81);
+            long cellCount = 50L * 40;
+
+            assertEquals(2 * cellCount - 1, board.countPathFields());
+        }
+
+        @Test
+        void testGeneratePacked_BraidMazeHasNoDeadEnds() {
+            MazeGenerator.PackedBoard board = new MazeGenerator(3)
+                    .generatePacked(MazeGenerator.Algorithm.BRAID, 101, 81);
+
+            for (int y = 1; y < board.getHeight() - 1; y += 2) {
+                for (int x = 1; x < board.getWidth() - 1; x += 2) {
+                    int openSides = (board.isPath(x, y - 1) ? 1 : 0) + (board.isPath(x + 1, y) ? 1 : 0)
+                            + (board.isPath(x, y + 1) ? 1 : 0) + (board.isPath(x - 1, y) ? 1 : 0);
+                    assertTrue(openSides >= 2, String.format("Dead end at (%d, %d)", x, y));
+                }
+            }
+        }
+
+        @Test
+        void testGenerate_WithInvalidArguments() {
+            MazeGenerator generator = new MazeGenerator(0);
+
+            assertThrows(IllegalArgumentException.class, () -> generator.generate(null, 5, 5));
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> generator.generate(MazeGenerator.Algorithm.PRIM, 2, 5)
+            );
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> generator.generate(MazeGenerator.Algorithm.PRIM, 50_000, 50_000)
+            );
+        }
+    }
+
+    @Nested
+    class GenerateUnsolvable {
+        @ParameterizedTest
+        @EnumSource(MazeGenerator.Algorithm.class)
+        void testGenerateUnsolvable_IsNotTraversable(MazeGenerator.Algorithm algorithm) {
+            for (int size : new int[] { 5, 6, 20, 51 }) {
+                Maze maze = new MazeGenerator(size).generateUnsolvable(algorithm, size, size);
+
+                assertThrows(MazeNotTraversableException.class, () -> new BreadthFirstSearch().traverseMaze(maze));
+            }
+        }
+
+        @Test
+        void testGenerateUnsolvable_WithSingleCell() {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MazeGenerator(0).generateUnsolvable(MazeGenerator.Algorithm.BRAID, 4, 3)
+            );
+        }
+    }
+
+    @Test
+    void testGenerateCorpus_WrittenAndImported(@TempDir File tempDir) throws IOException {
+        MazeGenerator generator = new MazeGenerator(100);
+        Path mazeFile = tempDir.toPath().resolve("corpus.txt");
+
+        long writtenMazeCount = MazeRepository.writeMazeFile(
+                mazeFile, generator.generateCorpus(MazeGenerator.Algorithm.OPEN_ROOMS, 41, 35, 6, 3)
+        );
+        MazeRepository repository = new MazeRepository(mazeFile.toString());
+        repository.readMazeFileAndStoreLines();
+        repository.importMazes();
+
+        List<Maze> generatedMazes = generator.generateCorpus(MazeGenerator.Algorithm.OPEN_ROOMS, 41, 35, 6, 3)
+                .toList();
+        assertEquals(6, writtenMazeCount);
+        assertEquals(6, repository.getMazes().size());
+        for (int i = 0; i < generatedMazes.size(); i++) {
+            Maze generated = generatedMazes.get(i);
+            Maze imported = repository.getMaze(i);
+            assertEquals(generated.getDescription(), imported.getDescription());
+            assertArrayEquals(generated.getMazeBoard(), imported.getMazeBoard());
+            assertEquals(generated.getStartingField(), imported.getStartingField());
+            assertEquals(generated.getEndingField(), imported.getEndingField());
+        }
+        assertTrue(generatedMazes.get(2).getDescription().startsWith("Unsolvable"));
+    }
+}
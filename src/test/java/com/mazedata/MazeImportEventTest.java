@@ -0,0 +1,76 @@
+package com.mazedata;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeImportEventTest {
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testImportMazes_CommitsImportAndCreationEvents() throws IOException {
+        File mazeFile = new File(tempDir, "mazes.txt");
+        Files.write(mazeFile.toPath(), List.of(
+                "-new-maze-",
+                "Valid maze",
+                "#S#",
+                "#E#",
+                "-new-maze-",
+                "Maze without ending field",
+                "SSo"
+        ));
+        MazeRepository repository = new MazeRepository(mazeFile.getPath());
+        repository.readMazeFileAndStoreLines();
+
+        List<RecordedEvent> events = record(repository::importMazes);
+
+        RecordedEvent importEvent = findSingle(events, "com.mazedata.MazeImport");
+        assertEquals(mazeFile.getPath(), importEvent.getString("file"));
+        assertEquals(mazeFile.length(), importEvent.getLong("fileBytes"));
+        assertEquals(7, importEvent.getInt("lineCount"));
+        assertEquals(1, importEvent.getInt("mazeCount"));
+        assertEquals(1, importEvent.getInt("invalidMazeCount"));
+
+        List<RecordedEvent> creationEvents = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.mazedata.MazeCreation"))
+                .toList();
+        assertEquals(2, creationEvents.size());
+        assertEquals("Valid maze", creationEvents.get(0).getString("description"));
+        assertTrue(creationEvents.get(0).getBoolean("created"));
+        assertEquals(3, creationEvents.get(0).getInt("width"));
+        assertEquals(2, creationEvents.get(0).getInt("height"));
+        assertFalse(creationEvents.get(1).getBoolean("created"));
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+        Path recordingFile = new File(tempDir, "recording.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable("com.mazedata.MazeImport");
+            recording.enable("com.mazedata.MazeCreation");
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        return RecordingFile.readAllEvents(recordingFile);
+    }
+
+    private static RecordedEvent findSingle(List<RecordedEvent> events, String eventName) {
+        List<RecordedEvent> matchingEvents = events.stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .toList();
+        assertEquals(1, matchingEvents.size());
+        return matchingEvents.getFirst();
+    }
+}
@@ -2,14 +2,25 @@ package com.mazedata;
 
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatcher;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -74,6 +85,120 @@ public class MazeRepositoryTest {
         assertFalse(mrWithInvalidFileType.fileTypeIsCorrect(), "Expected false for invalid file type.");
     }
 
+    @Test
+    void testFileTypeIsCorrect_DoesNotDependOnFileName() throws IOException {
+        File mazeFileWithoutExtension = new File(tempDir, "mazes");
+        Files.copy(new File(tempDir, "mazes.txt").toPath(), mazeFileWithoutExtension.toPath());
+        File binaryFileWithTextExtension = new File(tempDir, "binary.txt");
+        Files.write(binaryFileWithTextExtension.toPath(), new byte[] { 1, 2, 3, 4 });
+
+        assertTrue(new MazeRepository(mazeFileWithoutExtension.getPath()).fileTypeIsCorrect());
+        assertFalse(new MazeRepository(binaryFileWithTextExtension.getPath()).fileTypeIsCorrect());
+    }
+
+    @Test
+    void testFileTypeIsCorrect_UsesGivenFormatDetector() {
+        List<Path> detectedFiles = new ArrayList<>();
+        MazeRepository repository = new MazeRepository(tempDir + "/unknown.bin", file -> {
+            detectedFiles.add(file);
+            return MazeFileFormat.TEXT;
+        });
+
+        assertTrue(repository.fileTypeIsCorrect());
+        assertEquals(List.of(new File(tempDir, "unknown.bin").toPath()), detectedFiles);
+        assertThrows(IllegalArgumentException.class, () -> new MazeRepository("mazes.txt", null));
+    }
+
+    @Nested
+    class CompressedFileTest {
+        private Path compressedMazeFile;
+        private List<Maze> corpus;
+
+        @BeforeEach
+        void writeCompressedCorpus() throws IOException {
+            compressedMazeFile = new File(tempDir, "corpus.txt.gz").toPath();
+            corpus = new MazeGenerator(7)
+                    .generateCorpus(MazeGenerator.Algorithm.RECURSIVE_BACKTRACKER, 21, 21, 5, 0)
+                    .toList();
+            long writtenMazeCount = MazeRepository.writeMazeFile(
+                    compressedMazeFile, corpus.stream(), MazeFileFormat.GZIP_TEXT
+            );
+            assertEquals(5, writtenMazeCount);
+        }
+
+        @Test
+        void writeMazeFile_WritesGzipCompressedFile() throws IOException {
+            assertEquals(MazeFileFormat.GZIP_TEXT, MazeFileFormat.detect(compressedMazeFile));
+
+            Path uncompressedMazeFile = new File(tempDir, "corpus.txt").toPath();
+            MazeRepository.writeMazeFile(uncompressedMazeFile, corpus.stream());
+            assertTrue(Files.size(compressedMazeFile) < Files.size(uncompressedMazeFile));
+            assertThrows(IllegalArgumentException.class,
+                    () -> MazeRepository.writeMazeFile(uncompressedMazeFile, corpus.stream(), null));
+        }
+
+        @Test
+        void streamMazes_DecompressesWhileReading() {
+            try (Stream<Maze> mazes = new MazeRepository(compressedMazeFile.toString()).streamMazes()) {
+                assertMazesEqualCorpus(mazes.toList());
+            }
+        }
+
+        @Test
+        void importMazes_DecompressesWhileReading() {
+            MazeRepository repository = new MazeRepository(compressedMazeFile.toString());
+            repository.readMazeFileAndStoreLines();
+            repository.importMazes();
+            assertMazesEqualCorpus(repository.getMazes());
+        }
+
+        @Test
+        void reloadMazeFile_DecompressesWhileReading() {
+            MazeRepository repository = new MazeRepository(compressedMazeFile.toString());
+            assertEquals(new MazeRepository.ReloadSummary(0, 5, 0), repository.reloadMazeFile());
+            assertMazesEqualCorpus(repository.getMazes());
+        }
+
+        @Test
+        void importMazes_WithMazesSpanningSeveralChunks_ImportsEveryMaze() throws IOException {
+            // About 1.6 MB of field lines, so that the lines are stored in more than one chunk
+            List<Maze> largeCorpus = new MazeGenerator(7)
+                    .generateCorpus(MazeGenerator.Algorithm.RECURSIVE_BACKTRACKER, 201, 201, 40, 0)
+                    .toList();
+            MazeRepository.writeMazeFile(compressedMazeFile, largeCorpus.stream(), MazeFileFormat.GZIP_TEXT);
+            MazeRepository repository = new MazeRepository(compressedMazeFile.toString());
+
+            repository.readMazeFileAndStoreLines();
+            repository.importMazes();
+
+            assertEquals(largeCorpus.size() * (2 + 201), repository.getMazeFileLines().size());
+            assertEquals("-new-maze-", repository.getMazeFileLines().getFirst());
+            assertEquals(largeCorpus.size(), repository.getMazes().size());
+            for (int i = 0; i < largeCorpus.size(); i++) {
+                assertArrayEquals(largeCorpus.get(i).getMazeBoard(), repository.getMaze(i).getMazeBoard());
+            }
+        }
+
+        @Test
+        void readMazeFileAndStoreLines_WithCorruptCompressedFile() throws IOException {
+            Files.write(compressedMazeFile, new byte[] { 0x1F, (byte) 0x8B, 0, 0 });
+            MazeRepository repository = new MazeRepository(compressedMazeFile.toString());
+
+            repository.readMazeFileAndStoreLines();
+
+            assertTrue(repository.getMazeFileLines().isEmpty());
+            testHandler.assertMessageIsLogged("Unable to read file using file path: " + compressedMazeFile);
+        }
+
+        private void assertMazesEqualCorpus(List<Maze> mazes) {
+            assertEquals(corpus.size(), mazes.size());
+            for (int i = 0; i < corpus.size(); i++) {
+                assertEquals(corpus.get(i).getDescription(), mazes.get(i).getDescription());
+                assertArrayEquals(corpus.get(i).getMazeBoard(), mazes.get(i).getMazeBoard());
+            }
+        }
+    }
+
     @Test
     void testReadMazeFileAndStoreLines_WithValidFileType() {
         mrWithValidFileType.readMazeFileAndStoreLines();
@@ -96,7 +221,9 @@ public class MazeRepositoryTest {
     @Test
     void testReadMazeFileAndStoreLines_WithInvalidFileType() {
         mrWithInvalidFileType.readMazeFileAndStoreLines();
-        testHandler.assertMessageIsLogged("The file from which mazes are to be imported must be of type text/plain.");
+        testHandler.assertMessageIsLogged(
+                "The file from which mazes are to be imported must be in one of the formats [TEXT, GZIP_TEXT]."
+        );
     }
 
     @Test
@@ -131,13 +258,13 @@ public class MazeRepositoryTest {
             Maze mockMaze2 = Mockito.mock(Maze.class);
 
             // Configure returned maze objects in the order they are expected to be created
-            mockedFactory.when(() -> Maze.MazeFactory.createMaze(
-                    Mockito.any(String[].class),
+            mockedFactory.when(() -> Maze.MazeFactory.createMazeFromBytes(
+                    Mockito.any(ByteBuffer.class),
                     Mockito.eq("Maze 1")
             )).thenReturn(mockMaze1);
 
-            mockedFactory.when(() -> Maze.MazeFactory.createMaze(
-                    Mockito.any(String[].class),
+            mockedFactory.when(() -> Maze.MazeFactory.createMazeFromBytes(
+                    Mockito.any(ByteBuffer.class),
                     Mockito.eq("Maze 2")
             )).thenReturn(mockMaze2);
 
@@ -146,30 +273,44 @@ public class MazeRepositoryTest {
 
             // Argument verification
             mockedFactory.verify(() ->
-                    Maze.MazeFactory.createMaze(
-                            new String[] {
+                    Maze.MazeFactory.createMazeFromBytes(
+                            Mockito.argThat(fieldLinesEqual(
                                     "#####",
                                     "#oSo#",
                                     "##oo#",
                                     "##E##"
-                            },
-                            "Maze 1"
+                            )),
+                            Mockito.eq("Maze 1")
                     )
             );
 
             mockedFactory.verify(() ->
-                    Maze.MazeFactory.createMaze(
-                            new String[] {
+                    Maze.MazeFactory.createMazeFromBytes(
+                            Mockito.argThat(fieldLinesEqual(
                                     "###o",
                                     "#Eoo",
                                     "#ooo"
-                            },
-                            "Maze 2"
+                            )),
+                            Mockito.eq("Maze 2")
                     )
             );
         }
     }
 
+    /**
+     * Matches the bytes of field lines whose non-blank lines, without trailing white spaces, equal the given ones.
+     */
+    private static ArgumentMatcher<ByteBuffer> fieldLinesEqual(String... expectedFieldLines) {
+        return fieldLines -> {
+            byte[] bytes = new byte[fieldLines.remaining()];
+            fieldLines.get(fieldLines.position(), bytes);
+            return Arrays.equals(expectedFieldLines, new String(bytes, StandardCharsets.UTF_8).lines()
+                    .filter(line -> !line.isBlank())
+                    .map(String::stripTrailing)
+                    .toArray(String[]::new));
+        };
+    }
+
     @Test
     void testImportMazes_NoImportWhenFileLinesEmpty() {
         MazeRepository mrNoImport = new MazeRepository("some/path");
@@ -187,7 +328,7 @@ public class MazeRepositoryTest {
         try (MockedStatic<Maze.MazeFactory> mockedFactory = Mockito.mockStatic(Maze.MazeFactory.class)) {
 
             Maze mockMaze = Mockito.mock(Maze.class);
-            mockedFactory.when(() -> Maze.MazeFactory.createMaze(Mockito.any(), Mockito.any()))
+            mockedFactory.when(() -> Maze.MazeFactory.createMazeFromBytes(Mockito.any(ByteBuffer.class), Mockito.any()))
                     .thenReturn(mockMaze);
 
             mrWithValidFileType.importMazes(true);
@@ -198,10 +339,246 @@ public class MazeRepositoryTest {
             assertEquals(2, mrWithValidFileType.getMazes().size());
 
             mockedFactory.verify(
-                    () -> Maze.MazeFactory.createMaze(Mockito.any(), Mockito.any()),
+                    () -> Maze.MazeFactory.createMazeFromBytes(Mockito.any(ByteBuffer.class), Mockito.any()),
                     Mockito.times(4)
             );
         }
     }
 
+    @Test
+    void testStreamMazes_ParsesMazesLikeImportMazes() {
+        mrWithValidFileType.readMazeFileAndStoreLines();
+        mrWithValidFileType.importMazes();
+
+        List<Maze> streamedMazes;
+        try (Stream<Maze> mazes = mrWithValidFileType.streamMazes()) {
+            streamedMazes = mazes.toList();
+        }
+
+        List<Maze> importedMazes = mrWithValidFileType.getMazes();
+        assertEquals(importedMazes.size(), streamedMazes.size());
+        for (int i = 0; i < importedMazes.size(); i++) {
+            assertEquals(importedMazes.get(i).getDescription(), streamedMazes.get(i).getDescription());
+            assertArrayEquals(importedMazes.get(i).getMazeBoard(), streamedMazes.get(i).getMazeBoard());
+            assertEquals(importedMazes.get(i).getStartingField(), streamedMazes.get(i).getStartingField());
+        }
+    }
+
+    @Test
+    void testStreamMazes_DoesNotStoreMazes() {
+        try (Stream<Maze> mazes = mrWithValidFileType.streamMazes()) {
+            // The second maze has no starting field and is skipped
+            assertEquals(1, mazes.count());
+        }
+        assertTrue(mrWithValidFileType.getMazes().isEmpty());
+    }
+
+    @Test
+    void testStreamMazes_SkipsInvalidMazesAndLogsTrailingSeparator() throws IOException {
+        File mazeFile = new File(tempDir, "partially_invalid_mazes.txt");
+        Files.write(mazeFile.toPath(), List.of(
+                "-new-maze-", "Invalid maze", "#S#", "#x#", "#E#",
+                "-new-maze-", "Valid maze", "#S#", "#o#", "#E#",
+                "-new-maze-"
+        ));
+
+        try (Stream<Maze> mazes = new MazeRepository(mazeFile.getPath()).streamMazes()) {
+            assertEquals(List.of("Valid maze"), mazes.map(Maze::getDescription).toList());
+        }
+        testHandler.assertMessageIsLogged(
+                "The last line whose content is the separator \"-new-maze-\" has been reached "
+                        + "while reading new maze data. No description or field lines can be extracted."
+        );
+    }
+
+    @Test
+    void testStreamMazes_WithCrLfLineSeparators_ParsesMazesLikeImportMazes() throws IOException {
+        File mazeFile = new File(tempDir, "crlf_mazes.txt");
+        Files.writeString(mazeFile.toPath(), String.join("\r\n",
+                " -new-maze- ", "Maze 1  ", "#S#  ", "", "#oE", "-new-maze-", "Maze 2", "So", "oE\t", ""
+        ));
+        MazeRepository repository = new MazeRepository(mazeFile.getPath());
+        repository.readMazeFileAndStoreLines();
+        repository.importMazes();
+
+        List<Maze> streamedMazes;
+        try (Stream<Maze> mazes = repository.streamMazes()) {
+            streamedMazes = mazes.toList();
+        }
+
+        assertEquals(List.of("Maze 1", "Maze 2"), streamedMazes.stream().map(Maze::getDescription).toList());
+        assertEquals(List.of(" -new-maze- ", "Maze 1  ", "#S#  ", "#oE", "-new-maze-", "Maze 2", "So", "oE\t"),
+                repository.getMazeFileLines());
+        for (int i = 0; i < streamedMazes.size(); i++) {
+            assertEquals(repository.getMaze(i).getDescription(), streamedMazes.get(i).getDescription());
+            assertArrayEquals(repository.getMaze(i).getMazeBoard(), streamedMazes.get(i).getMazeBoard());
+        }
+    }
+
+    @Test
+    void testStreamMazes_WithInvalidFileType() {
+        try (Stream<Maze> mazes = mrWithInvalidFileType.streamMazes()) {
+            assertEquals(0, mazes.count());
+        }
+    }
+
+    @Test
+    void testStreamMazes_WithNullFilePath() {
+        try (Stream<Maze> mazes = new MazeRepository(null).streamMazes()) {
+            assertEquals(0, mazes.count());
+        }
+        testHandler.assertMessageIsLogged(NULL_OR_BLANK_PATH_LOG_TEXT);
+    }
+
+    @Nested
+    class SnapshotTest {
+        @Test
+        void getMazes_ReturnsSameUnmodifiableSnapshotWithoutCopying() {
+            mrWithValidFileType.readMazeFileAndStoreLines();
+            mrWithValidFileType.importMazes();
+
+            List<Maze> snapshot = mrWithValidFileType.getMazes();
+            assertSame(snapshot, mrWithValidFileType.getMazes());
+            assertSame(mrWithValidFileType.getMazeFileLines(), mrWithValidFileType.getMazeFileLines());
+            assertThrows(UnsupportedOperationException.class, () -> snapshot.add(snapshot.get(0)));
+        }
+
+        @Test
+        void importMazes_PublishesNewSnapshotAndLeavesPreviousOneUnchanged() {
+            mrWithValidFileType.readMazeFileAndStoreLines();
+            mrWithValidFileType.importMazes();
+            List<Maze> previousSnapshot = mrWithValidFileType.getMazes();
+
+            mrWithValidFileType.importMazes(false);
+
+            assertEquals(1, previousSnapshot.size());
+            assertEquals(2, mrWithValidFileType.getMazes().size());
+            assertSame(previousSnapshot.get(0), mrWithValidFileType.getMazes().get(0));
+        }
+
+        @Test
+        void addMaze_PublishesNewSnapshot() {
+            mrWithValidFileType.readMazeFileAndStoreLines();
+            mrWithValidFileType.importMazes();
+            List<Maze> previousSnapshot = mrWithValidFileType.getMazes();
+
+            mrWithValidFileType.addMaze(previousSnapshot.get(0));
+            mrWithValidFileType.addMaze(null);
+
+            assertEquals(1, previousSnapshot.size());
+            assertEquals(2, mrWithValidFileType.getMazes().size());
+        }
+
+        @Test
+        void getMazes_NeverObservesPartialImportWhileReimporting() {
+            mrWithValidFileType.readMazeFileAndStoreLines();
+            mrWithValidFileType.importMazes();
+
+            CompletableFuture<Void> reimports = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 500; i++) {
+                    mrWithValidFileType.importMazes(true);
+                }
+            });
+            while (!reimports.isDone()) {
+                assertEquals(1, mrWithValidFileType.getMazes().size());
+            }
+            reimports.join();
+            assertEquals(1, mrWithValidFileType.getMazes().size());
+        }
+    }
+
+    @Nested
+    class ReloadTest {
+        private static final List<String> CHANGED_MAZE_FILE_LINES = List.of(
+                "-new-maze-", "Maze 1", "#####", "#oSo#", "##oo#", "##E##",
+                "-new-maze-", "Maze 2", "#S#o", "#Eoo", "#ooo",
+                "-new-maze-", "Maze 3", "#S#", "#E#"
+        );
+
+        private File mazeFile() {
+            return new File(tempDir, "mazes.txt");
+        }
+
+        @Test
+        void reloadMazeFile_ParsesAllMazesAtFirst() {
+            MazeRepository.ReloadSummary summary = mrWithValidFileType.reloadMazeFile();
+
+            assertEquals(new MazeRepository.ReloadSummary(0, 2, 0), summary);
+            assertEquals(11, mrWithValidFileType.getMazeFileLines().size());
+            assertEquals(List.of("Maze 1"), mrWithValidFileType.getMazes().stream().map(Maze::getDescription).toList());
+        }
+
+        @Test
+        void reloadMazeFile_ReusesUnchangedMazes() throws IOException {
+            mrWithValidFileType.reloadMazeFile();
+            Maze unchangedMaze = mrWithValidFileType.getMaze(0);
+
+            Files.write(mazeFile().toPath(), CHANGED_MAZE_FILE_LINES);
+            MazeRepository.ReloadSummary summary = mrWithValidFileType.reloadMazeFile();
+
+            assertEquals(new MazeRepository.ReloadSummary(1, 2, 0), summary);
+            assertEquals(3, mrWithValidFileType.getMazes().size());
+            assertSame(unchangedMaze, mrWithValidFileType.getMaze(0));
+            assertEquals("Maze 2", mrWithValidFileType.getMaze(1).getDescription());
+        }
+
+        @Test
+        void reloadMazeFile_CountsRemovedMazes() throws IOException {
+            Files.write(mazeFile().toPath(), CHANGED_MAZE_FILE_LINES);
+            mrWithValidFileType.reloadMazeFile();
+            Maze unchangedMaze = mrWithValidFileType.getMaze(2);
+
+            Files.write(mazeFile().toPath(), CHANGED_MAZE_FILE_LINES.subList(11, 15));
+            MazeRepository.ReloadSummary summary = mrWithValidFileType.reloadMazeFile();
+
+            assertEquals(new MazeRepository.ReloadSummary(1, 0, 2), summary);
+            assertEquals(List.of(unchangedMaze), mrWithValidFileType.getMazes());
+        }
+
+        @Test
+        void reloadMazeFile_KeepsSnapshotIfFileCannotBeRead() throws IOException {
+            mrWithValidFileType.reloadMazeFile();
+            List<Maze> snapshot = mrWithValidFileType.getMazes();
+
+            Files.delete(mazeFile().toPath());
+            testHandler.reset();
+
+            assertNull(mrWithValidFileType.reloadMazeFile());
+            assertSame(snapshot, mrWithValidFileType.getMazes());
+            testHandler.assertMessageIsLogged("Unable to read file using file path: " + mazeFile().getAbsolutePath());
+        }
+
+        @Test
+        void reloadMazeFile_WithNullFilePath() {
+            assertNull(new MazeRepository(null).reloadMazeFile());
+            testHandler.assertMessageIsLogged(NULL_OR_BLANK_PATH_LOG_TEXT);
+        }
+
+        @Test
+        void watchMazeFile_ReloadsReplacedFile() throws IOException, InterruptedException {
+            mrWithValidFileType.reloadMazeFile();
+            Maze unchangedMaze = mrWithValidFileType.getMaze(0);
+            LinkedBlockingQueue<MazeRepository.ReloadSummary> summaries = new LinkedBlockingQueue<>();
+
+            try (MazeFileWatcher watcher = mrWithValidFileType.watchMazeFile(summaries::add)) {
+                assertEquals(mazeFile().getAbsoluteFile().toPath(), watcher.getMazeFile());
+
+                // Regenerate the file aside and move it onto the watched one
+                File regeneratedFile = new File(tempDir, "mazes.txt.tmp");
+                Files.write(regeneratedFile.toPath(), CHANGED_MAZE_FILE_LINES);
+                Files.move(regeneratedFile.toPath(), mazeFile().toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+                MazeRepository.ReloadSummary summary = summaries.poll(10, TimeUnit.SECONDS);
+                assertEquals(new MazeRepository.ReloadSummary(1, 2, 0), summary);
+            }
+            assertEquals(3, mrWithValidFileType.getMazes().size());
+            assertSame(unchangedMaze, mrWithValidFileType.getMaze(0));
+        }
+
+        @Test
+        void watchMazeFile_WithoutListener_ThrowsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> mrWithValidFileType.watchMazeFile(null));
+            assertThrows(IllegalArgumentException.class, () -> new MazeRepository(" ").watchMazeFile(summary -> {}));
+        }
+    }
 }
@@ -2,10 +2,21 @@ package com.mazedata;
 
 import com.mazedata.Maze.MazeFactory;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
@@ -25,8 +36,8 @@ public class MazeTest {
         // Used a couple of times and extracted into constants
         private static final String FIELD_LINES_INITIAL_CHECK_LOG_TEXT
                 = "field lines array must not be null, empty or contain null or blank strings";
-        private static final String NONE_OR_MORE_THAN_ONE_STARTING_FIELD_LOG_TEXT
-                = "Detected none or more than one starting or / and ending field characters";
+        private static final String NO_STARTING_OR_ENDING_FIELD_LOG_TEXT
+                = "Detected no starting or / and no ending field character";
 
         @BeforeAll
         static void setUp() {
@@ -82,31 +93,25 @@ public class MazeTest {
                             new String[] { "#o#", "o##", "#" },
                             "When passing a fieldLines array with no starting or ending "
                                     + "field char, the return value must be null.",
-                            NONE_OR_MORE_THAN_ONE_STARTING_FIELD_LOG_TEXT
+                            NO_STARTING_OR_ENDING_FIELD_LOG_TEXT
                     ),
                     Arguments.of(
                             new String[] { "#o#", "o##", "#E" },
                             "When passing a fieldLines array with no starting "
                                     + "field char, the return value must be null.",
-                            NONE_OR_MORE_THAN_ONE_STARTING_FIELD_LOG_TEXT
+                            NO_STARTING_OR_ENDING_FIELD_LOG_TEXT
                     ),
                     Arguments.of(
                             new String[] { "#o#S", "o##", "#" },
                             "When passing a fieldLines array with no ending "
                                     + "field char, the return value must be null.",
-                            NONE_OR_MORE_THAN_ONE_STARTING_FIELD_LOG_TEXT
-                    ),
-                    Arguments.of(
-                            new String[] { "#S#", "oS" },
-                            "When passing a fieldLines array with more than one starting "
-                                    + "field char, the return value must be null.",
-                            NONE_OR_MORE_THAN_ONE_STARTING_FIELD_LOG_TEXT
+                            NO_STARTING_OR_ENDING_FIELD_LOG_TEXT
                     ),
                     Arguments.of(
                             new String[] { "#E#", "oE" },
-                            "When passing a fieldLines array with more than one ending "
+                            "When passing a fieldLines array with several ending but no starting "
                                     + "field char, the return value must be null.",
-                            NONE_OR_MORE_THAN_ONE_STARTING_FIELD_LOG_TEXT
+                            NO_STARTING_OR_ENDING_FIELD_LOG_TEXT
                     ),
                     Arguments.of(
                             new String[] { "S", "#", "\tE" },
@@ -129,6 +134,91 @@ public class MazeTest {
             );
         }
 
+        @ParameterizedTest
+        @MethodSource("createMazeFromBytes_ShouldLogErrorAndReturnNullCases")
+        void createMazeFromBytes_ShouldLogErrorAndReturnNull(String text, String logMessage) {
+            assertNull(Maze.MazeFactory.createMazeFromBytes(text.getBytes(StandardCharsets.UTF_8), description));
+            testHandler.assertMessageIsLogged(logMessage);
+        }
+
+        private static Stream<Arguments> createMazeFromBytes_ShouldLogErrorAndReturnNullCases() {
+            return Stream.of(
+                    Arguments.of("", FIELD_LINES_INITIAL_CHECK_LOG_TEXT),
+                    Arguments.of("\n \r\n\t\n", FIELD_LINES_INITIAL_CHECK_LOG_TEXT),
+                    Arguments.of("#o#\no##\n#E", NO_STARTING_OR_ENDING_FIELD_LOG_TEXT),
+                    Arguments.of("#S#\noS\nS", NO_STARTING_OR_ENDING_FIELD_LOG_TEXT),
+                    Arguments.of("S\n#\n\tE", "Detected invalid character \"\t\" at line 3"),
+                    Arguments.of("S\n#oo#i\n##E", "Detected invalid character \"i\" at line 2 \"#oo#i\""),
+                    Arguments.of("S#\u00e4\n#E", "Detected invalid character \"\u00e4\" at line 1")
+            );
+        }
+
+        @ParameterizedTest
+        @MethodSource("createMazeFromBytes_EqualsCreateMazeFromLinesCases")
+        void createMazeFromBytes_EqualsCreateMazeFromLines(String text, String[] fieldLines) {
+            Maze expectedMaze = Maze.MazeFactory.createMaze(fieldLines, description);
+            Maze actualMaze = Maze.MazeFactory.createMazeFromBytes(text.getBytes(StandardCharsets.UTF_8), description);
+
+            assertNotNull(actualMaze);
+            assertArrayEquals(expectedMaze.getMazeBoard(), actualMaze.getMazeBoard());
+            assertEquals(expectedMaze.getStartingField(), actualMaze.getStartingField());
+            assertEquals(expectedMaze.getEndingField(), actualMaze.getEndingField());
+            assertEquals(expectedMaze.getStartingFields(), actualMaze.getStartingFields());
+            assertEquals(expectedMaze.getEndingFields(), actualMaze.getEndingFields());
+            assertEquals(description, actualMaze.getDescription());
+            assertTrue(testHandler.getRecords().isEmpty());
+        }
+
+        private static Stream<Arguments> createMazeFromBytes_EqualsCreateMazeFromLinesCases() {
+            String[] ellipticalMaze = new String[] {
+                    "   ###   ",
+                    "oooooooE#",
+                    " o#o#o#        ",
+                    " o#o#ooo              ",
+                    " ####oS"
+            };
+            return Stream.of(
+                    Arguments.of(String.join("\n", ellipticalMaze), ellipticalMaze),
+                    Arguments.of(String.join("\r\n", ellipticalMaze) + "\r\n", ellipticalMaze),
+                    Arguments.of("\n#S#\t\n\n  \n#oE\n\n", new String[] { "#S#", "#oE" }),
+                    // Lone carriage returns separate lines like in a maze file
+                    Arguments.of("#S#\r#oE", new String[] { "#S#", "#oE" }),
+                    Arguments.of("ESoSE\n#o#o#\nSoooE", new String[] { "ESoSE", "#o#o#", "SoooE" })
+            );
+        }
+
+        @Test
+        void createMaze_WithSeveralStartingAndEndingFields() {
+            String[] fieldLines = new String[] { "ESoSE", "#o#o#", "SoooE" };
+
+            Maze maze = Maze.MazeFactory.createMaze(fieldLines, description);
+
+            assertNotNull(maze);
+            assertEquals(List.of(new MazeField(1, 0), new MazeField(3, 0), new MazeField(0, 2)),
+                    maze.getStartingFields());
+            assertEquals(List.of(new MazeField(0, 0), new MazeField(4, 0), new MazeField(4, 2)),
+                    maze.getEndingFields());
+            assertEquals(new MazeField(1, 0), maze.getStartingField());
+            assertEquals(new MazeField(0, 0), maze.getEndingField());
+            assertEquals(
+                    String.join(System.lineSeparator(), fieldLines) + System.lineSeparator(), maze.mazeBoardToString()
+            );
+            assertTrue(testHandler.getRecords().isEmpty());
+        }
+
+        @Test
+        void createMazeFromByteBuffer_ReadsRemainingBytesWithoutMovingPosition() {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+            buffer.put("ignored\n#S#\n#oE".getBytes(StandardCharsets.US_ASCII)).flip().position(8);
+
+            Maze maze = Maze.MazeFactory.createMazeFromBytes(buffer, description);
+
+            assertNotNull(maze);
+            assertEquals(new MazeField(1, 0), maze.getStartingField());
+            assertEquals(new MazeField(2, 1), maze.getEndingField());
+            assertEquals(8, buffer.position());
+        }
+
         @Test
         void createMaze_ValidFieldLines() {
             String[] validFieldLines = new String[] {
@@ -179,4 +269,179 @@ public class MazeTest {
             assertEquals(description, actualMaze.getDescription());
         }
     }
+
+    @Nested
+    public class RenderingTest {
+        private static final String LINE_SEPARATOR = System.lineSeparator();
+
+        /**
+         * <pre>
+         * #S#
+         * #oo
+         * ##E
+         * </pre>
+         */
+        private final Maze maze = new Maze(
+                new boolean[][] {
+                        { false, true, false },
+                        { false, true, true },
+                        { false, false, true }
+                },
+                new MazeField(1, 0),
+                new MazeField(2, 2),
+                description
+        );
+
+        private final boolean[][] traversedBoard = new boolean[][] {
+                { false, true, false },
+                { false, true, true },
+                { false, false, true }
+        };
+
+        @Test
+        void testMazeBoardToString() {
+            assertEquals(
+                    String.join(LINE_SEPARATOR, "#S#", "#oo", "##E") + LINE_SEPARATOR,
+                    maze.mazeBoardToString()
+            );
+        }
+
+        @Test
+        void testTraversedBoardToString() {
+            assertEquals(
+                    String.join(LINE_SEPARATOR, "#S#", "#xx", "##E") + LINE_SEPARATOR,
+                    maze.traversedBoardToString(traversedBoard)
+            );
+            assertNull(maze.traversedBoardToString(new boolean[2][3]));
+        }
+
+        @Test
+        void testWriteMazeBoard_EqualsStringRepresentation() throws IOException {
+            StringWriter writer = new StringWriter();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            maze.writeMazeBoard(writer);
+            maze.writeMazeBoard(outputStream);
+
+            assertEquals(maze.mazeBoardToString(), writer.toString());
+            assertEquals(maze.mazeBoardToString(), outputStream.toString(StandardCharsets.US_ASCII));
+        }
+
+        @Test
+        void testWriteTraversedBoard_EqualsStringRepresentation() throws IOException {
+            StringWriter writer = new StringWriter();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            maze.writeTraversedBoard(traversedBoard, writer);
+            maze.writeTraversedBoard(traversedBoard, outputStream);
+
+            assertEquals(maze.traversedBoardToString(traversedBoard), writer.toString());
+            assertEquals(
+                    maze.traversedBoardToString(traversedBoard), outputStream.toString(StandardCharsets.US_ASCII)
+            );
+        }
+
+        @Test
+        void testWriteTraversedBoard_WithInvalidDimensions() {
+            StringWriter writer = new StringWriter();
+
+            assertThrows(IllegalArgumentException.class, () -> maze.writeTraversedBoard(null, writer));
+            assertThrows(IllegalArgumentException.class, () -> maze.writeTraversedBoard(new boolean[3][2], writer));
+            assertEquals("", writer.toString());
+        }
+
+        @Test
+        void testWriteTraversedBoardToFile_EqualsStringRepresentation(@TempDir Path tempDir) throws IOException {
+            Path file = tempDir.resolve("solution.txt");
+            Files.writeString(file, "previous content which is longer than the board");
+
+            maze.writeTraversedBoard(traversedBoard, file);
+            assertEquals(maze.traversedBoardToString(traversedBoard), Files.readString(file));
+        }
+
+        @Test
+        void testWriteTraversedPathToFile_EqualsStringRepresentation(@TempDir Path tempDir) throws IOException {
+            Path file = tempDir.resolve("solution.txt");
+            List<MazeField> pathFields = List.of(
+                    new MazeField(1, 0), new MazeField(1, 1), new MazeField(2, 1), new MazeField(2, 2)
+            );
+
+            maze.writeTraversedPath(pathFields, file);
+            assertEquals(maze.traversedBoardToString(traversedBoard), Files.readString(file));
+
+            maze.writeTraversedPath(List.of(), file);
+            assertEquals(maze.mazeBoardToString(), Files.readString(file));
+        }
+
+        @Test
+        void testWriteTraversedPathToFile_WithInvalidArguments(@TempDir Path tempDir) {
+            Path file = tempDir.resolve("solution.txt");
+
+            assertThrows(IllegalArgumentException.class, () -> maze.writeTraversedPath(null, file));
+            assertThrows(IllegalArgumentException.class,
+                    () -> maze.writeTraversedPath(List.of(new MazeField(3, 0)), file));
+            assertThrows(IllegalArgumentException.class,
+                    () -> maze.writeTraversedPath(List.of(new MazeField(0, -1)), file));
+            assertThrows(IllegalArgumentException.class, () -> maze.writeTraversedPath(List.of(), null));
+            assertThrows(IllegalArgumentException.class, () -> maze.writeTraversedBoard(new boolean[3][2], file));
+            assertFalse(Files.exists(file));
+        }
+    }
+    @Nested
+    public class SeveralStartingAndEndingFieldsTest {
+        private static final String LINE_SEPARATOR = System.lineSeparator();
+
+        private final boolean[][] mazeBoard = new boolean[][] {
+                { true, true, true },
+                { false, true, false },
+                { true, true, true }
+        };
+
+        @Test
+        void testConstructor_WithInvalidFields_ThrowsIllegalArgumentException() {
+            List<MazeField> fields = List.of(new MazeField(0, 0));
+            List<MazeField> fieldsWithNull = Arrays.asList(new MazeField(0, 0), null);
+            List<MazeField> fieldsOutsideBoard = List.of(new MazeField(0, 0), new MazeField(3, 2));
+
+            assertThrows(IllegalArgumentException.class, () -> new Maze(mazeBoard, null, fields, description));
+            assertThrows(IllegalArgumentException.class, () -> new Maze(mazeBoard, fields, List.of(), description));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Maze(mazeBoard, fieldsWithNull, fields, description));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Maze(mazeBoard, fields, fieldsOutsideBoard, description));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Maze(mazeBoard, List.of(new MazeField(-1, 0)), fields, description));
+        }
+
+        @Test
+        void testFieldLists_AreCopied() {
+            List<MazeField> startingFields = new ArrayList<>(List.of(new MazeField(0, 0), new MazeField(2, 0)));
+            Maze maze = new Maze(mazeBoard, startingFields, List.of(new MazeField(0, 2)), description);
+            startingFields.clear();
+
+            assertEquals(List.of(new MazeField(0, 0), new MazeField(2, 0)), maze.getStartingFields());
+            assertEquals(maze.getStartingFields(), new EditableMaze(maze).getStartingFields());
+            assertThrows(UnsupportedOperationException.class, () -> maze.getEndingFields().clear());
+        }
+
+        @Test
+        void testTraversedBoardToString_KeepsAllStartingAndEndingFields() {
+            Maze maze = new Maze(
+                    mazeBoard,
+                    List.of(new MazeField(0, 0), new MazeField(2, 0)),
+                    List.of(new MazeField(0, 2), new MazeField(2, 2)),
+                    description
+            );
+            boolean[][] traversedBoard = new boolean[][] {
+                    { false, false, true },
+                    { false, true, false },
+                    { false, true, true }
+            };
+
+            assertEquals(
+                    String.join(LINE_SEPARATOR, "SoS", "#x#", "ExE") + LINE_SEPARATOR,
+                    maze.traversedBoardToString(traversedBoard)
+            );
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package com.mazedata;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapArenaTest {
+    @Test
+    void allocateBoard_ReturnsBoardOfWalls() {
+        try (OffHeapArena arena = new OffHeapArena()) {
+            OffHeapMazeBoard board = arena.allocateBoard(130, 70);
+
+            assertEquals(130, board.getWidth());
+            assertEquals(70, board.getHeight());
+            assertEquals((130 * 70 + 63) / 64 * Long.BYTES, arena.getAllocatedBytes());
+            for (long y = 0; y < board.getHeight(); y++) {
+                for (long x = 0; x < board.getWidth(); x++) {
+                    assertFalse(board.isPath(x, y));
+                }
+            }
+        }
+    }
+
+    @Test
+    void setPath_ChangesOnlyTheGivenField() {
+        try (OffHeapArena arena = new OffHeapArena()) {
+            OffHeapMazeBoard board = arena.allocateBoard(130, 70);
+
+            board.setPath(63, 0, true);
+            board.setPath(64, 0, true);
+            board.setPath(129, 69, true);
+            board.setPath(64, 0, false);
+
+            assertTrue(board.isPath(63, 0));
+            assertFalse(board.isPath(64, 0));
+            assertTrue(board.isPath(129, 69));
+            assertFalse(board.isPath(128, 69));
+            assertFalse(board.isPath(63, 1));
+        }
+    }
+
+    @Test
+    void copyBoard_EqualsMazeBoard() {
+        Maze maze = new MazeGenerator(5).generate(MazeGenerator.Algorithm.PRIM, 77, 41);
+        try (OffHeapArena arena = new OffHeapArena()) {
+            OffHeapMazeBoard copy = arena.copyBoard(maze.getBoard());
+
+            for (int y = 0; y < maze.getMazeBoardHeight(); y++) {
+                for (int x = 0; x < maze.getMazeBoardWidth(); x++) {
+                    assertEquals(maze.getMazeBoard()[y][x], copy.isPath(x, y));
+                }
+            }
+            assertThrows(IllegalArgumentException.class, () -> arena.copyBoard(null));
+        }
+    }
+
+    @Test
+    void release_ReleasesBoardsAllocatedSinceMarkAndReusesTheirMemory() {
+        try (OffHeapArena arena = new OffHeapArena(4096)) {
+            OffHeapMazeBoard keptBoard = arena.allocateBoard(64, 64);
+            keptBoard.setPath(1, 1, true);
+            int mark = arena.mark();
+
+            OffHeapMazeBoard releasedBoard = arena.allocateBoard(64, 64);
+            releasedBoard.setPath(2, 2, true);
+            arena.release(mark);
+
+            assertTrue(releasedBoard.isReleased());
+            assertThrows(IllegalStateException.class, () -> releasedBoard.isPath(2, 2));
+            assertThrows(IllegalStateException.class, () -> releasedBoard.setPath(2, 2, false));
+            assertFalse(keptBoard.isReleased());
+            assertTrue(keptBoard.isPath(1, 1));
+            assertEquals(512, arena.getAllocatedBytes());
+
+            // The reused memory is cleared and the arena doesn't grow
+            OffHeapMazeBoard reusingBoard = arena.allocateBoard(64, 64);
+            assertFalse(reusingBoard.isPath(2, 2));
+            assertEquals(4096, arena.getReservedBytes());
+        }
+    }
+
+    @Test
+    void allocateBoard_ReservesNewSlabsForLargeBoards() {
+        try (OffHeapArena arena = new OffHeapArena(1024)) {
+            arena.allocateBoard(64, 100);
+            arena.allocateBoard(64, 200);
+
+            assertEquals(1024 + 1600, arena.getReservedBytes());
+            arena.releaseAll();
+            assertEquals(0, arena.getAllocatedBytes());
+            assertEquals(1024 + 1600, arena.getReservedBytes());
+        }
+    }
+
+    @Test
+    void close_ReleasesBoardsAndRejectsAllocations() {
+        OffHeapArena arena = new OffHeapArena();
+        OffHeapMazeBoard board = arena.allocateBoard(10, 10);
+
+        arena.close();
+
+        assertTrue(board.isReleased());
+        assertEquals(0, arena.getReservedBytes());
+        assertThrows(IllegalStateException.class, () -> arena.allocateBoard(10, 10));
+    }
+
+    @Test
+    void release_WithInvalidMark_ThrowsIllegalArgumentException() {
+        try (OffHeapArena arena = new OffHeapArena()) {
+            arena.allocateBoard(10, 10);
+            assertThrows(IllegalArgumentException.class, () -> arena.release(2));
+            assertThrows(IllegalArgumentException.class, () -> arena.release(-1));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "0, 1", "1, -1", "1000000, 1000000" })
+    void allocateBoard_WithInvalidSize_ThrowsIllegalArgumentException(long width, long height) {
+        try (OffHeapArena arena = new OffHeapArena()) {
+            assertThrows(IllegalArgumentException.class, () -> arena.allocateBoard(width, height));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "-1, 0", "0, -1", "10, 0", "0, 10" })
+    void positionOutsideBoard_ThrowsIndexOutOfBoundsException(long x, long y) {
+        try (OffHeapArena arena = new OffHeapArena()) {
+            OffHeapMazeBoard board = arena.allocateBoard(10, 10);
+            assertThrows(IndexOutOfBoundsException.class, () -> board.isPath(x, y));
+            assertThrows(IndexOutOfBoundsException.class, () -> board.setPath(x, y, true));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.mazedata;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TiledMazeBoardTest {
+    @Test
+    void newBoard_ConsistsOfWallsWithoutAllocatedTiles() {
+        TiledMazeBoard board = new TiledMazeBoard(130, 70);
+
+        assertEquals(130, board.getWidth());
+        assertEquals(70, board.getHeight());
+        assertEquals(130 * 70, board.getCellCount());
+        assertEquals(3 * 2, board.getTileCount());
+        assertEquals(0, board.getAllocatedTileCount());
+        for (long y = 0; y < board.getHeight(); y++) {
+            for (long x = 0; x < board.getWidth(); x++) {
+                assertFalse(board.isPath(x, y));
+            }
+        }
+    }
+
+    @Test
+    void setPath_AllocatesOnlyTilesContainingPaths() {
+        TiledMazeBoard board = new TiledMazeBoard(130, 70);
+
+        board.setPath(129, 69, false);
+        assertEquals(0, board.getAllocatedTileCount());
+
+        board.setPath(64, 0, true);
+        board.setPath(127, 63, true);
+        assertEquals(1, board.getAllocatedTileCount());
+        assertTrue(board.isPath(64, 0));
+        assertTrue(board.isPath(127, 63));
+        assertFalse(board.isPath(63, 0));
+        assertFalse(board.isPath(65, 0));
+        assertFalse(board.isPath(64, 1));
+
+        board.setPath(64, 0, false);
+        assertFalse(board.isPath(64, 0));
+        assertTrue(board.isPath(127, 63));
+    }
+
+    @Test
+    void setPath_DoesNotModifySharedWallTile() {
+        TiledMazeBoard board = new TiledMazeBoard(64, 128);
+        board.setPath(5, 5, true);
+
+        TiledMazeBoard otherBoard = new TiledMazeBoard(64, 128);
+        assertFalse(otherBoard.isPath(5, 5));
+        assertFalse(board.isPath(5, 69));
+    }
+
+    @Test
+    void copyOf_EqualsMazeBoard() {
+        Maze maze = new MazeGenerator(3).generate(MazeGenerator.Algorithm.RECURSIVE_BACKTRACKER, 101, 67);
+        MazeBoard mazeBoard = maze.getBoard();
+
+        TiledMazeBoard copy = TiledMazeBoard.copyOf(mazeBoard);
+
+        assertEquals(maze.getMazeBoardWidth(), copy.getWidth());
+        assertEquals(maze.getMazeBoardHeight(), copy.getHeight());
+        for (int y = 0; y < maze.getMazeBoardHeight(); y++) {
+            for (int x = 0; x < maze.getMazeBoardWidth(); x++) {
+                assertEquals(maze.getMazeBoard()[y][x], copy.isPath(x, y));
+                assertEquals(maze.getMazeBoard()[y][x], mazeBoard.isPath(x, y));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> TiledMazeBoard.copyOf(null));
+    }
+
+    @Test
+    void board_AddressesMoreFieldsThanAnArrayCanHold() {
+        long size = 100_000;
+        TiledMazeBoard board = new TiledMazeBoard(size, size);
+        board.setPath(size - 1, size - 1, true);
+
+        assertTrue(board.getCellCount() > Integer.MAX_VALUE);
+        assertEquals(size * size - 1, board.cellOf(size - 1, size - 1));
+        assertTrue(board.isPath(size - 1, size - 1));
+        assertFalse(board.isPath(size - 2, size - 1));
+        assertEquals(1, board.getAllocatedTileCount());
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "0, 1", "1, 0", "-1, 5", "1000000000000, 1000000000000" })
+    void constructor_WithInvalidSize_ThrowsIllegalArgumentException(long width, long height) {
+        assertThrows(IllegalArgumentException.class, () -> new TiledMazeBoard(width, height));
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "-1, 0", "0, -1", "130, 0", "0, 70" })
+    void positionOutsideBoard_ThrowsIndexOutOfBoundsException(long x, long y) {
+        TiledMazeBoard board = new TiledMazeBoard(130, 70);
+        MazeBoard mazeBoard = new Maze(new boolean[70][130], new MazeField(0, 0), new MazeField(1, 0), null).getBoard();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> board.isPath(x, y));
+        assertThrows(IndexOutOfBoundsException.class, () -> board.setPath(x, y, true));
+        assertThrows(IndexOutOfBoundsException.class, () -> board.cellOf(x, y));
+        assertThrows(IndexOutOfBoundsException.class, () -> mazeBoard.isPath(x, y));
+    }
+}
@@ -1,10 +1,22 @@
 package com.strategies;
 
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+import com.mazedata.OffHeapArena;
+import com.mazedata.OffHeapMazeBoard;
+import com.mazedata.TiledMazeBoard;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.provider.Arguments;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 public class BreadthFirstSearchTest {
     @Nested
     public class TraversableCheck extends GuaranteedMazeTraverserTest<BreadthFirstSearch> {
@@ -95,4 +107,174 @@ public class BreadthFirstSearchTest {
             );
         }
     }
+
+    @Nested
+    public class TraverseBoard {
+        private final BreadthFirstSearch breadthFirstSearch = new BreadthFirstSearch();
+
+        @Test
+        void traverseBoard_FindsShortestPathOnTiledCopyOfMaze() {
+            Maze maze = TestMazeObjects.TRAVERSABLE_WITH_3_PATHS_OF_DIFFERENT_LENGTH;
+            TiledMazeBoard board = TiledMazeBoard.copyOf(maze.getBoard());
+            long startingCell = board.cellOf(maze.getStartingField().positionX(), maze.getStartingField().positionY());
+            long endingCell = board.cellOf(maze.getEndingField().positionX(), maze.getEndingField().positionY());
+
+            long[] path = breadthFirstSearch.traverseBoard(
+                    board, startingCell, endingCell, TraversalContext.unbounded()
+            );
+
+            long shortestPathLength = Arrays.stream(breadthFirstSearch.traverseMaze(maze))
+                    .mapToLong(row -> IntStream.range(0, row.length).filter(x -> row[x]).count())
+                    .sum();
+            assertEquals(shortestPathLength, path.length);
+            assertEquals(startingCell, path[0]);
+            assertEquals(endingCell, path[path.length - 1]);
+            for (int i = 1; i < path.length; i++) {
+                long step = Math.abs(path[i] - path[i - 1]);
+                assertTrue(step == 1 || step == board.getWidth(), "Expected bordering cells: " + step);
+                assertTrue(board.isPath(path[i] % board.getWidth(), path[i] / board.getWidth()));
+            }
+        }
+
+        @Test
+        void traverseBoard_AddressesMoreFieldsThanAnArrayCanHold() {
+            long size = 70_000;
+            TiledMazeBoard board = new TiledMazeBoard(size, size);
+            for (long x = 0; x < size; x++) {
+                board.setPath(x, size - 1, true);
+            }
+
+            long[] path = breadthFirstSearch.traverseBoard(
+                    board, board.cellOf(0, size - 1), board.cellOf(size - 1, size - 1), TraversalContext.unbounded()
+            );
+
+            assertTrue(board.getCellCount() > Integer.MAX_VALUE);
+            assertEquals(size, path.length);
+            assertEquals(size * size - 1, path[path.length - 1]);
+        }
+
+        @Test
+        void traverseBoard_WithArena_ReleasesSearchStateAndKeepsBoard() {
+            Maze maze = TestMazeObjects.TRAVERSABLE_WITH_3_PATHS_OF_DIFFERENT_LENGTH;
+            try (OffHeapArena arena = new OffHeapArena(4096)) {
+                OffHeapMazeBoard board = arena.copyBoard(maze.getBoard());
+                long startingCell = board.cellOf(5, 1);
+                long endingCell = board.cellOf(13, 9);
+                long boardBytes = arena.getAllocatedBytes();
+
+                long[] offHeapPath = breadthFirstSearch.traverseBoard(
+                        board, startingCell, endingCell, TraversalContext.unbounded(), arena
+                );
+                long[] onHeapPath = breadthFirstSearch.traverseBoard(
+                        TiledMazeBoard.copyOf(maze.getBoard()), startingCell, endingCell, TraversalContext.unbounded()
+                );
+
+                assertArrayEquals(onHeapPath, offHeapPath);
+                assertEquals(boardBytes, arena.getAllocatedBytes());
+                assertFalse(board.isReleased());
+                OffHeapMazeBoard separatedBoard = arena.allocateBoard(5, 1);
+                separatedBoard.setPath(0, 0, true);
+                separatedBoard.setPath(4, 0, true);
+                long separatedBoardBytes = arena.getAllocatedBytes();
+                assertThrows(MazeNotTraversableException.class, () -> breadthFirstSearch.traverseBoard(
+                        separatedBoard, 0, 4, TraversalContext.unbounded(), arena
+                ));
+                assertEquals(separatedBoardBytes, arena.getAllocatedBytes());
+                assertEquals(4096, arena.getReservedBytes());
+                assertThrows(IllegalArgumentException.class, () -> breadthFirstSearch.traverseBoard(
+                        board, startingCell, endingCell, TraversalContext.unbounded(), null
+                ));
+            }
+        }
+
+        @Test
+        void traverseBoard_WithoutPath_ThrowsMazeNotTraversableException() {
+            TiledMazeBoard board = new TiledMazeBoard(5, 1);
+            board.setPath(0, 0, true);
+            board.setPath(4, 0, true);
+
+            MazeNotTraversableException exception = assertThrows(
+                    MazeNotTraversableException.class,
+                    () -> breadthFirstSearch.traverseBoard(board, 0, 4, TraversalContext.unbounded())
+            );
+            assertTrue(exception.getMessage().contains("the board of 5x1 fields cannot be traversed"));
+        }
+
+        @Test
+        void traverseBoard_WithInvalidArguments_ThrowsIllegalArgumentException() {
+            TiledMazeBoard board = new TiledMazeBoard(5, 1);
+            board.setPath(0, 0, true);
+            TraversalContext context = TraversalContext.unbounded();
+
+            assertThrows(IllegalArgumentException.class, () -> breadthFirstSearch.traverseBoard(null, 0, 0, context));
+            assertThrows(IllegalArgumentException.class, () -> breadthFirstSearch.traverseBoard(board, 0, 0, null));
+            assertThrows(IllegalArgumentException.class, () -> breadthFirstSearch.traverseBoard(board, 0, 1, context));
+            assertThrows(IllegalArgumentException.class, () -> breadthFirstSearch.traverseBoard(board, 0, 5, context));
+        }
+    }
+
+    @Nested
+    public class TraverseMazeWithSeveralStartingAndEndingFields {
+        private final BreadthFirstSearch breadthFirstSearch = new BreadthFirstSearch();
+
+        @Test
+        void traverseMaze_FindsShortestPathBetweenAnyStartingAndEndingField() {
+            Maze maze = TestMazeObjects.TRAVERSABLE_WITH_3_PATHS_OF_DIFFERENT_LENGTH;
+            List<MazeField> pathFields = new ArrayList<>();
+            for (int y = 0; y < maze.getMazeBoardHeight(); y++) {
+                for (int x = 0; x < maze.getMazeBoardWidth(); x++) {
+                    if (maze.getMazeBoard()[y][x]) {
+                        pathFields.add(new MazeField(x, y));
+                    }
+                }
+            }
+            List<MazeField> startingFields = List.of(pathFields.get(0), pathFields.get(pathFields.size() - 1));
+            List<MazeField> endingFields = List.of(pathFields.get(pathFields.size() / 2), pathFields.get(5));
+            Maze evacuationMaze = new Maze(maze.getMazeBoard(), startingFields, endingFields, "Several exits");
+
+            int shortestPathLength = Integer.MAX_VALUE;
+            for (MazeField startingField : startingFields) {
+                for (MazeField endingField : endingFields) {
+                    Maze singlePairMaze = new Maze(maze.getMazeBoard(), startingField, endingField, null);
+                    shortestPathLength = Math.min(shortestPathLength, singlePairMaze.calculateTraversedPathLength(
+                            breadthFirstSearch.traverseMaze(singlePairMaze)
+                    ));
+                }
+            }
+
+            SearchWorkspace workspace = new SearchWorkspace();
+            boolean[][] traversedBoard = breadthFirstSearch.traverseMaze(
+                    evacuationMaze, TraversalContext.unbounded(), workspace
+            );
+            int width = maze.getMazeBoardWidth();
+            int firstCell = workspace.getPathCell(0);
+            int lastCell = workspace.getPathCell(workspace.getPathLength() - 1);
+
+            assertEquals(shortestPathLength, evacuationMaze.calculateTraversedPathLength(traversedBoard));
+            assertTrue(startingFields.contains(new MazeField(firstCell % width, firstCell / width)));
+            assertTrue(endingFields.contains(new MazeField(lastCell % width, lastCell / width)));
+        }
+
+        @Test
+        void traverseMaze_WithStartingFieldWhichIsEndingField_ReturnsThatField() {
+            Maze maze = Maze.MazeFactory.createMaze(new String[] { "S#S", "ooo", "E#E" }, null);
+            Maze sharedFieldMaze = new Maze(
+                    maze.getMazeBoard(), maze.getStartingFields(),
+                    List.of(maze.getEndingField(), maze.getStartingFields().getLast()), null
+            );
+
+            assertEquals(3, maze.calculateTraversedPathLength(breadthFirstSearch.traverseMaze(maze)));
+            assertEquals(1, maze.calculateTraversedPathLength(breadthFirstSearch.traverseMaze(sharedFieldMaze)));
+        }
+
+        @Test
+        void traverseMaze_WithoutPathFromAnyStartingField_ThrowsMazeNotTraversableException() {
+            Maze maze = Maze.MazeFactory.createMaze(new String[] { "S#S", "###", "E#E" }, null);
+
+            MazeNotTraversableException exception = assertThrows(
+                    MazeNotTraversableException.class, () -> breadthFirstSearch.traverseMaze(maze)
+            );
+            assertTrue(exception.getMessage().contains(maze.getStartingFields().toString()));
+        }
+    }
 }
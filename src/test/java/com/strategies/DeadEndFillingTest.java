@@ -0,0 +1,99 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+import com.mazedata.MazeGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeadEndFillingTest {
+    private static Stream<Maze> getTraversableMazes() {
+        return TestMazeObjects.getTraversableMazes();
+    }
+
+    @ParameterizedTest
+    @MethodSource("getTraversableMazes")
+    void testFill_KeepsShortestPathLength(Maze maze) {
+        Maze filledMaze = DeadEndFilling.fill(maze);
+        BreadthFirstSearch strategy = new BreadthFirstSearch();
+
+        assertEquals(
+                maze.calculateTraversedPathLength(strategy.traverseMaze(maze)),
+                filledMaze.calculateTraversedPathLength(strategy.traverseMaze(filledMaze))
+        );
+        assertEquals(maze.getStartingField(), filledMaze.getStartingField());
+        assertEquals(maze.getEndingField(), filledMaze.getEndingField());
+        assertEquals(maze.getDescription(), filledMaze.getDescription());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = MazeGenerator.Algorithm.class, names = { "RECURSIVE_BACKTRACKER", "PRIM" })
+    void testFill_LeavesOnlySolutionPathOfPerfectMaze(MazeGenerator.Algorithm algorithm) {
+        Maze maze = new MazeGenerator(7).generate(algorithm, 41, 31);
+        Maze filledMaze = DeadEndFilling.fill(maze);
+        boolean[][] solution = new BreadthFirstSearch().traverseMaze(maze);
+
+        assertArrayEquals(solution, filledMaze.getMazeBoard());
+    }
+
+    @Test
+    void testFill_DoesNotChangeGivenMaze() {
+        Maze maze = new MazeGenerator(7).generate(MazeGenerator.Algorithm.RECURSIVE_BACKTRACKER, 21, 21);
+        int pathFieldCount = maze.calculateTraversedPathLength(maze.getMazeBoard());
+
+        DeadEndFilling.fill(maze);
+
+        assertEquals(pathFieldCount, maze.calculateTraversedPathLength(maze.getMazeBoard()));
+    }
+
+    @Test
+    void testFill_KeepsLoops() {
+        Maze maze = new MazeGenerator(7).generate(MazeGenerator.Algorithm.OPEN_ROOMS, 21, 21);
+        Maze filledMaze = DeadEndFilling.fill(maze);
+
+        assertTrue(filledMaze.calculateTraversedPathLength(filledMaze.getMazeBoard())
+                > filledMaze.calculateTraversedPathLength(new BreadthFirstSearch().traverseMaze(filledMaze)));
+    }
+
+    @Test
+    void testFill_KeepsEveryStartingAndEndingField() {
+        Maze maze = Maze.MazeFactory.createMaze(new String[] { "S#E#", "####", "SoEo" }, "Several exits");
+        Maze filledMaze = DeadEndFilling.fill(maze);
+
+        assertArrayEquals(
+                new boolean[][] {
+                        { true , false, true , false },
+                        { false, false, false, false },
+                        { true , true , true , false },
+                },
+                filledMaze.getMazeBoard()
+        );
+        assertEquals(maze.getStartingFields(), filledMaze.getStartingFields());
+        assertEquals(maze.getEndingFields(), filledMaze.getEndingFields());
+    }
+
+    @Test
+    void testFill_WithMoreFieldsThanIntCells() {
+        // Only pretends to have a huge board, since allocating one would exceed the heap
+        Maze hugeMaze = new Maze(new boolean[][] { { true, true } }, new MazeField(0, 0), new MazeField(1, 0), null) {
+            @Override
+            public int getMazeBoardWidth() { return 1 << 16; }
+
+            @Override
+            public int getMazeBoardHeight() { return 1 << 16; }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> DeadEndFilling.fill(hugeMaze));
+    }
+
+    @Test
+    void testFill_WithNullMaze() {
+        assertThrows(IllegalArgumentException.class, () -> DeadEndFilling.fill(null));
+    }
+}
@@ -0,0 +1,87 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DistanceFieldTest {
+    private static Stream<Maze> getTraversableMazes() {
+        return TestMazeObjects.getTraversableMazes();
+    }
+
+    @ParameterizedTest
+    @MethodSource("getTraversableMazes")
+    void testCompute_PathToEndingFieldIsShortestPath(Maze maze) {
+        DistanceField distanceField = new BreadthFirstSearch().computeDistanceField(maze);
+        int shortestPathLength = maze.calculateTraversedPathLength(new BreadthFirstSearch().traverseMaze(maze));
+
+        List<MazeField> path = distanceField.pathTo(maze.getEndingField());
+
+        assertEquals(shortestPathLength - 1, distanceField.getDistance(maze.getEndingField()));
+        assertEquals(shortestPathLength, path.size());
+        assertEquals(maze.getStartingField(), path.getFirst());
+        assertEquals(maze.getEndingField(), path.getLast());
+    }
+
+    @ParameterizedTest
+    @MethodSource("getTraversableMazes")
+    void testComputeParallel_EqualsSequentialDistances(Maze maze) {
+        DistanceField sequential = DistanceField.compute(maze, maze.getStartingField(), false);
+        DistanceField parallel = DistanceField.computeParallel(maze, maze.getStartingField(), true);
+
+        assertArrayEquals(sequential.getDistances(), parallel.getDistances());
+        assertEquals(
+                sequential.getDistance(maze.getEndingField()) + 1,
+                parallel.pathTo(maze.getEndingField()).size()
+        );
+    }
+
+    @Test
+    void testCompute_WithUnreachableEndingField() {
+        Maze maze = TestMazeObjects.UNTRAVERSABLE_WITH_UNREACHABLE_END;
+        DistanceField distanceField = DistanceField.compute(maze);
+
+        assertEquals(DistanceField.UNREACHABLE, distanceField.getDistance(maze.getEndingField()));
+        assertFalse(distanceField.isReachable(new MazeField(0, 2)), "Walls must not be reachable.");
+        assertNull(distanceField.pathTo(maze.getEndingField()));
+        assertEquals(0, distanceField.getDistance(maze.getStartingField()));
+    }
+
+    @Test
+    void testCompute_WithSeveralSources_MeasuresDistanceToNearestSource() {
+        Maze maze = TestMazeObjects.TRAVERSABLE_ONLY_FROM_SECOND_STARTING_FIELD;
+        DistanceField distanceField = DistanceField.compute(maze);
+
+        assertEquals(maze.getStartingFields(), distanceField.getSources());
+        assertEquals(0, distanceField.getDistance(new MazeField(0, 0)));
+        assertEquals(2, distanceField.getDistance(new MazeField(2, 2)));
+        assertFalse(distanceField.isReachable(new MazeField(2, 0)));
+        assertTrue(distanceField.isAnyReachable(maze.getEndingFields()));
+        assertEquals(new MazeField(0, 2), distanceField.pathTo(new MazeField(2, 2)).getFirst());
+        assertThrows(IllegalArgumentException.class, () -> DistanceField.compute(maze, List.of(), false));
+    }
+
+    @Test
+    void testGetFarthestField_WithBlockedStart() {
+        Maze maze = TestMazeObjects.UNTRAVERSABLE_WITH_BLOCKED_START;
+        DistanceField distanceField = DistanceField.compute(maze);
+
+        assertEquals(maze.getStartingField(), distanceField.getFarthestField());
+        assertEquals(1, distanceField.getReachableFieldCount());
+    }
+
+    @Test
+    void testPathTo_WithoutPredecessors() {
+        Maze maze = TestMazeObjects.TRAVERSABLE_WITH_START_AND_END_NEXT_TO_EACH_OTHER;
+        DistanceField distanceField = DistanceField.compute(maze, maze.getStartingField(), false);
+
+        assertThrows(IllegalStateException.class, () -> distanceField.pathTo(maze.getEndingField()));
+    }
+}
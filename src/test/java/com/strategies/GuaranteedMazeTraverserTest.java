@@ -2,6 +2,7 @@ package com.strategies;
 
 import com.mazedata.Maze;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -58,4 +59,21 @@ public abstract class GuaranteedMazeTraverserTest<T extends GuaranteedMazeTraver
     protected static Stream<Maze> getUntraversableMazes() {
         return TestMazeObjects.getUntraversableMazes();
     }
+
+    @Test
+    void testTraverseMaze_WithSeveralStartingAndEndingFields_TriesEveryStartingField() {
+        Maze maze = TestMazeObjects.TRAVERSABLE_ONLY_FROM_SECOND_STARTING_FIELD;
+
+        assertArrayEquals(
+                TestMazeObjects.traversedBoardOfMazeOnlyTraversableFromSecondStartingField(),
+                guaranteedMazeTraverser.traverseMaze(maze)
+        );
+    }
+
+    @Test
+    void testMazeIsTraversable_WithoutPathFromAnyStartingField() {
+        Maze maze = Maze.MazeFactory.createMaze(new String[] { "S#S", "###", "E#E" }, null);
+
+        assertFalse(guaranteedMazeTraverser.mazeIsTraversable(maze));
+    }
 }
@@ -42,6 +42,11 @@ public class HandOnWallTest {
                 Arguments.of(
                         TestMazeObjects.TRAVERSABLE_WITH_START_AND_END_NEXT_TO_EACH_OTHER,
                         expectedTraversedBoards[4]
+                ),
+                // The maze follower is trapped at the first starting field and tries the second one
+                Arguments.of(
+                        TestMazeObjects.TRAVERSABLE_ONLY_FROM_SECOND_STARTING_FIELD,
+                        TestMazeObjects.traversedBoardOfMazeOnlyTraversableFromSecondStartingField()
                 )
         );
     }
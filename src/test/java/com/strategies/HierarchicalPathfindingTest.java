@@ -0,0 +1,119 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+import com.mazedata.MazeGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HierarchicalPathfindingTest {
+    @Nested
+    public class TraversableCheck extends GuaranteedMazeTraverserTest<HierarchicalPathfinding> {
+        @Override
+        protected HierarchicalPathfinding createGuaranteedMazeTraverser() {
+            return new HierarchicalPathfinding(3);
+        }
+    }
+
+    @Nested
+    public class TraverseMaze extends AbstractMazeTraversalStrategyTest<HierarchicalPathfinding> {
+        @Override
+        protected HierarchicalPathfinding createMazeTraversalStrategy() {
+            return new HierarchicalPathfinding();
+        }
+
+        /**
+         * All test mazes fit into a single cluster of the default size, in which case the
+         * refined path is the same as the one found using {@link BreadthFirstSearch}.
+         */
+        @Override
+        protected Stream<Arguments> testTraverseMaze_WithTraversableMazeCases() {
+            return TestMazeObjects.getTraversableMazes().map(maze ->
+                    Arguments.of(maze, new BreadthFirstSearch().traverseMaze(maze))
+            );
+        }
+
+        @Override
+        protected Stream<Arguments> testTraverseMaze_WithUntraversableMazeCases() {
+            return TestMazeObjects.getUntraversableMazes().map(maze ->
+                    Arguments.of(maze, null)
+            );
+        }
+    }
+
+    @Nested
+    public class FindPath {
+        @ParameterizedTest(name = "{index}: cluster size {1}, {0}")
+        @MethodSource("traversableMazesWithClusterSizes")
+        void testFindPath_ReturnsConnectedPathAcrossClusters(Maze maze, int clusterSize) {
+            List<MazeField> path = new HierarchicalPathfinding(clusterSize)
+                    .findPath(maze, maze.getStartingField(), maze.getEndingField());
+
+            assertEquals(maze.getStartingField(), path.getFirst());
+            assertEquals(maze.getEndingField(), path.getLast());
+            for (int i = 0; i < path.size(); i++) {
+                MazeField field = path.get(i);
+                assertTrue(
+                        maze.getMazeBoard()[field.positionY()][field.positionX()],
+                        String.format("The path field %s must not be a wall.", field)
+                );
+                if (i > 0) {
+                    assertTrue(
+                            path.get(i - 1).bordersField(field),
+                            String.format("The path fields %s and %s must border each other.", path.get(i - 1), field)
+                    );
+                }
+            }
+        }
+
+        private static Stream<Arguments> traversableMazesWithClusterSizes() {
+            return TestMazeObjects.getTraversableMazes().flatMap(maze ->
+                    IntStream.of(2, 3, 4, 5).mapToObj(clusterSize -> Arguments.of(maze, clusterSize))
+            );
+        }
+
+        @Test
+        void testGetAbstraction_IsBuiltOncePerMaze() {
+            HierarchicalPathfinding strategy = new HierarchicalPathfinding(3);
+            Maze maze = TestMazeObjects.TRAVERSABLE_WITH_3_PATHS_OF_DIFFERENT_LENGTH;
+
+            ClusterAbstraction abstraction = strategy.getAbstraction(maze);
+            strategy.traverseMaze(maze);
+
+            assertSame(abstraction, strategy.getAbstraction(maze));
+            assertTrue(abstraction.getEntranceCount() > 0);
+        }
+
+        @Test
+        void testGetAbstraction_FromSeveralThreads_IsBuiltOnce() throws Exception {
+            HierarchicalPathfinding strategy = new HierarchicalPathfinding(3);
+            Maze maze = new MazeGenerator(7).generate(MazeGenerator.Algorithm.PRIM, 201, 201);
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+                List<Future<ClusterAbstraction>> abstractions = IntStream.range(0, 8)
+                        .mapToObj(i -> executor.submit(() -> strategy.getAbstraction(maze)))
+                        .toList();
+                for (Future<ClusterAbstraction> abstraction : abstractions) {
+                    assertSame(abstractions.getFirst().get(), abstraction.get());
+                }
+            }
+        }
+
+        @Test
+        void testConstructor_WithInvalidClusterSize() {
+            assertThrows(IllegalArgumentException.class, () -> new HierarchicalPathfinding(1));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+import com.mazedata.MazeGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JunctionDistancesTest {
+    /**
+     * <pre>
+     * #####
+     * #ooo#
+     * #o#o#
+     * #o#oo
+     * #####
+     * </pre>
+     * Junctions: (1, 1) only borders two fields and is not a junction,
+     * the dead ends (1, 3) and (4, 3) are junctions.
+     */
+    private static final Maze CORRIDOR = new Maze(
+            new boolean[][] {
+                    { false, false, false, false, false },
+                    { false, true , true , true , false },
+                    { false, true , false, true , false },
+                    { false, true , false, true , true  },
+                    { false, false, false, false, false },
+            },
+            new MazeField(1, 3),
+            new MazeField(4, 3),
+            "A single corridor"
+    );
+
+    @Test
+    void testCompute_WithCorridor() {
+        JunctionDistances junctionDistances = JunctionDistances.compute(CORRIDOR);
+
+        assertEquals(2, junctionDistances.getJunctionCount());
+        assertTrue(junctionDistances.isCompact());
+        assertEquals(7, junctionDistances.getDiameter());
+        assertArrayEquals(
+                new MazeField[] { new MazeField(1, 3), new MazeField(4, 3) },
+                junctionDistances.getHardestPair()
+        );
+        assertArrayEquals(new int[] { 7, 7 }, junctionDistances.getEccentricities());
+        assertEquals(0, junctionDistances.getDistance(1, 1));
+    }
+
+    private static Stream<Maze> getMazes() {
+        // The braided mazes contain loops, so that several corridors may connect the same junctions
+        return Stream.of(
+                TestMazeObjects.getTraversableMazes(),
+                TestMazeObjects.getUntraversableMazes(),
+                new MazeGenerator(7).generateCorpus(MazeGenerator.Algorithm.BRAID, 31, 21, 3, 2)
+        ).flatMap(mazes -> mazes);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getMazes")
+    void testCompute_DistancesMatchDistanceField(Maze maze) {
+        JunctionDistances junctionDistances = JunctionDistances.compute(maze);
+
+        for (int i = 0; i < junctionDistances.getJunctionCount(); i++) {
+            DistanceField distanceField = DistanceField.compute(maze, junctionDistances.getJunction(i), false);
+            for (int j = 0; j < junctionDistances.getJunctionCount(); j++) {
+                assertEquals(
+                        distanceField.getDistance(junctionDistances.getJunction(j)),
+                        junctionDistances.getDistance(i, j)
+                );
+            }
+        }
+    }
+
+    @Test
+    void testCompute_WithInsufficientMemoryBudget() {
+        assertThrows(
+                IllegalStateException.class,
+                () -> JunctionDistances.compute(TestMazeObjects.TRAVERSABLE_WITH_3_PATHS_OF_DIFFERENT_LENGTH, 16)
+        );
+    }
+}
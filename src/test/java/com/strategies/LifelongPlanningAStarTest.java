@@ -0,0 +1,214 @@
+package com.strategies;
+
+import com.mazedata.EditableMaze;
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LifelongPlanningAStarTest {
+    @Nested
+    public class TraversableCheck extends GuaranteedMazeTraverserTest<LifelongPlanningAStar> {
+        @Override
+        protected LifelongPlanningAStar createGuaranteedMazeTraverser() {
+            return new LifelongPlanningAStar();
+        }
+    }
+
+    @Nested
+    public class TraverseMaze {
+        private static Stream<Maze> getTraversableMazes() {
+            return TestMazeObjects.getTraversableMazes();
+        }
+
+        @ParameterizedTest
+        @MethodSource("getTraversableMazes")
+        void testTraverseMaze_FindsShortestPath(Maze maze) {
+            assertEquals(
+                    shortestPathLength(maze),
+                    maze.calculateTraversedPathLength(new LifelongPlanningAStar().traverseMaze(maze))
+            );
+        }
+
+        @Test
+        void testTraverseMaze_AfterEditsMatchesBreadthFirstSearch() {
+            Random random = new Random(42);
+            int width = 30;
+            int height = 20;
+            boolean[][] mazeBoard = new boolean[height][width];
+            for (boolean[] row : mazeBoard) {
+                for (int x = 0; x < width; x++) row[x] = random.nextInt(10) < 7;
+            }
+            mazeBoard[0][0] = true;
+            mazeBoard[height - 1][width - 1] = true;
+            EditableMaze maze = new EditableMaze(
+                    mazeBoard, new MazeField(0, 0), new MazeField(width - 1, height - 1), "Random maze"
+            );
+            LifelongPlanningAStar strategy = new LifelongPlanningAStar();
+
+            for (int edit = 0; edit < 200; edit++) {
+                int expectedPathLength = shortestPathLength(maze);
+                if (expectedPathLength == 0) {
+                    assertFalse(strategy.mazeIsTraversable(maze));
+                } else {
+                    assertEquals(
+                            expectedPathLength,
+                            maze.calculateTraversedPathLength(strategy.traverseMaze(maze)),
+                            String.format("Unexpected path length after %d edits.", edit)
+                    );
+                }
+                MazeField field = new MazeField(random.nextInt(width), random.nextInt(height));
+                maze.setPassable(field, !maze.isPassable(field));
+            }
+        }
+
+        @Test
+        void testTraverseMaze_WithSeveralStartingAndEndingFieldsAfterEdits_MatchesBreadthFirstSearch() {
+            Random random = new Random(7);
+            int width = 30;
+            int height = 20;
+            boolean[][] mazeBoard = new boolean[height][width];
+            for (boolean[] row : mazeBoard) {
+                for (int x = 0; x < width; x++) row[x] = random.nextInt(10) < 6;
+            }
+            List<MazeField> startingFields = List.of(new MazeField(0, 0), new MazeField(0, height - 1));
+            List<MazeField> endingFields = List.of(new MazeField(width - 1, 0), new MazeField(width - 1, height - 1));
+            Stream.concat(startingFields.stream(), endingFields.stream())
+                    .forEach(field -> mazeBoard[field.positionY()][field.positionX()] = true);
+            EditableMaze maze = new EditableMaze(mazeBoard, startingFields, endingFields, "Several exits");
+            LifelongPlanningAStar strategy = new LifelongPlanningAStar();
+
+            for (int edit = 0; edit < 200; edit++) {
+                int expectedPathLength = shortestPathLength(maze);
+                if (expectedPathLength == 0) {
+                    assertFalse(strategy.mazeIsTraversable(maze));
+                } else {
+                    assertEquals(
+                            expectedPathLength,
+                            maze.calculateTraversedPathLength(strategy.traverseMaze(maze)),
+                            String.format("Unexpected path length after %d edits.", edit)
+                    );
+                }
+                MazeField field = new MazeField(1 + random.nextInt(width - 2), random.nextInt(height));
+                maze.setPassable(field, !maze.isPassable(field));
+            }
+        }
+
+        @Test
+        void testTraverseMaze_WithManyEndingFieldsAfterEdits_MatchesBreadthFirstSearch() {
+            Random random = new Random(11);
+            int width = 30;
+            int height = 20;
+            boolean[][] mazeBoard = new boolean[height][width];
+            for (boolean[] row : mazeBoard) {
+                for (int x = 0; x < width; x++) row[x] = random.nextInt(10) < 6;
+            }
+            List<MazeField> startingFields = List.of(new MazeField(0, height / 2));
+            List<MazeField> endingFields = java.util.stream.IntStream.range(0, height)
+                    .mapToObj(y -> new MazeField(width - 1 - y % 3, y))
+                    .toList();
+            Stream.concat(startingFields.stream(), endingFields.stream())
+                    .forEach(field -> mazeBoard[field.positionY()][field.positionX()] = true);
+            EditableMaze maze = new EditableMaze(mazeBoard, startingFields, endingFields, "Many exits");
+            LifelongPlanningAStar strategy = new LifelongPlanningAStar();
+
+            for (int edit = 0; edit < 200; edit++) {
+                int expectedPathLength = shortestPathLength(maze);
+                if (expectedPathLength == 0) {
+                    assertFalse(strategy.mazeIsTraversable(maze));
+                } else {
+                    assertEquals(
+                            expectedPathLength,
+                            maze.calculateTraversedPathLength(strategy.traverseMaze(maze)),
+                            String.format("Unexpected path length after %d edits.", edit)
+                    );
+                }
+                MazeField field = new MazeField(1 + random.nextInt(width - 4), random.nextInt(height));
+                maze.setPassable(field, !maze.isPassable(field));
+            }
+        }
+
+        @Test
+        void testTraverseMaze_EditFarFromPathIsNearlyFree() {
+            boolean[][] mazeBoard = new boolean[40][40];
+            for (boolean[] row : mazeBoard) {
+                java.util.Arrays.fill(row, true);
+            }
+            EditableMaze maze = new EditableMaze(mazeBoard, new MazeField(0, 0), new MazeField(5, 0), "Open room");
+            LifelongPlanningAStar strategy = new LifelongPlanningAStar();
+
+            strategy.traverseMaze(maze);
+            maze.setPassable(new MazeField(35, 35), false);
+            strategy.traverseMaze(maze);
+
+            assertEquals(0, strategy.lastExpansionCount(maze));
+        }
+
+        @Test
+        void testTraverseMaze_WithRepeatedEdits_KeepsQueueWithinFieldCount() {
+            boolean[][] mazeBoard = new boolean[20][20];
+            for (boolean[] row : mazeBoard) {
+                java.util.Arrays.fill(row, true);
+            }
+            EditableMaze maze = new EditableMaze(mazeBoard, new MazeField(0, 0), new MazeField(19, 19), "Open room");
+            LifelongPlanningAStar strategy = new LifelongPlanningAStar();
+            MazeField editedField = new MazeField(10, 10);
+
+            for (int i = 0; i < 1000; i++) {
+                strategy.traverseMaze(maze);
+                maze.setPassable(editedField, !maze.isPassable(editedField));
+                assertTrue(strategy.queuedFieldCount(maze) <= 20 * 20);
+            }
+        }
+
+        @Test
+        void testTraverseMaze_WithNewInstancesAfterEdits_KeepsSingleListener() {
+            boolean[][] mazeBoard = new boolean[10][10];
+            for (boolean[] row : mazeBoard) {
+                java.util.Arrays.fill(row, true);
+            }
+            EditableMaze maze = new EditableMaze(mazeBoard, new MazeField(0, 0), new MazeField(9, 9), "Open room");
+            MazeField editedField = new MazeField(5, 5);
+
+            for (int i = 0; i < 100; i++) {
+                new LifelongPlanningAStar().traverseMaze(maze);
+                maze.setPassable(editedField, !maze.isPassable(editedField));
+                assertEquals(1, maze.getEditListenerCount());
+            }
+        }
+
+        @Test
+        void testTraverseMaze_AfterMoreEditsThanFields_MatchesBreadthFirstSearch() {
+            boolean[][] mazeBoard = new boolean[3][3];
+            for (boolean[] row : mazeBoard) {
+                java.util.Arrays.fill(row, true);
+            }
+            EditableMaze maze = new EditableMaze(mazeBoard, new MazeField(0, 0), new MazeField(2, 2), "Small room");
+            LifelongPlanningAStar strategy = new LifelongPlanningAStar();
+            strategy.traverseMaze(maze);
+
+            // More edits than the maze has fields overflow the edit log, so that the search starts over
+            MazeField[] editedFields = {new MazeField(1, 1), new MazeField(1, 0), new MazeField(2, 1)};
+            for (int edit = 0; edit < 20; edit++) {
+                MazeField field = editedFields[edit % editedFields.length];
+                maze.setPassable(field, !maze.isPassable(field));
+            }
+            assertEquals(shortestPathLength(maze), maze.calculateTraversedPathLength(strategy.traverseMaze(maze)));
+        }
+
+        private static int shortestPathLength(Maze maze) {
+            BreadthFirstSearch breadthFirstSearch = new BreadthFirstSearch();
+            return breadthFirstSearch.mazeIsTraversable(maze)
+                    ? maze.calculateTraversedPathLength(breadthFirstSearch.traverseMaze(maze))
+                    : 0;
+        }
+    }
+}
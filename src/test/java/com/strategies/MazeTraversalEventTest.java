@@ -0,0 +1,73 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeTraversalEventTest {
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testTraverseMaze_CommitsOneEventPerTraversal() throws IOException {
+        Maze traversableMaze = TestMazeObjects.TRAVERSABLE_WITH_3_PATHS_OF_DIFFERENT_LENGTH;
+        Maze untraversableMaze = TestMazeObjects.UNTRAVERSABLE_WITH_UNREACHABLE_END;
+        TraversalContext cancelledContext = TraversalContext.unbounded();
+        cancelledContext.cancel();
+
+        List<RecordedEvent> events = record(() -> {
+            new BreadthFirstSearch().traverseMaze(traversableMaze);
+            assertThrows(
+                    MazeNotTraversableException.class, () -> new DepthFirstSearch().traverseMaze(untraversableMaze)
+            );
+            assertThrows(
+                    MazeTraversalTimeoutException.class,
+                    () -> new BreadthFirstSearch().traverseMaze(
+                            TraversalContextTest.createSerpentineMaze(101), cancelledContext
+                    )
+            );
+            new LifelongPlanningAStar().traverseMaze(traversableMaze);
+        });
+
+        assertEquals(4, events.size());
+
+        RecordedEvent traversed = events.get(0);
+        assertEquals("BreadthFirstSearch", traversed.getString("strategy"));
+        assertEquals(traversableMaze.getDescription(), traversed.getString("maze"));
+        assertEquals(traversableMaze.getMazeBoardWidth(), traversed.getInt("width"));
+        assertEquals(traversableMaze.getMazeBoardHeight(), traversed.getInt("height"));
+        assertEquals("TRAVERSED", traversed.getString("outcome"));
+        assertTrue(traversed.getLong("expandedFieldCount") > 0);
+
+        assertEquals("NOT_TRAVERSABLE", events.get(1).getString("outcome"));
+        assertEquals("TIMED_OUT", events.get(2).getString("outcome"));
+        assertEquals(TraversalContext.CHECK_INTERVAL, events.get(2).getLong("expandedFieldCount"));
+
+        assertEquals("LifelongPlanningAStar", events.get(3).getString("strategy"));
+        assertTrue(events.get(3).getLong("expandedFieldCount") > 0);
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+        Path recordingFile = new File(tempDir, "recording.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable("com.strategies.MazeTraversal");
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        return RecordingFile.readAllEvents(recordingFile).stream()
+                .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+                .toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MultiQuerySolverTest {
+    private static final Maze MAZE = TestMazeObjects.TRAVERSABLE_WITH_3_PATHS_OF_DIFFERENT_LENGTH;
+
+    @ParameterizedTest(name = "source tree threshold: {0}")
+    @ValueSource(ints = { 1, 100 })
+    void testSolve_ReturnsResultsInQueryOrder(int sourceTreeThreshold) {
+        MultiQuerySolver solver = new MultiQuerySolver(new HierarchicalPathfinding(3), sourceTreeThreshold, true);
+        List<MultiQuerySolver.Query> queries = List.of(
+                new MultiQuerySolver.Query(MAZE.getStartingField(), MAZE.getEndingField()),
+                new MultiQuerySolver.Query(MAZE.getStartingField(), new MazeField(0, 0)),
+                new MultiQuerySolver.Query(new MazeField(0, 0), MAZE.getEndingField()),
+                new MultiQuerySolver.Query(MAZE.getStartingField(), MAZE.getStartingField())
+        );
+
+        List<MultiQuerySolver.QueryResult> results = solver.solve(MAZE, queries);
+
+        assertEquals(queries.size(), results.size());
+        for (int i = 0; i < queries.size(); i++) {
+            MultiQuerySolver.QueryResult result = results.get(i);
+            assertEquals(queries.get(i), result.query());
+            assertTrue(result.isSolved(), String.format("The query %s should be solvable.", result.query()));
+            assertEquals(result.query().from(), result.path().getFirst());
+            assertEquals(result.query().to(), result.path().getLast());
+        }
+        assertEquals(1, results.get(3).pathLength());
+    }
+
+    @Test
+    void testSolve_WithSourceTree_ReturnsShortestPath() {
+        MultiQuerySolver solver = new MultiQuerySolver(new HierarchicalPathfinding(), 1, false);
+
+        MultiQuerySolver.QueryResult result = solver.solve(
+                MAZE, List.of(new MultiQuerySolver.Query(MAZE.getStartingField(), MAZE.getEndingField()))
+        ).getFirst();
+
+        assertEquals(
+                MAZE.calculateTraversedPathLength(new BreadthFirstSearch().traverseMaze(MAZE)),
+                result.pathLength()
+        );
+    }
+
+    @Test
+    void testSolve_WithUnsolvableQueries() {
+        Maze maze = TestMazeObjects.UNTRAVERSABLE_WITH_UNREACHABLE_END;
+
+        List<MultiQuerySolver.QueryResult> results = new MultiQuerySolver().solve(maze, List.of(
+                // Different components
+                new MultiQuerySolver.Query(maze.getStartingField(), maze.getEndingField()),
+                // Wall as ending field
+                new MultiQuerySolver.Query(maze.getStartingField(), new MazeField(0, 2))
+        ));
+
+        assertTrue(results.stream().noneMatch(MultiQuerySolver.QueryResult::isSolved));
+        assertEquals(0, results.getFirst().pathLength());
+    }
+
+    @Test
+    void testSolve_WithFieldOutsideBoard() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new MultiQuerySolver().solve(
+                        MAZE, List.of(new MultiQuerySolver.Query(MAZE.getStartingField(), new MazeField(100, 0)))
+                )
+        );
+    }
+}
@@ -0,0 +1,198 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.provider.Arguments;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PortfolioStrategyTest {
+    @Nested
+    public class TraverseMaze extends AbstractMazeTraversalStrategyTest<PortfolioStrategy> {
+        /**
+         * Since the shortest path is preferred and the breadth first search is the only strategy
+         * finding it, the portfolio always returns the result of the breadth first search.
+         */
+        @Override
+        protected PortfolioStrategy createMazeTraversalStrategy() {
+            return new PortfolioStrategy(
+                    List.of(
+                            new HandOnWall(HandOnWall.HandOnWallSide.RIGHT),
+                            new DepthFirstSearch(),
+                            new BreadthFirstSearch()
+                    ),
+                    true
+            );
+        }
+
+        @Override
+        protected Stream<Arguments> testTraverseMaze_WithTraversableMazeCases() {
+            return TestMazeObjects.getTraversableMazes().map(maze ->
+                    Arguments.of(maze, new BreadthFirstSearch().traverseMaze(maze))
+            );
+        }
+
+        @Override
+        protected Stream<Arguments> testTraverseMaze_WithUntraversableMazeCases() {
+            return TestMazeObjects.getUntraversableMazes().map(maze ->
+                    Arguments.of(maze, null)
+            );
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void testTraverseMaze_ReturnsWithoutWaitingForSlowStrategy() {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        MazeTraversalStrategy blockingStrategy = maze -> {
+            try {
+                neverReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        };
+        Maze maze = TestMazeObjects.TRAVERSABLE_WITH_3_PATHS_OF_DIFFERENT_LENGTH;
+
+        boolean[][] traversedBoard = new PortfolioStrategy(List.of(blockingStrategy, new DepthFirstSearch()))
+                .traverseMaze(maze);
+
+        assertArrayEquals(new DepthFirstSearch().traverseMaze(maze), traversedBoard);
+    }
+
+    @Test
+    @Timeout(5)
+    void testTraverseMaze_WithExceededDeadline_StopsStrategyNotCheckingTheContext() {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        MazeTraversalStrategy blockingStrategy = maze -> {
+            try {
+                neverReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        };
+        PortfolioStrategy portfolio = new PortfolioStrategy(List.of(blockingStrategy));
+
+        MazeTraversalTimeoutException exception = assertThrows(
+                MazeTraversalTimeoutException.class,
+                () -> portfolio.traverseMaze(
+                        TestMazeObjects.TRAVERSABLE_WITH_START_AND_END_SAME,
+                        TraversalContext.withTimeout(Duration.ofMillis(50))
+                )
+        );
+        assertEquals(MazeTraversalTimeoutException.Reason.DEADLINE_EXCEEDED, exception.getReason());
+    }
+
+    @Test
+    void testTraverseMaze_WithCancelledContext() {
+        TraversalContext context = TraversalContext.unbounded();
+        context.cancel();
+        PortfolioStrategy portfolio = new PortfolioStrategy(List.of(new BreadthFirstSearch(), new DepthFirstSearch()));
+
+        MazeTraversalTimeoutException exception = assertThrows(
+                MazeTraversalTimeoutException.class,
+                () -> portfolio.traverseMaze(TraversalContextTest.createSerpentineMaze(101), context)
+        );
+        assertEquals(MazeTraversalTimeoutException.Reason.CANCELLED, exception.getReason());
+    }
+
+    @Test
+    @Timeout(5)
+    void testTraverseMaze_WhenInterruptedWhileWaiting_ThrowsCancelledTimeoutAndKeepsInterruptFlag()
+            throws InterruptedException {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        MazeTraversalStrategy blockingStrategy = maze -> {
+            started.countDown();
+            try {
+                neverReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        };
+        PortfolioStrategy portfolio = new PortfolioStrategy(List.of(blockingStrategy));
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        AtomicBoolean interruptFlagKept = new AtomicBoolean();
+
+        Thread waitingThread = new Thread(() -> {
+            try {
+                portfolio.traverseMaze(TestMazeObjects.TRAVERSABLE_WITH_START_AND_END_SAME);
+            } catch (RuntimeException e) {
+                thrown.set(e);
+                interruptFlagKept.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        waitingThread.start();
+        started.await();
+        waitingThread.interrupt();
+        waitingThread.join();
+
+        MazeTraversalTimeoutException exception =
+                assertInstanceOf(MazeTraversalTimeoutException.class, thrown.get());
+        assertEquals(MazeTraversalTimeoutException.Reason.CANCELLED, exception.getReason());
+        assertTrue(interruptFlagKept.get());
+    }
+
+    @Test
+    void testTraverseMaze_FallsBackToFasterResultIfShortestPathStrategiesFail() {
+        Maze maze = TestMazeObjects.TRAVERSABLE_BUT_NOT_WITH_LEFT_HAND_ON_WALL;
+        MazeTraversalStrategy failingShortestPathStrategy = new MazeTraversalStrategy() {
+            @Override
+            public boolean[][] traverseMaze(Maze maze) {
+                throw new MazeNotTraversableException("failing", maze, "Always fails");
+            }
+
+            @Override
+            public boolean findsShortestPath() {
+                return true;
+            }
+        };
+
+        boolean[][] traversedBoard = new PortfolioStrategy(
+                List.of(failingShortestPathStrategy, new HandOnWall(HandOnWall.HandOnWallSide.RIGHT)), true
+        ).traverseMaze(maze);
+
+        assertArrayEquals(new HandOnWall(HandOnWall.HandOnWallSide.RIGHT).traverseMaze(maze), traversedBoard);
+    }
+
+    @Test
+    void testTraverseMaze_WithSeveralStartingFields_DoesNotGiveUpAfterFirstStartingField() {
+        Maze maze = TestMazeObjects.TRAVERSABLE_ONLY_FROM_SECOND_STARTING_FIELD;
+        PortfolioStrategy portfolio = new PortfolioStrategy(List.of(
+                new HandOnWall(HandOnWall.HandOnWallSide.RIGHT),
+                new HandOnWall(HandOnWall.HandOnWallSide.LEFT),
+                new DepthFirstSearch(),
+                new BreadthFirstSearch()
+        ));
+
+        assertArrayEquals(
+                TestMazeObjects.traversedBoardOfMazeOnlyTraversableFromSecondStartingField(),
+                portfolio.traverseMaze(maze)
+        );
+    }
+
+    @Test
+    void testFindsShortestPath() {
+        assertTrue(new PortfolioStrategy(List.of(new BreadthFirstSearch()), true).findsShortestPath());
+        assertFalse(new PortfolioStrategy(List.of(new BreadthFirstSearch()), false).findsShortestPath());
+        assertFalse(new PortfolioStrategy(List.of(new BreadthFirstSearch(), new DepthFirstSearch()), true)
+                .findsShortestPath());
+    }
+
+    @Test
+    void testConstructor_WithInvalidStrategies() {
+        assertThrows(IllegalArgumentException.class, () -> new PortfolioStrategy(null));
+        assertThrows(IllegalArgumentException.class, () -> new PortfolioStrategy(List.of()));
+    }
+}
@@ -0,0 +1,261 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchWorkspaceTest {
+    @Nested
+    public class GenerationTest {
+        @Test
+        void prepare_TurnsVisitedCellsIntoUnvisitedOnes() {
+            SearchWorkspace workspace = new SearchWorkspace();
+            workspace.prepare(4);
+            workspace.visit(1, MazeCells.NONE);
+            workspace.visit(2, 1);
+            assertTrue(workspace.isVisited(1));
+            assertTrue(workspace.isVisited(2));
+
+            workspace.prepare(4);
+            for (int cell = 0; cell < 4; cell++) {
+                assertFalse(workspace.isVisited(cell));
+            }
+        }
+
+        @Test
+        void prepare_WithOverflowingGeneration_ClearsOldGenerations() {
+            SearchWorkspace workspace = new SearchWorkspace(-3);
+            workspace.prepare(2);
+            workspace.visit(0, MazeCells.NONE);
+            // The generation wraps around to 0, which must not match the visited cell of generation -2
+            workspace.prepare(2);
+            workspace.prepare(2);
+            assertFalse(workspace.isVisited(0));
+            assertFalse(workspace.isVisited(1));
+
+            workspace.visit(1, MazeCells.NONE);
+            assertTrue(workspace.isVisited(1));
+        }
+
+        @Test
+        void prepare_OnlyGrowsCapacity() {
+            SearchWorkspace workspace = new SearchWorkspace();
+            workspace.prepare(100);
+            workspace.prepare(10);
+            assertEquals(100, workspace.getCapacity());
+        }
+
+        @Test
+        void isTarget_WithSeveralTargets_FindsOnlyMarkedCells() {
+            SearchWorkspace workspace = new SearchWorkspace();
+            workspace.prepare(10);
+            workspace.markTarget(7);
+            workspace.markTarget(2);
+            workspace.markTarget(5);
+
+            for (int cell = 0; cell < 10; cell++) {
+                assertEquals(cell == 2 || cell == 5 || cell == 7, workspace.isTarget(cell));
+            }
+
+            workspace.prepare(10);
+            assertFalse(workspace.isTarget(7));
+        }
+
+        @Test
+        void storePathTo_FollowsPredecessorsFromStartingCell() {
+            SearchWorkspace workspace = new SearchWorkspace();
+            workspace.prepare(6);
+            workspace.visit(0, MazeCells.NONE);
+            workspace.visit(3, 0);
+            workspace.visit(4, 3);
+
+            workspace.storePathTo(4);
+            assertEquals(3, workspace.getPathLength());
+            assertEquals(0, workspace.getPathCell(0));
+            assertEquals(3, workspace.getPathCell(1));
+            assertEquals(4, workspace.getPathCell(2));
+        }
+    }
+
+    @Nested
+    public class AcquireTest {
+        @Test
+        void acquire_AfterClose_ReturnsSameWorkspace() {
+            SearchWorkspace workspace;
+            try (SearchWorkspace acquired = SearchWorkspace.acquire()) {
+                workspace = acquired;
+            }
+            try (SearchWorkspace acquired = SearchWorkspace.acquire()) {
+                assertSame(workspace, acquired);
+            }
+        }
+
+        @Test
+        void acquire_WhileInUse_ReturnsOtherWorkspace() {
+            try (SearchWorkspace outer = SearchWorkspace.acquire();
+                 SearchWorkspace inner = SearchWorkspace.acquire()) {
+                assertNotSame(outer, inner);
+            }
+        }
+
+        @Test
+        void acquire_AfterCloseOnOtherThread_ReusesWorkspace() throws InterruptedException {
+            List<SearchWorkspace> workspaces = new ArrayList<>();
+            Thread thread = Thread.ofVirtual().start(() -> {
+                try (SearchWorkspace workspace = SearchWorkspace.acquire()) {
+                    workspaces.add(workspace);
+                }
+            });
+            thread.join();
+
+            try (SearchWorkspace workspace = SearchWorkspace.acquire()) {
+                assertSame(workspaces.getFirst(), workspace);
+            }
+        }
+
+        @Test
+        void close_Twice_ReturnsWorkspaceOnce() {
+            SearchWorkspace workspace = SearchWorkspace.acquire();
+            workspace.close();
+            workspace.close();
+
+            try (SearchWorkspace first = SearchWorkspace.acquire();
+                 SearchWorkspace second = SearchWorkspace.acquire()) {
+                assertNotSame(first, second);
+            }
+        }
+
+        @Test
+        void close_WithConstructedWorkspace_DoesNotPoolIt() {
+            SearchWorkspace workspace = new SearchWorkspace();
+            workspace.close();
+
+            try (SearchWorkspace acquired = SearchWorkspace.acquire()) {
+                assertNotSame(workspace, acquired);
+            }
+        }
+
+        @Test
+        void close_WithLargeCapacity_DropsWorkspace() {
+            SearchWorkspace workspace = SearchWorkspace.acquire();
+            workspace.prepare(SearchWorkspace.MAX_POOLED_CAPACITY + 1);
+            workspace.close();
+
+            try (SearchWorkspace acquired = SearchWorkspace.acquire()) {
+                assertNotSame(workspace, acquired);
+            }
+        }
+
+        @Test
+        void close_WithFullPool_DropsWorkspaces() {
+            List<SearchWorkspace> workspaces = new ArrayList<>();
+            for (int i = 0; i < 2 * SearchWorkspace.MAX_POOLED_WORKSPACES; i++) {
+                workspaces.add(SearchWorkspace.acquire());
+            }
+            workspaces.forEach(SearchWorkspace::close);
+
+            assertEquals(SearchWorkspace.MAX_POOLED_WORKSPACES, SearchWorkspace.idleWorkspaceCount());
+        }
+    }
+
+    @Nested
+    public class TraversalTest {
+        private static Stream<Arguments> strategiesAndMazes() {
+            return Stream.of(new BreadthFirstSearch(), new DepthFirstSearch())
+                    .flatMap(strategy -> TestMazeObjects.getTraversableMazes()
+                            .map(maze -> Arguments.of(strategy, maze)));
+        }
+
+        @ParameterizedTest
+        @MethodSource("strategiesAndMazes")
+        void traverseMaze_WithWorkspace_EqualsTraversalWithoutWorkspace(GuaranteedMazeTraverser strategy, Maze maze) {
+            SearchWorkspace workspace = new SearchWorkspace();
+            boolean[][] expectedBoard = strategy.traverseMaze(maze);
+
+            // Search other mazes first, so that the workspace has to forget their state
+            TestMazeObjects.getTraversableMazes().forEach(otherMaze -> traverse(strategy, otherMaze, workspace));
+            assertArrayEquals(expectedBoard, traverse(strategy, maze, workspace));
+            assertArrayEquals(expectedBoard, traverse(strategy, maze, workspace));
+        }
+
+        @Test
+        void traverseMaze_WithWorkspace_CollectsSameStatistics() {
+            for (GuaranteedMazeTraverser strategy : List.of(new BreadthFirstSearch(), new DepthFirstSearch())) {
+                Maze maze = TestMazeObjects.TRAVERSABLE_WITH_3_PATHS_OF_DIFFERENT_LENGTH;
+                TraversalContext context = TraversalContext.unbounded().enableStatistics();
+                strategy.traverseMaze(maze, context);
+
+                TraversalContext workspaceContext = TraversalContext.unbounded().enableStatistics();
+                traverse(strategy, maze, workspaceContext, new SearchWorkspace());
+                TraversalStatistics expected = context.getStatistics();
+                TraversalStatistics actual = workspaceContext.getStatistics();
+                assertEquals(expected.getVisitedFieldCount(), actual.getVisitedFieldCount());
+                assertEquals(expected.getEnqueuedFieldCount(), actual.getEnqueuedFieldCount());
+                assertEquals(expected.getPeakFrontierSize(), actual.getPeakFrontierSize());
+                assertEquals(expected.getBacktrackCount(), actual.getBacktrackCount());
+            }
+        }
+
+        @Test
+        void traverseMaze_WithWorkspace_ReusesTraversedBoard() {
+            BreadthFirstSearch strategy = new BreadthFirstSearch();
+            SearchWorkspace workspace = new SearchWorkspace();
+            Maze maze = TestMazeObjects.TRAVERSABLE_WITH_3_PATHS_OF_DIFFERENT_LENGTH;
+
+            boolean[][] traversedBoard = strategy.traverseMaze(maze, TraversalContext.unbounded(), workspace);
+            assertSame(traversedBoard, strategy.traverseMaze(maze, TraversalContext.unbounded(), workspace));
+            assertEquals(workspace.getPathLength(), countPathFields(traversedBoard));
+        }
+
+        @Test
+        void traverseMaze_WithUntraversableMaze_LeavesEmptyPath() {
+            SearchWorkspace workspace = new SearchWorkspace();
+            for (GuaranteedMazeTraverser strategy : List.of(new BreadthFirstSearch(), new DepthFirstSearch())) {
+                TestMazeObjects.getUntraversableMazes().forEach(maze -> {
+                    assertThrows(MazeNotTraversableException.class, () -> traverse(strategy, maze, workspace));
+                    assertEquals(0, workspace.getPathLength());
+                });
+            }
+        }
+
+        @Test
+        void traverseMaze_WithoutWorkspace_ThrowsIllegalArgumentException() {
+            Maze maze = TestMazeObjects.TRAVERSABLE_WITH_START_AND_END_SAME;
+            assertThrows(IllegalArgumentException.class,
+                    () -> new BreadthFirstSearch().traverseMaze(maze, TraversalContext.unbounded(), null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new DepthFirstSearch().traverseMaze(maze, TraversalContext.unbounded(), null));
+        }
+
+        private boolean[][] traverse(GuaranteedMazeTraverser strategy, Maze maze, SearchWorkspace workspace) {
+            return traverse(strategy, maze, TraversalContext.unbounded(), workspace);
+        }
+
+        private boolean[][] traverse(
+                GuaranteedMazeTraverser strategy, Maze maze, TraversalContext context, SearchWorkspace workspace
+        ) {
+            return strategy instanceof BreadthFirstSearch breadthFirstSearch
+                    ? breadthFirstSearch.traverseMaze(maze, context, workspace)
+                    : ((DepthFirstSearch) strategy).traverseMaze(maze, context, workspace);
+        }
+
+        private int countPathFields(boolean[][] board) {
+            int count = 0;
+            for (boolean[] row : board) {
+                for (boolean field : row) {
+                    count += field ? 1 : 0;
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -283,6 +283,33 @@ public class TestMazeObjects {
             "An untraversable maze with an unreachable ending field"
     );
 
+    /**
+     * A maze with two starting and two ending fields, which can only be traversed from the lower starting field.
+     * It's neither part of {@link #getTraversableMazes()} nor of {@link #getUntraversableMazes()}, since a search
+     * from the first starting field to the first ending field fails.
+     *
+     * <pre>
+     * S#E
+     * ###
+     * SoE
+     * </pre>
+     */
+    public static final Maze TRAVERSABLE_ONLY_FROM_SECOND_STARTING_FIELD = Maze.MazeFactory.createMaze(
+            new String[] { "S#E", "###", "SoE" },
+            "A maze which can only be traversed from the second of two starting fields"
+    );
+
+    /**
+     * The traversed board of {@link #TRAVERSABLE_ONLY_FROM_SECOND_STARTING_FIELD}.
+     */
+    public static boolean[][] traversedBoardOfMazeOnlyTraversableFromSecondStartingField() {
+        return new boolean[][] {
+                { false, false, false },
+                { false, false, false },
+                { true , true , true  },
+        };
+    }
+
     private TestMazeObjects() {}
 
     public static Stream<Maze> getTraversableMazes() {
@@ -0,0 +1,135 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TraversalContextTest {
+    /**
+     * A serpentine corridor whose traversal takes every strategy far more than
+     * {@value TraversalContext#CHECK_INTERVAL} expansions.
+     */
+    private static final Maze SERPENTINE_MAZE = createSerpentineMaze(101);
+
+    private static Stream<MazeTraversalStrategy> strategies() {
+        return Stream.of(
+                new BreadthFirstSearch(),
+                new DepthFirstSearch(),
+                new HandOnWall(HandOnWall.HandOnWallSide.RIGHT),
+                new HandOnWall(HandOnWall.HandOnWallSide.LEFT)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("strategies")
+    void testTraverseMaze_WithUnboundedContext(MazeTraversalStrategy strategy) {
+        TraversalContext context = TraversalContext.unbounded();
+
+        assertArrayEquals(strategy.traverseMaze(SERPENTINE_MAZE), strategy.traverseMaze(SERPENTINE_MAZE, context));
+        assertTrue(context.getExpandedFieldCount() > TraversalContext.CHECK_INTERVAL);
+    }
+
+    @ParameterizedTest
+    @MethodSource("strategies")
+    void testTraverseMaze_WithCancelledContext(MazeTraversalStrategy strategy) {
+        TraversalContext context = TraversalContext.unbounded();
+        context.cancel();
+
+        MazeTraversalTimeoutException exception = assertThrows(
+                MazeTraversalTimeoutException.class, () -> strategy.traverseMaze(SERPENTINE_MAZE, context)
+        );
+        assertEquals(MazeTraversalTimeoutException.Reason.CANCELLED, exception.getReason());
+        assertEquals(TraversalContext.CHECK_INTERVAL, exception.getExpandedFieldCount());
+    }
+
+    @ParameterizedTest
+    @MethodSource("strategies")
+    void testTraverseMaze_WithExceededDeadline(MazeTraversalStrategy strategy) {
+        TraversalContext context = TraversalContext.withTimeout(Duration.ZERO);
+
+        MazeTraversalTimeoutException exception = assertThrows(
+                MazeTraversalTimeoutException.class, () -> strategy.traverseMaze(SERPENTINE_MAZE, context)
+        );
+        assertEquals(MazeTraversalTimeoutException.Reason.DEADLINE_EXCEEDED, exception.getReason());
+        assertEquals(TraversalContext.CHECK_INTERVAL, exception.getExpandedFieldCount());
+    }
+
+    @Test
+    void testTraverseMaze_WithInterruptedThread() {
+        Thread.currentThread().interrupt();
+        try {
+            MazeTraversalTimeoutException exception = assertThrows(
+                    MazeTraversalTimeoutException.class,
+                    () -> new BreadthFirstSearch().traverseMaze(SERPENTINE_MAZE, TraversalContext.unbounded())
+            );
+            assertEquals(MazeTraversalTimeoutException.Reason.CANCELLED, exception.getReason());
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void testTraverseMaze_WithStrategyNotCheckingTheContext() {
+        TraversalContext context = TraversalContext.unbounded();
+        context.cancel();
+
+        Maze maze = TestMazeObjects.TRAVERSABLE_WITH_START_AND_END_SAME;
+
+        assertThrows(
+                MazeTraversalTimeoutException.class, () -> new HierarchicalPathfinding().traverseMaze(maze, context)
+        );
+    }
+
+    @Test
+    void testNewChild() {
+        TraversalContext parent = TraversalContext.withTimeout(Duration.ofHours(1));
+        TraversalContext child = parent.newChild();
+
+        assertTrue(child.hasDeadline());
+        assertFalse(child.isCancelled());
+        child.cancel();
+        assertFalse(parent.isCancelled());
+
+        TraversalContext otherChild = parent.newChild();
+        parent.cancel();
+        assertTrue(otherChild.isCancelled());
+    }
+
+    @Test
+    void testGetRemainingTime() {
+        assertNull(TraversalContext.unbounded().getRemainingTime());
+        assertEquals(Duration.ZERO, TraversalContext.withTimeout(Duration.ZERO).getRemainingTime());
+        assertTrue(TraversalContext.withTimeout(Duration.ofHours(1)).getRemainingTime().toMinutes() > 0);
+        assertFalse(TraversalContext.withTimeout(Duration.ofSeconds(Long.MAX_VALUE)).isDeadlineExceeded());
+    }
+
+    @Test
+    void testWithTimeout_WithInvalidTimeout() {
+        assertThrows(IllegalArgumentException.class, () -> TraversalContext.withTimeout(null));
+        assertThrows(IllegalArgumentException.class, () -> TraversalContext.withTimeout(Duration.ofMillis(-1)));
+    }
+
+    /**
+     * Creates a square maze whose even rows are corridors connected by single openings at alternating ends.
+     */
+    static Maze createSerpentineMaze(int size) {
+        boolean[][] board = new boolean[size][size];
+        for (int y = 0; y < size; y += 2) {
+            for (int x = 0; x < size; x++) {
+                board[y][x] = true;
+            }
+            if (y + 1 < size) {
+                board[y + 1][(y / 2) % 2 == 0 ? size - 1 : 0] = true;
+            }
+        }
+        return new Maze(board, new MazeField(0, 0), new MazeField(size - 1, size - 1), "Serpentine");
+    }
+}
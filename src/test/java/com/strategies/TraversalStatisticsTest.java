@@ -0,0 +1,146 @@
+package com.strategies;
+
+import com.mazedata.Maze;
+import com.mazedata.MazeField;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TraversalStatisticsTest {
+    /**
+     * <pre>
+     * # . #
+     * # S E
+     * # # #
+     * </pre>
+     * Moving up first, the depth first search runs into the dead end above the starting field and has to backtrack.
+     */
+    private static final Maze MAZE_WITH_DEAD_END_ABOVE_START = new Maze(
+            new boolean[][] {
+                    { false, true, false },
+                    { false, true, true },
+                    { false, false, false }
+            },
+            new MazeField(1, 1),
+            new MazeField(2, 1),
+            "Dead end above the starting field"
+    );
+
+    private static final Maze SERPENTINE_MAZE = TraversalContextTest.createSerpentineMaze(21);
+
+    @Test
+    void testTraverseMazeWithStatistics_DepthFirstSearch() {
+        TraversalResult result = new DepthFirstSearch().traverseMazeWithStatistics(MAZE_WITH_DEAD_END_ABOVE_START);
+        TraversalStatistics statistics = result.statistics();
+
+        assertArrayEquals(
+                new DepthFirstSearch().traverseMaze(MAZE_WITH_DEAD_END_ABOVE_START), result.traversedBoard()
+        );
+        assertEquals(3, statistics.getVisitedFieldCount());
+        assertEquals(3, statistics.getEnqueuedFieldCount());
+        assertEquals(2, statistics.getPeakFrontierSize());
+        assertEquals(1, statistics.getBacktrackCount());
+        assertEquals(0, statistics.getTurnCount());
+    }
+
+    @Test
+    void testTraverseMazeWithStatistics_BreadthFirstSearch() {
+        TraversalStatistics statistics = new BreadthFirstSearch()
+                .traverseMazeWithStatistics(SERPENTINE_MAZE)
+                .statistics();
+        int pathFieldCount = SERPENTINE_MAZE.calculateTraversedPathLength(SERPENTINE_MAZE.getMazeBoard());
+
+        // The ending field is the last field of the corridor, so that every path field is visited
+        assertEquals(pathFieldCount, statistics.getVisitedFieldCount());
+        assertEquals(pathFieldCount, statistics.getEnqueuedFieldCount());
+        assertEquals(1, statistics.getPeakFrontierSize());
+        assertEquals(0, statistics.getBacktrackCount());
+        assertTrue(statistics.getAllocatedBytes() != 0);
+        assertFalse(statistics.getElapsedTime().isNegative());
+    }
+
+    @Test
+    void testTraverseMazeWithStatistics_HandOnWall() {
+        TraversalStatistics statistics = new HandOnWall(HandOnWall.HandOnWallSide.LEFT)
+                .traverseMazeWithStatistics(SERPENTINE_MAZE)
+                .statistics();
+
+        // Every corridor except the last one ends with two turns into the next corridor
+        assertEquals(2L * (SERPENTINE_MAZE.getMazeBoardHeight() / 2), statistics.getTurnCount());
+        assertEquals(0, statistics.getLapCount());
+        assertEquals(0, statistics.getPeakFrontierSize());
+    }
+
+    @Test
+    void testTraverseMazeWithStatistics_HandOnWallCountsLapsOfFailedTraversal() {
+        TraversalContext context = TraversalContext.unbounded();
+        HandOnWall strategy = new HandOnWall(HandOnWall.HandOnWallSide.LEFT);
+        Maze maze = TestMazeObjects.TRAVERSABLE_BUT_NOT_WITH_LEFT_HAND_ON_WALL;
+
+        assertThrows(MazeNotTraversableException.class, () -> strategy.traverseMazeWithStatistics(maze, context));
+        assertEquals(HandOnWall.getMaxStartingFieldReachedAmount() - 1, context.getStatistics().getLapCount());
+    }
+
+    @Test
+    void testTraverseMazeWithStatistics_HierarchicalPathfindingCountsAbstractExpansions() {
+        TraversalStatistics statistics = new HierarchicalPathfinding(4)
+                .traverseMazeWithStatistics(SERPENTINE_MAZE)
+                .statistics();
+
+        assertTrue(statistics.getVisitedFieldCount() > 0);
+    }
+
+    @Test
+    void testTraverseMazeWithStatistics_LifelongPlanningAStar() {
+        TraversalStatistics statistics = new LifelongPlanningAStar()
+                .traverseMazeWithStatistics(SERPENTINE_MAZE)
+                .statistics();
+        int pathFieldCount = SERPENTINE_MAZE.calculateTraversedPathLength(SERPENTINE_MAZE.getMazeBoard());
+
+        // The corridor is the only path, so that every path field including the ending field is expanded
+        assertEquals(pathFieldCount, statistics.getVisitedFieldCount());
+    }
+
+    @Test
+    void testTraverseMazeWithStatistics_PortfolioTakesOverStatisticsOfReturnedStrategy() {
+        PortfolioStrategy portfolio = new PortfolioStrategy(List.of(new BreadthFirstSearch()), false);
+        TraversalStatistics statistics = portfolio.traverseMazeWithStatistics(SERPENTINE_MAZE).statistics();
+        TraversalStatistics expectedStatistics = new BreadthFirstSearch()
+                .traverseMazeWithStatistics(SERPENTINE_MAZE)
+                .statistics();
+
+        assertEquals(expectedStatistics.getVisitedFieldCount(), statistics.getVisitedFieldCount());
+        assertEquals(expectedStatistics.getEnqueuedFieldCount(), statistics.getEnqueuedFieldCount());
+        assertEquals(expectedStatistics.getPeakFrontierSize(), statistics.getPeakFrontierSize());
+    }
+
+    @Test
+    void testTraverseMaze_WithDisabledStatistics() {
+        TraversalContext context = TraversalContext.unbounded();
+        new BreadthFirstSearch().traverseMaze(SERPENTINE_MAZE, context);
+
+        TraversalStatistics statistics = context.getStatistics();
+        assertFalse(statistics.isEnabled());
+        assertEquals(0, statistics.getEnqueuedFieldCount());
+        assertEquals(0, statistics.getPeakFrontierSize());
+        assertEquals(-1, statistics.getAllocatedBytes());
+    }
+
+    @Test
+    void testTraverseMazeWithStatistics_WithCancelledContext() {
+        TraversalContext context = TraversalContext.unbounded();
+        context.cancel();
+
+        MazeTraversalTimeoutException exception = assertThrows(
+                MazeTraversalTimeoutException.class,
+                () -> new BreadthFirstSearch().traverseMazeWithStatistics(
+                        TraversalContextTest.createSerpentineMaze(101), context
+                )
+        );
+        assertTrue(exception.getStatistics().isEnabled());
+        assertEquals(TraversalContext.CHECK_INTERVAL, exception.getStatistics().getVisitedFieldCount());
+        assertTrue(exception.getStatistics().getEnqueuedFieldCount() >= TraversalContext.CHECK_INTERVAL);
+    }
+}